@@ -23,7 +23,11 @@ package spindle;
 
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.logging.Level;
 
 import com.app.utils.Utilities;
@@ -35,8 +39,17 @@ import spindle.core.ReasonerException;
 import spindle.core.dom.Conclusion;
 import spindle.core.dom.ConclusionType;
 import spindle.core.dom.Literal;
+import spindle.core.dom.Semantics;
 import spindle.core.dom.Theory;
+import spindle.core.dom.TheoryType;
+import spindle.engine.ReasoningEngineException;
+import spindle.engine.ReasoningEngineFactory;
 import spindle.engine.TheoryNormalizerException;
+import spindle.engine.mdl.MdlPartitionReasoner;
+import spindle.engine.sdl.SdlMultiSemanticsReasoningEngine;
+import spindle.engine.sdl.SdlTopDownReasoningEngine;
+import spindle.engine.tdl.TdlTimePartitionReasoner;
+import spindle.engine.tdl.TemporalConclusionIndex;
 import spindle.io.IOManager;
 import spindle.io.ParserException;
 import spindle.io.parser.DflTheoryParser2;
@@ -45,6 +58,10 @@ import spindle.sys.Conf;
 import spindle.sys.Messages;
 import spindle.sys.message.ErrorMessage;
 import spindle.sys.message.SystemMessage;
+import spindle.tools.cache.ComponentReasoner;
+import spindle.tools.cache.ConclusionCache;
+import spindle.tools.cache.ConclusionCacheException;
+import spindle.tools.cache.TheoryFingerprint;
 
 /**
  * SPINdle - the SPIN Defeasible Logic reasoner
@@ -53,14 +70,148 @@ import spindle.sys.message.SystemMessage;
  * @since version 1.0.0
  */
 public class Reasoner extends ReasonerBase {
+	private static enum TheoryTransformation {
+		REGULAR_FORM, REMOVE_DEFEATER, REMOVE_SUPERIORITY
+	}
+
+	private static enum ConclusionsGeneration {
+		THEORY, COMPONENT, MDL_PARTITION, TDL_TIME_PARTITION
+	}
+
 	private URL url = null;
 
 	private Theory normalizedTheory = null;
 
+	private SdlTopDownReasoningEngine topDownReasoningEngine = null;
+
+	// conclusion cache
+	private String theoryFingerprint = null;
+	private ConclusionsGeneration conclusionsGeneration = ConclusionsGeneration.THEORY;
+	private ComponentReasoner componentReasoner = null;
+	private boolean isTransformationDeferrable = false;
+
+	private TemporalConclusionIndex temporalConclusionIndex = null;
+	private Map<Literal, Map<ConclusionType, Conclusion>> indexedConclusions = null;
+	private List<TheoryTransformation> deferredTransformations = new ArrayList<TheoryTransformation>();
+
 	public Reasoner() {
 		super();
 	}
 
+	/**
+	 * Load a theory to the reasoner. If conclusion cache is enabled, the fingerprint of the theory is generated such
+	 * that the conclusions can be retrieved from the cache if the theory has been reasoned before. In that case, the
+	 * theory transformations are deferred until the transformed theory is needed.
+	 * <p>
+	 * Theory transformations are also deferred if component cache is enabled (and supported by the theory), in which
+	 * case the conclusions are generated component by component using the component reasoner; or if parallel
+	 * partition reasoning is enabled (and supported by the theory), in which case the conclusions are generated
+	 * partition by partition using the MDL partition reasoner (or the TDL time partition reasoner).
+	 * </p>
+	 * 
+	 * @param theory theory to load.
+	 * @return Process status
+	 * @throws ReasonerException
+	 * @see ConclusionCache
+	 * @see ComponentReasoner
+	 * @see MdlPartitionReasoner
+	 * @see TdlTimePartitionReasoner
+	 */
+	@Override
+	public ProcessStatus loadTheory(final Theory theory) throws ReasonerException {
+		ProcessStatus status = super.loadTheory(theory);
+		theoryFingerprint = Conf.isConclusionCache() ? TheoryFingerprint.getFingerprint(origTheory) : null;
+		conclusionsGeneration = getConclusionsGeneration(origTheory);
+		isTransformationDeferrable = null != theoryFingerprint || conclusionsGeneration != ConclusionsGeneration.THEORY;
+		deferredTransformations.clear();
+		return status;
+	}
+
+	/**
+	 * Return the fingerprint of the theory loaded.
+	 * 
+	 * @return Theory fingerprint; or null if conclusion cache is not enabled.
+	 */
+	public String getTheoryFingerprint() {
+		return theoryFingerprint;
+	}
+
+	private String getConclusionCacheKey() {
+		return null == theoryFingerprint ? null : TheoryFingerprint.getReasoningFingerprint(theoryFingerprint);
+	}
+
+	/**
+	 * Return how the conclusions of a theory are generated: component by component if component cache is enabled,
+	 * partition by partition if parallel partition reasoning (or time partition reasoning) is enabled, provided that the
+	 * theory supports it; or on the whole theory otherwise.
+	 */
+	private static ConclusionsGeneration getConclusionsGeneration(final Theory theory) {
+		if (Conf.isComponentCache() && ComponentReasoner.isComponentReasoningSupported(theory))
+			return ConclusionsGeneration.COMPONENT;
+		if (Conf.isMdlParallelPartitions() && MdlPartitionReasoner.isPartitionReasoningSupported(theory))
+			return ConclusionsGeneration.MDL_PARTITION;
+		if (Conf.isTdlTimePartitions() && TdlTimePartitionReasoner.isTimePartitionReasoningSupported(theory))
+			return ConclusionsGeneration.TDL_TIME_PARTITION;
+		return ConclusionsGeneration.THEORY;
+	}
+
+	/**
+	 * Return the component reasoner used to generate the conclusions component by component.
+	 * 
+	 * @return Component reasoner; or null if the conclusions of the theory loaded are not generated component by
+	 *         component.
+	 */
+	public ComponentReasoner getComponentReasoner() {
+		if (conclusionsGeneration == ConclusionsGeneration.COMPONENT && null == componentReasoner) {
+			componentReasoner = new ComponentReasoner(ReasoningEngineFactory.getComponentConclusionCache());
+			componentReasoner.setAppLogger(this);
+		}
+		return componentReasoner;
+	}
+
+	/**
+	 * Defer a theory transformation until the transformed theory is needed, i.e., until the conclusions are generated
+	 * on the whole theory or the theory is otherwise used. Transformations are deferred only from the time the theory is
+	 * loaded and until the first transformation that cannot be deferred: if the conclusions of the theory are neither in
+	 * the conclusion cache nor generated component by component or partition by partition, the transformation (and all
+	 * the subsequent ones) are applied immediately.
+	 */
+	private boolean deferTheoryTransformation(final TheoryTransformation transformation) {
+		if (!isTransformationDeferrable) return false;
+		if (deferredTransformations.size() == 0 && conclusionsGeneration == ConclusionsGeneration.THEORY
+				&& !ReasoningEngineFactory.getConclusionCache().contains(getConclusionCacheKey())) {
+			isTransformationDeferrable = false;
+			return false;
+		}
+		deferredTransformations.add(transformation);
+		return true;
+	}
+
+	/**
+	 * Apply the theory transformations deferred (if any), in the order they were requested. No more transformations
+	 * are deferred afterwards.
+	 */
+	private void applyDeferredTheoryTransformations() throws ReasonerException {
+		isTransformationDeferrable = false;
+		if (deferredTransformations.size() == 0) return;
+
+		List<TheoryTransformation> transformations = new ArrayList<TheoryTransformation>(deferredTransformations);
+		deferredTransformations.clear();
+		for (TheoryTransformation transformation : transformations) {
+			switch (transformation) {
+			case REGULAR_FORM:
+				transformTheoryToRegularForm();
+				break;
+			case REMOVE_DEFEATER:
+				removeDefeater();
+				break;
+			case REMOVE_SUPERIORITY:
+				removeSuperiority();
+				break;
+			}
+		}
+	}
+
 	/**
 	 * load theory from a file
 	 * 
@@ -173,8 +324,15 @@ public class Reasoner extends ReasonerBase {
 		return ProcessStatus.SUCCESS;
 	}
 
+	@Override
+	public ProcessStatus transformTheoryToRegularForm() throws ReasonerException {
+		if (deferTheoryTransformation(TheoryTransformation.REGULAR_FORM)) return ProcessStatus.SUCCESS;
+		return super.transformTheoryToRegularForm();
+	}
+
 	@Override
 	protected ProcessStatus doTransformTheoryToRegularForm() throws ReasonerException {
+		topDownReasoningEngine = null;
 		if (workingTheory.getStrictRulesCount() > 0 || workingTheory.getDefeasibleRulesCount() > 0) {
 			fireOnReasonerMessage(MessageType.INFO, "transform theory to regular form");
 			try {
@@ -194,6 +352,8 @@ public class Reasoner extends ReasonerBase {
 
 	@Override
 	public ProcessStatus removeDefeater() throws ReasonerException {
+		if (deferTheoryTransformation(TheoryTransformation.REMOVE_DEFEATER)) return ProcessStatus.SUCCESS;
+		topDownReasoningEngine = null;
 		if (workingTheory.getDefeatersCount() > 0) {
 			fireOnReasonerMessage(MessageType.INFO, Messages.getSystemMessage(SystemMessage.REASONING_ENGINE_REMOVE_DEFEATER_FROM_THEORY));
 			try {
@@ -213,6 +373,8 @@ public class Reasoner extends ReasonerBase {
 
 	@Override
 	public ProcessStatus removeSuperiority() throws ReasonerException {
+		if (deferTheoryTransformation(TheoryTransformation.REMOVE_SUPERIORITY)) return ProcessStatus.SUCCESS;
+		topDownReasoningEngine = null;
 		if (workingTheory.getSuperiorityCount() > 0) {
 			fireOnReasonerMessage(MessageType.INFO, Messages.getSystemMessage(SystemMessage.REASONING_ENGINE_REMOVE_SUPERIORITY_FROM_THEORY));
 			try {
@@ -232,6 +394,13 @@ public class Reasoner extends ReasonerBase {
 
 	/**
 	 * get the normalized theory from theory normalizer and generate the conclusion from the reasoning engine
+	 * <p>
+	 * If conclusion cache is enabled, the conclusions are retrieved from the cache if the same theory has been
+	 * reasoned with the same reasoner configuration before, and are added to the cache otherwise. If component cache is
+	 * enabled, the conclusions are generated component by component such that only the components that have changed
+	 * are recomputed. If parallel partition reasoning is enabled, the independent partitions of a modal theory (or the
+	 * independent time partitions of a temporal theory) are reasoned in parallel.
+	 * </p>
 	 * 
 	 * @return Set of conclusions
 	 * @throws ReasonerException
@@ -240,26 +409,213 @@ public class Reasoner extends ReasonerBase {
 	public Map<Literal, Map<ConclusionType, Conclusion>> getConclusions() throws ReasonerException {
 		fireOnReasonerMessage(MessageType.INFO, Messages.getSystemMessage(SystemMessage.REASONER_GENERATE_CONCLUSIONS));
 		if (conclusions == null) {
-			workingTheory = getTheoryNormalizer().getTheory();
-			normalizedTheory = (workingTheory == null) ? origTheory : workingTheory;
+			String cacheKey = getConclusionCacheKey();
+			Map<Literal, Map<ConclusionType, Conclusion>> cachedConclusions = (null == cacheKey) ? null : ReasoningEngineFactory
+					.getConclusionCache().get(cacheKey);
+			if (null != cachedConclusions) {
+				setConclusions(cachedConclusions);
+			} else {
+				setConclusions(generateConclusions());
+				if (null != cacheKey) ReasoningEngineFactory.getConclusionCache().put(cacheKey, conclusions);
+			}
+		}
+		if (Conf.isShowResult() || Conf.isShowProgress()) printConclusions();
+		return conclusions;
+	}
 
-			try{
-			Map<Literal, Map<ConclusionType, Conclusion>> tempConclusions = getReasoningEngine().getConclusions(normalizedTheory);
-			setConclusions(tempConclusions);
-			}catch (Exception e){
+	/**
+	 * Generate the conclusions of the theory loaded, component by component, partition by partition or on the whole
+	 * theory, depending on how the conclusions of the theory are generated.
+	 */
+	private Map<Literal, Map<ConclusionType, Conclusion>> generateConclusions() throws ReasonerException {
+		// the theory may have been modified since it was loaded
+		switch (conclusionsGeneration == ConclusionsGeneration.THEORY ? conclusionsGeneration
+				: getConclusionsGeneration(origTheory)) {
+		case COMPONENT:
+			Map<Literal, Map<ConclusionType, Conclusion>> componentConclusions = null;
+			try {
+				componentConclusions = getComponentReasoner().getConclusions(origTheory);
+			} catch (ConclusionCacheException e) {
+				throw new ReasonerException(e);
+			}
+			return Conf.isComponentCacheVerify() ? verifyComponentConclusions(componentConclusions) : componentConclusions;
+		case MDL_PARTITION:
+			MdlPartitionReasoner partitionReasoner = new MdlPartitionReasoner();
+			try {
+				partitionReasoner.setAppLogger(this);
+				return partitionReasoner.getConclusions(origTheory);
+			} catch (ReasoningEngineException e) {
 				throw new ReasonerException(e);
+			} finally {
+				partitionReasoner.resetAppLogger();
 			}
+		case TDL_TIME_PARTITION:
+			TdlTimePartitionReasoner timePartitionReasoner = new TdlTimePartitionReasoner();
+			try {
+				timePartitionReasoner.setAppLogger(this);
+				return timePartitionReasoner.getConclusions(origTheory);
+			} catch (ReasoningEngineException e) {
+				throw new ReasonerException(e);
+			} finally {
+				timePartitionReasoner.resetAppLogger();
+			}
+		default:
+			return generateTheoryConclusions();
+		}
+	}
+
+	/**
+	 * Generate the conclusions of the whole (normalized) theory using the reasoning engine.
+	 */
+	private Map<Literal, Map<ConclusionType, Conclusion>> generateTheoryConclusions() throws ReasonerException {
+		applyDeferredTheoryTransformations();
+
+		// the working theory will be modified by the reasoning engine
+		topDownReasoningEngine = null;
+
+		workingTheory = getTheoryNormalizer().getTheory();
+		normalizedTheory = (workingTheory == null) ? origTheory : workingTheory;
+
+		try {
+			return getReasoningEngine().getConclusions(normalizedTheory);
+		} catch (Exception e) {
+			throw new ReasonerException(e);
+		}
+	}
+
+	/**
+	 * Verify the conclusions generated component by component against the conclusions of the whole theory. The
+	 * literals with different conclusions are reported, and the conclusions of the whole theory are returned.
+	 */
+	private Map<Literal, Map<ConclusionType, Conclusion>> verifyComponentConclusions(
+			final Map<Literal, Map<ConclusionType, Conclusion>> componentConclusions) throws ReasonerException {
+		Map<Literal, Map<ConclusionType, Conclusion>> conclusions = generateTheoryConclusions();
+
+		Set<Literal> literals = new TreeSet<Literal>(componentConclusions.keySet());
+		literals.addAll(conclusions.keySet());
+		List<Literal> differentLiterals = new ArrayList<Literal>();
+		for (Literal literal : literals) {
+			Map<ConclusionType, Conclusion> componentLiteralConclusions = componentConclusions.get(literal);
+			Map<ConclusionType, Conclusion> literalConclusions = conclusions.get(literal);
+			if (null == componentLiteralConclusions || null == literalConclusions
+					|| !componentLiteralConclusions.keySet().equals(literalConclusions.keySet())) differentLiterals.add(literal);
+		}
+		if (differentLiterals.size() > 0) {
+			String message = Messages.getSystemMessage(SystemMessage.REASONER_COMPONENT_CONCLUSIONS_DIFFER, differentLiterals);
+			logMessage(Level.WARNING, 0, message);
+			fireOnReasonerMessage(MessageType.WARNING, message);
 		}
-		if (Conf.isShowResult() || Conf.isShowProgress()) printConclusions();
 		return conclusions;
 	}
 
+	/**
+	 * Check if a literal can be proved with the prescribed conclusion type.
+	 * <p>
+	 * If the conclusions of the theory are not yet generated, the query is evaluated top-down using the
+	 * {@link SdlTopDownReasoningEngine}, which only evaluates the part of the theory that is relevant to the query.
+	 * Answers of all sub-goals are tabled and are reused by subsequent queries until the theory is modified.
+	 * The conclusions of the theory are generated (and the query is answered from them) instead if the query cannot be
+	 * answered top-down, i.e., if the theory is not an SDL theory or contains superiority relations, if reasoning with
+	 * ambiguity propagation or well-founded semantics, or if the answer depends on a loop or on conflicting strict
+	 * conclusions; such that the answer is the same regardless of whether the conclusions have been generated before.
+	 * </p>
+	 * 
+	 * @param literal Literal to query.
+	 * @param conclusionType Conclusion type to prove.
+	 * @return true if the literal can be proved with the conclusion type; false otherwise.
+	 * @throws ReasonerException
+	 */
+	public boolean prove(final Literal literal, final ConclusionType conclusionType) throws ReasonerException {
+		if (null == workingTheory) throw new ReasonerException(ErrorMessage.THEORY_NULL_THEORY);
+		if (null == conclusions) {
+			Boolean answer = proveTopDown(literal, conclusionType);
+			if (null != answer) return answer;
+			getConclusions();
+		}
+		Map<ConclusionType, Conclusion> conclusionList = conclusions.get(literal);
+		return null != conclusionList && conclusionList.containsKey(conclusionType);
+	}
+
+	/**
+	 * Evaluate a query top-down.
+	 * 
+	 * @return Answer of the query; or null if the query cannot be answered top-down.
+	 */
+	private Boolean proveTopDown(final Literal literal, final ConclusionType conclusionType) throws ReasonerException {
+		if (Conf.isReasoningWithAmbiguityPropagation() || Conf.isReasoningWithWellFoundedSemantics()) return null;
+		// superiority relations may have been removed from the working theory already
+		if (origTheory.getSuperiorityCount() > 0) return null;
+
+		applyDeferredTheoryTransformations();
+		if (!SdlTopDownReasoningEngine.isTheorySupported(workingTheory)) return null;
+		try {
+			if (null == topDownReasoningEngine) {
+				topDownReasoningEngine = new SdlTopDownReasoningEngine();
+				topDownReasoningEngine.setAppLogger(this);
+				topDownReasoningEngine.setTheory(workingTheory);
+			}
+			return topDownReasoningEngine.prove(literal, conclusionType);
+		} catch (ReasoningEngineException e) {
+			topDownReasoningEngine = null;
+			throw new ReasonerException(e);
+		}
+	}
+
+	/**
+	 * Generate the conclusions of the normalized theory under ambiguity blocking, ambiguity propagation and
+	 * well-founded semantics in one run.
+	 * The theory is loaded and normalized once, and the indexes and definite conclusions are shared among the
+	 * semantics whenever they are the same under all of them.
+	 * 
+	 * @return Conclusions of each semantics.
+	 * @throws ReasonerException
+	 * @see SdlMultiSemanticsReasoningEngine
+	 */
+	public Map<Semantics, Map<Literal, Map<ConclusionType, Conclusion>>> getMultiSemanticsConclusions() throws ReasonerException {
+		if (null == workingTheory) throw new ReasonerException(ErrorMessage.THEORY_NULL_THEORY);
+		fireOnReasonerMessage(MessageType.INFO, Messages.getSystemMessage(SystemMessage.REASONER_GENERATE_CONCLUSIONS));
+		applyDeferredTheoryTransformations();
+
+		Theory theory = getTheoryNormalizer().getTheory();
+		if (null == theory) theory = workingTheory;
+
+		try {
+			SdlMultiSemanticsReasoningEngine engine = new SdlMultiSemanticsReasoningEngine();
+			engine.setAppLogger(this);
+			engine.getConclusions(theory);
+			return engine.getSemanticsConclusions();
+		} catch (ReasoningEngineException e) {
+			throw new ReasonerException(e);
+		}
+	}
+
+	/**
+	 * Return the query index over the conclusions of the temporal theory loaded, for answering snapshot (what holds at
+	 * a time instance) and range (what holds during an interval) queries. The conclusions are generated if necessary,
+	 * and the index is rebuilt only when the conclusions have changed.
+	 * 
+	 * @return Temporal conclusion index; or null if the theory loaded is not a temporal theory.
+	 * @throws ReasonerException
+	 * @see TemporalConclusionIndex
+	 */
+	public TemporalConclusionIndex getTemporalConclusionIndex() throws ReasonerException {
+		if (null == origTheory) throw new ReasonerException(ErrorMessage.THEORY_NULL_THEORY);
+		if (TheoryType.TDL != origTheory.getTheoryType()) return null;
+		Map<Literal, Map<ConclusionType, Conclusion>> conclusions = getConclusions();
+		if (null == temporalConclusionIndex || indexedConclusions != conclusions) {
+			temporalConclusionIndex = new TemporalConclusionIndex(conclusions);
+			indexedConclusions = conclusions;
+		}
+		return temporalConclusionIndex;
+	}
+
 	public URL getUrl() {
 		return url;
 	}
 
 	public Theory getNormalizedTheory() {
 		try {
+			applyDeferredTheoryTransformations();
 			return getTheoryNormalizer().getTheory();
 		} catch (ReasonerException e) {
 			return null;
@@ -271,6 +627,15 @@ public class Reasoner extends ReasonerBase {
 
 		url = null;
 		normalizedTheory = null;
+		topDownReasoningEngine = null;
+
+		theoryFingerprint = null;
+		conclusionsGeneration = ConclusionsGeneration.THEORY;
+		componentReasoner = null;
+		isTransformationDeferrable = false;
+		temporalConclusionIndex = null;
+		indexedConclusions = null;
+		deferredTransformations.clear();
 
 		return ProcessStatus.SUCCESS;
 	}
@@ -27,7 +27,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.TreeSet;
 import java.util.Map.Entry;
 import java.util.logging.Level;
 
@@ -36,6 +35,7 @@ import com.app.utils.Utilities.ProcessStatus;
 
 import spindle.core.dom.Conclusion;
 import spindle.core.dom.ConclusionType;
+import spindle.core.dom.DomUtilities;
 import spindle.core.dom.Literal;
 import spindle.core.dom.Theory;
 import spindle.engine.ReasoningEngine;
@@ -60,6 +60,8 @@ import spindle.tools.evaluator.LiteralVariablesEvaluator;
 import spindle.tools.evaluator.LiteralVariablesEvaluatorException;
 import spindle.tools.evaluator.LiteralVariablesEvaluatorListener;
 import spindle.tools.explanation.InferenceLogger;
+import spindle.tools.grounder.TheoryGrounder;
+import spindle.tools.grounder.TheoryGrounderException;
 
 /**
  * Base class for SPINdle reasoner.
@@ -74,6 +76,7 @@ public abstract class ReasonerBase extends AppModuleBase //
 	protected static String LINE_SEPARATOR = FileManager.LINE_SEPARATOR;
 
 	private LiteralVariablesEvaluator literalVariableEvaluator = null;
+	private TheoryGrounder theoryGrounder = null;
 	private TheoryNormalizer theoryNormalizer = null;
 	private ReasoningEngine reasoningEngine = null;
 
@@ -108,6 +111,7 @@ public abstract class ReasonerBase extends AppModuleBase //
 
 			isTheoryChanged = true;
 			conclusions = null;
+			conclusionsAsList = null;
 
 			fireOnReasonerMessage(MessageType.INFO, Messages.getSystemMessage(
 					SystemMessage.REASONER_THEORY_LOADED_SUCCESSFULLY, new Object[] { workingTheory.getTheoryType()
@@ -132,6 +136,15 @@ public abstract class ReasonerBase extends AppModuleBase //
 		return literalVariableEvaluator;
 	}
 
+	protected TheoryGrounder getTheoryGrounder() throws ReasonerException {
+		if (null == workingTheory) throw new ReasonerException(ErrorMessage.THEORY_NULL_THEORY);
+		if (null == theoryGrounder) {
+			theoryGrounder = ReasoningEngineFactory.getTheoryGrounder();
+			theoryGrounder.setAppLogger(this);
+		}
+		return theoryGrounder;
+	}
+
 	/**
 	 * get the theory normalizer according to the theory type
 	 * 
@@ -204,6 +217,18 @@ public abstract class ReasonerBase extends AppModuleBase //
 					Messages.getSystemMessage(SystemMessage.THEORY_CONTAINS_NO_LITERAL_VARIABLES));
 		}
 
+		if (Conf.isTheoryGrounding() && TheoryGrounder.isGroundingRequired(workingTheory)) {
+			fireOnReasonerMessage(MessageType.INFO, "ground rules with predicate variables in theory");
+			try {
+				workingTheory = getTheoryGrounder().groundTheory(workingTheory);
+				if (Conf.isShowProgress()) fireOnReasonerMessage(MessageType.INFO, null, workingTheory);
+			} catch (TheoryGrounderException e) {
+				fireOnReasonerMessage(MessageType.ERROR, e.getMessage());
+				throw new ReasonerException("Theory grounder exception throw while grounding theory", e);
+			}
+			onLogMessage(Level.INFO, "=== theory grounding:", workingTheory);
+		}
+
 		return doTransformTheoryToRegularForm();
 	}
 
@@ -219,23 +244,24 @@ public abstract class ReasonerBase extends AppModuleBase //
 		if (null == tempConclusions || tempConclusions.size() == 0) throw new ReasonerException(
 				ErrorMessage.CONCLUSION_NULL_CONCLUSIONS_SET);
 		conclusions = new TreeMap<Literal, Map<ConclusionType, Conclusion>>();
-		Set<Conclusion> tempConclusionList = new TreeSet<Conclusion>();
 		for (Entry<Literal, Map<ConclusionType, Conclusion>> entry : tempConclusions.entrySet()) {
 			Literal literal = entry.getKey();
-			if (!literal.isPlaceHolder()) {
-				conclusions.put(literal, entry.getValue());
-				for (Conclusion conclusion : entry.getValue().values()) {
-					tempConclusionList.add(conclusion);
-				}
-			}
+			if (!literal.isPlaceHolder()) conclusions.put(literal, entry.getValue());
 		}
-		conclusionsAsList = new ArrayList<Conclusion>(tempConclusionList);
+		// the sorted conclusions list is generated only when requested
+		conclusionsAsList = null;
 		return ProcessStatus.SUCCESS;
 	}
 
 	public List<Conclusion> getConclusionsAsList() throws ReasonerException {
 		fireOnReasonerMessage(MessageType.INFO, Messages.getSystemMessage(SystemMessage.REASONER_GET_CONCLUSION_AS_SET));
 		if (null == conclusions) getConclusions();
+		if (null == conclusionsAsList) {
+			conclusionsAsList = new ArrayList<Conclusion>();
+			for (Conclusion conclusion : DomUtilities.getSortedConclusions(conclusions)) {
+				conclusionsAsList.add(conclusion);
+			}
+		}
 		return conclusionsAsList;
 	}
 
@@ -266,7 +292,7 @@ public abstract class ReasonerBase extends AppModuleBase //
 	}
 
 	public ProcessStatus saveConclusions(final File filename) throws ReasonerException {
-		if (null == conclusionsAsList || conclusionsAsList.size() == 0) throw new ReasonerException(
+		if (null == conclusions || conclusions.size() == 0) throw new ReasonerException(
 				ErrorMessage.CONCLUSION_NULL_CONCLUSIONS_SET);
 
 		String filenameStr = filename.toString();
@@ -275,7 +301,7 @@ public abstract class ReasonerBase extends AppModuleBase //
 		onLogMessage(Level.INFO, msg);
 
 		try {
-			return IOManager.save(filename, conclusionsAsList, this);
+			return IOManager.save(filename, conclusions, this);
 		} catch (OutputterException e) {
 			fireOnReasonerMessage(MessageType.ERROR, e.getMessage());
 			throw new ReasonerException("Theory exception throw while saving conclusions to [" + filenameStr + "]", e);
@@ -299,8 +325,7 @@ public abstract class ReasonerBase extends AppModuleBase //
 		StringBuilder sb = new StringBuilder();
 		sb.append(Messages.getSystemMessage(SystemMessage.REASONER_CONCLUSIONS_GENERATED));
 		if (AppFeatureConst.isPrintConclusionByType) {
-			List<Conclusion> cLst = conclusionsAsList;
-			for (Conclusion c : cLst) {
+			for (Conclusion c : DomUtilities.getSortedConclusions(conclusions)) {
 				sb.append(LINE_SEPARATOR).append(AppConst.IDENTATOR).append(c.toString());
 			}
 		} else {
@@ -56,7 +56,7 @@ public class AppConstants {
 		}
 	};
 
-	public static AppConstants getInstance(PrintStream out) {
+	public synchronized static AppConstants getInstance(PrintStream out) {
 		if (null == INSTANCE) INSTANCE = new AppConstants(out);
 		INSTANCE.setOutputStream(out);
 		return INSTANCE;
@@ -0,0 +1,152 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.core.dom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Conflict relation of the literals in a theory, indexed by integer ids.
+ * <p>
+ * Every literal in the theory (without temporal information) and its complement are assigned an integer id when the
+ * index is created. A literal and its complement always occupy the ids <code>2k</code> and <code>2k+1</code>, such
+ * that the complement of a literal can be retrieved from its id without creating any new literal.
+ * </p>
+ * <p>
+ * The conflict literals of a literal are resolved from the theory the first time they are requested and are kept as
+ * ids (and as literal sets) afterwards. Only the conflict literals of the literals that are actually queried during
+ * reasoning are resolved.
+ * </p>
+ * <p>
+ * Literals not in the index (e.g., literals added to the theory after the index is created) are not resolved, in
+ * which case the conflict literals should be retrieved from the theory directly.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see Theory#getConflictLiterals(Literal)
+ */
+public class ConflictLiteralsIndex {
+	private static final LiteralComparator PLAIN_LITERAL_COMPARATOR = new LiteralComparator(false);
+
+	private final Theory theory;
+
+	private final Map<Literal, Integer> literalIds = new TreeMap<Literal, Integer>(PLAIN_LITERAL_COMPARATOR);
+	private final List<Literal> literals = new ArrayList<Literal>();
+
+	private final List<int[]> conflictLiteralIds = new ArrayList<int[]>();
+	private final List<Set<Literal>> conflictLiterals = new ArrayList<Set<Literal>>();
+
+	public ConflictLiteralsIndex(final Theory theory) {
+		this.theory = theory;
+		for (Literal literal : theory.getAllLiteralsInRules()) {
+			addLiteral(literal.hasTemporalInfo() ? literal.cloneWithNoTemporal() : literal);
+		}
+	}
+
+	/**
+	 * Add a literal and its complement to the index.
+	 * 
+	 * @param literal literal (with no temporal information).
+	 * @return Id of the literal.
+	 */
+	private int addLiteral(final Literal literal) {
+		Integer id = literalIds.get(literal);
+		if (null == id) {
+			id = literals.size();
+			Literal complement = literal.getComplementClone();
+			literals.add(literal);
+			literals.add(complement);
+			literalIds.put(literal, id);
+			literalIds.put(complement, id + 1);
+			conflictLiteralIds.add(null);
+			conflictLiteralIds.add(null);
+			conflictLiterals.add(null);
+			conflictLiterals.add(null);
+		}
+		return id;
+	}
+
+	/**
+	 * @return Number of literals indexed.
+	 */
+	public int size() {
+		return literals.size();
+	}
+
+	/**
+	 * Return the id of a literal (temporal information is ignored).
+	 * 
+	 * @param literal literal.
+	 * @return Literal id; or -1 if the literal is not indexed.
+	 */
+	public int getLiteralId(final Literal literal) {
+		Integer id = literalIds.get(literal);
+		return null == id ? -1 : id;
+	}
+
+	public Literal getLiteral(final int literalId) {
+		return literals.get(literalId);
+	}
+
+	public int getComplementId(final int literalId) {
+		return literalId ^ 1;
+	}
+
+	/**
+	 * Return the ids of the conflict literals of a literal.
+	 * The conflict literals are resolved from the theory if they are not yet indexed.
+	 * 
+	 * @param literalId literal id.
+	 * @return Ids of the conflict literals.
+	 */
+	public int[] getConflictLiteralIds(final int literalId) {
+		int[] ids = conflictLiteralIds.get(literalId);
+		if (null == ids) {
+			Set<Literal> literalConflictLiterals = theory.getConflictLiterals(literals.get(literalId));
+			ids = new int[literalConflictLiterals.size()];
+			int j = 0;
+			for (Literal conflictLiteral : literalConflictLiterals) {
+				ids[j++] = addLiteral(conflictLiteral);
+			}
+			conflictLiteralIds.set(literalId, ids);
+			conflictLiterals.set(literalId, literalConflictLiterals);
+		}
+		return ids;
+	}
+
+	/**
+	 * Return the conflict literals (with no temporal information) of a literal.
+	 * 
+	 * @param literalId literal id.
+	 * @return Conflict literals of the literal.
+	 * @see Theory#getConflictLiterals(Literal)
+	 */
+	public Set<Literal> getConflictLiterals(final int literalId) {
+		if (null == conflictLiterals.get(literalId)) getConflictLiteralIds(literalId);
+		return conflictLiterals.get(literalId);
+	}
+}
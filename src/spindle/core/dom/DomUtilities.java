@@ -21,7 +21,12 @@
  */
 package spindle.core.dom;
 
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 import spindle.sys.Conf;
 
@@ -179,4 +184,70 @@ public class DomUtilities {
 	public static Comparator<? super Temporal> getTemporalStartComparator() {
 		return TEMPORAL_START_COMPARATOR;
 	}
+
+	/**
+	 * Return the conclusions in the order defined by {@link Conclusion#compareTo(Object)}, i.e., by conclusion type and
+	 * then by literal, without copying them into a sorted collection. The conclusions map is scanned once for every
+	 * conclusion type found and must be sorted by literal.
+	 * 
+	 * @param conclusions Conclusions sorted by literal.
+	 * @return Sorted view of the conclusions.
+	 */
+	public static Iterable<Conclusion> getSortedConclusions(final Map<Literal, Map<ConclusionType, Conclusion>> conclusions) {
+		return new Iterable<Conclusion>() {
+			@Override
+			public Iterator<Conclusion> iterator() {
+				return new SortedConclusionsIterator(conclusions);
+			}
+		};
+	}
+
+	private static final class SortedConclusionsIterator implements Iterator<Conclusion> {
+		private final Map<Literal, Map<ConclusionType, Conclusion>> conclusions;
+		private final Iterator<ConclusionType> conclusionTypeIterator;
+		private ConclusionType conclusionType = null;
+		private Iterator<Map<ConclusionType, Conclusion>> literalIterator = null;
+		private Conclusion next = null;
+
+		private SortedConclusionsIterator(final Map<Literal, Map<ConclusionType, Conclusion>> conclusions) {
+			this.conclusions = conclusions;
+			EnumSet<ConclusionType> conclusionTypes = EnumSet.noneOf(ConclusionType.class);
+			for (Map<ConclusionType, Conclusion> literalConclusions : conclusions.values()) {
+				conclusionTypes.addAll(literalConclusions.keySet());
+			}
+			conclusionTypeIterator = conclusionTypes.iterator();
+			literalIterator = Collections.<Map<ConclusionType, Conclusion>> emptyList().iterator();
+			next = getNext();
+		}
+
+		private Conclusion getNext() {
+			while (true) {
+				while (literalIterator.hasNext()) {
+					Conclusion conclusion = literalIterator.next().get(conclusionType);
+					if (null != conclusion) return conclusion;
+				}
+				if (!conclusionTypeIterator.hasNext()) return null;
+				conclusionType = conclusionTypeIterator.next();
+				literalIterator = conclusions.values().iterator();
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return null != next;
+		}
+
+		@Override
+		public Conclusion next() {
+			if (null == next) throw new NoSuchElementException();
+			Conclusion conclusion = next;
+			next = getNext();
+			return conclusion;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
 }
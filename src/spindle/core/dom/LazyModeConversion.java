@@ -0,0 +1,91 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.core.dom;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Mode conversions of a defeasible rule that are not materialized in the theory.
+ * <p>
+ * Instead of duplicating a rule for every applicable mode conversion, the rule body and the converted head literals
+ * are recorded and the conclusions of the converted head literals are derived from the conclusions of the body
+ * literals after the inference process, i.e., a converted head literal is defeasibly provable if the bodies of one of
+ * its rules are all defeasibly provable; and is defeasibly not provable if every rule contains a defeasibly not provable
+ * body literal.
+ * </p>
+ * <p>
+ * Mode conversions can only be handled this way if the converted head literals are sinks of the theory, i.e., they do
+ * not appear in the theory and are not in conflict with any literals in the theory (including other converted head
+ * literals), and the rule is not involved in any superiority relations. Mode conversions that other rules depend on
+ * are not resolved during inference and are still materialized in the theory.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see spindle.engine.mdl.MdlTheoryNormalizer
+ */
+public class LazyModeConversion implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final String ruleLabel;
+	private final String originalLabel;
+	private final List<Literal> bodyLiterals;
+	private final List<Literal> headLiterals;
+
+	public LazyModeConversion(final Rule rule, final Collection<Literal> convertedHeadLiterals) {
+		ruleLabel = rule.getLabel();
+		originalLabel = rule.getOriginalLabel();
+		bodyLiterals = Collections.unmodifiableList(new ArrayList<Literal>(rule.getBodyLiterals()));
+		headLiterals = Collections.unmodifiableList(new ArrayList<Literal>(convertedHeadLiterals));
+	}
+
+	public String getRuleLabel() {
+		return ruleLabel;
+	}
+
+	public String getOriginalLabel() {
+		return originalLabel;
+	}
+
+	public List<Literal> getBodyLiterals() {
+		return bodyLiterals;
+	}
+
+	/**
+	 * Return the head literals derived from the mode conversions of the rule.
+	 * 
+	 * @return Converted head literals.
+	 */
+	public List<Literal> getHeadLiterals() {
+		return headLiterals;
+	}
+
+	@Override
+	public String toString() {
+		return ruleLabel + ": " + bodyLiterals + " => " + headLiterals;
+	}
+}
@@ -55,6 +55,7 @@ public class Literal implements Comparable<Object>, Cloneable, Serializable {
 	protected Literal[] predicates2 = null;
 
 	protected boolean[] isPredicatesGrounded = null;
+	protected boolean hasPredicates = false;
 	protected boolean isPlaceHolder;
 	protected Temporal temporal = null;
 
@@ -91,6 +92,7 @@ public class Literal implements Comparable<Object>, Cloneable, Serializable {
 		setMode(literal.mode);
 		if (withTemporal) setTemporal(literal.temporal);
 		setPredicates(literal.predicates);
+		hasPredicates = literal.hasPredicates;
 		setPlaceHolder(literal.isPlaceHolder);
 	}
 
@@ -128,7 +130,9 @@ public class Literal implements Comparable<Object>, Cloneable, Serializable {
 		if (null == predicates || predicates.length < 1) {
 			this.predicates = new String[] { DEFAULT_PREDICATE_VALUE };
 			this.isPredicatesGrounded = new boolean[] { false };
+			hasPredicates = false;
 		} else {
+			hasPredicates = true;
 			this.predicates = new String[predicates.length];
 			this.isPredicatesGrounded = new boolean[predicates.length];
 			for (int i = 0; i < predicates.length; i++) {
@@ -175,12 +179,23 @@ public class Literal implements Comparable<Object>, Cloneable, Serializable {
 		return predicates.length;
 	}
 
+	/**
+	 * check if the predicates of the literal are given explicitly.
+	 * 
+	 * @return true if the literal has predicates; false if it carries only the default predicate value, i.e., the
+	 *         literal is propositional.
+	 */
+	public boolean hasPredicates() {
+		return hasPredicates;
+	}
+
 	public boolean isPredicateGrounded(final int loc) {
 		if (loc >= predicates.length) throw new IllegalArgumentException("index is out of boundary");
 		return isPredicatesGrounded[loc];
 	}
 
 	public void updatePredicatesValues(Map<String, String> predicateValues) {
+		if (!hasPredicates) return;
 		for (int i = 0; i < predicates.length; i++) {
 			if (!isPredicatesGrounded[i]) {
 				String value = predicateValues.get(predicates[i]);
@@ -190,6 +205,7 @@ public class Literal implements Comparable<Object>, Cloneable, Serializable {
 	}
 
 	public Literal cloneWithUpdatePredicatesValues(Map<String, String> predicateValues) {
+		if (!hasPredicates) return new Literal(name, isNegation, mode, temporal, null, isPlaceHolder);
 		String[] newPredicates = new String[predicates.length];
 		for (int i = 0; i < predicates.length; i++) {
 			if (isPredicatesGrounded[i]) {
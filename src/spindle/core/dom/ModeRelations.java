@@ -0,0 +1,231 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.core.dom;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Compiled relations between the modal operators of a theory.
+ * <p>
+ * Each modal operator that appears in the mode conversion, conflict or exclusion rules of a theory is assigned a small
+ * integer id (in alphabetical order of the operator names), and the relations between the operators are stored as bit
+ * matrices indexed by these ids, such that checking whether two operators are related is a single bit test.
+ * </p>
+ * <p>
+ * The relations maintained are:
+ * <ul>
+ * <li>conversion - the mode conversion rules of the theory;</li>
+ * <li>exclusion - the mode exclusion rules of the theory;</li>
+ * <li>stronger - the transitive closure of the mode conflict rules, i.e., mode <i>a</i> is stronger than mode
+ * <i>b</i> if <i>b</i> can be reached from <i>a</i> through the mode conflict rules; and</li>
+ * <li>conflict - the symmetric closure of the stronger relation.</li>
+ * </ul>
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see Theory#getModeRelations()
+ */
+public class ModeRelations {
+	private final Map<String, Integer> modeIds = new HashMap<String, Integer>();
+	private final String[] modeNames;
+
+	private final long[][] conversionMatrix;
+	private final long[][] exclusionMatrix;
+	private final long[][] strongerMatrix;
+	private final long[][] conflictMatrix;
+	private final int[][] conflictModeIds;
+
+	public ModeRelations(final Map<String, Set<String>> modeConversionRules, //
+			final Map<String, Set<String>> modeConflictRules, //
+			final Map<String, Set<String>> modeExclusionRules) {
+		Set<String> names = new TreeSet<String>();
+		addModeNames(names, modeConversionRules);
+		addModeNames(names, modeConflictRules);
+		addModeNames(names, modeExclusionRules);
+
+		modeNames = names.toArray(new String[names.size()]);
+		for (int i = 0; i < modeNames.length; i++) {
+			modeIds.put(modeNames[i], i);
+		}
+
+		conversionMatrix = createMatrix(modeConversionRules);
+		exclusionMatrix = createMatrix(modeExclusionRules);
+		strongerMatrix = createMatrix(modeConflictRules);
+
+		// transitive closure of the mode conflict rules (Warshall)
+		for (int k = 0; k < modeNames.length; k++) {
+			long[] rowK = strongerMatrix[k];
+			for (int i = 0; i < modeNames.length; i++) {
+				long[] rowI = strongerMatrix[i];
+				if (isSet(rowI, k)) {
+					for (int w = 0; w < rowI.length; w++) {
+						rowI[w] |= rowK[w];
+					}
+				}
+			}
+		}
+
+		// conflict relation is symmetric
+		conflictMatrix = new long[modeNames.length][getWordsCount()];
+		for (int i = 0; i < modeNames.length; i++) {
+			for (int j = 0; j < modeNames.length; j++) {
+				if (isSet(strongerMatrix[i], j)) {
+					set(conflictMatrix[i], j);
+					set(conflictMatrix[j], i);
+				}
+			}
+		}
+		conflictModeIds = new int[modeNames.length][];
+		for (int i = 0; i < modeNames.length; i++) {
+			conflictModeIds[i] = getIds(conflictMatrix[i]);
+		}
+	}
+
+	private static void addModeNames(Set<String> names, final Map<String, Set<String>> modeRules) {
+		if (null == modeRules) return;
+		for (Entry<String, Set<String>> entry : modeRules.entrySet()) {
+			names.add(entry.getKey());
+			names.addAll(entry.getValue());
+		}
+	}
+
+	private int getWordsCount() {
+		return (modeNames.length + 63) >>> 6;
+	}
+
+	private long[][] createMatrix(final Map<String, Set<String>> modeRules) {
+		long[][] matrix = new long[modeNames.length][getWordsCount()];
+		if (null == modeRules) return matrix;
+		for (Entry<String, Set<String>> entry : modeRules.entrySet()) {
+			long[] row = matrix[modeIds.get(entry.getKey())];
+			for (String mode : entry.getValue()) {
+				set(row, modeIds.get(mode));
+			}
+		}
+		return matrix;
+	}
+
+	private int[] getIds(final long[] row) {
+		int count = 0;
+		for (long word : row) {
+			count += Long.bitCount(word);
+		}
+		int[] ids = new int[count];
+		int c = 0;
+		for (int i = 0; i < modeNames.length; i++) {
+			if (isSet(row, i)) ids[c++] = i;
+		}
+		return ids;
+	}
+
+	private static void set(long[] row, final int id) {
+		row[id >>> 6] |= 1L << id;
+	}
+
+	private static boolean isSet(final long[] row, final int id) {
+		return (row[id >>> 6] & (1L << id)) != 0;
+	}
+
+	private static boolean isSet(final long[][] matrix, final int modeId1, final int modeId2) {
+		if (modeId1 < 0 || modeId2 < 0) return false;
+		return isSet(matrix[modeId1], modeId2);
+	}
+
+	/**
+	 * Return the number of modal operators indexed.
+	 * 
+	 * @return Number of modal operators indexed.
+	 */
+	public int size() {
+		return modeNames.length;
+	}
+
+	/**
+	 * Return the id of a modal operator.
+	 * 
+	 * @param modeName Name of the modal operator.
+	 * @return Id of the modal operator; or -1 if the operator does not appear in any mode rules.
+	 */
+	public int getModeId(final String modeName) {
+		Integer id = modeIds.get(modeName);
+		return null == id ? -1 : id;
+	}
+
+	public String getModeName(final int modeId) {
+		return modeNames[modeId];
+	}
+
+	public boolean isConvertible(final int modeId, final int convertModeId) {
+		return isSet(conversionMatrix, modeId, convertModeId);
+	}
+
+	public boolean isExcluded(final int modeId, final int excludedModeId) {
+		return isSet(exclusionMatrix, modeId, excludedModeId);
+	}
+
+	/**
+	 * Check if a modal operator is stronger than another modal operator.
+	 * 
+	 * @param modeId Id of the modal operator.
+	 * @param weakerModeId Id of the modal operator to compare.
+	 * @return true if the modal operator is stronger than the modal operator to compare, as resolved from the mode
+	 *         conflict rules.
+	 */
+	public boolean isStronger(final int modeId, final int weakerModeId) {
+		return isSet(strongerMatrix, modeId, weakerModeId);
+	}
+
+	public boolean isConflict(final int modeId, final int conflictModeId) {
+		return isSet(conflictMatrix, modeId, conflictModeId);
+	}
+
+	/**
+	 * Return the ids of the modal operators that are in conflict with a modal operator.
+	 * 
+	 * @param modeId Id of the modal operator.
+	 * @return Ids of the conflicting modal operators, in ascending order; or null if the operator is not indexed.
+	 */
+	public int[] getConflictModeIds(final int modeId) {
+		return modeId < 0 ? null : conflictModeIds[modeId];
+	}
+
+	/**
+	 * Return the modal operators that are weaker than a modal operator.
+	 * 
+	 * @param modeId Id of the modal operator.
+	 * @return Names of the weaker modal operators.
+	 */
+	public Set<String> getWeakerModes(final int modeId) {
+		Set<String> weakerModes = new TreeSet<String>();
+		if (modeId < 0) return weakerModes;
+		for (int i = 0; i < modeNames.length; i++) {
+			if (isSet(strongerMatrix[modeId], i)) weakerModes.add(modeNames[i]);
+		}
+		return weakerModes;
+	}
+}
@@ -23,6 +23,7 @@ package spindle.core.dom;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -124,7 +125,15 @@ public class Rule implements Comparable<Object>, Cloneable, Serializable {
 
 	public void addBodyLiteral(final Literal literal) throws RuleException {
 		if (null == literal || "".equals(literal.getName())) throw new RuleException(ErrorMessage.LITERAL_NAME_MISSING);
-		body.add(literal);
+		if (!body.add(literal)) {
+			// literals that differ only in the names of their predicate variables are considered as the same,
+			// such that a self-join (e.g., p(X),p(Y)) cannot be represented in the rule body
+			for (Literal bodyLiteral : body) {
+				if (bodyLiteral.compareTo(literal) == 0 && !Arrays.equals(bodyLiteral.getPredicates(), literal.getPredicates()))
+					throw new RuleException(ErrorMessage.RULE_BODY_LITERALS_DIFFER_IN_VARIABLES_ONLY, //
+							new Object[] { label, bodyLiteral, literal });
+			}
+		}
 	}
 
 	public void removeBodyLiteral(final Literal literal) {
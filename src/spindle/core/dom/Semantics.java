@@ -0,0 +1,52 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.core.dom;
+
+/**
+ * Enumerate on the variants of defeasible logic semantics supported by the reasoning engines.
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ */
+public enum Semantics {
+	AMBIGUITY_BLOCKING("Ambiguity Blocking", "AB"), //
+	AMBIGUITY_PROPAGATION("Ambiguity Propagation", "AP"), //
+	WELL_FOUNDED("Well-Founded Semantics", "WF"), //
+	AMBIGUITY_PROPAGATION_WELL_FOUNDED("Ambiguity Propagation with Well-Founded Semantics", "AP+WF");
+
+	private final String label;
+	private final String symbol;
+
+	Semantics(String _label, String _symbol) {
+		label = _label;
+		symbol = _symbol;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+	public String getSymbol() {
+		return symbol;
+	}
+}
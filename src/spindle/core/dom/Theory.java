@@ -32,7 +32,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
-import java.util.Vector;
 import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -54,11 +53,15 @@ public class Theory extends TheoryCore implements Cloneable {
 	private static final LiteralComparator PLAIN_LITERAL_COMPARATOR = new LiteralComparator(false);
 
 	public static final String DEFAULT_RULE_LABEL_PREFIX = "Rule_";
+	/**
+	 * Rule label number format. The format is not thread-safe; use {@link #formatRuleLabelNumber(long)} when labels may be
+	 * generated by several threads.
+	 */
 	public static final NumberFormat formatter = new DecimalFormat("00000");
 	private Map<String, AtomicLong> ruleLabelCounters;
 
 	private final Map<String, Set<String>> strongerModeSet = new TreeMap<String, Set<String>>();
-	private final Map<String, Set<String>> allModeConflictRulesResolved = new TreeMap<String, Set<String>>();
+	private ModeRelations modeRelations = null;
 
 	protected Map<Literal, TreeSet<Literal>> sameConflictLiteralsStore;
 	protected Map<Literal, TreeSet<Literal>> conflictLiteralsStore;
@@ -94,6 +97,18 @@ public class Theory extends TheoryCore implements Cloneable {
 		return getUniqueRuleLabel(DEFAULT_RULE_LABEL_PREFIX);
 	}
 
+	/**
+	 * Format a (non-negative) rule label number in the same way as {@link #formatter}, without using the shared format
+	 * instance.
+	 * 
+	 * @param number Rule label number.
+	 * @return The number with at least 5 digits.
+	 */
+	public static String formatRuleLabelNumber(final long number) {
+		String str = Long.toString(number);
+		return str.length() >= 5 ? str : "00000".substring(str.length()) + str;
+	}
+
 	/**
 	 * Return an unique new rule label with the specified prefix.
 	 * 
@@ -108,7 +123,7 @@ public class Theory extends TheoryCore implements Cloneable {
 		}
 		String id;
 		do {
-			id = prefix + formatter.format(ruleLabelCounter.getAndIncrement());
+			id = prefix + formatRuleLabelNumber(ruleLabelCounter.getAndIncrement());
 		} while (factsAndAllRules.containsKey(id));
 		return id;
 	}
@@ -444,9 +459,7 @@ public class Theory extends TheoryCore implements Cloneable {
 	 *         literals without temporal information.
 	 */
 	public TreeSet<Literal> getConflictLiterals(Literal origLiteral) {
-		if (isConflictRulesModified() || isConversionRulesModified()) {
-			updateModeConversionConflictRules();
-		}
+		if (isModeRulesModified()) updateModeConversionConflictRules();
 
 		TreeSet<Literal> conflictLiterals = conflictLiteralsStore.get(origLiteral);
 		if (null != conflictLiterals) return conflictLiterals;
@@ -460,11 +473,12 @@ public class Theory extends TheoryCore implements Cloneable {
 
 		Mode literalMode = literal.getMode();
 		if (!"".equals(literalMode.getName())) {
-			Set<String> modeList = allModeConflictRulesResolved.get(literalMode.getName());
-			if (null != modeList) {
+			int[] conflictModeIds = getModeRelations().getConflictModeIds(modeRelations.getModeId(literalMode.getName()));
+			if (null != conflictModeIds) {
 				boolean modeNeg=literalMode.isNegation();
 				boolean negatedModeNeg=!modeNeg;
-				for (String modeStr : modeList) {
+				for (int conflictModeId : conflictModeIds) {
+					String modeStr = modeRelations.getModeName(conflictModeId);
 					Literal conflictLiteral1 = literalComplement.clone();
 					conflictLiteral1.setMode(new Mode(modeStr, modeNeg));
 					conflictLiterals.add(conflictLiteral1);
@@ -489,9 +503,7 @@ public class Theory extends TheoryCore implements Cloneable {
 	 * @return The set of literals that are having the same conflicting literals.
 	 */
 	public TreeSet<Literal> getLiteralsWithSameConflictLiterals(Literal origLiteral) {
-		if (isConflictRulesModified() || isConversionRulesModified()) {
-			updateModeConversionConflictRules();
-		}
+		if (isModeRulesModified()) updateModeConversionConflictRules();
 
 		TreeSet<Literal> sameConflictLiterals = sameConflictLiteralsStore.get(origLiteral);
 		if (null != sameConflictLiterals) return sameConflictLiterals;
@@ -503,11 +515,12 @@ public class Theory extends TheoryCore implements Cloneable {
 
 		Mode literalMode = literal.getMode();
 		if (!"".equals(literalMode.getName())) {
-			Set<String> modeList = allModeConflictRulesResolved.get(literalMode.getName());
-			if (null != modeList) {
+			int[] conflictModeIds = getModeRelations().getConflictModeIds(modeRelations.getModeId(literalMode.getName()));
+			if (null != conflictModeIds) {
 				boolean modeNeg=literalMode.isNegation();
 				boolean negatedModeNeg=!modeNeg;
-				for (String modeStr : modeList) {
+				for (int conflictModeId : conflictModeIds) {
+					String modeStr = modeRelations.getModeName(conflictModeId);
 					Literal l1 = literal.clone();
 					l1.setMode(new Mode(modeStr, modeNeg));
 					sameConflictLiterals.add(l1);
@@ -564,16 +577,29 @@ public class Theory extends TheoryCore implements Cloneable {
 	}
 
 	public Map<String, Set<String>> getStrongModeSet() {
-		if (isConflictRulesModified() || isConversionRulesModified()) {
-			updateModeConversionConflictRules();
-		}
+		if (isModeRulesModified()) updateModeConversionConflictRules();
 		return strongerModeSet;
 	}
 
+	/**
+	 * Return the relations between the modal operators in theory, compiled from the mode conversion, conflict and
+	 * exclusion rules.
+	 * 
+	 * @return Modal operator relations of the theory.
+	 */
+	public ModeRelations getModeRelations() {
+		if (null == modeRelations || isModeRulesModified()) updateModeConversionConflictRules();
+		return modeRelations;
+	}
+
+	private boolean isModeRulesModified() {
+		return isConflictRulesModified() || isConversionRulesModified() || isExclusionRulesModified();
+	}
+
 	private void updateModeConversionConflictRules() {
 		synchronized (this) {
+			modeRelations = new ModeRelations(getAllModeConversionRules(), getAllModeConflictRules(), getAllModeExclusionRules());
 			generateStrongModeSet();
-			updateConflictModeRules();
 			resetConversionRulesModified();
 			resetConflictRulesModified();
 			resetExclusionRulesModified();
@@ -585,49 +611,9 @@ public class Theory extends TheoryCore implements Cloneable {
 	private void generateStrongModeSet() {
 		strongerModeSet.clear();
 		strongerModeSet.putAll(getAllModeConflictRules());
-
-		boolean isModified = false;
-		List<String> modeToAdd = null;
-		do {
-			isModified = false;
-			for (Entry<String, Set<String>> entry : strongerModeSet.entrySet()) {
-				Set<String> mList = entry.getValue();
-				modeToAdd = new Vector<String>();
-				for (String weakerMode : mList) {
-					if (strongerModeSet.containsKey(weakerMode)) {
-						Set<String> weakerModeList = strongerModeSet.get(weakerMode);
-						for (String m : weakerModeList) {
-							if (!mList.contains(m)) modeToAdd.add(m);
-						}
-					}
-				}
-				if (modeToAdd.size() > 0) {
-					mList.addAll(modeToAdd);
-					isModified = true;
-				}
-			}
-		} while (isModified);
-	}
-
-	private void updateConflictModeRules() {
-		allModeConflictRulesResolved.clear();
-		Map<String, Set<String>> modeConflictRules = strongerModeSet;
-		for (Entry<String, Set<String>> entry : modeConflictRules.entrySet()) {
-			String mode = entry.getKey();
-			for (String conflictMode : entry.getValue()) {
-				addResolvedConflictRule(mode, conflictMode);
-				addResolvedConflictRule(conflictMode, mode);
-			}
-		}
-	}
-
-	private void addResolvedConflictRule(final String mode, final String conflictMode) {
-		Set<String> conflictModeList = allModeConflictRulesResolved.get(mode);
-		if (null == conflictModeList) {
-			conflictModeList = new TreeSet<String>();
-			allModeConflictRulesResolved.put(mode, conflictModeList);
+		for (Entry<String, Set<String>> entry : strongerModeSet.entrySet()) {
+			entry.getValue().addAll(modeRelations.getWeakerModes(modeRelations.getModeId(entry.getKey())));
 		}
-		if (!conflictModeList.contains(conflictMode)) conflictModeList.add(conflictMode);
 	}
 
 	private Set<Literal> getLiteralsToCheck(Collection<Literal> literals) {
@@ -81,6 +81,8 @@ public abstract class TheoryCore implements Serializable {
 	private boolean conflictRulesModified = false;
 	private boolean exclusionRulesModified = false;
 
+	protected Map<String, LazyModeConversion> lazyModeConversions = null;
+
 	@SuppressWarnings("unchecked")
 	public TheoryCore() {
 		description = "";
@@ -109,6 +111,8 @@ public abstract class TheoryCore implements Serializable {
 		modeConflictRules = new TreeMap<String, Set<String>>();
 		modeExclusionRules = new TreeMap<String, Set<String>>();
 
+		lazyModeConversions = new TreeMap<String, LazyModeConversion>();
+
 		resetConversionRulesModified();
 		resetConflictRulesModified();
 		resetExclusionRulesModified();
@@ -147,6 +151,7 @@ public abstract class TheoryCore implements Serializable {
 				String[] excludedModes = excludedModesSet.toArray(new String[excludedModesSet.size()]);
 				addModeExclusionRules(entry.getKey(), excludedModes);
 			}
+			lazyModeConversions.putAll(theory.lazyModeConversions);
 		} catch (TheoryException e) {
 			e.printStackTrace();
 		}
@@ -403,6 +408,23 @@ public abstract class TheoryCore implements Serializable {
 		return modeExclusionRules;
 	}
 
+	/**
+	 * add the mode conversions of a rule that are not materialized in theory
+	 * 
+	 * @param lazyModeConversion mode conversions of a rule
+	 */
+	public void addLazyModeConversion(final LazyModeConversion lazyModeConversion) {
+		lazyModeConversions.put(lazyModeConversion.getRuleLabel(), lazyModeConversion);
+	}
+
+	public Collection<LazyModeConversion> getLazyModeConversions() {
+		return lazyModeConversions.values();
+	}
+
+	public int getLazyModeConversionsCount() {
+		return lazyModeConversions.size();
+	}
+
 	/**
 	 * check if there exist any mode conversion rules
 	 * 
@@ -39,6 +39,7 @@ import com.app.utils.Utilities.ProcessStatus;
 import spindle.core.MessageType;
 import spindle.core.dom.Conclusion;
 import spindle.core.dom.ConclusionType;
+import spindle.core.dom.ConflictLiteralsIndex;
 import spindle.core.dom.Literal;
 import spindle.core.dom.Rule;
 import spindle.core.dom.RuleExt;
@@ -47,6 +48,7 @@ import spindle.core.dom.Superiority;
 import spindle.core.dom.Theory;
 import spindle.core.dom.TheoryException;
 import spindle.sys.AppConst;
+import spindle.sys.AppLogger;
 import spindle.sys.AppModuleBase;
 import spindle.sys.AppModuleListener;
 import spindle.sys.Conf;
@@ -69,6 +71,7 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 	private static ReasoningEngineUtilities reasoningEngineUtilities = null;
 
 	protected Theory theory = null;
+	protected ConflictLiteralsIndex conflictLiteralsIndex = null;
 	private TheoryAnalyser _theoryAnalyser = null;
 
 	protected Map<String, Rule> strictRules = null;
@@ -84,6 +87,12 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 	protected Map<ConclusionType, Set<Literal>> inapplicableLiteralsBeforeInference = null;
 
 	protected boolean isLogInferenceProcess = false;
+
+	// log level guards, evaluated once per inference so that the trace messages
+	// (and their arguments) are not generated when the log level is not enabled
+	protected boolean isLogFine = false;
+	protected boolean isLogFiner = false;
+	protected boolean isLogFinest = false;
 	private InferenceLogger inferenceLogger = null;
 
 	public ReasoningEngineBase() {
@@ -126,10 +135,14 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 		//records = new TreeMap<Literal, Map<ConclusionType, Conclusion>>();
 		records=new TreeMap<Literal,Set<ConclusionType>>();
 
+		// index the literals in theory, conflict literals are resolved when first requested
+		conflictLiteralsIndex = new ConflictLiteralsIndex(this.theory);
+
 		if (Conf.isShowProgress()) getReasoningEngineUtilities().printTheorySummary(this.theory);
 
 		try {
 			isLogInferenceProcess = Conf.isLogInferenceProcess();
+			updateLogLevelGuards();
 
 			_initialize();
 
@@ -172,7 +185,7 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 	}
 
 	protected void removeRules(Set<String> ruleLabels) throws ReasoningEngineException {
-		logMessage(Level.FINE, 0, "removeRules:", ruleLabels);
+		if (isLogFine) logMessage(Level.FINE, 0, "removeRules:", ruleLabels);
 		try {
 			for (String ruleLabel : ruleLabels) {
 				removeRule(ruleLabel);
@@ -195,7 +208,7 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 					throw new ReasoningEngineException(getClass(), "removeRule: strict rule NOT found! ruleLabel=" + ruleLabel);
 				try {
 					theory.removeRule(ruleLabel);
-					logMessage(Level.FINE, 0, "removeRule: strict rule", ruleLabel, " - removed");
+					if (isLogFine) logMessage(Level.FINE, 0, "removeRule: strict rule", ruleLabel, " - removed");
 				} catch (TheoryException e) {
 					throw new ReasoningEngineException(getClass(), e);
 				}
@@ -230,7 +243,7 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 					default:
 					}
 					theory.removeRule(ruleLabel);
-					logMessage(Level.FINE, 0, "removeRule: defeasiblerule", ruleLabel, " - removed");
+					if (isLogFine) logMessage(Level.FINE, 0, "removeRule: defeasiblerule", ruleLabel, " - removed");
 				} catch (TheoryException e) {
 					throw new ReasoningEngineException(getClass(), e);
 				}
@@ -246,11 +259,24 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 
 	
 	protected Set<Literal> getConflictLiterals(final Literal literal) {
-		Set<Literal> conflictLiterals = theory.getConflictLiterals(literal);
+		int literalId = (null == conflictLiteralsIndex) ? -1 : conflictLiteralsIndex.getLiteralId(literal);
+		Set<Literal> conflictLiterals = literalId < 0 ? theory.getConflictLiterals(literal) : conflictLiteralsIndex.getConflictLiterals(literalId);
 		//logMessage(Level.FINEST, 2, "*** ", literal, "conflict literals=", conflictLiterals);
 		return conflictLiterals;
 	}
 
+	/**
+	 * Return the complement of a literal. The complement literal returned may be shared and should not be modified.
+	 * 
+	 * @param literal literal.
+	 * @return Complement of the literal.
+	 */
+	protected Literal getComplementLiteral(final Literal literal) {
+		if (null == conflictLiteralsIndex || literal.hasTemporalInfo()) return literal.getComplementClone();
+		int literalId = conflictLiteralsIndex.getLiteralId(literal);
+		return literalId < 0 ? literal.getComplementClone() : conflictLiteralsIndex.getLiteral(conflictLiteralsIndex.getComplementId(literalId));
+	}
+
 	private ProcessStatus _generateConclusions() throws ReasoningEngineException {
 		logMessage(Level.INFO, 0, Messages.getSystemMessage(SystemMessage.REASONING_ENGINE_CONCLUSIONS_GENERATION_START));
 		generateConclusions();
@@ -299,7 +325,7 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 				Map<ConclusionType,Conclusion> conclusionsSet=literalEntry.getValue();
 //			for (Literal literal : pendingConclusionSet.keySet()) {
 //				Map<ConclusionType, Conclusion> conclusionsSet = pendingConclusionSet.get(literal);
-				Map<ConclusionType, Conclusion> complementConclusionsSet = pendingConclusionSet.get(literal.getComplementClone());
+				Map<ConclusionType, Conclusion> complementConclusionsSet = pendingConclusionSet.get(getComplementLiteral(literal));
 				for (Conclusion conclusion : conclusionsSet.values()) {
 					if (conclusion.isConflictWith(conclusionsSet.values())) {
 						conclusionsToRemove.add(conclusion);
@@ -321,7 +347,7 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 //			for (Literal literal : pendingConclusionSet.keySet()) {
 				sb.append(LINE_SEPARATOR).append("for literal: ").append(literal.toString());
 //				Map<ConclusionType, Conclusion> conclusionsSet = pendingConclusionSet.get(literal);
-				Map<ConclusionType, Conclusion> complementConclusionsSet = pendingConclusionSet.get(literal.getComplementClone());
+				Map<ConclusionType, Conclusion> complementConclusionsSet = pendingConclusionSet.get(getComplementLiteral(literal));
 				for (Conclusion conclusion : conclusionsSet.values()) {
 					ConclusionType conclusionType = conclusion.getConclusionType();
 					sb.append(LINE_SEPARATOR).append(AppConst.IDENTATOR).append("Check conclusion: ").append(conclusion.toString());
@@ -397,6 +423,41 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 		return literals;
 	}
 
+	@Override
+	public void setAppLogger(final AppLogger logger) {
+		super.setAppLogger(logger);
+		updateLogLevelGuards();
+	}
+
+	@Override
+	public void setLogLevel(Level logLevel) {
+		super.setLogLevel(logLevel);
+		updateLogLevelGuards();
+	}
+
+	/**
+	 * Update the log level guards according to the level of the current logger. The guards are used at the call sites
+	 * of the trace messages so that no message (nor argument array) is created when the log level is not enabled.
+	 */
+	protected void updateLogLevelGuards() {
+		isLogFine = isLoggable(Level.FINE);
+		isLogFiner = isLoggable(Level.FINER);
+		isLogFinest = isLoggable(Level.FINEST);
+	}
+
+	/**
+	 * Log a structured trace event. The event message is formatted only if the log level is enabled.
+	 * 
+	 * @param logLevel log level.
+	 * @param indentLevel indent level.
+	 * @param event trace event.
+	 * @param args event arguments.
+	 */
+	protected void logTraceEvent(final Level logLevel, final int indentLevel, final TraceEvent event, final Object... args) {
+		if (!isLoggable(logLevel)) return;
+		logger.onLogMessage(logLevel, indentLevel, event.format(args), (Object[]) null);
+	}
+
 	/**
 	 * clear the engine data
 	 * 
@@ -405,6 +466,7 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 	@Override
 	public ProcessStatus clear() {
 		theory = null;
+		conflictLiteralsIndex = null;
 
 		strictRules = null;
 		defeasibleRules = null;
@@ -451,7 +513,7 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 	}
 
 	protected ProcessStatus addRecord(ConclusionType conclusionType,Literal literal){
-		logMessage(Level.FINE, 3, "record added: ", conclusionType.getSymbol(),literal);
+		if (isLogFine) logTraceEvent(Level.FINE, 3, TraceEvent.RECORD_ADDED, conclusionType.getSymbol(), literal);
 
 		Set<ConclusionType> recordList=records.get(literal);
 		if (null==recordList){
@@ -495,7 +557,7 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 		if (records == null) return false;
 //		if (!records.containsKey(literal))return false;
 		Set<ConclusionType> recordList = records.get(literal);
-		logMessage(Level.FINEST,3,"isRecordExist(",literal,conclusionType,")=",recordList,"::",null==recordList?"null":recordList,"::",null==recordList?"":recordList.contains(conclusionType));
+		if (isLogFinest) logTraceEvent(Level.FINEST, 3, TraceEvent.RECORD_CHECKED, literal, conclusionType, recordList);
 		if (null == recordList) return false;
 		return recordList.contains(conclusionType);
 		// Map<ConclusionType, Conclusion> recordList = records.get(literal);
@@ -511,7 +573,7 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 	}
 
 	protected ProcessStatus newLiteralFind_definiteProvable(final Literal literal, final boolean isCheckInference) {
-		logMessage(Level.FINE, 1, "newLiteralFind_definiteProvable", literal);
+		if (isLogFine) logMessage(Level.FINE, 1, "newLiteralFind_definiteProvable", literal);
 		Conclusion conclusion1 = new Conclusion(ConclusionType.DEFINITE_PROVABLE, literal);
 		Conclusion conclusion2 = new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, literal);
 		Conclusion conclusion3 = new Conclusion(ConclusionType.TENTATIVELY_PROVABLE, literal);
@@ -527,7 +589,7 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 	}
 
 	protected ProcessStatus newLiteralFind_definiteNotProvable(final Literal literal, final boolean isCheckInference) {
-		logMessage(Level.FINE, 1, "newLiteralFind_definiteNotProvable", literal);
+		if (isLogFine) logMessage(Level.FINE, 1, "newLiteralFind_definiteNotProvable", literal);
 		Conclusion conclusion = new Conclusion(ConclusionType.DEFINITE_NOT_PROVABLE, literal);
 		addPendingConclusion(conclusion);
 		addRecord(conclusion);
@@ -538,7 +600,7 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 	}
 
 	protected ProcessStatus newLiteralFind_defeasiblyProvable(final Literal literal, final boolean isCheckInference) {
-		logMessage(Level.FINE, 1, "newLiteralFind_defeasiblyProvable", literal);
+		if (isLogFine) logMessage(Level.FINE, 1, "newLiteralFind_defeasiblyProvable", literal);
 		Conclusion conclusion = new Conclusion(ConclusionType.TENTATIVELY_PROVABLE, literal);
 		addRecord(conclusion);
 		if (isCheckInference) {
@@ -548,7 +610,7 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 	}
 
 	protected ProcessStatus newLiteralFind_defeasiblyNotProvable(final Literal literal, final boolean isCheckInference) {
-		logMessage(Level.FINE, 1, "newLiteralFind_defeasiblyNotProvable", literal);
+		if (isLogFine) logMessage(Level.FINE, 1, "newLiteralFind_defeasiblyNotProvable", literal);
 		Conclusion conclusion = new Conclusion(ConclusionType.TENTATIVELY_NOT_PROVABLE, literal);
 		addRecord(conclusion);
 		if (isCheckInference) {
@@ -596,10 +658,10 @@ public abstract class ReasoningEngineBase extends AppModuleBase implements Reaso
 		boolean hasDefPosConflict = false;
 		boolean hasDefNegConflict = false;
 		
-logMessage(Level.FINER, 1, "checkInference: literal=", literal);
+		if (isLogFiner) logMessage(Level.FINER, 1, "checkInference: literal=", literal);
 		for (int i = 0; i < conflictLiteralList.size() && !(hasDefPosConflict && hasDefNegConflict); i++) {
 			Literal conflictLiteral = conflictLiteralsIterator.next();// conflictLiteralList.get(i);
-			logMessage(Level.FINER, 2, "checkInference: literal=", literal, "conflictLiteral=", conflictLiteral);
+			if (isLogFiner) logMessage(Level.FINER, 2, "checkInference: literal=", literal, "conflictLiteral=", conflictLiteral);
 			boolean hasLiteralComplement = theory.contains(conflictLiteral);
 
 			// for defeasibly provable
@@ -614,13 +676,9 @@ logMessage(Level.FINER, 1, "checkInference: literal=", literal);
 			boolean isComplementDefiniteProvable = isRecordExist(conflictLiteral, ConclusionType.DEFINITE_PROVABLE);
 			boolean isComplementTentativeProvable = isRecordExist(conflictLiteral, ConclusionType.TENTATIVELY_PROVABLE);
 
-			logMessage(Level.FINEST, 3, "check inference for literal=", conclusion);
-			logMessage(Level.FINEST, 4, "complement literal check=", conflictLiteral);
-			logMessage(Level.FINEST, 5, "hasLiteralComplement=" + hasLiteralComplement);
-			logMessage(Level.FINEST, 5, "[" + isDefiniteProvable + "]", "[" + isTentativeProvable, isComplementDefiniteNotProvable,
-					isComplementNotTentativeProvable + "]");
-			logMessage(Level.FINEST, 5, "[" + isDefiniteNotProvable + "]", "[" + isTentativeNotProvable, isComplementDefiniteProvable,
-					isComplementTentativeProvable + "]");
+			if (isLogFinest) logTraceEvent(Level.FINEST, 3, TraceEvent.INFERENCE_CHECKED, conclusion, conflictLiteral, hasLiteralComplement, //
+					isDefiniteProvable, isTentativeProvable, isComplementDefiniteNotProvable, isComplementNotTentativeProvable, //
+					isDefiniteNotProvable, isTentativeNotProvable, isComplementDefiniteProvable, isComplementTentativeProvable);
 
 			// for defeasibly provable
 			boolean defeasibleProvableCase1 = isDefiniteProvable;
@@ -629,7 +687,7 @@ logMessage(Level.FINER, 1, "checkInference: literal=", literal);
 			if (defeasibleProvableCase1 || defeasibleProvableCase2) {
 			} else {
 				hasDefPosConflict = true;
-				logMessage(Level.FINEST, 4, "==> hasDefPosConflict=" + hasDefPosConflict);
+				if (isLogFinest) logMessage(Level.FINEST, 4, "==> hasDefPosConflict=", hasDefPosConflict);
 			}
 
 			// for defeasibly NOT provable
@@ -643,24 +701,21 @@ logMessage(Level.FINER, 1, "checkInference: literal=", literal);
 			// -tt ~q OR +D q OR +tt q
 			boolean defeasibleNotProvableCase1 = isDefiniteNotProvable;
 			boolean defeasibleNotProvableCase2 = isTentativeNotProvable || isComplementDefiniteProvable || isComplementTentativeProvable;
-			logMessage(Level.FINEST, 5, "[" + defeasibleNotProvableCase1 + "]", "[" + defeasibleNotProvableCase1+"]");
-			logMessage(Level.FINEST, 5, "[" + defeasibleNotProvableCase2 + "]", "[" + isTentativeNotProvable, isComplementDefiniteProvable,
-					isComplementTentativeProvable + "]");
 			if (defeasibleNotProvableCase1 && defeasibleNotProvableCase2) {
 			} else {
 				hasDefNegConflict = true;
-				logMessage(Level.FINEST, 4, "==> hasDefNegConflict=" + hasDefNegConflict);
+				if (isLogFinest) logMessage(Level.FINEST, 4, "==> hasDefNegConflict=", hasDefNegConflict);
 			}
 		}
 		if (!hasDefPosConflict) {
-			logMessage(Level.FINER, 3, "==> add new defeasibly provable literal", literal);
+			if (isLogFiner) logMessage(Level.FINER, 3, "==> add new defeasibly provable literal", literal);
 			Conclusion defeasibleConclusion = new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, literal);
 			addPendingConclusion(defeasibleConclusion);
 			addRecord(defeasibleConclusion);
 			addRecord(new Conclusion(ConclusionType.TENTATIVELY_PROVABLE, literal));
 		}
 		if (!hasDefNegConflict) {
-			logMessage(Level.FINER, 3, "==> add new defeasibly NOT provable literal", literal);
+			if (isLogFiner) logMessage(Level.FINER, 3, "==> add new defeasibly NOT provable literal", literal);
 			Conclusion defeasibleNotConclusion = new Conclusion(ConclusionType.DEFEASIBLY_NOT_PROVABLE, literal);
 			addPendingConclusion(defeasibleNotConclusion);
 			addRecord(defeasibleNotConclusion);
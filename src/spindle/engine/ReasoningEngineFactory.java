@@ -21,6 +21,7 @@
  */
 package spindle.engine;
 
+import java.io.File;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -33,7 +34,9 @@ import spindle.engine.tdl.TdlConclusionUpdater;
 import spindle.sys.AppConst;
 import spindle.sys.Conf;
 import spindle.sys.message.ErrorMessage;
+import spindle.tools.cache.ConclusionCache;
 import spindle.tools.evaluator.LiteralVariablesEvaluator;
+import spindle.tools.grounder.TheoryGrounder;
 
 /**
  * Factory class for theory normalizer and reasoning engine
@@ -50,6 +53,9 @@ public final class ReasoningEngineFactory {
 	};
 
 	private static LiteralVariablesEvaluator literalVariableEvaluator = null;
+	private static TheoryGrounder theoryGrounder = null;
+	private static ConclusionCache conclusionCache = null;
+	private static ConclusionCache componentConclusionCache = null;
 	private static TdlConclusionUpdater conclusionUpdater = null;
 	private static Map<TheoryType, Map<Integer, TheoryNormalizer>> theoryNormalizersStore = new TreeMap<TheoryType, Map<Integer, TheoryNormalizer>>();
 	private static Map<TheoryType, Map<ENGINE_TYPE, Map<Integer, ReasoningEngine>>> reasoningEnginesStore = new TreeMap<TheoryType, Map<ENGINE_TYPE, Map<Integer, ReasoningEngine>>>();
@@ -65,6 +71,48 @@ public final class ReasoningEngineFactory {
 		return literalVariableEvaluator;
 	}
 
+	/**
+	 * Return a copy of theory grounder.
+	 * 
+	 * @return Theory grounder.
+	 */
+	public static final TheoryGrounder getTheoryGrounder() {
+		if (Conf.isMultiThreadMode()) return new TheoryGrounder();
+		if (null == theoryGrounder) theoryGrounder = new TheoryGrounder();
+		return theoryGrounder;
+	}
+
+	/**
+	 * Return the conclusion cache according to the configuration information. The cache is shared by all reasoners
+	 * (including the ones in multi-thread mode) as its methods are synchronized.
+	 * 
+	 * @return Conclusion cache.
+	 */
+	public static final synchronized ConclusionCache getConclusionCache() {
+		if (null == conclusionCache) {
+			String cacheFolder = Conf.getConclusionCacheFolder();
+			conclusionCache = new ConclusionCache(Conf.getConclusionCacheMemorySize(), //
+					null == cacheFolder ? null : new File(cacheFolder), Conf.getConclusionCacheDiskSize());
+		}
+		return conclusionCache;
+	}
+
+	/**
+	 * Return the conclusion cache of theory components according to the configuration information. Same as the
+	 * conclusion cache, the cache is shared by all reasoners.
+	 * 
+	 * @return Theory components conclusion cache.
+	 * @see spindle.tools.cache.ComponentReasoner
+	 */
+	public static final synchronized ConclusionCache getComponentConclusionCache() {
+		if (null == componentConclusionCache) {
+			String cacheFolder = Conf.getConclusionCacheFolder();
+			componentConclusionCache = new ConclusionCache(Conf.getComponentCacheMemorySize(), //
+					null == cacheFolder ? null : new File(cacheFolder, "components"), Conf.getConclusionCacheDiskSize());
+		}
+		return componentConclusionCache;
+	}
+
 	/**
 	 * Return a copy of conclusion updater for TDL literals data store according to the configuration information.
 	 * 
@@ -63,7 +63,7 @@ public abstract class TheoryNormalizer extends AppModuleBase {
 	private static final String SUPERIORITY_RULE_POSTFIX_MINUS = "-";
 	private static final String SYMBOL_INF = "inf";
 
-	protected static final String TRANSFORM_POSTFIX = "'";
+	public static final String TRANSFORM_POSTFIX = "'";
 	protected static final String TRANSFORM_POSTFIX2 = "*";
 	protected static final String FACT_RULE_TRANSFORM_PREFIX = "fact.";
 
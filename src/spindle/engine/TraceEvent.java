@@ -0,0 +1,69 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.engine;
+
+import java.text.MessageFormat;
+
+/**
+ * Structured trace events generated by the reasoning engines.
+ * <p>
+ * Each event carries a message pattern (in {@link MessageFormat} syntax) that is formatted with the event arguments
+ * only when the event is logged, i.e., no string is created on the inference hot paths when tracing is disabled.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see ReasoningEngineBase#logTraceEvent(java.util.logging.Level, int, TraceEvent, Object...)
+ */
+public enum TraceEvent {
+	RECORD_ADDED("record added: {0} {1}"), //
+	RECORD_CHECKED("isRecordExist({0},{1})={2}"), //
+	INFERENCE_CHECKED("check inference for literal={0}, complement literal={1}, hasLiteralComplement={2}" //
+			+ ", [+D={3}, +t={4}, ~-D={5}, ~-t={6}]" //
+			+ ", [-D={7}, -t={8}, ~+D={9}, ~+t={10}]"), //
+	CONCLUSION_ADDED("conclusion added: {0}"), //
+	PENDING_CONCLUSION_ADDED("pending conclusion added: {0}"), //
+	AMBIGUOUS_CONCLUSION_ADDED("ambiguous conclusion added: {0}"), //
+	AMBIGUOUS_CONCLUSION_REMOVED("ambiguous conclusion to remove: {0}"), //
+	AMBIGUOUS_CONCLUSION_CHECKED("isAmbiguousConclusionExist({0},{1})={2}");
+
+	private final String pattern;
+
+	TraceEvent(final String pattern) {
+		this.pattern = pattern;
+	}
+
+	public String getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * Format the event message with the arguments given.
+	 * 
+	 * @param args event arguments.
+	 * @return Formatted event message.
+	 */
+	public String format(final Object... args) {
+		return MessageFormat.format(pattern, args);
+	}
+}
@@ -0,0 +1,114 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.engine.mdl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import spindle.core.dom.Conclusion;
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.LazyModeConversion;
+import spindle.core.dom.Literal;
+
+/**
+ * Resolve the conclusions of the converted head literals of lazy mode conversions.
+ * <p>
+ * As the converted head literals do not appear in the theory and are not in conflict with any other literals, their
+ * conclusions depend only on the conclusions of the rule bodies, i.e., a converted head literal is:
+ * <ul>
+ * <li>definitely not provable, as it can only be derived by defeasible rules;</li>
+ * <li>defeasibly provable if all body literals of one of its rules are (definitely or defeasibly) provable; and</li>
+ * <li>defeasibly not provable if every rule contains a body literal that is defeasibly not provable.</li>
+ * </ul>
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see LazyModeConversion
+ */
+public class LazyModeConversionResolver {
+	private static final int PROVABLE = 1;
+	private static final int NOT_PROVABLE = 2;
+
+	/**
+	 * Return the conclusions of the converted head literals.
+	 * 
+	 * @param lazyModeConversions lazy mode conversions of a theory
+	 * @param conclusions conclusions derived from the theory
+	 * @return Conclusions of the converted head literals.
+	 */
+	public static List<Conclusion> getConclusions(final Collection<LazyModeConversion> lazyModeConversions,
+			final Map<Literal, Map<ConclusionType, Conclusion>> conclusions) {
+		Map<Literal, Integer> literalsStatus = new TreeMap<Literal, Integer>();
+		for (LazyModeConversion lazyModeConversion : lazyModeConversions) {
+			int bodyStatus = getBodyStatus(lazyModeConversion.getBodyLiterals(), conclusions);
+			for (Literal literal : lazyModeConversion.getHeadLiterals()) {
+				Integer status = literalsStatus.get(literal);
+				if (null == status) {
+					literalsStatus.put(literal, bodyStatus);
+				} else if (bodyStatus == PROVABLE || status == PROVABLE) {
+					literalsStatus.put(literal, PROVABLE);
+				} else if (bodyStatus != status) {
+					// some rules are neither applicable nor discarded
+					literalsStatus.put(literal, 0);
+				}
+			}
+		}
+
+		List<Conclusion> convertedConclusions = new ArrayList<Conclusion>();
+		for (Entry<Literal, Integer> entry : literalsStatus.entrySet()) {
+			Literal literal = entry.getKey();
+			convertedConclusions.add(new Conclusion(ConclusionType.DEFINITE_NOT_PROVABLE, literal));
+			switch (entry.getValue()) {
+			case PROVABLE:
+				convertedConclusions.add(new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, literal));
+				break;
+			case NOT_PROVABLE:
+				convertedConclusions.add(new Conclusion(ConclusionType.DEFEASIBLY_NOT_PROVABLE, literal));
+				break;
+			default:
+			}
+		}
+		return convertedConclusions;
+	}
+
+	private static int getBodyStatus(final List<Literal> bodyLiterals, final Map<Literal, Map<ConclusionType, Conclusion>> conclusions) {
+		int status = PROVABLE;
+		for (Literal literal : bodyLiterals) {
+			Map<ConclusionType, Conclusion> literalConclusions = conclusions.get(literal);
+			if (null == literalConclusions) {
+				status = 0;
+			} else if (literalConclusions.containsKey(ConclusionType.DEFEASIBLY_NOT_PROVABLE)) {
+				return NOT_PROVABLE;
+			} else if (!literalConclusions.containsKey(ConclusionType.DEFEASIBLY_PROVABLE)
+					&& !literalConclusions.containsKey(ConclusionType.DEFINITE_PROVABLE)) {
+				status = 0;
+			}
+		}
+		return status;
+	}
+}
@@ -0,0 +1,173 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.engine.mdl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+
+import spindle.core.dom.Conclusion;
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.Literal;
+import spindle.core.dom.Theory;
+import spindle.core.dom.TheoryType;
+import spindle.engine.ReasoningEngine;
+import spindle.engine.ReasoningEngineException;
+import spindle.engine.TheoryNormalizer;
+import spindle.sys.AppModuleBase;
+import spindle.sys.Conf;
+import spindle.tools.analyser.TheoryAnalyser;
+import spindle.tools.analyser.dom.TheoryComponent;
+import spindle.tools.grounder.TheoryGrounder;
+
+/**
+ * Reason on a modal theory partition by partition, with the partitions reasoned in parallel.
+ * <p>
+ * The theory is partitioned into independent parts (see {@link TheoryAnalyser#getModalTheoryPartitions()}), i.e.,
+ * groups of rules whose literals are not connected (through rules, superiority relations or the mode relations of
+ * their modal operators) to the literals of other groups. Each partition is then normalized and reasoned as a theory
+ * of its own, using a new theory normalizer and reasoning engine (version 2) per partition, such that partitions can
+ * be reasoned concurrently. The conclusions of the theory are the union of the partition conclusions.
+ * </p>
+ * <p>
+ * Partition reasoning is supported only for modal theories without temporal information or literal variables.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see Conf#getNoOfParallelReasoningThreads()
+ */
+public class MdlPartitionReasoner extends AppModuleBase {
+	private int partitionsCount = 0;
+
+	public MdlPartitionReasoner() {
+		super();
+	}
+
+	/**
+	 * Check if the theory can be reasoned partition by partition using the current reasoner configuration.
+	 * 
+	 * @param theory theory.
+	 * @return true if partition reasoning is supported; false otherwise.
+	 */
+	public static boolean isPartitionReasoningSupported(final Theory theory) {
+		if (null == theory || TheoryType.MDL != theory.getTheoryType()) return false;
+		if (Conf.getReasonerVersion() == 1) return false;
+		if (theory.getLiteralVariableCount() > 0 || theory.getLiteralBooleanFunctionCount() > 0) return false;
+		if (theory.getLiteralVariablesInRulesCount() > 0 || theory.getLiteralBooleanFunctionsInRulesCount() > 0) return false;
+		if (Conf.isTheoryGrounding() && TheoryGrounder.isGroundingRequired(theory)) return false;
+		for (Literal literal : theory.getAllLiteralsInRules()) {
+			if (literal.hasTemporalInfo()) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Generate the conclusions of a modal theory partition by partition.
+	 * 
+	 * @param theory theory (before normalization).
+	 * @return Conclusions of the literals in the theory.
+	 * @throws ReasoningEngineException
+	 */
+	public Map<Literal, Map<ConclusionType, Conclusion>> getConclusions(final Theory theory) throws ReasoningEngineException {
+		partitionsCount = 0;
+
+		TheoryAnalyser theoryAnalyser = new TheoryAnalyser();
+		ExecutorService executor = null;
+		try {
+			theoryAnalyser.setAppLogger(logger);
+			theoryAnalyser.setTheory(theory);
+			List<TheoryComponent> partitions = theoryAnalyser.getModalTheoryPartitions();
+			partitionsCount = partitions.size();
+
+			List<Callable<Map<Literal, Map<ConclusionType, Conclusion>>>> tasks = new ArrayList<Callable<Map<Literal, Map<ConclusionType, Conclusion>>>>(
+					partitionsCount);
+			// defeaters removal transforms all rules of the theory,
+			// so it is applied to every partition whenever the theory contains defeaters
+			final boolean isRemoveDefeater = theory.getDefeatersCount() > 0;
+			for (TheoryComponent partition : partitions) {
+				final Theory partitionTheory = theory.createNewTheoryWithRules(partition.getRuleLabels());
+				tasks.add(new Callable<Map<Literal, Map<ConclusionType, Conclusion>>>() {
+					@Override
+					public Map<Literal, Map<ConclusionType, Conclusion>> call() throws Exception {
+						return generatePartitionConclusions(partitionTheory, isRemoveDefeater);
+					}
+				});
+			}
+
+			Map<Literal, Map<ConclusionType, Conclusion>> conclusions = new TreeMap<Literal, Map<ConclusionType, Conclusion>>();
+			int noOfThreads = Math.min(Conf.getNoOfParallelReasoningThreads(), partitionsCount);
+			logMessage(Level.FINE, 0, "partitions: ", partitionsCount, ", threads: ", noOfThreads);
+			if (noOfThreads > 1) {
+				executor = Executors.newFixedThreadPool(noOfThreads);
+				for (Future<Map<Literal, Map<ConclusionType, Conclusion>>> future : executor.invokeAll(tasks)) {
+					conclusions.putAll(future.get());
+				}
+			} else {
+				for (Callable<Map<Literal, Map<ConclusionType, Conclusion>>> task : tasks) {
+					conclusions.putAll(task.call());
+				}
+			}
+			return conclusions;
+		} catch (ReasoningEngineException e) {
+			throw e;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof ReasoningEngineException) throw (ReasoningEngineException) e.getCause();
+			throw new ReasoningEngineException(getClass(), e.getCause());
+		} catch (Exception e) {
+			throw new ReasoningEngineException(getClass(), e);
+		} finally {
+			if (null != executor) executor.shutdownNow();
+			theoryAnalyser.resetAppLogger();
+		}
+	}
+
+	private Map<Literal, Map<ConclusionType, Conclusion>> generatePartitionConclusions(final Theory partitionTheory,
+			final boolean isRemoveDefeater) throws Exception {
+		TheoryNormalizer theoryNormalizer = new MdlTheoryNormalizer2();
+		theoryNormalizer.setAppLogger(logger);
+		theoryNormalizer.setTheory(partitionTheory);
+		theoryNormalizer.transformTheoryToRegularForm();
+		if (isRemoveDefeater) theoryNormalizer.removeDefeater();
+		Theory normalizedTheory = theoryNormalizer.getTheory();
+
+		ReasoningEngine reasoningEngine = Conf.isReasoningWithAmbiguityPropagation() ? new MdlReasoningEngineAP2()
+				: new MdlReasoningEngine2();
+		reasoningEngine.setAppLogger(logger);
+		return reasoningEngine.getConclusions(normalizedTheory);
+	}
+
+	/**
+	 * @return Number of partitions in the theory last reasoned.
+	 */
+	public int getPartitionsCount() {
+		return partitionsCount;
+	}
+}
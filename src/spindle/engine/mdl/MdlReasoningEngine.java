@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.logging.Level;
 
@@ -33,6 +34,7 @@ import spindle.core.dom.Conclusion;
 import spindle.core.dom.ConclusionType;
 import spindle.core.dom.Literal;
 import spindle.core.dom.Mode;
+import spindle.core.dom.ModeRelations;
 import spindle.core.dom.Rule;
 import spindle.core.dom.RuleType;
 import spindle.engine.ReasoningEngineException;
@@ -48,7 +50,8 @@ import spindle.tools.explanation.RuleInferenceStatus;
  * @version Last modified 2012.08.20
  */
 public class MdlReasoningEngine extends SdlReasoningEngine {
-	protected Map<String, Set<String>> strongerModeSet = null;
+	protected ModeRelations modeRelations = null;
+	private Map<Literal, Set<Literal>> weakerConflictLiteralsStore = null;
 
 	public MdlReasoningEngine() {
 		super();
@@ -56,14 +59,25 @@ public class MdlReasoningEngine extends SdlReasoningEngine {
 
 	@Override
 	protected void initialize() throws ReasoningEngineException {
-		strongerModeSet = theory.getStrongModeSet();
+		modeRelations = theory.getModeRelations();
+		weakerConflictLiteralsStore = new TreeMap<Literal, Set<Literal>>();
 		super.initialize();
 	}
 
+	@Override
+	protected void terminate() throws ReasoningEngineException {
+		if (theory.getLazyModeConversionsCount() > 0) {
+			for (Conclusion conclusion : LazyModeConversionResolver.getConclusions(theory.getLazyModeConversions(), conclusions)) {
+				addConclusion(conclusion);
+			}
+		}
+		super.terminate();
+	}
+
 	protected Set<Literal> getConflictLiteralListWithoutOperatorChange(final Literal literal) {
 		Set<Literal> conflictLiteralList = new TreeSet<Literal>();
 
-		conflictLiteralList.add(literal.getComplementClone());
+		conflictLiteralList.add(getComplementLiteral(literal));
 
 		Mode literalMode = literal.getMode();
 		if (!"".equals(literalMode.getName())) {
@@ -76,7 +90,7 @@ public class MdlReasoningEngine extends SdlReasoningEngine {
 
 	// remove ambiguity caused by complementary literal
 	protected void removeComplementLiteralAmbiguity(int i) {
-		logMessage(Level.FINE, 1, "=== removeComplementLiteralAmbiguity - start ===");
+		if (isLogFine) logMessage(Level.FINE, 1, "=== removeComplementLiteralAmbiguity - start ===");
 		List<Conclusion> ambiguousConclusionToRemove = new ArrayList<Conclusion>();
 		List<Conclusion> recordsToRemove = new ArrayList<Conclusion>();
 		for (Entry<Conclusion, Set<String>> entry : ambiguousConclusions[i].entrySet()) {
@@ -87,7 +101,7 @@ public class MdlReasoningEngine extends SdlReasoningEngine {
 			Set<Literal> conflictLiterals = getConflictLiteralListWithoutOperatorChange(literal);
 			switch (conclusion.getConclusionType()) {
 			case DEFINITE_PROVABLE:
-				logMessage(Level.FINER, 2, "removeComplementLiteralAmbiguity, check literal (definite): ", literal);
+				if (isLogFiner) logMessage(Level.FINER, 2, "removeComplementLiteralAmbiguity, check literal (definite): ", literal);
 				if (!containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT)) {
 					if (isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE)) {
 						ambiguousConclusionToRemove.add(conclusion);
@@ -100,7 +114,7 @@ public class MdlReasoningEngine extends SdlReasoningEngine {
 				}
 				break;
 			case DEFEASIBLY_PROVABLE:
-				logMessage(Level.FINER, 2, "removeComplementLiteralAmbiguity, check literal (defeasible): ", literal);
+				if (isLogFiner) logMessage(Level.FINER, 2, "removeComplementLiteralAmbiguity, check literal (defeasible): ", literal);
 				if (!containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE)) {
 					if (isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE)) {
 						ambiguousConclusionToRemove.add(conclusion);
@@ -122,13 +136,13 @@ public class MdlReasoningEngine extends SdlReasoningEngine {
 		for (Conclusion record : recordsToRemove) {
 			removeRecord(record);
 		}
-		logMessage(Level.FINE, 1, "=== removeComplementLiteralAmbiguity -  end  ===");
+		if (isLogFine) logMessage(Level.FINE, 1, "=== removeComplementLiteralAmbiguity -  end  ===");
 	}
 
 	@Override
 	protected void updateAmbiguousConclusions(int i) {
 		if (ambiguousConclusions[i].size() == 0) return;
-		logMessage(Level.FINE, 0, "MdlReasoningEngine.updateAmbiguousConclusions - start, i=", i);
+		if (isLogFine) logMessage(Level.FINE, 0, "MdlReasoningEngine.updateAmbiguousConclusions - start, i=", i);
 		if (!AppConst.isDeploy) printEngineStatus("updateAmbiguousConclusions-before");
 
 		List<Conclusion> ambiguousConclusionToRemove = new ArrayList<Conclusion>();
@@ -151,7 +165,7 @@ public class MdlReasoningEngine extends SdlReasoningEngine {
 			
 			switch (conclusion.getConclusionType()) {
 			case DEFINITE_PROVABLE:
-				logMessage(Level.FINER, 1, "updateAmbiguousConclusion [MDL], check literal (definite): ", literal);
+				if (isLogFiner) logMessage(Level.FINER, 1, "updateAmbiguousConclusion [MDL], check literal (definite): ", literal);
 				if (!containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT)) {
 					boolean chk2 = isRecordExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE);
 					if (chk2) {
@@ -159,11 +173,12 @@ public class MdlReasoningEngine extends SdlReasoningEngine {
 
 						int conflictLiteralExistCount = 0;
 						int strongModeCount = 0;
+						Set<Literal> weakerConflictLiterals = getWeakerConflictLiterals(literal);
 						for (Literal conflictLiteral : conflictLiterals) {
 							if (isRecordExist(conflictLiteral, ConclusionType.DEFINITE_PROVABLE)) {
 								conflictLiteralExistCount++;
-								if (hasStrongerMode(literal, conflictLiteral)) {
-									logMessage(Level.FINEST, 2, null, literal, " hasStrongerMode: ", conflictLiteral);
+								if (weakerConflictLiterals.contains(conflictLiteral)) {
+									if (isLogFinest) logMessage(Level.FINEST, 2, null, literal, " hasStrongerMode: ", conflictLiteral);
 									strongModeCount++;
 								}
 							}
@@ -196,7 +211,7 @@ public class MdlReasoningEngine extends SdlReasoningEngine {
 				}
 				break;
 			case DEFEASIBLY_PROVABLE:
-				logMessage(Level.FINER, 1, "updateAmbiguousConclusion [MDL], check literal (defeasible): ", literal);
+				if (isLogFiner) logMessage(Level.FINER, 1, "updateAmbiguousConclusion [MDL], check literal (defeasible): ", literal);
 				Set<Rule>rulesWithLiteralAsHead=theory.getRulesWithHead(literal);
 				boolean keepLiteralInAmbiguousSet=false;
 				for (Rule r:rulesWithLiteralAsHead){
@@ -209,17 +224,18 @@ public class MdlReasoningEngine extends SdlReasoningEngine {
 				if (keepLiteralInAmbiguousSet){
 					// defer the removal of literal until all rules generated
 					// by the superiority removal process have been evaluated
-					logMessage(Level.FINER, 2, "keep literal in ambiguous set temporary");
+					if (isLogFiner) logMessage(Level.FINER, 2, "keep literal in ambiguous set temporary");
 				} else if (!containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE)) {
 					ambiguousConclusionToRemove.add(conclusion);
 					if (dchk2) {
 						int conflictLiteralExistCount = 0;
 						int strongModeCount = 0;
+						Set<Literal> weakerConflictLiterals = getWeakerConflictLiterals(literal);
 						for (Literal conflictLiteral : conflictLiterals) {
 							if (isRecordExist(conflictLiteral, ConclusionType.DEFEASIBLY_PROVABLE)) {
 								conflictLiteralExistCount++;
-								if (hasStrongerMode(literal, conflictLiteral)) {
-									logMessage(Level.FINEST, 2, null, literal, " hasStrongerMode: ", conflictLiteral);
+								if (weakerConflictLiterals.contains(conflictLiteral)) {
+									if (isLogFinest) logMessage(Level.FINEST, 2, null, literal, " hasStrongerMode: ", conflictLiteral);
 									strongModeCount++;
 								}
 							}
@@ -268,20 +284,30 @@ public class MdlReasoningEngine extends SdlReasoningEngine {
 		}
 
 		if (!AppConst.isDeploy) printEngineStatus("updateAmbiguousConclusions-after");
-		logMessage(Level.FINE, 0, "MdlReasoningEngine.updateAmbiguousConclusions - end, i=", i);
+		if (isLogFine) logMessage(Level.FINE, 0, "MdlReasoningEngine.updateAmbiguousConclusions - end, i=", i);
 	}
 
-	private boolean hasStrongerMode(Literal literal, Literal conflictLiteral) {
-		Mode m1 = literal.getMode();
-		Mode m2 = conflictLiteral.getMode();
-		if (m1.equals(m2)) return false;
-		if (m1.getName().equals(m2.getName()) && m1.isNegation() != m2.isNegation()) return false;
-		if (!strongerModeSet.containsKey(m1.getName())) return false;
-		Set<String> modeList = strongerModeSet.get(m1.getName());
-		String m2ModeName = m2.getName();
-		for (String s : modeList) {
-			if (s.equals(m2ModeName)) { return true; }
+	/**
+	 * Return the conflict literals of a literal that carry a modal operator weaker than the one of the literal.
+	 * The mode ids are resolved once per literal and the result is kept for the rest of the reasoning process.
+	 * 
+	 * @param literal literal.
+	 * @return Conflict literals with weaker modal operator.
+	 */
+	protected Set<Literal> getWeakerConflictLiterals(final Literal literal) {
+		Set<Literal> weakerConflictLiterals = weakerConflictLiteralsStore.get(literal);
+		if (null != weakerConflictLiterals) return weakerConflictLiterals;
+
+		weakerConflictLiterals = new TreeSet<Literal>();
+		int modeId = modeRelations.getModeId(literal.getMode().getName());
+		if (modeId >= 0) {
+			for (Literal conflictLiteral : getConflictLiterals(literal)) {
+				int conflictModeId = modeRelations.getModeId(conflictLiteral.getMode().getName());
+				if (modeId != conflictModeId && modeRelations.isStronger(modeId, conflictModeId))
+					weakerConflictLiterals.add(conflictLiteral);
+			}
 		}
-		return false;
+		weakerConflictLiteralsStore.put(literal, weakerConflictLiterals);
+		return weakerConflictLiterals;
 	}
 }
@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.logging.Level;
 
@@ -34,6 +35,7 @@ import spindle.core.dom.Conclusion;
 import spindle.core.dom.ConclusionType;
 import spindle.core.dom.Literal;
 import spindle.core.dom.Mode;
+import spindle.core.dom.ModeRelations;
 import spindle.core.dom.Rule;
 import spindle.core.dom.RuleType;
 import spindle.engine.ReasoningEngineException;
@@ -49,7 +51,8 @@ import spindle.tools.explanation.RuleInferenceStatus;
  * @version Last modified 2012.09.29
  */
 public class MdlReasoningEngine2 extends SdlReasoningEngine2 {
-	protected Map<String, Set<String>> strongerModeSet = null;
+	protected ModeRelations modeRelations = null;
+	private Map<Literal, Set<Literal>> weakerConflictLiteralsStore = null;
 
 	public MdlReasoningEngine2() {
 		super();
@@ -57,15 +60,26 @@ public class MdlReasoningEngine2 extends SdlReasoningEngine2 {
 
 	@Override
 	protected void initialize() throws ReasoningEngineException {
-		strongerModeSet = theory.getStrongModeSet();
+		modeRelations = theory.getModeRelations();
+		weakerConflictLiteralsStore = new TreeMap<Literal, Set<Literal>>();
 		super.initialize();
 	}
 
+	@Override
+	protected void terminate() throws ReasoningEngineException {
+		if (theory.getLazyModeConversionsCount() > 0) {
+			for (Conclusion conclusion : LazyModeConversionResolver.getConclusions(theory.getLazyModeConversions(), conclusions)) {
+				addConclusion(conclusion);
+			}
+		}
+		super.terminate();
+	}
+
 	protected Set<Literal> getConflictLiteralListWithoutOperatorChange(final Literal literal) {
-System.out.println("-- MdlReasoningEngine2.getConflictLiteralListWithoutOperatorChange("+literal+")"); 
+		if (isLogFinest) logMessage(Level.FINEST, 0, "-- MdlReasoningEngine2.getConflictLiteralListWithoutOperatorChange: ", literal);
 		Set<Literal> conflictLiteralList = new TreeSet<Literal>();
 
-		conflictLiteralList.add(literal.getComplementClone());
+		conflictLiteralList.add(getComplementLiteral(literal));
 
 		Mode literalMode = literal.getMode();
 		if (!"".equals(literalMode.getName())) {
@@ -79,8 +93,7 @@ System.out.println("-- MdlReasoningEngine2.getConflictLiteralListWithoutOperator
 
 	// remove ambiguity caused by complementary literal
 	protected void removeComplementaryLiteralAmbiguity(int i) throws ReasoningEngineException {
-System.out.println("-- MdlReasoningEngine2.removeComplementLiteralAmbiguity("+i+")");		
-		logMessage(Level.FINE, 1, "=== removeComplementLiteralAmbiguity - start ===");
+		if (isLogFine) logMessage(Level.FINE, 1, "=== removeComplementLiteralAmbiguity - start ===");
 		List<Conclusion> ambiguousConclusionsToRemove = new ArrayList<Conclusion>();
 		removeComplementaryLiteralAmbiguity(ambiguousConclusions[i],ambiguousConclusionsToRemove);
 
@@ -88,7 +101,7 @@ System.out.println("-- MdlReasoningEngine2.removeComplementLiteralAmbiguity("+i+
 			removeAmbiguousConclusion(conclusion);
 		}
 		// TODO remove record??
-		logMessage(Level.FINE, 1, "=== removeComplementLiteralAmbiguity -  end  ===");
+		if (isLogFine) logMessage(Level.FINE, 1, "=== removeComplementLiteralAmbiguity -  end  ===");
 	}
 
 	protected void removeComplementaryLiteralAmbiguity(Map<Conclusion,Set<String>>ambiguousConclusions,List<Conclusion>ambiguousConclusionsToRemove){
@@ -101,7 +114,7 @@ System.out.println("-- MdlReasoningEngine2.removeComplementLiteralAmbiguity("+i+
 			
 			switch (conclusion.getConclusionType()) {
 			case DEFINITE_PROVABLE:
-				logMessage(Level.FINEST, 2, "removeComplementLiteralAmbiguity, check literal (definite): ", literal);
+				if (isLogFinest) logMessage(Level.FINEST, 2, "removeComplementLiteralAmbiguity, check literal (definite): ", literal);
 				if (!containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT)) {
 					if (isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE)) {
 						ambiguousConclusionsToRemove.add(conclusion);
@@ -113,7 +126,7 @@ System.out.println("-- MdlReasoningEngine2.removeComplementLiteralAmbiguity("+i+
 				}
 				break;
 			case DEFEASIBLY_PROVABLE:
-				logMessage(Level.FINEST, 2, "removeComplementLiteralAmbiguity, check literal (defeasible): ", literal);
+				if (isLogFinest) logMessage(Level.FINEST, 2, "removeComplementLiteralAmbiguity, check literal (defeasible): ", literal);
 				if (!containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE)) {
 					if (isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE)) {
 						ambiguousConclusionsToRemove.add(conclusion);
@@ -133,9 +146,8 @@ System.out.println("-- MdlReasoningEngine2.removeComplementLiteralAmbiguity("+i+
 
 	@Override
 	protected void updateAmbiguousConclusions(int i) throws ReasoningEngineException {
-		System.out.println("-- MdlReasoningEngine2.updateAmbiguousConclusions(" + i + ")");
 		if (ambiguousConclusions[i].size() == 0) return;
-		logMessage(Level.FINE, 0, "-- MdlReasoningEngine2.updateAmbiguousConclusions - start, i=", i);
+		if (isLogFine) logMessage(Level.FINE, 0, "-- MdlReasoningEngine2.updateAmbiguousConclusions - start, i=", i);
 		if (!AppConst.isDeploy) printEngineStatus("updateAmbiguousConclusions-before");
 
 		// remove ambiguity due to complementary literals
@@ -186,7 +198,7 @@ System.out.println("-- MdlReasoningEngine2.removeComplementLiteralAmbiguity("+i+
 			if (keepLiteralInAmbiguousSet) {
 				// defer the removal of literal until all rules generated
 				// by the superiority removal process have been evaluated
-				logMessage(Level.FINER, 2, "keep literal in ambiguous set temporary");
+				if (isLogFiner) logMessage(Level.FINER, 2, "keep literal in ambiguous set temporary");
 				conclusionType = null;
 			} else if (!containsUnprovedRuleInTheory(conflictLiterals, ruleType)) {
 				ambiguousConclusionToRemove.add(conclusion);
@@ -354,7 +366,7 @@ System.out.println("-- MdlReasoningEngine2.removeComplementLiteralAmbiguity("+i+
 		}
 
 		if (!AppConst.isDeploy) printEngineStatus("updateAmbiguousConclusions-after");
-		logMessage(Level.FINE, 0, "-- MdlReasoningEngine2.updateAmbiguousConclusions - end, i=", i);
+		if (isLogFine) logMessage(Level.FINE, 0, "-- MdlReasoningEngine2.updateAmbiguousConclusions - end, i=", i);
 	}
 
 	protected ConclusionType evaluateAmbiguousConclusionsByModality(Literal literal, ConclusionType conclusionType, //
@@ -365,12 +377,13 @@ System.out.println("-- MdlReasoningEngine2.removeComplementLiteralAmbiguity("+i+
 		// count the number of conflict modal literals that appear in the records 
 		// and the number of literals weaker than the prescribed literal
 		int conflictLiteralExistCount = 0;
-		int strongModeCount = 0;		
+		int strongModeCount = 0;
+		Set<Literal> weakerConflictLiterals = getWeakerConflictLiterals(literal);
 		for (Literal conflictLiteral : conflictLiterals) {
 			if (isRecordExist(conflictLiteral, conclusionType)) {
 				conflictLiteralExistCount++;
-				if (hasStrongerMode(literal, conflictLiteral)) {
-					logMessage(Level.FINEST, 2, null, literal, " hasStrongerMode: ", conflictLiteral);
+				if (weakerConflictLiterals.contains(conflictLiteral)) {
+					if (isLogFinest) logMessage(Level.FINEST, 2, null, literal, " hasStrongerMode: ", conflictLiteral);
 					strongModeCount++;
 				}
 			}
@@ -395,19 +408,36 @@ System.out.println("-- MdlReasoningEngine2.removeComplementLiteralAmbiguity("+i+
 		}
 	}
 	
+	/**
+	 * Return the conflict literals of a literal that carry a modal operator weaker than the one of the literal.
+	 * The mode ids are resolved once per literal and the result is kept for the rest of the reasoning process.
+	 * 
+	 * @param literal literal.
+	 * @return Conflict literals with weaker modal operator.
+	 */
+	protected Set<Literal> getWeakerConflictLiterals(final Literal literal) {
+		Set<Literal> weakerConflictLiterals = weakerConflictLiteralsStore.get(literal);
+		if (null != weakerConflictLiterals) return weakerConflictLiterals;
+
+		weakerConflictLiterals = new TreeSet<Literal>();
+		int modeId = modeRelations.getModeId(literal.getMode().getName());
+		if (modeId >= 0) {
+			for (Literal conflictLiteral : getConflictLiterals(literal)) {
+				int conflictModeId = modeRelations.getModeId(conflictLiteral.getMode().getName());
+				if (modeId != conflictModeId && modeRelations.isStronger(modeId, conflictModeId))
+					weakerConflictLiterals.add(conflictLiteral);
+			}
+		}
+		weakerConflictLiteralsStore.put(literal, weakerConflictLiterals);
+		return weakerConflictLiterals;
+	}
+
 	protected boolean hasStrongerMode(Literal literal, Literal conflictLiteral) {
 //System.out.println("-- MdlReasoningEngine2.hasStrongerMode("+literal+","+conflictLiteral+")");		
-		Mode m1 = literal.getMode();
-		Mode m2 = conflictLiteral.getMode();
-
-		if (m1.getName().equals(m2.getName())) return false;
-
-		Set<String> modeList = strongerModeSet.get(m1.getName());
-		if (null == modeList) return false;
-
-		String m2ModeName = m2.getName();
-		if (modeList.contains(m2ModeName)) return true;
-		return false;
+		int modeId = modeRelations.getModeId(literal.getMode().getName());
+		int conflictModeId = modeRelations.getModeId(conflictLiteral.getMode().getName());
+		if (modeId == conflictModeId) return false;
+		return modeRelations.isStronger(modeId, conflictModeId);
 	}
 
 }
@@ -60,13 +60,13 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 	protected ProcessStatus generateInitialPendingConclusions() throws ReasoningEngineException, TheoryException {
 		// literals appeared in strict rule with empty body are definitely provable
 		// literals appeared in defeasible rule with empty body are tentatively provable
-		logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generateInitialPendingConclusions - start ===");
+		if (isLogFine) logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generateInitialPendingConclusions - start ===");
 
 		Set<Literal> unprovedStrictRuleLiterals = new TreeSet<Literal>(theory.getAllLiteralsInRules());
 		Set<Literal> unprovedDefeasibleRuleLiterals = new TreeSet<Literal>(theory.getAllLiteralsInRules());
 		Set<String> rulesToDelete = new TreeSet<String>();
 
-		logMessage(Level.FINER, 1, "=== +ve set - start ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== +ve set - start ===");
 		Set<String> rulesToRemove = new TreeSet<String>();
 
 		Map<Conclusion, Set<String>> tempPosDefiniteConclusionSet = new TreeMap<Conclusion, Set<String>>();
@@ -133,12 +133,12 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 				ambiguousExist = isTempConclusionExist(conflictLiterals, tempPosDefiniteConclusions);//,ConclusionType.DEFINITE_PROVABLE);
 				if (!ambiguousExist) ambiguousExist = containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT);
 				if (ambiguousExist) {
-					logMessage(Level.FINER, 1, "==> generateInitialPendingConclusions: ==> add (+D Ambiguous)", literal);
+					if (isLogFiner) logMessage(Level.FINER, 1, "==> generateInitialPendingConclusions: ==> add (+D Ambiguous)", literal);
 					addAmbiguousConclusion(conclusion, ruleLabels);
 				} else {
 					if (isRecordExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE)) pos = false;
 					if (isRecordExist(literal, ConclusionType.DEFINITE_NOT_PROVABLE)) pos = false;
-					logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
+					if (isLogFinest) logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
 					if (pos) {
 						if (isLogInferenceProcess) getInferenceLogger().updateRuleInferenceStatus(ruleLabels,
 								conclusion, RuleInferenceStatus.APPICABLE);
@@ -167,12 +167,12 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 				if (!ambiguousExist) ambiguousExist = containsUnprovedRuleInTheory(conflictLiterals,
 						RuleType.DEFEASIBLE);
 				if (ambiguousExist) {
-					logMessage(Level.FINER, 1, "==> generateInitialPendingConclusions: ==> add (+d Ambiguous)", literal);
+					if (isLogFiner) logMessage(Level.FINER, 1, "==> generateInitialPendingConclusions: ==> add (+d Ambiguous)", literal);
 					addAmbiguousConclusion(conclusion, ruleLabels);
 				} else {
 					if (isRecordExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE)) pos = false;
 					if (isRecordExist(literal, ConclusionType.DEFEASIBLY_NOT_PROVABLE)) pos = false;
-					logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
+					if (isLogFinest) logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
 					if (pos) {
 						addPendingConclusion(conclusion);
 						if (isLogInferenceProcess) getInferenceLogger().updateRuleInferenceStatus(ruleLabels,
@@ -190,12 +190,12 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 			//default:
 		//	}
 		}
-		logMessage(Level.FINER, 1, "=== +ve set - end ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== +ve set - end ===");
 
 		// literals cannot be resolved using all rules are defeasibly not provable
-		logMessage(Level.FINER, 1, "=== -df set - start ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -df set - start ===");
 		for (Literal literal : unprovedDefeasibleRuleLiterals) {
-			logMessage(Level.FINEST, 2, "rule.getLiteralList()(NOT_DEFEASIBLE)=", literal);
+			if (isLogFinest) logMessage(Level.FINEST, 2, "rule.getLiteralList()(NOT_DEFEASIBLE)=", literal);
 			Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_NOT_PROVABLE, literal);
 			if (!unresolveableConclusionsSet.contains(conclusion)) {
 				addPendingConclusion(conclusion);
@@ -207,17 +207,17 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 				addInapplicableLiteralsBeforeInference(literal, ConclusionType.DEFEASIBLY_NOT_PROVABLE);
 			}
 		}
-		logMessage(Level.FINER, 1, "=== -df set -  end  ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -df set -  end  ===");
 
 		// literals that do not exist in strict rule or
 		// literals cannot be resolved using only strict rules are definite not provable
-		logMessage(Level.FINER, 1, "=== -Df set - start ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -Df set - start ===");
 		for (Literal literal : unprovedStrictRuleLiterals) {
 			newLiteralFind_definiteNotProvable(literal, false);
 			addInapplicableLiteralsBeforeInference(literal, ConclusionType.DEFINITE_NOT_PROVABLE);
 		}
-		logMessage(Level.FINER, 1, "=== -Df set -  end  ===");
-		logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generateInitialPendingConclusions -  end  ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -Df set -  end  ===");
+		if (isLogFine) logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generateInitialPendingConclusions -  end  ===");
 
 		removeRules(rulesToDelete);
 
@@ -227,7 +227,7 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 	// remove ambiguity caused by complementary literal
 	@Override
 	protected void removeComplementLiteralAmbiguity(int i) {
-		logMessage(Level.FINE, 1, "=== removeComplementLiteralAmbiguity - start ===");
+		if (isLogFine) logMessage(Level.FINE, 1, "=== removeComplementLiteralAmbiguity - start ===");
 		List<Conclusion> ambiguousConclusionToRemove = new ArrayList<Conclusion>();
 		List<Conclusion> recordsToRemove = new ArrayList<Conclusion>();
 
@@ -239,7 +239,7 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 			Set<Literal> conflictLiterals = getConflictLiteralListWithoutOperatorChange(literal);
 			switch (conclusion.getConclusionType()) {
 			case DEFINITE_PROVABLE: // same as ambiguity blocking
-				logMessage(Level.FINER, 2, "removeComplementLiteralAmbiguity, check literal (definite): ", literal);
+				if (isLogFiner) logMessage(Level.FINER, 2, "removeComplementLiteralAmbiguity, check literal (definite): ", literal);
 				if (!containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT)) {
 					if (isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE)) {
 						ambiguousConclusionToRemove.add(conclusion);
@@ -252,7 +252,7 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 				}
 				break;
 			case DEFEASIBLY_PROVABLE:
-				logMessage(Level.FINER, 2, "removeComplementLiteralAmbiguity, check literal (defeasible): ", literal);
+				if (isLogFiner) logMessage(Level.FINER, 2, "removeComplementLiteralAmbiguity, check literal (defeasible): ", literal);
 				if (!containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE)) {
 					boolean dchk4 = isRecordExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
 					// ambiguity propagation - start
@@ -303,7 +303,7 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 		for (Conclusion record : recordsToRemove) {
 			removeRecord(record);
 		}
-		logMessage(Level.FINE, 1, "=== removeComplementLiteralAmbiguity -  end  ===");
+		if (isLogFine) logMessage(Level.FINE, 1, "=== removeComplementLiteralAmbiguity -  end  ===");
 	}
 
 	// === ========================================= ===
@@ -312,23 +312,23 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 	@Override
 	protected ProcessStatus generateConclusions_definiteProvable(final Literal literal)
 			throws ReasoningEngineException, TheoryException {
-		logMessage(Level.FINE, 0, "=== generate inference: definite provable: ", literal);
+		if (isLogFine) logMessage(Level.FINE, 0, "=== generate inference: definite provable: ", literal);
 
 		Set<String> rulesToDelete = new TreeSet<String>();
 		Set<Rule> rulesModified = theory.removeBodyLiteralFromRules(literal, null);
 		for (Rule rule : rulesModified) {
-			logMessage(Level.FINER, 1, null, literal, ": rule=", rule, ", is empty body=", rule.isEmptyBody());
+			if (isLogFiner) logMessage(Level.FINER, 1, null, literal, ": rule=", rule, ", is empty body=", rule.isEmptyBody());
 			if (rule.isEmptyBody()) {
 				Literal headLiteral = rule.getHeadLiterals().get(0);
 				Set<Literal> conflictLiterals = null;
 				rulesToDelete.add(rule.getLabel());
 				switch (rule.getRuleType()) {
 				case STRICT:
-					logMessage(Level.FINEST, 1, "==> (strict) ", literal);
+					if (isLogFinest) logMessage(Level.FINEST, 1, "==> (strict) ", literal);
 					conflictLiterals = getConflictLiterals(headLiteral);
 
 					if (containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT)) {
-						logMessage(Level.FINEST, 2, "==> generateConclusions_definiteProvable: ==> add ambiguous (+D)",
+						if (isLogFinest) logMessage(Level.FINEST, 2, "==> generateConclusions_definiteProvable: ==> add ambiguous (+D)",
 								headLiteral);
 						Conclusion conclusion = new Conclusion(ConclusionType.DEFINITE_PROVABLE, headLiteral);
 						addRecord(conclusion);
@@ -337,7 +337,7 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 						boolean chk1 = isAmbiguousConclusionExist(headLiteral, ConclusionType.DEFINITE_NOT_PROVABLE);
 						boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE);
 						if (chk1 || chk2) {
-							logMessage(Level.FINEST, 2,
+							if (isLogFinest) logMessage(Level.FINEST, 2,
 									"==> generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
 							Conclusion conclusion = new Conclusion(ConclusionType.DEFINITE_PROVABLE, headLiteral);
 							addRecord(conclusion);
@@ -366,12 +366,12 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 					addRecord(new Conclusion(ConclusionType.POSITIVELY_SUPPORT, headLiteral));
 					// ambiguity propagation - end
 
-					logMessage(Level.FINER, 1, "==> (defeasible) ", literal);
+					if (isLogFiner) logMessage(Level.FINER, 1, "==> (defeasible) ", literal);
 					// same as 'generateConclusions_defeasiblyProvable(Literal literal)'
 					// duplicated here for efficiency
 					conflictLiterals = getConflictLiterals(headLiteral);
 					if (containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE)) {
-						logMessage(Level.FINEST, 2, "==> generateConclusions_definiteProvable: ==> add ambiguous (+d)",
+						if (isLogFinest) logMessage(Level.FINEST, 2, "==> generateConclusions_definiteProvable: ==> add ambiguous (+d)",
 								headLiteral);
 						Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral);
 						addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
@@ -383,7 +383,7 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 						boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
 						boolean chk3 = isRecordExist(conflictLiterals, ConclusionType.AMBIGUITY_DEFEATED);
 						if (chk1 || chk2) {
-							logMessage(Level.FINEST, 2,
+							if (isLogFinest) logMessage(Level.FINEST, 2,
 									"==> generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
 							addAmbiguousConclusion(new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral),
 									rule.getOriginalLabel());
@@ -426,12 +426,12 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 	@Override
 	protected ProcessStatus generateConclusions_defeasiblyProvable(final Literal literal)
 			throws ReasoningEngineException, TheoryException {
-		logMessage(Level.FINE, 0, "generate inference: defeasibly provable: ", literal);
+		if (isLogFine) logMessage(Level.FINE, 0, "generate inference: defeasibly provable: ", literal);
 
 		Set<String> rulesToRemove = new TreeSet<String>();
 		Set<Rule> rulesModified = theory.removeBodyLiteralFromRules(literal, RuleType.DEFEASIBLE);
 		for (Rule rule : rulesModified) {
-			logMessage(Level.FINER, 1, null, literal, ": rule=", rule, ", is empty body=", rule.isEmptyBody());
+			if (isLogFiner) logMessage(Level.FINER, 1, null, literal, ": rule=", rule, ", is empty body=", rule.isEmptyBody());
 			if (rule.isEmptyBody()) {
 				Literal headLiteral = rule.getHeadLiterals().get(0);
 				// ambiguity propagation - start
@@ -440,7 +440,7 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 				rulesToRemove.add(rule.getLabel());
 				Set<Literal> conflictLiterals = getConflictLiterals(headLiteral);
 				if (containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE)) {
-					logMessage(Level.FINEST, 2, "==> generateConclusions_defeasiblyProvable: ==> add ambiguous (+d)",
+					if (isLogFinest) logMessage(Level.FINEST, 2, "==> generateConclusions_defeasiblyProvable: ==> add ambiguous (+d)",
 							headLiteral);
 					Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral);
 					addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
@@ -451,7 +451,7 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 					boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
 					boolean chk3 = isRecordExist(conflictLiterals, ConclusionType.AMBIGUITY_DEFEATED);
 					if (chk1 || chk2) {
-						logMessage(Level.FINEST, 2,
+						if (isLogFinest) logMessage(Level.FINEST, 2,
 								"==> generateConclusions_defeasiblyProvable: ==> add ambiguous (+D)", headLiteral);
 						addAmbiguousConclusion(new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral),
 								rule.getOriginalLabel());
@@ -489,7 +489,7 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 	@Override
 	protected ProcessStatus generateConclusions_defeasiblyNotProvable(final Literal literal)
 			throws ReasoningEngineException {
-		logMessage(Level.FINE, 0, "generate inference: defeasibly not provable: ", literal);
+		if (isLogFine) logMessage(Level.FINE, 0, "generate inference: defeasibly not provable: ", literal);
 
 		Collection<Rule> rules = theory.getRules(literal).values();
 		Set<String> rulesToRemove = new TreeSet<String>();
@@ -525,10 +525,10 @@ public class MdlReasoningEngineAP extends MdlReasoningEngine {
 		// check whether the literal can be proved by other strict rules
 		// if not, add -d to the pending conclusion list
 		for (Literal inapplicableLiteral : inapplicableLiterals) {
-			logMessage(Level.FINER, 1, "checking literal for other rules", inapplicableLiteral);
+			if (isLogFiner) logMessage(Level.FINER, 1, "checking literal for other rules", inapplicableLiteral);
 			if (theory.containsInRuleHead(inapplicableLiteral, RuleType.DEFEASIBLE)) {
 				// literal still provable by other strict rules, so do nothing
-				logMessage(Level.FINEST, 2, "literal is provable by other defeasible rules", inapplicableLiteral);
+				if (isLogFinest) logMessage(Level.FINEST, 2, "literal is provable by other defeasible rules", inapplicableLiteral);
 			} else {
 				Set<Literal> conflictLiterals = getConflictLiterals(inapplicableLiteral);
 				boolean acChk1 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
@@ -60,13 +60,13 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 	@Override
 	protected void generatePendingConclusions(boolean isDefeasibleRuleOnly) throws ReasoningEngineException,
 			TheoryException {
-		logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generatePendingConclusions - start ===");
-		logMessage(Level.FINE, 1, "isDefeasibleRuleOnly=", isDefeasibleRuleOnly);
+		if (isLogFine) logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generatePendingConclusions - start ===");
+		if (isLogFine) logMessage(Level.FINE, 1, "isDefeasibleRuleOnly=", isDefeasibleRuleOnly);
 
 		Set<Literal> unprovedStrictRuleLiterals = new TreeSet<Literal>(theory.getAllLiteralsInRules());
 		Set<Literal> unprovedDefeasibleRuleLiterals = new TreeSet<Literal>(theory.getAllLiteralsInRules());
 
-		logMessage(Level.FINER, 1, "=== +ve set - start ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== +ve set - start ===");
 
 		removeDefeatedRulesInTheory();
 
@@ -149,12 +149,12 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 					if (!ambiguousExist) ambiguousExist = containsUnprovedRuleInTheory(conflictLiterals,
 							RuleType.STRICT);
 					if (ambiguousExist) {
-						logMessage(Level.FINEST, 1, "==> generatePendingConclusions: ==> add (+D Ambiguous)", literal);
+						if (isLogFinest) logMessage(Level.FINEST, 1, "==> generatePendingConclusions: ==> add (+D Ambiguous)", literal);
 						addAmbiguousConclusion(conclusion, ruleLabels);
 					} else {
 						if (isRecordExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE)) pos = false;
 						if (isRecordExist(literal, ConclusionType.DEFINITE_NOT_PROVABLE)) pos = false;
-						logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
+						if (isLogFinest) logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
 						if (pos) {
 							if (isLogInferenceProcess) getInferenceLogger().updateRuleInferenceStatus(ruleLabels,
 									conclusion, RuleInferenceStatus.APPICABLE);
@@ -189,14 +189,14 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 					if (!ambiguousExist) ambiguousExist = containsUnprovedRuleInTheory(conflictLiterals,
 							RuleType.DEFEASIBLE);
 					if (ambiguousExist) {
-						logMessage(Level.FINEST, 1, "==> generatePendingConclusions: ==> add (+d Ambiguous)", literal);
+						if (isLogFinest) logMessage(Level.FINEST, 1, "==> generatePendingConclusions: ==> add (+d Ambiguous)", literal);
 						addAmbiguousConclusion(conclusion, entry.getValue());
 					} else {
 						if (isRecordExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE)) pos = false;
 						if (isRecordExist(literal, ConclusionType.DEFEASIBLY_NOT_PROVABLE)) pos = false;
 						// -- for AP - start
 						boolean isAmbiguityDefeated = isRecordExist(literal, ConclusionType.AMBIGUITY_DEFEATED);
-						logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos,
+						if (isLogFinest) logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos,
 								", isAmbiguityDefeated=", isAmbiguityDefeated);
 						if (pos && !isAmbiguityDefeated) {
 							// -- for AP - end
@@ -223,9 +223,9 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 //			default:
 //			}
 		}
-		logMessage(Level.FINER, 1, "=== +ve set - end ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== +ve set - end ===");
 
-		logMessage(Level.FINER, 1, "=== -df set - start ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -df set - start ===");
 		for (Literal literal : unprovedDefeasibleRuleLiterals) {
 			if (!isAmbiguousConclusionExist(literal, ConclusionType.DEFEASIBLY_PROVABLE)) {
 				Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_NOT_PROVABLE, literal);
@@ -240,25 +240,25 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 				}
 			}
 		}
-		logMessage(Level.FINER, 1, "=== -df set -  end  ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -df set -  end  ===");
 
 		// literals that do not exist in strict rule or
 		// literals cannot be resolved using only strict rules are definite not provable
 		if (!isDefeasibleRuleOnly) {
-			logMessage(Level.FINER, 1, "=== -Df set - start ===");
+			if (isLogFiner) logMessage(Level.FINER, 1, "=== -Df set - start ===");
 			for (Literal literal : unprovedStrictRuleLiterals) {
 				newLiteralFind_definiteNotProvable(literal, false);
 				addInapplicableLiteralsBeforeInference(literal, ConclusionType.DEFINITE_NOT_PROVABLE);
 			}
-			logMessage(Level.FINER, 1, "=== -Df set -  end  ===");
+			if (isLogFiner) logMessage(Level.FINER, 1, "=== -Df set -  end  ===");
 		}
-		logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generatePendingConclusions -  end  ===");
+		if (isLogFine) logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generatePendingConclusions -  end  ===");
 	}
 
 	@Override
 	protected ProcessStatus generateConclusions_definiteProvable(final Literal literal)
 			throws ReasoningEngineException, TheoryException {
-		logMessage(Level.FINE, 0, "=== generate inference: definite provable: ", literal);
+		if (isLogFine) logMessage(Level.FINE, 0, "=== generate inference: definite provable: ", literal);
 
 		Set<String> rulesToDelete = new TreeSet<String>();
 		Set<Rule> rulesModified = theory.removeBodyLiteralFromRules(literal, null);
@@ -271,20 +271,20 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 
 		for (Rule r : rulesModified) {
 			RuleExt rule = (RuleExt) r;
-			logMessage(Level.FINER, 1, literal + ": rule=", rule, ", is empty body=", rule.isEmptyBody());
+			if (isLogFiner) logMessage(Level.FINER, 1, literal + ": rule=", rule, ", is empty body=", rule.isEmptyBody());
 			if (rule.isEmptyBody()) {
-				logMessage(Level.FINEST, 2, "remove rule:", rule.getLabel());
-				if (!AppConst.isDeploy) logMessage(Level.FINEST, 2, null, theory);
+				if (isLogFinest) logMessage(Level.FINEST, 2, "remove rule:", rule.getLabel());
+				if (!AppConst.isDeploy && isLogFinest) logMessage(Level.FINEST, 2, null, theory);
 
 				Literal headLiteral = rule.getHeadLiterals().get(0);
 				Set<Literal> conflictLiterals = null;
 				switch (rule.getRuleType()) {
 				case STRICT:
-					logMessage(Level.FINEST, 1, "==> (strict) ", literal);
+					if (isLogFinest) logMessage(Level.FINEST, 1, "==> (strict) ", literal);
 					rulesToDelete.add(rule.getLabel());
 					conflictLiterals = getConflictLiterals(headLiteral);
 					if (containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT)) {
-						logMessage(Level.FINEST, 2,
+						if (isLogFinest) logMessage(Level.FINEST, 2,
 								"==>1.1 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
 						Conclusion conclusion = new Conclusion(ConclusionType.DEFINITE_PROVABLE, headLiteral);
 						addRecord(conclusion);
@@ -293,7 +293,7 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 						boolean chk1 = isAmbiguousConclusionExist(headLiteral, ConclusionType.DEFINITE_NOT_PROVABLE);
 						boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE);
 						if (chk1 || chk2) {
-							logMessage(Level.FINEST, 2,
+							if (isLogFinest) logMessage(Level.FINEST, 2,
 									"==>1.2 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
 							Conclusion conclusion = new Conclusion(ConclusionType.DEFINITE_PROVABLE, headLiteral);
 							addRecord(conclusion);
@@ -322,13 +322,13 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 						addRecord(new Conclusion(ConclusionType.POSITIVELY_SUPPORT, headLiteral));
 						// ambiguity propagation - end
 
-						logMessage(Level.FINEST, 1, "==> (defeasible) ", literal);
+						if (isLogFinest) logMessage(Level.FINEST, 1, "==> (defeasible) ", literal);
 						rulesToDelete.add(rule.getLabel());
 						// same as 'generateConclusions_defeasiblyProvable(Literal literal)'
 						// duplicated here for efficiency
 						conflictLiterals = getConflictLiterals(headLiteral);
 						if (containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE)) {
-							logMessage(Level.FINEST, 2,
+							if (isLogFinest) logMessage(Level.FINEST, 2,
 									"==>1.5 generateConclusions_definiteProvable: ==> add ambiguous (+d)", headLiteral);
 							Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral);
 							addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
@@ -344,7 +344,7 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 							boolean chk3 = isRecordExist(conflictLiterals, ConclusionType.AMBIGUITY_DEFEATED);
 							// -- for AP - end
 							if (chk1 || chk2) {
-								logMessage(Level.FINEST, 2,
+								if (isLogFinest) logMessage(Level.FINEST, 2,
 										"==>1.6 generateConclusions_definiteProvable: ==> add ambiguous (+D)",
 										headLiteral);
 								addAmbiguousConclusion(new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral),
@@ -391,7 +391,7 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 	@Override
 	protected ProcessStatus generateConclusions_defeasiblyProvable(final Literal literal)
 			throws ReasoningEngineException, TheoryException {
-		logMessage(Level.FINE, 1, "generate inference: defeasibly provable ", literal);
+		if (isLogFine) logMessage(Level.FINE, 1, "generate inference: defeasibly provable ", literal);
 
 		Set<String> rulesToRemove = new TreeSet<String>();
 		Set<Rule> rulesModified = theory.removeBodyLiteralFromRules(literal, RuleType.DEFEASIBLE);
@@ -404,7 +404,7 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 
 		for (Rule r : rulesModified) {
 			RuleExt rule = (RuleExt) r;
-			logMessage(Level.FINE, 2, literal + ": rule=", rule, ", is empty body=", rule.isEmptyBody());
+			if (isLogFine) logMessage(Level.FINE, 2, literal + ": rule=", rule, ", is empty body=", rule.isEmptyBody());
 			if (rule.isEmptyBody() && rule.getStrongerRulesCount() == 0 && rule.getWeakerRulesCount() == 0) {
 				Literal headLiteral = rule.getHeadLiterals().get(0);
 
@@ -416,10 +416,10 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 				Set<Literal> conflictLiterals = getConflictLiterals(headLiteral);
 				boolean containsUnprovedRuleInTheory = containsUnprovedRuleInTheory(conflictLiterals,
 						RuleType.DEFEASIBLE);
-				logMessage(Level.FINEST, 2, "==>2.0 conflictLiterals: ", conflictLiterals, ",unproved rule in theory=",
+				if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.0 conflictLiterals: ", conflictLiterals, ",unproved rule in theory=",
 						containsUnprovedRuleInTheory);
 				if (containsUnprovedRuleInTheory) {
-					logMessage(Level.FINEST, 2,
+					if (isLogFinest) logMessage(Level.FINEST, 2,
 							"==>2.1 generateConclusions_defeasiblyProvable: ==> add ambiguous (+d)", headLiteral);
 					Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral);
 					addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
@@ -431,7 +431,7 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 					boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
 					boolean chk3 = isRecordExist(conflictLiterals, ConclusionType.AMBIGUITY_DEFEATED);
 					if (chk1 || chk2) {
-						logMessage(Level.FINEST, 2,
+						if (isLogFinest) logMessage(Level.FINEST, 2,
 								"==>2.2 generateConclusions_defeasiblyProvable: ==> add ambiguous (+D)", headLiteral);
 						addAmbiguousConclusion(new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral),
 								rule.getOriginalLabel());
@@ -462,7 +462,7 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 				}
 			}
 		}
-		logMessage(Level.FINER, 2, "generateConclusions_defeasiblyProvable.removeRules=", rulesToRemove);
+		if (isLogFiner) logMessage(Level.FINER, 2, "generateConclusions_defeasiblyProvable.removeRules=", rulesToRemove);
 		removeRules(rulesToRemove);
 		return ProcessStatus.SUCCESS;
 	}
@@ -470,7 +470,7 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 	@Override
 	protected ProcessStatus generateConclusions_defeasiblyNotProvable(final Literal literal)
 			throws ReasoningEngineException {
-		logMessage(Level.FINE, 0, "generate inference: defeasibly not provable: ", literal);
+		if (isLogFine) logMessage(Level.FINE, 0, "generate inference: defeasibly not provable: ", literal);
 
 		Collection<Rule> rules = theory.getRules(literal).values();
 		Set<String> rulesToRemove = new TreeSet<String>();
@@ -493,7 +493,7 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 			// ambiguity propagation - end
 			if (rule.getRuleType() == RuleType.DEFEASIBLE && rule.isBodyLiteral(literal)) {
 				rulesToRemove.add(rule.getLabel());
-				logMessage(Level.FINEST, 1, "literals added=", headLiteral);
+				if (isLogFinest) logMessage(Level.FINEST, 1, "literals added=", headLiteral);
 				inapplicableLiterals.add(headLiteral);
 
 				if (isLogInferenceProcess) getInferenceLogger().updateRuleInferenceStatus(rule.getOriginalLabel(),
@@ -507,10 +507,10 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 		// check whether the literal can be proved by other strict rules
 		// if not, add -d to the pending conclusion list
 		for (Literal inapplicableLiteral : inapplicableLiterals) {
-			logMessage(Level.FINE, 1, "checking literal for other rules", inapplicableLiteral);
+			if (isLogFine) logMessage(Level.FINE, 1, "checking literal for other rules", inapplicableLiteral);
 			if (theory.containsInRuleHead(inapplicableLiteral, RuleType.DEFEASIBLE)) {
 				// literal still provable by other strict rules, so do nothing
-				logMessage(Level.FINEST, 2, "literal is provable by other defeasible rules", inapplicableLiteral);
+				if (isLogFinest) logMessage(Level.FINEST, 2, "literal is provable by other defeasible rules", inapplicableLiteral);
 			} else {
 				Set<Literal> conflictLiterals = getConflictLiterals(inapplicableLiteral);
 				boolean acChk1 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
@@ -530,7 +530,7 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 	// remove ambiguity caused by complementary literal
 	@Override
 	protected void removeComplementaryLiteralAmbiguity(int i) {
-		logMessage(Level.FINE, 1, "=== removeComplementLiteralAmbiguity - start ===");
+		if (isLogFine) logMessage(Level.FINE, 1, "=== removeComplementLiteralAmbiguity - start ===");
 		List<Conclusion> ambiguousConclusionToRemove = new ArrayList<Conclusion>();
 		List<Conclusion> recordsToRemove = new ArrayList<Conclusion>();
 
@@ -542,7 +542,7 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 			Set<Literal> conflictLiterals = getConflictLiteralListWithoutOperatorChange(literal);
 			switch (conclusion.getConclusionType()) {
 			case DEFINITE_PROVABLE: // same as ambiguity blocking
-				logMessage(Level.FINER, 2, "removeComplementLiteralAmbiguity, check literal (definite): ", literal);
+				if (isLogFiner) logMessage(Level.FINER, 2, "removeComplementLiteralAmbiguity, check literal (definite): ", literal);
 				if (!containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT)) {
 					if (isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE)) {
 						ambiguousConclusionToRemove.add(conclusion);
@@ -555,7 +555,7 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 				}
 				break;
 			case DEFEASIBLY_PROVABLE:
-				logMessage(Level.FINER, 2, "removeComplementLiteralAmbiguity, check literal (defeasible): ", literal);
+				if (isLogFiner) logMessage(Level.FINER, 2, "removeComplementLiteralAmbiguity, check literal (defeasible): ", literal);
 				if (!containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE)) {
 					boolean dchk4 = isRecordExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
 					// ambiguity propagation - start
@@ -605,6 +605,6 @@ public class MdlReasoningEngineAP2 extends MdlReasoningEngine2 {
 		for (Conclusion record : recordsToRemove) {
 			removeRecord(record);
 		}
-		logMessage(Level.FINE, 1, "=== removeComplementLiteralAmbiguity -  end  ===");
+		if (isLogFine) logMessage(Level.FINE, 1, "=== removeComplementLiteralAmbiguity -  end  ===");
 	}
 }
@@ -23,23 +23,31 @@ package spindle.engine.mdl;
 
 import java.util.ArrayList;
 import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.logging.Level;
 
 import com.app.utils.Utilities;
 
 import spindle.core.dom.DomUtilities;
+import spindle.core.dom.LazyModeConversion;
 import spindle.core.dom.Literal;
 import spindle.core.dom.Mode;
 import spindle.core.dom.Rule;
 import spindle.core.dom.RuleException;
 import spindle.core.dom.RuleType;
+import spindle.core.dom.Superiority;
+import spindle.core.dom.TheoryException;
 import spindle.engine.TheoryNormalizer;
 import spindle.engine.TheoryNormalizerException;
 import spindle.sys.AppConst;
+import spindle.sys.Conf;
 import spindle.sys.message.ErrorMessage;
 
 /**
@@ -67,6 +75,9 @@ import spindle.sys.message.ErrorMessage;
 public class MdlTheoryNormalizer extends TheoryNormalizer {
 	Map<String, Set<String>> ruleModesConversionsRules = null;
 
+	private boolean isLazyModeConversion = false;
+	private List<Rule> lazyModeConversionRules = null;
+
 	public MdlTheoryNormalizer() {
 		super();
 	}
@@ -130,6 +141,8 @@ public class MdlTheoryNormalizer extends TheoryNormalizer {
 	@Override
 	protected void transformTheoryToRegularFormImpl() throws TheoryNormalizerException {
 		ruleModesConversionsRules = theory.getAllModeConversionRules();
+		isLazyModeConversion = Conf.isLazyModeConversion();
+		lazyModeConversionRules = new ArrayList<Rule>();
 
 		List<Rule> rulesToAdd = new ArrayList<Rule>();
 		Set<String> rulesToDelete = new TreeSet<String>();
@@ -245,6 +258,7 @@ public class MdlTheoryNormalizer extends TheoryNormalizer {
 				}
 			}
 			theory.updateTheory(rulesToAdd, rulesToDelete, oldNewRuleMapping);
+			if (lazyModeConversionRules.size() > 0) updateLazyModeConversions();
 		} catch (Exception e) {
 			throw new TheoryNormalizerException(getClass(), ErrorMessage.THEORY_UPDATE_ERROR, e);
 		} finally {
@@ -298,7 +312,11 @@ public class MdlTheoryNormalizer extends TheoryNormalizer {
 			Set<String> conversionRule = theory.getModeConversionRules(headLiteralMode.getName());
 			if (!AppConst.isDeploy)
 				logMessage(Level.INFO, 1, "convertRuleMode.1, ruleModeName=", ruleModeName, ",conversionRule =", conversionRule);
-			if (null != conversionRule) {
+			if (null != conversionRule && isLazyModeConversion && isSinkModeConversionCandidate(rule, modifiedRule)) {
+				// converted head literals that turn out to be sinks are resolved after inference,
+				// the others are materialized after all rules are transformed
+				lazyModeConversionRules.add(modifiedRule);
+			} else if (null != conversionRule) {
 				for (String cm : conversionRule) {
 					try {
 						Rule newRule = modifiedRule.cloneWithModeChange(new Mode(cm, headLiteralMode.isNegation()));
@@ -333,4 +351,91 @@ public class MdlTheoryNormalizer extends TheoryNormalizer {
 		}
 		return expandedRules;
 	}
+
+	/**
+	 * Check if the mode conversions of a rule may be left to {@link #updateLazyModeConversions()}, i.e., the rule has a
+	 * single head literal and is not involved in any superiority relation.
+	 */
+	private boolean isSinkModeConversionCandidate(final Rule rule, final Rule modifiedRule) {
+		if (modifiedRule.getHeadLiterals().size() != 1) return false;
+		Set<Superiority> superiorities = theory.getSuperior(rule.getLabel());
+		if (null != superiorities && superiorities.size() > 0) return false;
+		superiorities = theory.getInferior(rule.getLabel());
+		return null == superiorities || superiorities.size() == 0;
+	}
+
+	/**
+	 * Record the mode conversions of the rules whose converted head literals are sinks of the theory, and materialize
+	 * the rest in theory.
+	 * <p>
+	 * A converted head literal is a sink if it does not appear in the theory (neither in the head nor in the body of any
+	 * rule) and none of its conflicting literals appear in the theory or are converted head literals; such that the
+	 * converted rules cannot affect the conclusions of any other literals. Only the conclusions of such literals are
+	 * resolved from the rule bodies after inference.
+	 * </p>
+	 * <p>
+	 * Note that mode conversions are not applied on the fly during inference: a converted head literal that is used in
+	 * the body of another rule (or conflicts with a literal in theory) is still materialized as a duplicated rule, as
+	 * in the non-lazy mode.
+	 * </p>
+	 */
+	private void updateLazyModeConversions() throws RuleException, TheoryException {
+		Map<Rule, List<Literal>> convertedHeadLiterals = new LinkedHashMap<Rule, List<Literal>>();
+		Set<Literal> allConvertedHeadLiterals = new TreeSet<Literal>();
+		for (Rule rule : lazyModeConversionRules) {
+			Literal headLiteral = rule.getHeadLiterals().get(0);
+			Mode headLiteralMode = headLiteral.getMode();
+			List<Literal> literals = new ArrayList<Literal>();
+			for (String cm : theory.getModeConversionRules(headLiteralMode.getName())) {
+				Literal literal = headLiteral.clone();
+				literal.setMode(new Mode(cm, headLiteralMode.isNegation()));
+				literals.add(literal);
+			}
+			convertedHeadLiterals.put(rule, literals);
+			allConvertedHeadLiterals.addAll(literals);
+		}
+
+		// include also the head literals of rules (e.g., defeaters) that are not yet updated with the rule modes
+		Set<Literal> literalsInTheory = new TreeSet<Literal>(theory.getAllLiteralsInRules());
+		for (Rule rule : factsAndRules.values()) {
+			Mode ruleMode = rule.getMode();
+			if ("".equals(ruleMode.getName())) continue;
+			for (Literal literal : rule.getHeadLiterals()) {
+				Literal l = literal.clone();
+				l.setMode(ruleMode.clone());
+				literalsInTheory.add(l);
+			}
+		}
+		Map<Literal, Boolean> isLazyLiterals = new TreeMap<Literal, Boolean>();
+		for (Literal literal : allConvertedHeadLiterals) {
+			boolean isLazy = !literalsInTheory.contains(literal);
+			for (Iterator<Literal> it = theory.getConflictLiterals(literal).iterator(); isLazy && it.hasNext();) {
+				Literal conflictLiteral = it.next();
+				if (literalsInTheory.contains(conflictLiteral) || allConvertedHeadLiterals.contains(conflictLiteral)) isLazy = false;
+			}
+			isLazyLiterals.put(literal, isLazy);
+		}
+
+		List<Rule> rulesToAdd = new ArrayList<Rule>();
+		for (Entry<Rule, List<Literal>> entry : convertedHeadLiterals.entrySet()) {
+			Rule rule = entry.getKey();
+			List<Literal> lazyLiterals = new ArrayList<Literal>();
+			for (Literal literal : entry.getValue()) {
+				if (isLazyLiterals.get(literal)) {
+					lazyLiterals.add(literal);
+				} else {
+					Mode mode = literal.getMode();
+					Rule newRule = rule.cloneWithModeChange(mode);
+					newRule.setLabel(rule.getLabel() + "_[" + mode.getName() + "]");
+					rulesToAdd.add(newRule);
+				}
+			}
+			if (lazyLiterals.size() > 0) theory.addLazyModeConversion(new LazyModeConversion(rule, lazyLiterals));
+		}
+		for (Rule rule : rulesToAdd) {
+			theory.addRule(rule);
+		}
+		logMessage(Level.FINE, 1, "lazy mode conversions: ", theory.getLazyModeConversionsCount(), ", rules materialized: ",
+				rulesToAdd.size());
+	}
 }
@@ -0,0 +1,438 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ *
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ */
+package spindle.engine.sdl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Level;
+
+import com.app.utils.Utilities.ProcessStatus;
+
+import spindle.core.dom.Conclusion;
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.DomUtilities;
+import spindle.core.dom.Literal;
+import spindle.core.dom.TheoryType;
+import spindle.engine.ReasoningEngineBase;
+import spindle.engine.ReasoningEngineException;
+import spindle.engine.TheoryNormalizer;
+import spindle.sys.AppConst;
+import spindle.sys.AppFeatureConst;
+import spindle.sys.message.ErrorMessage;
+
+/**
+ * Bit-sliced SDL Reasoning Engine.
+ * <p>
+ * Evaluates a propositional SDL theory against up to {@link #MAX_SCENARIOS} scenarios at the same time. Each scenario
+ * is a set of additional facts on top of the theory. The provability status of a literal is stored as one
+ * <code>long</code> per conclusion type, in which bit <i>i</i> represents the status in scenario <i>i</i>, such that
+ * rule firing becomes bitwise AND/OR over the body literals.
+ * </p>
+ * <p>
+ * Conclusions are computed as the least fixpoint of the (ambiguity blocking) proof conditions:
+ * <ul>
+ * <li>+D p: p is a fact, or there is a strict rule for p with all body literals +D;</li>
+ * <li>-D p: p is not a fact, and every strict rule for p has a body literal with -D;</li>
+ * <li>+d p: +D p; or p is supported by an applicable rule, every conflicting literal q is -D, and every rule for q is
+ * either discarded or overridden by an applicable rule for p;</li>
+ * <li>-d p: -D p; and either every rule for p is discarded, some conflicting literal is +D, or some applicable rule for
+ * a conflicting literal is not overridden by any applicable rule for p.</li>
+ * </ul>
+ * Scenario facts are applied on the normalized theory, i.e., the place holders introduced by the regular form
+ * transformation are updated as well.
+ * </p>
+ * <p>
+ * <b>The conclusions of this engine differ from those of {@link SdlReasoningEngine2}</b> whenever the theory contains
+ * loops: no strongly connected component (loop) analysis is performed, so literals whose provability depends on a
+ * loop that cannot be resolved by forward chaining are left with no defeasible conclusion (neither +d nor -d), and so
+ * are the literals depending on them; whereas {@link SdlReasoningEngine2} resolves such loops through its strongly
+ * connected component analysis. For example, with <code>r1: =&gt; c, r2: c =&gt; -c, r3: c =&gt; b</code>,
+ * {@link SdlReasoningEngine2} concludes +d b while this engine concludes nothing for b. On random theories with loops
+ * the conclusions of the two engines differ in a few percent of the theories; they are only expected to agree on
+ * theories without loops.
+ * </p>
+ * <p>
+ * This is an experimental engine that is available through the library API only: it is not selected by
+ * {@link spindle.engine.ReasoningEngineFactory} nor by the {@link spindle.Reasoner}. To use it, create an instance,
+ * set the scenarios using {@link #setScenarioFacts(List)}, call {@link #getConclusions(spindle.core.dom.Theory)} with
+ * a theory transformed to regular form and with defeaters removed, and retrieve the conclusions of each scenario
+ * using {@link #getScenarioConclusions()}.
+ * </p>
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @see SdlReasoningEngine2
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ */
+public class SdlBitSlicedReasoningEngine extends ReasoningEngineBase {
+	public static final int MAX_SCENARIOS = Long.SIZE;
+
+	private List<Set<Literal>> scenarioFacts = null;
+	private List<Map<Literal, Map<ConclusionType, Conclusion>>> scenarioConclusions = null;
+
+	private int scenariosCount = 1;
+	private long activeMask = 1L;
+
+	private SdlTheoryIndex index = null;
+
+	// arrays of the theory index, referenced directly in the fixpoint loops
+	private Literal[] literals = null;
+	private boolean[] isOutputLiteral = null;
+	private int[] ruleHead = null;
+	private int[][] ruleBody = null;
+	private int[][] ruleSuperiors = null;
+
+	private int[][] strictRulesWithHead = null;
+	private int[][] rulesWithHead = null;
+	private int[][] rulesWithBody = null;
+	private int[][] conflictLiterals = null;
+	private int[][] conflictedBy = null;
+
+	// bit-sliced provability
+	private long[] facts = null;
+	private long[] definiteProvable = null;
+	private long[] definiteNotProvable = null;
+	private long[] defeasiblyProvable = null;
+	private long[] defeasiblyNotProvable = null;
+
+	private Deque<Integer> pendingLiterals = null;
+	private boolean[] isPending = null;
+
+	public SdlBitSlicedReasoningEngine() {
+		super();
+	}
+
+	/**
+	 * Set the scenarios to be evaluated.
+	 *
+	 * @param scenarioFacts Facts of each scenario, to be added on top of the theory.
+	 * @throws ReasoningEngineException If more than {@link #MAX_SCENARIOS} scenarios are given.
+	 */
+	public void setScenarioFacts(List<? extends Collection<Literal>> scenarioFacts) throws ReasoningEngineException {
+		if (null == scenarioFacts || scenarioFacts.size() == 0) {
+			this.scenarioFacts = null;
+			return;
+		}
+		if (scenarioFacts.size() > MAX_SCENARIOS)
+			throw new ReasoningEngineException(getClass(), ErrorMessage.REASONING_ENGINE_TOO_MANY_SCENARIOS, scenarioFacts.size(),
+					MAX_SCENARIOS);
+		this.scenarioFacts = new ArrayList<Set<Literal>>(scenarioFacts.size());
+		for (Collection<Literal> facts : scenarioFacts) {
+			this.scenarioFacts.add(null == facts ? new TreeSet<Literal>() : new TreeSet<Literal>(facts));
+		}
+	}
+
+	/**
+	 * Return the conclusions of all scenarios generated in the last call to {@link #getConclusions(spindle.core.dom.Theory)}
+	 * .
+	 *
+	 * @return Conclusions of each scenario, in the same order as the scenarios set.
+	 */
+	public List<Map<Literal, Map<ConclusionType, Conclusion>>> getScenarioConclusions() {
+		return scenarioConclusions;
+	}
+
+	@Override
+	protected void initialize() throws ReasoningEngineException {
+		if (TheoryType.SDL != theory.getTheoryType())
+			throw new ReasoningEngineException(getClass(), ErrorMessage.REASONING_ENGINE_NOT_SUPPORTED, theory.getTheoryType());
+
+		scenariosCount = null == scenarioFacts ? 1 : scenarioFacts.size();
+		activeMask = scenariosCount == MAX_SCENARIOS ? -1L : (1L << scenariosCount) - 1;
+
+		// scenario facts (and their conflict literals) are indexed as well, while place holders are not part of the output
+		index = new SdlTheoryIndex(theory, conflictLiteralsIndex, scenarioFacts);
+		literals = index.literals;
+		ruleHead = index.ruleHead;
+		ruleBody = index.ruleBody;
+		ruleSuperiors = index.ruleSuperiors;
+		strictRulesWithHead = index.strictRulesWithHead;
+		rulesWithHead = index.rulesWithHead;
+		rulesWithBody = index.rulesWithBody;
+		conflictLiterals = index.conflictLiterals;
+		conflictedBy = index.conflictedBy;
+
+		int literalsCount = literals.length;
+		isOutputLiteral = new boolean[literalsCount];
+		for (int i = 0; i < index.outputLiteralsCount; i++) {
+			isOutputLiteral[i] = !literals[i].isPlaceHolder();
+		}
+
+		facts = new long[literalsCount];
+		if (null != scenarioFacts) {
+			for (int s = 0; s < scenariosCount; s++) {
+				for (Literal literal : scenarioFacts.get(s)) {
+					facts[index.literalIds.get(literal)] |= 1L << s;
+
+					// strict rules in regular form are expressed using the place holder of the literal
+					Integer placeHolderId = index.literalIds.get(getPlaceHolder(literal));
+					if (null != placeHolderId) facts[placeHolderId] |= 1L << s;
+				}
+			}
+		}
+		definiteProvable = new long[literalsCount];
+		definiteNotProvable = new long[literalsCount];
+		defeasiblyProvable = new long[literalsCount];
+		defeasiblyNotProvable = new long[literalsCount];
+
+		pendingLiterals = new ArrayDeque<Integer>(literalsCount);
+		isPending = new boolean[literalsCount];
+
+		if (!AppConst.isDeploy) {
+			logMessage(Level.INFO, 0, "=== SdlBitSlicedReasoningEngine.initialize - theory@start - start ===");
+			logMessage(Level.INFO, 0, null, theory);
+			logMessage(Level.INFO, 0, "scenarios: " + scenariosCount + ", literals: " + literalsCount + ", rules: "
+					+ ruleHead.length);
+			logMessage(Level.INFO, 0, "=== SdlBitSlicedReasoningEngine.initialize - theory@start -  end  ===");
+		}
+	}
+
+	private Literal getPlaceHolder(Literal literal) {
+		return DomUtilities.getLiteral(literal.getName() + TheoryNormalizer.TRANSFORM_POSTFIX, literal.isNegation(), //
+				literal.getMode(), literal.getTemporal(), literal.getPredicates(), true);
+	}
+
+	@Override
+	protected void generateConclusions() throws ReasoningEngineException {
+		try {
+			generateConclusions_definite();
+			generateConclusions_defeasible();
+		} catch (Exception e) {
+			throw new ReasoningEngineException(getClass(), e);
+		}
+		if (!AppConst.isDeploy) printEngineStatus("generateConclusions - end");
+	}
+
+	/**
+	 * Strict phase: compute the least fixpoint of +D and -D for all scenarios.
+	 */
+	private void generateConclusions_definite() {
+		addAllPendingLiterals();
+		Integer id = null;
+		while ((id = pendingLiterals.poll()) != null) {
+			int p = id;
+			isPending[p] = false;
+
+			long plus = facts[p];
+			long minus = ~facts[p];
+			for (int r : strictRulesWithHead[p]) {
+				long applicable = -1L;
+				long discarded = 0L;
+				for (int q : ruleBody[r]) {
+					applicable &= definiteProvable[q];
+					discarded |= definiteNotProvable[q];
+				}
+				plus |= applicable;
+				minus &= discarded;
+			}
+			plus &= activeMask;
+			minus &= activeMask;
+
+			if ((plus & ~definiteProvable[p]) != 0 || (minus & ~definiteNotProvable[p]) != 0) {
+				definiteProvable[p] |= plus;
+				definiteNotProvable[p] |= minus;
+				for (int r : rulesWithBody[p]) {
+					addPendingLiteral(ruleHead[r]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Defeasible phase: compute the least fixpoint of +d and -d for all scenarios, using the results of the strict
+	 * phase.
+	 */
+	private void generateConclusions_defeasible() {
+		addAllPendingLiterals();
+		Integer id = null;
+		while ((id = pendingLiterals.poll()) != null) {
+			int p = id;
+			isPending[p] = false;
+
+			long supported = facts[p];
+			long allDiscarded = ~facts[p];
+			for (int r : rulesWithHead[p]) {
+				supported |= getApplicable(r);
+				allDiscarded &= getDiscarded(r);
+			}
+
+			long conflictNotProvable = -1L;
+			long conflictProvable = 0L;
+			long defended = -1L;
+			long attacked = 0L;
+			for (int q : conflictLiterals[p]) {
+				conflictNotProvable &= definiteNotProvable[q];
+				conflictProvable |= definiteProvable[q];
+				for (int s : rulesWithHead[q]) {
+					long overridden = 0L;
+					long notOverridden = -1L;
+					for (int t : ruleSuperiors[s]) {
+						if (ruleHead[t] != p) continue;
+						overridden |= getApplicable(t);
+						notOverridden &= getDiscarded(t);
+					}
+					defended &= getDiscarded(s) | overridden;
+					attacked |= getApplicable(s) & notOverridden;
+				}
+			}
+
+			long plus = (definiteProvable[p] | (supported & conflictNotProvable & defended)) & activeMask;
+			long minus = (definiteNotProvable[p] & (allDiscarded | conflictProvable | attacked)) & activeMask;
+
+			if ((plus & ~defeasiblyProvable[p]) != 0 || (minus & ~defeasiblyNotProvable[p]) != 0) {
+				defeasiblyProvable[p] |= plus;
+				defeasiblyNotProvable[p] |= minus;
+				for (int r : rulesWithBody[p]) {
+					int head = ruleHead[r];
+					addPendingLiteral(head);
+					for (int c : conflictedBy[head]) {
+						addPendingLiteral(c);
+					}
+				}
+			}
+		}
+	}
+
+	private long getApplicable(int rule) {
+		long applicable = -1L;
+		for (int q : ruleBody[rule]) {
+			applicable &= defeasiblyProvable[q];
+		}
+		return applicable;
+	}
+
+	private long getDiscarded(int rule) {
+		long discarded = 0L;
+		for (int q : ruleBody[rule]) {
+			discarded |= defeasiblyNotProvable[q];
+		}
+		return discarded;
+	}
+
+	private void addAllPendingLiterals() {
+		for (int i = 0; i < literals.length; i++) {
+			addPendingLiteral(i);
+		}
+	}
+
+	private void addPendingLiteral(int literalId) {
+		if (isPending[literalId]) return;
+		isPending[literalId] = true;
+		pendingLiterals.add(literalId);
+	}
+
+	@Override
+	protected void terminate() throws ReasoningEngineException {
+		scenarioConclusions = new ArrayList<Map<Literal, Map<ConclusionType, Conclusion>>>(scenariosCount);
+		for (int s = 0; s < scenariosCount; s++) {
+			Map<Literal, Map<ConclusionType, Conclusion>> conclusions = extractConclusions(s);
+			if (AppFeatureConst.isVerifyConclusionsAfterInference) conclusions = verifyConclusions(conclusions);
+			scenarioConclusions.add(conclusions);
+		}
+		setConclusion(scenarioConclusions.get(0));
+	}
+
+	private Map<Literal, Map<ConclusionType, Conclusion>> extractConclusions(int scenario) {
+		long bit = 1L << scenario;
+		Map<Literal, Map<ConclusionType, Conclusion>> conclusions = new TreeMap<Literal, Map<ConclusionType, Conclusion>>();
+		for (int i = 0; i < literals.length; i++) {
+			if (!isOutputLiteral[i]) continue;
+			// literals that appear only as facts of other scenarios are not reported
+			if (i >= index.theoryLiteralsCount && (facts[i] & bit) == 0) continue;
+			Map<ConclusionType, Conclusion> conclusionList = new TreeMap<ConclusionType, Conclusion>();
+			if ((definiteProvable[i] & bit) != 0) addConclusion(conclusionList, ConclusionType.DEFINITE_PROVABLE, literals[i]);
+			if ((definiteNotProvable[i] & bit) != 0) addConclusion(conclusionList, ConclusionType.DEFINITE_NOT_PROVABLE, literals[i]);
+			if ((defeasiblyProvable[i] & bit) != 0) addConclusion(conclusionList, ConclusionType.DEFEASIBLY_PROVABLE, literals[i]);
+			if ((defeasiblyNotProvable[i] & bit) != 0)
+				addConclusion(conclusionList, ConclusionType.DEFEASIBLY_NOT_PROVABLE, literals[i]);
+			if (conclusionList.size() > 0) conclusions.put(literals[i], conclusionList);
+		}
+		return conclusions;
+	}
+
+	private void addConclusion(Map<ConclusionType, Conclusion> conclusionList, ConclusionType conclusionType, Literal literal) {
+		conclusionList.put(conclusionType, new Conclusion(conclusionType, literal));
+	}
+
+	@Override
+	protected ProcessStatus addPendingConclusion(Conclusion conclusion) {
+		Integer id = index.literalIds.get(conclusion.getLiteral());
+		if (null != id) addPendingLiteral(id);
+		return ProcessStatus.SUCCESS;
+	}
+
+	@Override
+	public ProcessStatus clear() {
+		super.clear();
+
+		index = null;
+		literals = null;
+		isOutputLiteral = null;
+
+		ruleHead = null;
+		ruleBody = null;
+		ruleSuperiors = null;
+		strictRulesWithHead = null;
+		rulesWithHead = null;
+		rulesWithBody = null;
+		conflictLiterals = null;
+		conflictedBy = null;
+
+		facts = null;
+		definiteProvable = null;
+		definiteNotProvable = null;
+		defeasiblyProvable = null;
+		defeasiblyNotProvable = null;
+
+		pendingLiterals = null;
+		isPending = null;
+
+		return ProcessStatus.SUCCESS;
+	}
+
+	protected void printEngineStatus(final String callerName) {
+		if (!isLoggable(Level.INFO)) return;
+		StringBuilder sb = new StringBuilder();
+		sb.append(getClass().getName()).append(".").append(callerName);
+		for (int i = 0; i < literals.length; i++) {
+			sb.append(LINE_SEPARATOR).append(AppConst.IDENTATOR).append(literals[i]) //
+					.append(": +D=").append(Long.toBinaryString(definiteProvable[i])) //
+					.append(", -D=").append(Long.toBinaryString(definiteNotProvable[i])) //
+					.append(", +d=").append(Long.toBinaryString(defeasiblyProvable[i])) //
+					.append(", -d=").append(Long.toBinaryString(defeasiblyNotProvable[i]));
+		}
+		logMessage(Level.INFO, 0, sb.toString());
+	}
+
+	@Override
+	protected String getProgressMessage() {
+		int pendingLiteralsCount = null == pendingLiterals ? 0 : pendingLiterals.size();
+		return pendingLiteralsCount + " literal(s) pending to process, " + scenariosCount + " scenario(s) in evaluation.";
+	}
+}
@@ -0,0 +1,397 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ *
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ */
+package spindle.engine.sdl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.app.utils.Utilities.ProcessStatus;
+
+import spindle.core.dom.Conclusion;
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.DomUtilities;
+import spindle.core.dom.Literal;
+import spindle.core.dom.Rule;
+import spindle.core.dom.RuleType;
+import spindle.core.dom.Semantics;
+import spindle.core.dom.Superiority;
+import spindle.core.dom.Theory;
+import spindle.core.dom.TheoryException;
+import spindle.core.dom.TheoryType;
+import spindle.engine.ReasoningEngineBase;
+import spindle.engine.ReasoningEngineException;
+import spindle.sys.Conf;
+import spindle.sys.message.ErrorMessage;
+
+/**
+ * Multi-semantics SDL Reasoning Engine.
+ * <p>
+ * Computes the conclusions of a (normalized) SDL theory under ambiguity blocking, ambiguity propagation and
+ * well-founded semantics in one call. The conclusions of each semantics are generated by the same engine used by the
+ * reasoner for that semantics, each on a copy of the theory:
+ * <ul>
+ * <li>Ambiguity blocking: {@link SdlReasoningEngine2};</li>
+ * <li>Ambiguity propagation: {@link SdlReasoningEngineAP2};</li>
+ * <li>Well-founded semantics: {@link SdlReasoningEngine2} with well-founded semantics enabled.</li>
+ * </ul>
+ * If both ambiguity propagation and well-founded semantics are configured in {@link Conf}, the conclusions of
+ * {@link SdlReasoningEngineAP2} with well-founded semantics enabled are generated as well.
+ * </p>
+ * <p>
+ * The literal and rule indexes and the definite conclusions are computed once for all semantics. The strict rules
+ * are then removed from the theory: the ones with heads that are not definitely provable are replaced by their
+ * defeasible counterparts, and the definitely provable literals that the remaining rules depend on are derived from a
+ * single place holder fact, such that the engine of each semantics derives only the defeasible conclusions. The definite conclusions are shared only if they
+ * are the same under all semantics, i.e., the strict rules contain no loop and derive no conflicting literals, and no
+ * strict rule appears in a superiority relation; otherwise the engine of each semantics works on the whole theory.
+ * The ambiguity propagation engines use the shared definite conclusions only if the theory contains no superiority
+ * relation.
+ * </p>
+ * <p>
+ * The conclusions generated through {@link #getConclusions(spindle.core.dom.Theory)} are the ones of the semantics
+ * configured in {@link Conf}, while the conclusions of all semantics can be retrieved using
+ * {@link #getSemanticsConclusions()}.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @see SdlReasoningEngine2
+ * @see SdlReasoningEngineAP2
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ */
+public class SdlMultiSemanticsReasoningEngine extends ReasoningEngineBase {
+	private static final String DEFINITE_CONCLUSIONS_LITERAL_NAME = "$definite";
+	private static final ConclusionType[] PROVABLE_CONCLUSION_TYPES = { ConclusionType.DEFINITE_PROVABLE,
+			ConclusionType.DEFEASIBLY_PROVABLE };
+	private static final ConclusionType[] NOT_PROVABLE_CONCLUSION_TYPES = { ConclusionType.DEFINITE_NOT_PROVABLE,
+			ConclusionType.DEFEASIBLY_NOT_PROVABLE };
+
+	private Map<Semantics, Map<Literal, Map<ConclusionType, Conclusion>>> semanticsConclusions = null;
+
+	private SdlTheoryIndex index = null;
+	private boolean[] definiteProvable = null;
+	private boolean[] definiteNotProvable = null;
+	private Map<Literal, Map<ConclusionType, Conclusion>> definiteConclusions = null;
+
+	private Semantics currentSemantics = null;
+
+	public SdlMultiSemanticsReasoningEngine() {
+		super();
+	}
+
+	/**
+	 * Return the conclusions of all semantics generated in the last call to
+	 * {@link #getConclusions(spindle.core.dom.Theory)}.
+	 * 
+	 * @return Conclusions of each semantics.
+	 */
+	public Map<Semantics, Map<Literal, Map<ConclusionType, Conclusion>>> getSemanticsConclusions() {
+		return semanticsConclusions;
+	}
+
+	/**
+	 * Return the semantics configured in {@link Conf}.
+	 * 
+	 * @return Semantics configured.
+	 */
+	public static Semantics getConfiguredSemantics() {
+		if (Conf.isReasoningWithAmbiguityPropagation()) {
+			return Conf.isReasoningWithWellFoundedSemantics() ? Semantics.AMBIGUITY_PROPAGATION_WELL_FOUNDED
+					: Semantics.AMBIGUITY_PROPAGATION;
+		}
+		return Conf.isReasoningWithWellFoundedSemantics() ? Semantics.WELL_FOUNDED : Semantics.AMBIGUITY_BLOCKING;
+	}
+
+	@Override
+	protected void initialize() throws ReasoningEngineException {
+		if (TheoryType.SDL != theory.getTheoryType())
+			throw new ReasoningEngineException(getClass(), ErrorMessage.REASONING_ENGINE_NOT_SUPPORTED, theory.getTheoryType());
+		semanticsConclusions = new TreeMap<Semantics, Map<Literal, Map<ConclusionType, Conclusion>>>();
+
+		index = new SdlTheoryIndex(theory, conflictLiteralsIndex, null);
+		generateDefiniteConclusions();
+	}
+
+	@Override
+	protected void generateConclusions() throws ReasoningEngineException {
+		definiteConclusions = null;
+		boolean isDefiniteConclusionsShared = isDefiniteConclusionsShared();
+		Theory defeasibleTheory = isDefiniteConclusionsShared ? getDefeasibleTheory() : theory;
+		index = null;
+		definiteProvable = null;
+		definiteNotProvable = null;
+
+		// the ambiguity propagation engine checks the ambiguity defeats recorded when proving the definite
+		// conclusions, which depends on the order that the definite conclusions are derived in when the superiority
+		// relations are resolved during inference
+		boolean isApDefiniteConclusionsShared = isDefiniteConclusionsShared && theory.getSuperiorityCount() == 0;
+		Theory apTheory = isApDefiniteConclusionsShared ? defeasibleTheory : theory;
+
+		SdlReasoningEngine2 abEngine = new SdlReasoningEngine2();
+		abEngine.setReasoningWithWellFoundedSemantics(false);
+		generateConclusions(Semantics.AMBIGUITY_BLOCKING, abEngine, defeasibleTheory.clone(), isDefiniteConclusionsShared);
+
+		SdlReasoningEngineAP2 apEngine = new SdlReasoningEngineAP2();
+		apEngine.setReasoningWithWellFoundedSemantics(false);
+		generateConclusions(Semantics.AMBIGUITY_PROPAGATION, apEngine, apTheory.clone(), isApDefiniteConclusionsShared);
+
+		if (Semantics.AMBIGUITY_PROPAGATION_WELL_FOUNDED == getConfiguredSemantics()) {
+			SdlReasoningEngineAP2 apWfEngine = new SdlReasoningEngineAP2();
+			apWfEngine.setReasoningWithWellFoundedSemantics(true);
+			generateConclusions(Semantics.AMBIGUITY_PROPAGATION_WELL_FOUNDED, apWfEngine, apTheory.clone(),
+					isApDefiniteConclusionsShared);
+		}
+
+		// the copy of the theory with the definite conclusions shared is not used afterwards
+		SdlReasoningEngine2 wfEngine = new SdlReasoningEngine2();
+		wfEngine.setReasoningWithWellFoundedSemantics(true);
+		generateConclusions(Semantics.WELL_FOUNDED, wfEngine, isDefiniteConclusionsShared ? defeasibleTheory : theory.clone(),
+				isDefiniteConclusionsShared);
+
+		definiteConclusions = null;
+		currentSemantics = null;
+	}
+
+	/**
+	 * Generate the definite conclusions of the theory using the strict rules only.
+	 * Literals in strict rule loops are left undecided.
+	 */
+	private void generateDefiniteConclusions() {
+		int literalsCount = index.getLiteralsCount();
+		int rulesCount = index.getRulesCount();
+		definiteProvable = new boolean[literalsCount];
+		definiteNotProvable = new boolean[literalsCount];
+
+		int[] unprovedBodyCount = new int[rulesCount];
+		int[] undiscardedRulesCount = new int[literalsCount];
+		boolean[] isRuleDiscarded = new boolean[rulesCount];
+
+		Deque<Integer> provable = new ArrayDeque<Integer>();
+		Deque<Integer> notProvable = new ArrayDeque<Integer>();
+		for (int r = 0; r < rulesCount; r++) {
+			if (!index.isStrictRule[r]) continue;
+			unprovedBodyCount[r] = index.ruleBody[r].length;
+			if (unprovedBodyCount[r] == 0 && !definiteProvable[index.ruleHead[r]]) {
+				definiteProvable[index.ruleHead[r]] = true;
+				provable.add(index.ruleHead[r]);
+			}
+		}
+		for (int p = 0; p < literalsCount; p++) {
+			undiscardedRulesCount[p] = index.strictRulesWithHead[p].length;
+			if (undiscardedRulesCount[p] == 0) {
+				definiteNotProvable[p] = true;
+				notProvable.add(p);
+			}
+		}
+
+		while (provable.size() > 0) {
+			for (int r : index.rulesWithBody[provable.removeFirst()]) {
+				if (!index.isStrictRule[r] || --unprovedBodyCount[r] > 0) continue;
+				int head = index.ruleHead[r];
+				if (!definiteProvable[head]) {
+					definiteProvable[head] = true;
+					provable.add(head);
+				}
+			}
+		}
+		while (notProvable.size() > 0) {
+			for (int r : index.rulesWithBody[notProvable.removeFirst()]) {
+				if (!index.isStrictRule[r] || isRuleDiscarded[r]) continue;
+				isRuleDiscarded[r] = true;
+				int head = index.ruleHead[r];
+				if (--undiscardedRulesCount[head] == 0) {
+					definiteNotProvable[head] = true;
+					notProvable.add(head);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Check if the definite conclusions generated can be shared among the semantics, i.e., the strict rules contain no
+	 * loop, no conflicting literals are both definitely provable, and no strict rule appears in a superiority relation.
+	 */
+	private boolean isDefiniteConclusionsShared() {
+		if (!isStrictRulesAcyclic()) return false;
+		for (int p = 0; p < index.theoryLiteralsCount; p++) {
+			if (definiteProvable[p] == definiteNotProvable[p]) return false;
+			if (!definiteProvable[p]) continue;
+			for (int q : index.conflictLiterals[p]) {
+				if (definiteProvable[q]) return false;
+			}
+		}
+		for (String ruleLabel : strictRules.keySet()) {
+			if (isInSuperiorityRelation(ruleLabel)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Check if the strict rules contain no loop, by removing the literals that depend on no other literals through
+	 * the strict rules until none is left.
+	 */
+	private boolean isStrictRulesAcyclic() {
+		int literalsCount = index.getLiteralsCount();
+		int[] dependenciesCount = new int[literalsCount];
+		for (int r = 0; r < index.getRulesCount(); r++) {
+			if (index.isStrictRule[r]) dependenciesCount[index.ruleHead[r]] += index.ruleBody[r].length;
+		}
+		Deque<Integer> literalsToRemove = new ArrayDeque<Integer>();
+		for (int p = 0; p < literalsCount; p++) {
+			if (dependenciesCount[p] == 0) literalsToRemove.add(p);
+		}
+		int literalsRemoved = 0;
+		while (literalsToRemove.size() > 0) {
+			literalsRemoved++;
+			int p = literalsToRemove.removeFirst();
+			for (int r : index.rulesWithBody[p]) {
+				if (!index.isStrictRule[r]) continue;
+				for (int q : index.ruleBody[r]) {
+					if (q == p && --dependenciesCount[index.ruleHead[r]] == 0) literalsToRemove.add(index.ruleHead[r]);
+				}
+			}
+		}
+		return literalsRemoved == literalsCount;
+	}
+
+	private boolean isInSuperiorityRelation(final String ruleLabel) {
+		Set<Superiority> superiorities = theory.getSuperior(ruleLabel);
+		if (null != superiorities && superiorities.size() > 0) return true;
+		superiorities = theory.getInferior(ruleLabel);
+		return null != superiorities && superiorities.size() > 0;
+	}
+
+	/**
+	 * Return a copy of the theory with the strict rules removed. Strict rules with heads that are not definitely
+	 * provable are replaced by their defeasible counterparts, while the definitely provable literals that the remaining
+	 * rules depend on or conflict with are derived in one step from a place holder fact. The conclusions of the literals
+	 * removed from the theory are kept in {@link #definiteConclusions}.
+	 */
+	private Theory getDefeasibleTheory() throws ReasoningEngineException {
+		int literalsCount = index.getLiteralsCount();
+		boolean[] isLiteralUsed = new boolean[literalsCount];
+		List<Rule> rulesToDuplicate = new ArrayList<Rule>();
+		for (Rule rule : strictRules.values()) {
+			if (!definiteProvable[index.literalIds.get(rule.getHeadLiterals().get(0))]) rulesToDuplicate.add(rule);
+		}
+		for (int r = 0; r < index.getRulesCount(); r++) {
+			if (index.isStrictRule[r] && definiteProvable[index.ruleHead[r]]) continue;
+			isLiteralUsed[index.ruleHead[r]] = true;
+			for (int p : index.ruleBody[r]) {
+				isLiteralUsed[p] = true;
+			}
+		}
+		boolean[] isLiteralKept = new boolean[literalsCount];
+		for (int p = 0; p < literalsCount; p++) {
+			if (!isLiteralUsed[p]) continue;
+			isLiteralKept[p] = true;
+			for (int q : index.conflictLiterals[p]) {
+				isLiteralKept[q] = true;
+			}
+		}
+
+		Theory defeasibleTheory = theory.clone();
+		List<Rule> rulesToAdd = new ArrayList<Rule>(defeasibleTheory.duplicateRulesToType(rulesToDuplicate, RuleType.DEFEASIBLE,
+				STRICT_TO_DEFEASIBLE_POSTFIX));
+		definiteConclusions = new TreeMap<Literal, Map<ConclusionType, Conclusion>>();
+		try {
+			Literal definiteLiteral = DomUtilities.getLiteral(DEFINITE_CONCLUSIONS_LITERAL_NAME, false, null, null, null, true);
+			Rule fact = DomUtilities.getRule(defeasibleTheory.getUniqueRuleLabel(), RuleType.STRICT);
+			fact.addHeadLiteral(definiteLiteral);
+			rulesToAdd.add(fact);
+			for (int p = 0; p < literalsCount; p++) {
+				if (isLiteralKept[p]) {
+					if (!definiteProvable[p]) continue;
+					Rule rule = DomUtilities.getRule(defeasibleTheory.getUniqueRuleLabel(), RuleType.STRICT);
+					rule.addBodyLiteral(definiteLiteral);
+					rule.addHeadLiteral(index.literals[p].clone());
+					rulesToAdd.add(rule);
+				} else if (p < index.theoryLiteralsCount && !index.literals[p].isPlaceHolder()) {
+					Map<ConclusionType, Conclusion> conclusions = new TreeMap<ConclusionType, Conclusion>();
+					for (ConclusionType conclusionType : definiteProvable[p] ? PROVABLE_CONCLUSION_TYPES : NOT_PROVABLE_CONCLUSION_TYPES) {
+						conclusions.put(conclusionType, new Conclusion(conclusionType, index.literals[p]));
+					}
+					definiteConclusions.put(index.literals[p], conclusions);
+				}
+			}
+			defeasibleTheory.updateTheory(rulesToAdd, strictRules.keySet(), null);
+		} catch (TheoryException e) {
+			throw new ReasoningEngineException(getClass(), e);
+		}
+		return defeasibleTheory;
+	}
+
+	/**
+	 * Generate the conclusions of a semantics using the engine specified. The theory must be a copy as the engines
+	 * remove the rules and literals resolved from the theory during inference. Conclusions of the place holders
+	 * introduced by the theory normalizer are not reported, while the definite conclusions of the literals removed from
+	 * the theory are added if the theory is the one with the definite conclusions shared.
+	 */
+	private void generateConclusions(final Semantics semantics, final SdlReasoningEngine engine, final Theory theory,
+			final boolean isDefiniteConclusionsShared) throws ReasoningEngineException {
+		currentSemantics = semantics;
+		engine.setAppLogger(logger);
+		Map<Literal, Map<ConclusionType, Conclusion>> conclusions = new TreeMap<Literal, Map<ConclusionType, Conclusion>>();
+		for (Entry<Literal, Map<ConclusionType, Conclusion>> entry : engine.getConclusions(theory).entrySet()) {
+			if (!entry.getKey().isPlaceHolder()) conclusions.put(entry.getKey(), entry.getValue());
+		}
+		if (isDefiniteConclusionsShared) {
+			for (Entry<Literal, Map<ConclusionType, Conclusion>> entry : definiteConclusions.entrySet()) {
+				conclusions.put(entry.getKey(), new TreeMap<ConclusionType, Conclusion>(entry.getValue()));
+			}
+		}
+		semanticsConclusions.put(semantics, conclusions);
+	}
+
+	@Override
+	protected void terminate() throws ReasoningEngineException {
+		setConclusion(semanticsConclusions.get(getConfiguredSemantics()));
+	}
+
+	@Override
+	protected ProcessStatus addPendingConclusion(Conclusion conclusion) {
+		return ProcessStatus.SUCCESS;
+	}
+
+	@Override
+	public ProcessStatus clear() {
+		super.clear();
+		index = null;
+		definiteProvable = null;
+		definiteNotProvable = null;
+		definiteConclusions = null;
+		currentSemantics = null;
+		return ProcessStatus.SUCCESS;
+	}
+
+	@Override
+	protected String getProgressMessage() {
+		return null == currentSemantics ? semanticsConclusions.size() + " semantics evaluated."
+				: "generating conclusions with " + currentSemantics.getLabel() + " semantics.";
+	}
+}
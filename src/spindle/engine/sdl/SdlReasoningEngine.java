@@ -44,6 +44,7 @@ import spindle.core.dom.RuleType;
 import spindle.core.dom.TheoryException;
 import spindle.engine.ReasoningEngineBase;
 import spindle.engine.ReasoningEngineException;
+import spindle.engine.TraceEvent;
 import spindle.sys.AppConst;
 import spindle.sys.AppFeatureConst;
 import spindle.sys.Conf;
@@ -90,10 +91,31 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 	protected Set<Conclusion> unresolveableConclusionsSet = null;
 	protected boolean theoryWithLoops = true;
 
+	/**
+	 * Reasoning with well-founded semantics; or null if the semantics configured in {@link Conf} is used.
+	 */
+	private Boolean reasoningWithWellFoundedSemantics = null;
+
 	public SdlReasoningEngine() {
 		super();
 	}
 
+	/**
+	 * Set whether this engine reasons with well-founded semantics, regardless of the semantics configured in
+	 * {@link Conf}.
+	 * 
+	 * @param reasoningWithWellFoundedSemantics true to reason with well-founded semantics; false otherwise; or null
+	 *            to use the semantics configured.
+	 */
+	public void setReasoningWithWellFoundedSemantics(final Boolean reasoningWithWellFoundedSemantics) {
+		this.reasoningWithWellFoundedSemantics = reasoningWithWellFoundedSemantics;
+	}
+
+	protected boolean isReasoningWithWellFoundedSemantics() {
+		return null == reasoningWithWellFoundedSemantics ? Conf.isReasoningWithWellFoundedSemantics()
+				: reasoningWithWellFoundedSemantics.booleanValue();
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	protected void initialize() throws ReasoningEngineException {
@@ -136,7 +158,7 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 		try {
 			while ((conclusion = getNextPendingConclusion()) != null) {
 				if (isConclusionExist(conclusion)) continue;
-				logMessage(Level.FINE, 0, "generate conclusion for ", conclusion);
+				if (isLogFine) logMessage(Level.FINE, 0, "generate conclusion for ", conclusion);
 
 				addConclusion(conclusion);
 				switch (conclusion.getConclusionType()) {
@@ -200,13 +222,13 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 	protected ProcessStatus generateInitialPendingConclusions() throws ReasoningEngineException, TheoryException {
 		// literals appeared in strict rule with empty body are definitely provable
 		// literals appeared in defeasible rule with empty body are tentatively provable
-		logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generateInitialPendingConclusions - start ===");
+		if (isLogFine) logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generateInitialPendingConclusions - start ===");
 
 		Set<Literal> unprovedStrictRuleLiterals = new TreeSet<Literal>(theory.getAllLiteralsInRules());
 		Set<Literal> unprovedDefeasibleRuleLiterals = new TreeSet<Literal>(theory.getAllLiteralsInRules());
 		Set<String> rulesToDelete = new TreeSet<String>();
 
-		logMessage(Level.FINER, 1, "=== +ve set - start ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== +ve set - start ===");
 		Set<String> rulesToRemove = new TreeSet<String>();
 		Map<Conclusion, Set<String>> tempPosDefiniteConclusionSet = new TreeMap<Conclusion, Set<String>>();
 		Map<Conclusion, Set<String>> tempPosDefeasibleConclusionSet = new TreeMap<Conclusion, Set<String>>();
@@ -273,12 +295,12 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 
 				if (!ambiguousExist) ambiguousExist = containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT);
 				if (ambiguousExist) {
-					logMessage(Level.FINER, 1, "==> generateInitialPendingConclusions: ==> add (+D Ambiguous)", literal);
+					if (isLogFiner) logMessage(Level.FINER, 1, "==> generateInitialPendingConclusions: ==> add (+D Ambiguous)", literal);
 					addAmbiguousConclusion(conclusion, ruleLabels);
 				} else {
 					if (isRecordExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE)) pos = false;
 					if (isRecordExist(literal, ConclusionType.DEFINITE_NOT_PROVABLE)) pos = false;
-					logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
+					if (isLogFinest) logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
 					if (pos) {
 						newLiteralFind_definiteProvable(literal, false);
 						if (isLogInferenceProcess)
@@ -304,12 +326,12 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 
 				if (!ambiguousExist) ambiguousExist = containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE);
 				if (ambiguousExist) {
-					logMessage(Level.FINER, 1, "==> generateInitialPendingConclusions: ==> add (+d Ambiguous)", literal);
+					if (isLogFiner) logMessage(Level.FINER, 1, "==> generateInitialPendingConclusions: ==> add (+d Ambiguous)", literal);
 					addAmbiguousConclusion(conclusion, ruleLabels);
 				} else {
 					if (isRecordExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE)) pos = false;
 					if (isRecordExist(literal, ConclusionType.DEFEASIBLY_NOT_PROVABLE)) pos = false;
-					logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
+					if (isLogFinest) logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
 					if (pos) {
 						addPendingConclusion(conclusion);
 						newLiteralFind_defeasiblyProvable(literal, false);
@@ -326,12 +348,12 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 //				break;
 	//		default:			
 		}
-		logMessage(Level.FINER, 1, "=== +ve set - end ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== +ve set - end ===");
 
 		// literals cannot be resolved using all rules are defeasibly not provable
-		logMessage(Level.FINER, 1, "=== -df set - start ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -df set - start ===");
 		for (Literal literal : unprovedDefeasibleRuleLiterals) {
-			logMessage(Level.FINEST, 2, "rule.getLiteralList()(NOT_DEFEASIBLE)=", literal);
+			if (isLogFinest) logMessage(Level.FINEST, 2, "rule.getLiteralList()(NOT_DEFEASIBLE)=", literal);
 			Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_NOT_PROVABLE, literal);
 			if (!unresolveableConclusionsSet.contains(conclusion)) {
 				addPendingConclusion(conclusion);
@@ -340,17 +362,17 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 				addInapplicableLiteralsBeforeInference(literal, ConclusionType.DEFEASIBLY_NOT_PROVABLE);
 			}
 		}
-		logMessage(Level.FINER, 1, "=== -df set -  end  ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -df set -  end  ===");
 
 		// literals that do not exist in strict rule or
 		// literals cannot be resolved using only strict rules are definite not provable
-		logMessage(Level.FINER, 1, "=== -Df set - start ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -Df set - start ===");
 		for (Literal literal : unprovedStrictRuleLiterals) {
 			newLiteralFind_definiteNotProvable(literal, false);
 			addInapplicableLiteralsBeforeInference(literal, ConclusionType.DEFINITE_NOT_PROVABLE);
 		}
-		logMessage(Level.FINER, 1, "=== -Df set -  end  ===");
-		logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generateInitialPendingConclusions -  end  ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -Df set -  end  ===");
+		if (isLogFine) logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generateInitialPendingConclusions -  end  ===");
 
 		removeRules(rulesToDelete);
 
@@ -360,7 +382,7 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 	
 
 	protected ProcessStatus generateConclusions_definiteProvable(final Literal literal) throws ReasoningEngineException, TheoryException {
-		logMessage(Level.FINER, 0, "=== generate inference: definite provable: ", literal);
+		if (isLogFiner) logMessage(Level.FINER, 0, "=== generate inference: definite provable: ", literal);
 
 		Set<String> rulesToDelete = new TreeSet<String>();
 		Set<Rule> rulesModified = theory.removeBodyLiteralFromRules(literal, null);
@@ -368,19 +390,19 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 		if (rulesModified.size() == 0) return ProcessStatus.SUCCESS;
 
 		for (Rule rule : rulesModified) {
-			logMessage(Level.FINER, 1, null, literal, ": rule=", rule, ", is empty body=" + rule.isEmptyBody());
+			if (isLogFiner) logMessage(Level.FINER, 1, null, literal, ": rule=", rule, ", is empty body=" + rule.isEmptyBody());
 			if (rule.isEmptyBody()) {
-				logMessage(Level.FINEST, 2, "remove rule:", rule.getLabel());
-				if (!AppConst.isDeploy) logMessage(Level.FINER, 2, null, theory);
+				if (isLogFinest) logMessage(Level.FINEST, 2, "remove rule:", rule.getLabel());
+				if (!AppConst.isDeploy && isLogFiner) logMessage(Level.FINER, 2, null, theory);
 				rulesToDelete.add(rule.getLabel());
 
 				Literal headLiteral = rule.getHeadLiterals().get(0);
 				Set<Literal> conflictLiterals = getConflictLiterals(headLiteral);
 				switch (rule.getRuleType()) {
 				case STRICT:
-					logMessage(Level.FINER, 1, "==> ", literal, " (strict)");
+					if (isLogFiner) logMessage(Level.FINER, 1, "==> ", literal, " (strict)");
 					if (containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT)) {
-						logMessage(Level.FINER, 2, "==>1.1 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
+						if (isLogFiner) logMessage(Level.FINER, 2, "==>1.1 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
 						Conclusion conclusion = new Conclusion(ConclusionType.DEFINITE_PROVABLE, headLiteral);
 						addRecord(conclusion);
 						addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
@@ -388,7 +410,7 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 						boolean chk1 = isAmbiguousConclusionExist(headLiteral, ConclusionType.DEFINITE_NOT_PROVABLE);
 						boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE);
 						if (chk1 || chk2) {
-							logMessage(Level.FINER, 2, "==>1.2 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
+							if (isLogFiner) logMessage(Level.FINER, 2, "==>1.2 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
 							Conclusion conclusion = new Conclusion(ConclusionType.DEFINITE_PROVABLE, headLiteral);
 							addRecord(conclusion);
 							addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
@@ -411,11 +433,11 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 					}
 					break;
 				case DEFEASIBLE:
-					logMessage(Level.FINEST, 1, "==> ", literal, " (defeasible)");
+					if (isLogFinest) logMessage(Level.FINEST, 1, "==> ", literal, " (defeasible)");
 					// same as 'generateConclusions_defeasiblyProvable(Literal literal)'
 					// duplicated here for efficiency
 					if (containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE)) {
-						logMessage(Level.FINER, 2, "==>1.5 generateConclusions_definiteProvable: ==> add ambiguous (+d)", headLiteral);
+						if (isLogFiner) logMessage(Level.FINER, 2, "==>1.5 generateConclusions_definiteProvable: ==> add ambiguous (+d)", headLiteral);
 						Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral);
 						addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
 						addRecord(conclusion);
@@ -425,7 +447,7 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 						boolean chk1 = isAmbiguousConclusionExist(headLiteral, ConclusionType.DEFEASIBLY_NOT_PROVABLE);
 						boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
 						if (chk1 || chk2) {
-							logMessage(Level.FINER, 2, "==>1.6 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
+							if (isLogFiner) logMessage(Level.FINER, 2, "==>1.6 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
 							addAmbiguousConclusion(new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral), rule.getOriginalLabel());
 						} else {
 							boolean hasConflictRecord = false;
@@ -455,7 +477,7 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 	}
 
 	protected ProcessStatus generateConclusions_definiteNotProvable(final Literal literal) throws ReasoningEngineException {
-		logMessage(Level.FINER, 0, "=== generate inference: definite not provable: ", literal);
+		if (isLogFiner) logMessage(Level.FINER, 0, "=== generate inference: definite not provable: ", literal);
 
 		Collection<Rule> rules = theory.getRules(literal).values();
 		Set<String> rulesToRemove = new TreeSet<String>();
@@ -465,7 +487,7 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 			if (rule.getRuleType() == RuleType.STRICT && rule.isBodyLiteral(literal)) {
 				rulesToRemove.add(rule.getLabel());
 				Literal headLiteral = rule.getHeadLiterals().get(0);
-				logMessage(Level.FINER, 1, "literals added=", headLiteral);
+				if (isLogFiner) logMessage(Level.FINER, 1, "literals added=", headLiteral);
 				inapplicableLiterals.add(headLiteral);
 				if (isLogInferenceProcess)
 					getInferenceLogger().updateRuleInferenceStatus(rule.getOriginalLabel(), RuleType.STRICT,
@@ -478,10 +500,10 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 		// check whether the literal can be proved by other strict rules
 		// if not, add -D to the pending conclusion list
 		for (Literal inapplicableLiteral : inapplicableLiterals) {
-			logMessage(Level.FINEST, 1, "checking inapplicable literals for other rules=", inapplicableLiteral);
+			if (isLogFinest) logMessage(Level.FINEST, 1, "checking inapplicable literals for other rules=", inapplicableLiteral);
 			if (theory.containsInRuleHead(inapplicableLiteral, RuleType.STRICT)) {
 				// literal still provable by other strict rules, so do nothing
-				logMessage(Level.FINEST, 2, "literal [", inapplicableLiteral, "] is provable by other strict rules");
+				if (isLogFinest) logMessage(Level.FINEST, 2, "literal [", inapplicableLiteral, "] is provable by other strict rules");
 			} else {
 				Set<Literal> conflictLiterals = getConflictLiterals(inapplicableLiteral);
 				boolean acChk1 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE);
@@ -498,7 +520,7 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 	}
 
 	protected ProcessStatus generateConclusions_defeasiblyProvable(final Literal literal) throws ReasoningEngineException, TheoryException {
-		logMessage(Level.FINER, 0, "generate inference: defeasibly provable: ", literal);
+		if (isLogFiner) logMessage(Level.FINER, 0, "generate inference: defeasibly provable: ", literal);
 
 		Set<String> rulesToRemove = new TreeSet<String>();
 		Set<Rule> rulesModified = theory.removeBodyLiteralFromRules(literal, RuleType.DEFEASIBLE);
@@ -506,17 +528,17 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 		if (rulesModified.size() == 0) return ProcessStatus.SUCCESS;
 
 		for (Rule rule : rulesModified) {
-			logMessage(Level.FINER, 1, null, literal, ": rule=", rule, ", is empty body=" + rule.isEmptyBody());
+			if (isLogFiner) logMessage(Level.FINER, 1, null, literal, ": rule=", rule, ", is empty body=" + rule.isEmptyBody());
 			if (rule.isEmptyBody()) {
 				Literal headLiteral = rule.getHeadLiterals().get(0);
 				rulesToRemove.add(rule.getLabel());
 				Set<Literal> conflictLiterals = getConflictLiterals(headLiteral);
 
 				boolean containsUnprovableRuleInTheory = containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE);
-				logMessage(Level.FINEST, 2, "==>2.0 conflictLiterals: ", conflictLiterals, ",unproved rules="
+				if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.0 conflictLiterals: ", conflictLiterals, ",unproved rules="
 						+ containsUnprovableRuleInTheory);
 				if (containsUnprovableRuleInTheory) {
-					logMessage(Level.FINER, 2, "==>2.1 generateConclusions_defeasiblyProvable: ==> add ambiguous (+d)", headLiteral);
+					if (isLogFiner) logMessage(Level.FINER, 2, "==>2.1 generateConclusions_defeasiblyProvable: ==> add ambiguous (+d)", headLiteral);
 					Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral);
 					addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
 					addRecord(conclusion);
@@ -525,7 +547,7 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 					boolean chk1 = isAmbiguousConclusionExist(headLiteral, ConclusionType.DEFEASIBLY_NOT_PROVABLE);
 					boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
 					if (chk1 || chk2) {
-						logMessage(Level.FINER, 2, "==>2.2 generateConclusions_defeasiblyProvable: ==> add ambiguous (+D)", headLiteral);
+						if (isLogFiner) logMessage(Level.FINER, 2, "==>2.2 generateConclusions_defeasiblyProvable: ==> add ambiguous (+D)", headLiteral);
 						addAmbiguousConclusion(new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral), rule.getOriginalLabel());
 					} else {
 						boolean hasConflictRecord = false;
@@ -546,13 +568,13 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 				}
 			}
 		}
-		logMessage(Level.FINER, 1, "generateConclusions_defeasiblyProvable.removeRules=", rulesToRemove);
+		if (isLogFiner) logMessage(Level.FINER, 1, "generateConclusions_defeasiblyProvable.removeRules=", rulesToRemove);
 		if (rulesToRemove.size() > 0) removeRules(rulesToRemove);
 		return ProcessStatus.SUCCESS;
 	}
 
 	protected ProcessStatus generateConclusions_defeasiblyNotProvable(final Literal literal) throws ReasoningEngineException {
-		logMessage(Level.FINER, 0, "generate inference: defeasibly not provable: ", literal);
+		if (isLogFiner) logMessage(Level.FINER, 0, "generate inference: defeasibly not provable: ", literal);
 		Collection<Rule> rules = theory.getRules(literal).values();
 		Set<String> rulesToRemove = new TreeSet<String>();
 		List<Literal> inapplicableLiterals = new ArrayList<Literal>();
@@ -563,7 +585,7 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 			if (rule.getRuleType() == RuleType.DEFEASIBLE && rule.isBodyLiteral(literal)) {
 				rulesToRemove.add(rule.getLabel());
 				Literal headLiteral = rule.getHeadLiterals().get(0);
-				logMessage(Level.FINEST, 1, "literals added=", headLiteral);
+				if (isLogFinest) logMessage(Level.FINEST, 1, "literals added=", headLiteral);
 				inapplicableLiterals.add(headLiteral);
 
 				if (isLogInferenceProcess)
@@ -577,10 +599,10 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 		// check whether the literal can be proved by other strict rules
 		// if not, add -d to the pending conclusion list
 		for (Literal inapplicableLiteral : inapplicableLiterals) {
-			logMessage(Level.FINEST, 1, "checking inapplicable literals for other rules: ", inapplicableLiteral);
+			if (isLogFinest) logMessage(Level.FINEST, 1, "checking inapplicable literals for other rules: ", inapplicableLiteral);
 			if (theory.containsInRuleHead(inapplicableLiteral, RuleType.DEFEASIBLE)) {
 				// literal still provable by other strict rules, so do nothing
-				logMessage(Level.FINEST, 2, "literal [", inapplicableLiteral, "] is provable by other defesible rules");
+				if (isLogFinest) logMessage(Level.FINEST, 2, "literal [", inapplicableLiteral, "] is provable by other defesible rules");
 			} else {
 				Set<Literal> conflictLiterals = getConflictLiterals(inapplicableLiteral);
 				boolean acChk1 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
@@ -600,7 +622,7 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 	@Override
 	protected ProcessStatus addPendingConclusion(Conclusion conclusion) {
 		if (isConclusionExist(conclusion)) return ProcessStatus.SUCCESS;
-		logMessage(Level.FINE, 3, "pending conclusion added: ", conclusion);
+		if (isLogFine) logTraceEvent(Level.FINE, 3, TraceEvent.PENDING_CONCLUSION_ADDED, conclusion);
 
 		int ind = conclusion.getProvabilityLevel().ordinal();
 		pendingConclusions[ind].add(conclusion);
@@ -616,7 +638,7 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 
 	protected ProcessStatus addAmbiguousConclusion(Conclusion conclusion, String ruleLabel)  {
 		if (isConclusionExist(conclusion)) return ProcessStatus.SUCCESS;
-		logMessage(Level.FINE, 3, "ambiguous conclusion added: ", conclusion);
+		if (isLogFine) logTraceEvent(Level.FINE, 3, TraceEvent.AMBIGUOUS_CONCLUSION_ADDED, conclusion);
 
 		int ind = conclusion.getProvabilityLevel().ordinal();
 		Set<String> ruleSet = ambiguousConclusions[ind].get(conclusion);
@@ -631,7 +653,7 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 
 	protected ProcessStatus removeAmbiguousConclusion(Conclusion conclusion) {
 		if (isConclusionExist(conclusion)) return ProcessStatus.SUCCESS;
-		logMessage(Level.FINER, 3, "ambiguous conclusion to remove: ", conclusion);
+		if (isLogFiner) logTraceEvent(Level.FINER, 3, TraceEvent.AMBIGUOUS_CONCLUSION_REMOVED, conclusion);
 
 		int ind = conclusion.getProvabilityLevel().ordinal();
 		ambiguousConclusions[ind].remove(conclusion);
@@ -640,7 +662,7 @@ public class SdlReasoningEngine extends ReasoningEngineBase {
 	}
 
 	protected void updateAmbiguousConclusions(int i) throws ReasoningEngineException {
-System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")");		
+		if (isLogFinest) logMessage(Level.FINEST, 0, "-- SdlReasoningEngine.updateAmbiguousConclusions, i=", i);
 		if (ambiguousConclusions[i].size() == 0) return;
 		if (!AppConst.isDeploy) printEngineStatus("updateAmbiguousConclusions-before");
 
@@ -663,7 +685,7 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 
 			switch (conclusion.getConclusionType()) {
 			case DEFINITE_PROVABLE:
-				logMessage(Level.FINER, 1, "updateAmbiguousConclusion, check literal (definite): ", literal);
+				if (isLogFiner) logMessage(Level.FINER, 1, "updateAmbiguousConclusion, check literal (definite): ", literal);
 				for (Rule r : rulesWithLiteralAsHead) {
 					if (!RuleType.STRICT.equals(r.getRuleType()))continue;
 					for (Literal bodyLiteral : r.getBodyLiterals()) {
@@ -675,7 +697,7 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 				if (keepLiteralInAmbiguousSet){
 					// defer the removal of literal until all rules generated
 					// by the superiority removal process have been evaluated
-					logMessage(Level.FINER, 2, "keep literal in ambiguous set temporary");
+					if (isLogFiner) logMessage(Level.FINER, 2, "keep literal in ambiguous set temporary");
 				}else if (!containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT)) {
 					ambiguousConclusionToRemove.add(conclusion);
 					if (chk1) {
@@ -698,7 +720,7 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 				}
 				break;
 			case DEFEASIBLY_PROVABLE:
-				logMessage(Level.FINER, 1, "updateAmbiguousConclusion, check literal (defeasible): ", literal);
+				if (isLogFiner) logMessage(Level.FINER, 1, "updateAmbiguousConclusion, check literal (defeasible): ", literal);
 				for (Rule r : rulesWithLiteralAsHead) {
 					if (!RuleType.DEFEASIBLE.equals(r.getRuleType()))continue;
 					for (Literal bodyLiteral : r.getBodyLiterals()) {
@@ -709,10 +731,10 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 				if (keepLiteralInAmbiguousSet) {
 					// defer the removal of literal until all rules generated
 					// by the superiority removal process have been evaluated
-					logMessage(Level.FINER, 2, "keep literal in ambiguous set temporary");
+					if (isLogFiner) logMessage(Level.FINER, 2, "keep literal in ambiguous set temporary");
 				} else if (!containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE)) {
 					ambiguousConclusionToRemove.add(conclusion);
-					logMessage(Level.FINER, 0, "*** dchk4=", dchk4);
+					if (isLogFiner) logMessage(Level.FINER, 0, "*** dchk4=", dchk4);
 					if (dchk4) {
 						recordsToRemove.add(conclusion);
 						if (isLogInferenceProcess)
@@ -736,7 +758,7 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 			}
 		}
 
-		logMessage(Level.FINER, 1, "ambiguousConclusionToRemove=", ambiguousConclusionToRemove);
+		if (isLogFiner) logMessage(Level.FINER, 1, "ambiguousConclusionToRemove=", ambiguousConclusionToRemove);
 		for (Conclusion conclusion : ambiguousConclusionToRemove) {
 			ambiguousConclusions[i].remove(conclusion);
 		}
@@ -786,12 +808,12 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 			}
 			if (!hasPendingConclusions(i) &&  hasAmbiguousConclusions(i)) {
 				// if (pendingConclusions[i].size() == 0 && ambiguousConclusions[i].size() > 0) {
-				updateSccAmbiguousConclusions(i, Conf.isReasoningWithWellFoundedSemantics());
+				updateSccAmbiguousConclusions(i, isReasoningWithWellFoundedSemantics());
 			}
 
 			// well-found semantics
 			// - check for strongly connected literals if no new pending conclusions found after ambiguity check
-			if (Conf.isReasoningWithWellFoundedSemantics() //
+			if (isReasoningWithWellFoundedSemantics() //
 					&& i == pendingConclusions.length - 1 //
 					&& totalPendingConclusionsCount == 0 //
 					&& theory.getFactsAndAllRules().size() > 0) {
@@ -802,7 +824,7 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 							jj++;
 						}
 						if (i > jj) i = jj;
-						if (!AppConst.isDeploy) logMessage(Level.FINEST, 2, "XXX, i=", i, ", jj=", jj);
+						if (!AppConst.isDeploy && isLogFinest) logMessage(Level.FINEST, 2, "XXX, i=", i, ", jj=", jj);
 					}
 				} catch (ReasoningEngineException e) {
 					throw e;
@@ -818,7 +840,7 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 			} else {
 				// some loop in the theory may occur
 				if ( hasAmbiguousConclusions(i)) {
-					logMessage(Level.FINER, 0, "*** ambiguousConclusions[", i, "].size()=" + ambiguousConclusions[i].size());
+					if (isLogFiner) logMessage(Level.FINER, 0, "*** ambiguousConclusions[", i, "].size()=" + ambiguousConclusions[i].size());
 				}
 			}
 		}
@@ -864,12 +886,12 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 		List<Conclusion> unprovableConclusion = new ArrayList<Conclusion>();
 		List<Conclusion> ambiguousConclusionToRemove = new ArrayList<Conclusion>();
 
-		logMessage(Level.FINE, 0, "updateSccAmbiguousConclusions - start");
+		if (isLogFine) logMessage(Level.FINE, 0, "updateSccAmbiguousConclusions - start");
 		Set<String> rulesToRemove = new TreeSet<String>();
 		if (!isWellfounded) {
 			for (Set<Literal> sccLiteralsGroup : sccLiteralsGroups) {
 				for (Literal sccLiteral : sccLiteralsGroup) {
-					logMessage(Level.FINER, 1, "checking sccLiteral: ", sccLiteral);
+					if (isLogFiner) logMessage(Level.FINER, 1, "checking sccLiteral: ", sccLiteral);
 					boolean sccLiteralToRemove = false;
 					boolean conflictInSameSccGroup = isConflictLiteralInSameSccGroup(sccLiteral);
 					if (conflictInSameSccGroup) {
@@ -911,18 +933,18 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 				}
 			}
 		}
-		logMessage(Level.FINER, 1, "==> unprovableConclusion.size=" + unprovableConclusion.size());
+		if (isLogFiner) logMessage(Level.FINER, 1, "==> unprovableConclusion.size=" + unprovableConclusion.size());
 
 		if (unprovableConclusion.size() == 0) {
 			for (Conclusion conclusion : ambiguousConclusions[i].keySet()) {
 				Literal ambiguousLiteral = conclusion.getLiteral();
-				logMessage(Level.FINER, 1, "ambiguousLiteral=", ambiguousLiteral);
+				if (isLogFiner) logMessage(Level.FINER, 1, "ambiguousLiteral=", ambiguousLiteral);
 				Set<Literal> conclictLiterals = getConflictLiterals(ambiguousLiteral);
-				logMessage(Level.FINEST, 1, "conclictLiterals=", conclictLiterals);
+				if (isLogFinest) logMessage(Level.FINEST, 1, "conclictLiterals=", conclictLiterals);
 				for (Literal conflictLiteral : conclictLiterals) {
 					if (isBlockedBySccLiteral(conflictLiteral)) {
 						boolean isConflictLiteralInSccGroup = (getSccGroup(conflictLiteral) != null);
-						logMessage(Level.FINEST, 2, "isBlockedBySccLiteral=true, isConflictLiteralInSccGroup=", isConflictLiteralInSccGroup);
+						if (isLogFinest) logMessage(Level.FINEST, 2, "isBlockedBySccLiteral=true, isConflictLiteralInSccGroup=", isConflictLiteralInSccGroup);
 
 						Set<Rule> conflictHeadRules = theory.getRulesWithHead(conflictLiteral);
 						for (Rule conflictHeadRule : conflictHeadRules) {
@@ -931,10 +953,10 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 							ConclusionType conclusionType = (conflictHeadRule.getRuleType() == RuleType.STRICT ? ConclusionType.DEFINITE_PROVABLE
 									: ConclusionType.DEFEASIBLY_PROVABLE);
 							for (Literal bodyLiteral : conflictHeadRule.getBodyLiterals()) {
-								if (!isAmbiguousConclusionExist(bodyLiteral.getComplementClone(), conclusionType)) allBodyLiteralsAreAmbiguous = false;
+								if (!isAmbiguousConclusionExist(getComplementLiteral(bodyLiteral), conclusionType)) allBodyLiteralsAreAmbiguous = false;
 								else if (bodyLiteral.isPlaceHolder()) allrealLiterals = false;
 							}
-							logMessage(Level.FINEST, 3, "rule [", conflictHeadRule.getLabel(), "], allBodyLiteralsAreAmbiguous="
+							if (isLogFinest) logMessage(Level.FINEST, 3, "rule [", conflictHeadRule.getLabel(), "], allBodyLiteralsAreAmbiguous="
 									+ allBodyLiteralsAreAmbiguous + ", allrealLiterals=" + allrealLiterals);
 							if (allBodyLiteralsAreAmbiguous || allrealLiterals) {
 								// rulesToRemove.add(conflictHeadRule.getLabel());
@@ -962,11 +984,11 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 							ConclusionType conclusionType = (conflictHeadRule.getRuleType() == RuleType.STRICT ? ConclusionType.DEFINITE_PROVABLE
 									: ConclusionType.DEFEASIBLY_PROVABLE);
 							for (Literal bodyLiteral : conflictHeadRule.getBodyLiterals()) {
-								if (!isAmbiguousConclusionExist(bodyLiteral.getComplementClone(), conclusionType))
+								if (!isAmbiguousConclusionExist(getComplementLiteral(bodyLiteral), conclusionType))
 									allBodyLiteralsAreAmbiguous = false;
 								if (bodyLiteral.isPlaceHolder()) allRealLiterals = false;
 							}
-							logMessage(Level.FINEST, 3, "rule [", conflictHeadRule.getLabel(), "], allBodyLiteralsAreAmbiguous="
+							if (isLogFinest) logMessage(Level.FINEST, 3, "rule [", conflictHeadRule.getLabel(), "], allBodyLiteralsAreAmbiguous="
 									+ allBodyLiteralsAreAmbiguous + ", allRealLiterals=" + allRealLiterals);
 							if (allBodyLiteralsAreAmbiguous && !allRealLiterals) {
 								// rulesToRemove.add(conflictHeadRule.getLabel());
@@ -1006,13 +1028,13 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 		updateAmbiguousConclusions(i);
 
 		if (!AppConst.isDeploy) printEngineStatus("updateSccAmbiguousConclusions");
-		logMessage(Level.FINE, 0, "updateSccAmbiguousConclusions - end");
+		if (isLogFine) logMessage(Level.FINE, 0, "updateSccAmbiguousConclusions - end");
 	}
 
 	protected boolean isConflictLiteralInSameSccGroup(Literal literal) {
 		Set<Literal> sccGroup = getSccGroup(literal);
 		if (null == sccGroup) return false;
-		boolean inSameSccGroup = sccGroup.contains(literal.getComplementClone());
+		boolean inSameSccGroup = sccGroup.contains(getComplementLiteral(literal));
 		return inSameSccGroup;
 	}
 
@@ -1034,10 +1056,10 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 				Set<Literal> scc = sccLiteralsGroups.get(i);
 
 				if (scc.size() == 1 && !isSelfLoop(scc.iterator().next())) {
-					logMessage(Level.FINER, 0, "*** scc (removed) =", scc);
+					if (isLogFiner) logMessage(Level.FINER, 0, "*** scc (removed) =", scc);
 					sccLiteralsGroups.remove(i);
 				} else {
-					logMessage(Level.FINER, 0, "*** scc literal group=", scc);
+					if (isLogFiner) logMessage(Level.FINER, 0, "*** scc literal group=", scc);
 				}
 			}
 			if (sccLiteralsGroups.size() == 0) {
@@ -1066,7 +1088,7 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 	}
 
 	protected int updateStronglyConnectedComponents(boolean updateSccLiteralsGroup) throws ReasoningEngineException {
-		logMessage(Level.FINER, 1, "updateStronglyConnectedComponents - start");
+		if (isLogFiner) logMessage(Level.FINER, 1, "updateStronglyConnectedComponents - start");
 		int literalCount = 0;
 		Set<String> rulesToRemove = new TreeSet<String>();
 		try {
@@ -1074,7 +1096,7 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 			if (null == sccLiteralsGroups || sccLiteralsGroups.size() == 0) return literalCount;
 
 			for (Set<Literal> literalsGroup : sccLiteralsGroups) {
-				logMessage(Level.FINEST, 2, "** literalsGroup - [", literalsGroup.size(), "]-", literalsGroup);
+				if (isLogFinest) logMessage(Level.FINEST, 2, "** literalsGroup - [", literalsGroup.size(), "]-", literalsGroup);
 				if (literalsGroup.size() == 1) {
 					Literal literal = literalsGroup.iterator().next();
 					if (isSelfLoop(literal)) {
@@ -1087,7 +1109,7 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 								if (!applicableRules.contains(r.getLabel())) rulesToRemove.add(r.getLabel());
 							}
 						} else {
-							logMessage(Level.FINEST, 3, "self looping literal added to conclusion set [", literal, "]");
+							if (isLogFinest) logMessage(Level.FINEST, 3, "self looping literal added to conclusion set [", literal, "]");
 							updateStronglyConnectedComponents_addConclusions(literal);
 							literalCount++;
 						}
@@ -1121,7 +1143,7 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 			logMessage(Level.SEVERE, 2, "*** " + TextUtilities.getExceptionMessage(e));
 			throw new ReasoningEngineException(getClass(), e);
 		} finally {
-			logMessage(Level.FINER, 1, "updateStronglyConnectedComponents - end");
+			if (isLogFiner) logMessage(Level.FINER, 1, "updateStronglyConnectedComponents - end");
 		}
 	}
 
@@ -1151,7 +1173,7 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 	// ======================================
 
 	protected ProcessStatus addConclusion(Conclusion conclusion) throws ReasoningEngineException {
-		logMessage(Level.FINE, 1, "conclusion added: ", conclusion);
+		if (isLogFine) logTraceEvent(Level.FINE, 1, TraceEvent.CONCLUSION_ADDED, conclusion);
 		
 		Literal literal = conclusion.getLiteral();
 		Map<ConclusionType, Conclusion> conclusionList = conclusions.get(literal);
@@ -1199,7 +1221,7 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 		// default:
 		// }
 		// boolean isExist = ambiguousConclusions[i].containsKey(conclusion);
-		logMessage(Level.FINEST, 3, "isAmbiguousConclusionExist", literal, conclusionType, "=", isExist);
+		if (isLogFinest) logTraceEvent(Level.FINEST, 3, TraceEvent.AMBIGUOUS_CONCLUSION_CHECKED, literal, conclusionType, isExist);
 		return isExist;
 	}
 
@@ -1222,6 +1244,7 @@ System.out.println("-- -- SdlReasoningEngine.updateAmbiguousConclusions("+i+")")
 	}
 
 	protected void printEngineStatus(final String callerName) {
+		if (!isLoggable(Level.INFO)) return;
 		String className = getClass().getName();
 		String msg = getReasoningEngineUtilities().generateEngineInferenceStatusMessage(className + "." + callerName,//
 				theory, conclusions, //
@@ -44,7 +44,6 @@ import spindle.core.dom.Superiority;
 import spindle.core.dom.TheoryException;
 import spindle.engine.ReasoningEngineException;
 import spindle.sys.AppConst;
-import spindle.sys.Conf;
 import spindle.sys.message.ErrorMessage;
 import spindle.tools.explanation.RuleInferenceStatus;
 
@@ -98,7 +97,7 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 					defeatedRules.add(superiority.getInferior());
 				}
 			}
-			if (defeatedRules.size() > 0) logMessage(Level.FINEST, 3, "getDefeatedRulesInTheory: rule ", ruleLabel, //
+			if (isLogFinest && defeatedRules.size() > 0) logMessage(Level.FINEST, 3, "getDefeatedRulesInTheory: rule ", ruleLabel, //
 					", inferiorly defeated rule", defeatedRules);
 		}
 		return defeatedRules;
@@ -106,10 +105,10 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 
 	protected void removeDefeatedRulesInTheory() throws ReasoningEngineException, TheoryException {
 		if (theory.getSuperiorityCount() == 0) return;
-		logMessage(Level.FINE, 1, "removeDefeatedRuleInTheory - start");
+		if (isLogFine) logMessage(Level.FINE, 1, "removeDefeatedRuleInTheory - start");
 		Map<String, Set<Superiority>> superiorities = theory.getAllSuperiors();
 		Set<String> defeatedRules = new TreeSet<String>();
-		logMessage(Level.FINER, 2, "superiorities=", superiorities);
+		if (isLogFiner) logMessage(Level.FINER, 2, "superiorities=", superiorities);
 		try {
 			do {
 				defeatedRules.clear();
@@ -126,7 +125,7 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 		} catch (Exception e) {
 			throw new ReasoningEngineException(getClass(), e);
 		} finally {
-			logMessage(Level.FINE, 1, "removeDefeatedRuleInTheory - end");
+			if (isLogFine) logMessage(Level.FINE, 1, "removeDefeatedRuleInTheory - end");
 		}
 	}
 
@@ -166,13 +165,13 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 
 	protected void generatePendingConclusions(boolean isDefeasibleRuleOnly) throws ReasoningEngineException, TheoryException {
 //		System.out.println("SdlReasoningEngine.generatePendingConclusion...start");
-		logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generatePendingConclusions - start ===");
-		logMessage(Level.FINE, 1, "isDefeasibleRuleOnly=", isDefeasibleRuleOnly);
+		if (isLogFine) logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generatePendingConclusions - start ===");
+		if (isLogFine) logMessage(Level.FINE, 1, "isDefeasibleRuleOnly=", isDefeasibleRuleOnly);
 
 		Set<Literal> unprovedStrictRuleLiterals = new TreeSet<Literal>(theory.getAllLiteralsInRules());
 		Set<Literal> unprovedDefeasibleRuleLiterals = new TreeSet<Literal>(theory.getAllLiteralsInRules());
 
-		logMessage(Level.FINER, 1, "=== +ve set - start ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== +ve set - start ===");
 
 		removeDefeatedRulesInTheory();
 
@@ -254,12 +253,12 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 					ambiguousExist = isTempConclusionExist(conflictLiterals, tempPosDefiniteConclusions);//, ConclusionType.DEFINITE_PROVABLE);
 					if (!ambiguousExist) ambiguousExist = containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT);
 					if (ambiguousExist) {
-						logMessage(Level.FINEST, 1, "==> generatePendingConclusions: ==> add (+D Ambiguous)", literal);
+						if (isLogFinest) logMessage(Level.FINEST, 1, "==> generatePendingConclusions: ==> add (+D Ambiguous)", literal);
 						addAmbiguousConclusion(conclusion, ruleLabels);
 					} else {
 						if (isRecordExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE)) pos = false;
 						if (isRecordExist(literal, ConclusionType.DEFINITE_NOT_PROVABLE)) pos = false;
-						logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
+						if (isLogFinest) logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
 						if (pos) {
 							if (isLogInferenceProcess)
 								getInferenceLogger().updateRuleInferenceStatus(ruleLabels, conclusion, RuleInferenceStatus.APPICABLE);
@@ -290,12 +289,12 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 					ambiguousExist = isTempConclusionExist(conflictLiterals, tempPosDefeasibleConclusions);//, ConclusionType.DEFEASIBLY_PROVABLE);
 					if (!ambiguousExist) ambiguousExist = containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE);
 					if (ambiguousExist) {
-						logMessage(Level.FINEST, 1, "==> generatePendingConclusions: ==> add (+d Ambiguous)", literal);
+						if (isLogFinest) logMessage(Level.FINEST, 1, "==> generatePendingConclusions: ==> add (+d Ambiguous)", literal);
 						addAmbiguousConclusion(conclusion, ruleLabels);
 					} else {
 						if (isRecordExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE)) pos = false;
 						if (isRecordExist(literal, ConclusionType.DEFEASIBLY_NOT_PROVABLE)) pos = false;
-						logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
+						if (isLogFinest) logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
 						if (pos) {
 							addPendingConclusion(conclusion);
 							if (isLogInferenceProcess)
@@ -314,9 +313,9 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 			//default:
 			//}
 		}
-		logMessage(Level.FINER, 1, "=== +ve set - end ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== +ve set - end ===");
 
-		logMessage(Level.FINER, 1, "=== -df set - start ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -df set - start ===");
 		for (Literal literal : unprovedDefeasibleRuleLiterals) {
 			if (!isAmbiguousConclusionExist(literal, ConclusionType.DEFEASIBLY_PROVABLE)) {
 				Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_NOT_PROVABLE, literal);
@@ -328,26 +327,26 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 				}
 			}
 		}
-		logMessage(Level.FINER, 1, "=== -df set -  end  ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -df set -  end  ===");
 
 		// literals that do not exist in strict rule or
 		// literals cannot be resolved using only strict rules are definite not provable
 		if (!isDefeasibleRuleOnly) {
-			logMessage(Level.FINEST, 1, "=== -Df set - start ===");
+			if (isLogFinest) logMessage(Level.FINEST, 1, "=== -Df set - start ===");
 			for (Literal literal : unprovedStrictRuleLiterals) {
 				newLiteralFind_definiteNotProvable(literal, false);
 				addInapplicableLiteralsBeforeInference(literal, ConclusionType.DEFINITE_NOT_PROVABLE);
 			}
-			logMessage(Level.FINEST, 1, "=== -Df set -  end  ===");
+			if (isLogFinest) logMessage(Level.FINEST, 1, "=== -Df set -  end  ===");
 		}
-		logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generatePendingConclusions -  end  ===");
+		if (isLogFine) logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generatePendingConclusions -  end  ===");
 	//	System.out.println("SdlReasoningEngine.generatePendingConclusion...end");
 	}
 
 	@Override
 	protected ProcessStatus generateConclusions_definiteProvable(final Literal literal) throws ReasoningEngineException, TheoryException {
 //		System.out.println("SdlReasoningEngine.generateConclusions_definiteProvable...start");
-		logMessage(Level.FINE, 0, "=== generate inference: definite provable: ", literal);
+		if (isLogFine) logMessage(Level.FINE, 0, "=== generate inference: definite provable: ", literal);
 
 		Set<String> rulesToDelete = new TreeSet<String>();
 		Set<Rule> rulesModified = theory.removeBodyLiteralFromRules(literal, null);
@@ -360,19 +359,19 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 
 		for (Rule r : rulesModified) {
 			RuleExt rule = (RuleExt) r;
-			logMessage(Level.FINER, 1, null, literal, ": rule=", rule, ", is empty body=", rule.isEmptyBody());
+			if (isLogFiner) logMessage(Level.FINER, 1, null, literal, ": rule=", rule, ", is empty body=", rule.isEmptyBody());
 			if (rule.isEmptyBody()) {
-				logMessage(Level.FINER, 2, "remove rule:", rule.getLabel());
+				if (isLogFiner) logMessage(Level.FINER, 2, "remove rule:", rule.getLabel());
 
 				Literal headLiteral = rule.getHeadLiterals().get(0);
 				Set<Literal> conflictLiterals = null;
 				switch (rule.getRuleType()) {
 				case STRICT:
-					logMessage(Level.FINEST, 1, "==> (strict) ", literal);
+					if (isLogFinest) logMessage(Level.FINEST, 1, "==> (strict) ", literal);
 					rulesToDelete.add(rule.getLabel());
 					conflictLiterals = getConflictLiterals(headLiteral);
 					if (containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT)) {
-						logMessage(Level.FINEST, 2, "==>1.1 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
+						if (isLogFinest) logMessage(Level.FINEST, 2, "==>1.1 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
 						Conclusion conclusion = new Conclusion(ConclusionType.DEFINITE_PROVABLE, headLiteral);
 						addRecord(conclusion);
 						addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
@@ -380,7 +379,7 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 						boolean chk1 = isAmbiguousConclusionExist(headLiteral, ConclusionType.DEFINITE_NOT_PROVABLE);
 						boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE);
 						if (chk1 || chk2) {
-							logMessage(Level.FINEST, 2, "==>1.2 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
+							if (isLogFinest) logMessage(Level.FINEST, 2, "==>1.2 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
 							Conclusion conclusion = new Conclusion(ConclusionType.DEFINITE_PROVABLE, headLiteral);
 							addRecord(conclusion);
 							addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
@@ -404,13 +403,13 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 					break;
 				case DEFEASIBLE:
 					if (rule.getStrongerRulesCount() == 0 && rule.getWeakerRulesCount() == 0) {
-						logMessage(Level.FINER, 1, "==> (defeasible) ", literal);
+						if (isLogFiner) logMessage(Level.FINER, 1, "==> (defeasible) ", literal);
 						rulesToDelete.add(rule.getLabel());
 						// same as 'generateConclusions_defeasiblyProvable(Literal literal)'
 						// duplicated here for efficiency
 						conflictLiterals = getConflictLiterals(headLiteral);
 						if (containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE)) {
-							logMessage(Level.FINEST, 2, "==>1.5 generateConclusions_definiteProvable: ==> add ambiguous (+d)", headLiteral);
+							if (isLogFinest) logMessage(Level.FINEST, 2, "==>1.5 generateConclusions_definiteProvable: ==> add ambiguous (+d)", headLiteral);
 							Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral);
 							addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
 							addRecord(conclusion);
@@ -420,7 +419,7 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 							boolean chk1 = isAmbiguousConclusionExist(headLiteral, ConclusionType.DEFEASIBLY_NOT_PROVABLE);
 							boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
 							if (chk1 || chk2) {
-								logMessage(Level.FINEST, 2, "==>1.6 generateConclusions_definiteProvable: ==> add ambiguous (+D)",
+								if (isLogFinest) logMessage(Level.FINEST, 2, "==>1.6 generateConclusions_definiteProvable: ==> add ambiguous (+D)",
 										headLiteral);
 								addAmbiguousConclusion(new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral),
 										rule.getOriginalLabel());
@@ -455,7 +454,7 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 	@Override
 	protected ProcessStatus generateConclusions_defeasiblyProvable(final Literal literal) throws ReasoningEngineException, TheoryException {
 //		System.out.println("SdlReasoningEngine.generateConclusions_defeasiblyProvable(" + literal + ")...start");
-		logMessage(Level.FINE, 1, "generate inference: defeasibly provable: ", literal);
+		if (isLogFine) logMessage(Level.FINE, 1, "generate inference: defeasibly provable: ", literal);
 
 		Set<String> rulesToRemove = new TreeSet<String>();
 		Set<Rule> rulesModified = theory.removeBodyLiteralFromRules(literal, RuleType.DEFEASIBLE);
@@ -469,18 +468,18 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 		for (Rule r : rulesModified) {
 	//		System.out.println("r=" + r.getLabel());
 			RuleExt rule = (RuleExt) r;
-			logMessage(Level.FINER, 2, null, literal, ": rule=", rule, ", is empty body=", rule.isEmptyBody());
+			if (isLogFiner) logMessage(Level.FINER, 2, null, literal, ": rule=", rule, ", is empty body=", rule.isEmptyBody());
 			if (rule.isEmptyBody() && rule.getStrongerRulesCount() == 0 && rule.getWeakerRulesCount() == 0) {
 				Literal headLiteral = rule.getHeadLiterals().get(0);
 				rulesToRemove.add(rule.getLabel());
 				Set<Literal> conflictLiterals = getConflictLiterals(headLiteral);
 	//			System.out.println("generateConclusions_defeasiblyProvable..1");
 				boolean containsUnprovedRuleInTheory = containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE);
-				logMessage(Level.FINEST, 2, "==>2.0 conflictLiterals: ", conflictLiterals, ",unproved rule in theory="
+				if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.0 conflictLiterals: ", conflictLiterals, ",unproved rule in theory="
 						+ containsUnprovedRuleInTheory);
 		//		System.out.println("generateConclusions_defeasiblyProvable..2");
 				if (containsUnprovedRuleInTheory) {
-					logMessage(Level.FINEST, 2, "==>2.1 generateConclusions_defeasiblyProvable: ==> add ambiguous (+d)", headLiteral);
+					if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.1 generateConclusions_defeasiblyProvable: ==> add ambiguous (+d)", headLiteral);
 					Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral);
 					addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
 					addRecord(conclusion);
@@ -493,7 +492,7 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 					boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
 					if (chk1 || chk2) {
 						//System.out.println("generateConclusions_defeasiblyProvable..6");
-						logMessage(Level.FINEST, 2, "==>2.2 generateConclusions_defeasiblyProvable: ==> add ambiguous (+D)", headLiteral);
+						if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.2 generateConclusions_defeasiblyProvable: ==> add ambiguous (+D)", headLiteral);
 						addAmbiguousConclusion(new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral), rule.getOriginalLabel());
 					} else {
 //						System.out.println("generateConclusions_defeasiblyProvable..7");
@@ -518,7 +517,7 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 			}
 		}
 //		System.out.println("generateConclusions_defeasiblyProvable..10");
-		logMessage(Level.FINE, 2, "generateConclusions_defeasiblyProvable.removeRules=", rulesToRemove);
+		if (isLogFine) logMessage(Level.FINE, 2, "generateConclusions_defeasiblyProvable.removeRules=", rulesToRemove);
 		removeRules(rulesToRemove);
 	//	System.out.println("SdlReasoningEngine.generateConclusions_defeasiblyProvable...end");
 		return ProcessStatus.SUCCESS;
@@ -534,7 +533,7 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 		}
 
 		if (defeatedRulesStr.size() == 0) return;
-		logMessage(Level.FINE, 2, "defeatedRulesStr=", defeatedRulesStr);
+		if (isLogFine) logMessage(Level.FINE, 2, "defeatedRulesStr=", defeatedRulesStr);
 
 		for (String ruleLabel : defeatedRulesStr) {
 			Rule rule = theory.getRule(ruleLabel);
@@ -594,8 +593,8 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 				// try generating the conclusion using superiority relations
 				if (i == ProvabilityLevel.DEFEASIBLE.ordinal() && !hasPendingConclusions(i)) {
 					// if (i == 1 && pendingConclusions[i].size() == 0) {
-					if (!Conf.isReasoningWithWellFoundedSemantics() && ! hasAmbiguousConclusions(i)) {
-						logMessage(Level.FINEST, 1, "check for inferiorly defeated rules");
+					if (!isReasoningWithWellFoundedSemantics() && ! hasAmbiguousConclusions(i)) {
+						if (isLogFinest) logMessage(Level.FINEST, 1, "check for inferiorly defeated rules");
 						int theorySize = theory.getFactsAndAllRules().size();
 						do {
 							theorySize = theory.getFactsAndAllRules().size();
@@ -638,7 +637,7 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 				if (!hasPendingConclusions(i) &&  hasAmbiguousConclusions(i)) {
 					// if (pendingConclusions[i].size() == 0 && ambiguousConclusions[i].size() > 0) {
 					// update ambiguous conclusions found
-					if (!AppConst.isDeploy) logMessage(Level.FINEST, 1, "search for ambiguous conclusions, lvl=1, i=", i);
+					if (!AppConst.isDeploy && isLogFinest) logMessage(Level.FINEST, 1, "search for ambiguous conclusions, lvl=1, i=", i);
 
 					if (sccLiteralUpdated != 1) getSccLiteralsGroupInTheory();
 					sccLiteralUpdated = 2;
@@ -647,16 +646,16 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 				}
 				if (!hasPendingConclusions(i) &&  hasAmbiguousConclusions(i)) {
 					// if (pendingConclusions[i].size() == 0 && ambiguousConclusions[i].size() > 0) {
-					updateSccAmbiguousConclusions(i, Conf.isReasoningWithWellFoundedSemantics());
+					updateSccAmbiguousConclusions(i, isReasoningWithWellFoundedSemantics());
 				}
 
 				// well-found semantics
 				// - check for strongly connected literals if no new pending conclusions found after ambiguity check
-				if (Conf.isReasoningWithWellFoundedSemantics() //
+				if (isReasoningWithWellFoundedSemantics() //
 						&& i == pendingConclusions.length - 1 //
 						&& totalPendingConclusionsCount == 0 //
 						&& theory.getFactsAndAllRules().size() > 0) {
-					if (!AppConst.isDeploy) logMessage(Level.FINEST, 1, "Analyse theory for strongly connected literals, i=", i);
+					if (!AppConst.isDeploy && isLogFinest) logMessage(Level.FINEST, 1, "Analyse theory for strongly connected literals, i=", i);
 
 					try {
 						if (updateStronglyConnectedComponents(sccLiteralUpdated != 2) > 0) {
@@ -737,11 +736,11 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 			if (keepLiteralInAmbiguousSet) {
 				// defer the removal of literal until all rules generated
 				// by the superiority removal process have been evaluated
-				logMessage(Level.FINER, 2, "keep literal in ambiguous set temporary");
+				if (isLogFiner) logMessage(Level.FINER, 2, "keep literal in ambiguous set temporary");
 				conclusionType=null;
 			} else if (!containsUnprovedRuleInTheory(conflictLiterals, ruleType)) {
 				ambiguousConclusionToRemove.add(conclusion);
-				logMessage(Level.FINER, 0, "*** dchk4=", chk);
+				if (isLogFiner) logMessage(Level.FINER, 0, "*** dchk4=", chk);
 				if (chk) {
 					recordsToRemove.add(conclusion);
 					if (isLogInferenceProcess)
@@ -845,7 +844,7 @@ public class SdlReasoningEngine2 extends spindle.engine.sdl.SdlReasoningEngine {
 			// ============ commented on 2012.12.12 - start
 		}
 
-		logMessage(Level.FINER, 1, "ambiguousConclusionToRemove=", ambiguousConclusionToRemove);
+		if (isLogFiner) logMessage(Level.FINER, 1, "ambiguousConclusionToRemove=", ambiguousConclusionToRemove);
 		for (Conclusion conclusion : ambiguousConclusionToRemove) {
 			ambiguousConclusions[i].remove(conclusion);
 		}
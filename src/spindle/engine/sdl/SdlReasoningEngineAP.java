@@ -77,13 +77,13 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 	protected ProcessStatus generateInitialPendingConclusions() throws ReasoningEngineException, TheoryException {
 		// literals appeared in strict rule with empty body are definitely provable
 		// literals appeared in defeasible rule with empty body are tentatively provable
-		logMessage(Level.FINE, 0, "=== SdlReasoningEngineAP.generateInitialPendingConclusions - start ===");
+		if (isLogFine) logMessage(Level.FINE, 0, "=== SdlReasoningEngineAP.generateInitialPendingConclusions - start ===");
 
 		Set<Literal> unprovedStrictRuleLiterals = new TreeSet<Literal>(theory.getAllLiteralsInRules());
 		Set<Literal> unprovedDefeasibleRuleLiterals = new TreeSet<Literal>(theory.getAllLiteralsInRules());
 		Set<String> rulesToDelete = new TreeSet<String>();
 
-		logMessage(Level.FINER, 1, "=== +ve set - start ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== +ve set - start ===");
 		Set<String> rulesToRemove = new TreeSet<String>();
 		// Set<Conclusion> tempPosConclusionSet = new TreeSet<Conclusion>();
 		Map<Conclusion, Set<String>> tempPosDefiniteConclusionSet = new TreeMap<Conclusion, Set<String>>();
@@ -155,13 +155,13 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 				// ConclusionType.DEFINITE_PROVABLE);
 				if (!ambiguousExist) ambiguousExist = containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT);
 				if (ambiguousExist) {
-					logMessage(Level.FINEST, 1, "==> generateInitialPendingConclusions: ==> add (+D Ambiguous)",
+					if (isLogFinest) logMessage(Level.FINEST, 1, "==> generateInitialPendingConclusions: ==> add (+D Ambiguous)",
 							literal);
 					addAmbiguousConclusion(conclusion, ruleLabels);
 				} else {
 					if (isRecordExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE)) pos = false;
 					if (isRecordExist(literal, ConclusionType.DEFINITE_NOT_PROVABLE)) pos = false;
-					logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
+					if (isLogFinest) logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
 					if (pos) {
 						if (isLogInferenceProcess) getInferenceLogger().updateRuleInferenceStatus(ruleLabels,
 								conclusion, RuleInferenceStatus.APPICABLE);
@@ -193,13 +193,13 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 				if (!ambiguousExist) ambiguousExist = containsUnprovedRuleInTheory(conflictLiterals,
 						RuleType.DEFEASIBLE);
 				if (ambiguousExist) {
-					logMessage(Level.FINEST, 1, "==> generateInitialPendingConclusions: ==> add (+d Ambiguous)",
+					if (isLogFinest) logMessage(Level.FINEST, 1, "==> generateInitialPendingConclusions: ==> add (+d Ambiguous)",
 							literal);
 					addAmbiguousConclusion(conclusion, ruleLabels);
 				} else {
 					if (isRecordExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE)) pos = false;
 					if (isRecordExist(literal, ConclusionType.DEFEASIBLY_NOT_PROVABLE)) pos = false;
-					logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
+					if (isLogFinest) logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
 					if (pos) {
 						addPendingConclusion(conclusion);
 						if (isLogInferenceProcess) getInferenceLogger().updateRuleInferenceStatus(ruleLabels,
@@ -217,10 +217,10 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 			//default:
 		//	}
 		}
-		logMessage(Level.FINER, 1, "=== +ve set - end ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== +ve set - end ===");
 
 		// literals cannot be resolved using all rules are defeasibly not provable
-		logMessage(Level.FINER, 1, "=== -df set - start ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -df set - start ===");
 		for (Literal literal : unprovedDefeasibleRuleLiterals) {
 			Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_NOT_PROVABLE, literal);
 			if (!unresolveableConclusionsSet.contains(conclusion)) {
@@ -233,18 +233,18 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 				addInapplicableLiteralsBeforeInference(literal, ConclusionType.DEFEASIBLY_NOT_PROVABLE);
 			}
 		}
-		logMessage(Level.FINER, 1, "=== -df set -  end  ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -df set -  end  ===");
 
 		// literals that do not exist in strict rule or
 		// literals cannot be resolved using only strict rules
 		// are definite not provable
-		logMessage(Level.FINER, 1, "=== -Df set - start ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -Df set - start ===");
 		for (Literal literal : unprovedStrictRuleLiterals) {
 			newLiteralFind_definiteNotProvable(literal, false);
 			addInapplicableLiteralsBeforeInference(literal, ConclusionType.DEFINITE_NOT_PROVABLE);
 		}
-		logMessage(Level.FINER, 1, "=== -Df set -  end  ===");
-		logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generateInitialPendingConclusions -  end  ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -Df set -  end  ===");
+		if (isLogFine) logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generateInitialPendingConclusions -  end  ===");
 
 		removeRules(rulesToDelete);
 
@@ -293,7 +293,7 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 			Set<Literal> conflictLiterals = getConflictLiterals(literal);
 			switch (conclusion.getConclusionType()) {
 			case DEFINITE_PROVABLE: // same as ambiguity blocking
-				logMessage(Level.FINER, 1, "updateAmbiguousConclusion, check literal (definite): ", literal);
+				if (isLogFiner) logMessage(Level.FINER, 1, "updateAmbiguousConclusion, check literal (definite): ", literal);
 				if (!containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT)) {
 					ambiguousConclusionToRemove.add(conclusion);
 					boolean chk1 = isRecordExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE);
@@ -311,7 +311,7 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 				}
 				break;
 			case DEFEASIBLY_PROVABLE:
-				logMessage(Level.FINER, 1, "updateAmbiguousConclusion, check literal (defeasible): ", literal);
+				if (isLogFiner) logMessage(Level.FINER, 1, "updateAmbiguousConclusion, check literal (defeasible): ", literal);
 				if (!containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE)) {
 					boolean dchk4 = isRecordExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
 					// ambiguity propagation - start
@@ -376,22 +376,22 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 	@Override
 	protected ProcessStatus generateConclusions_definiteProvable(final Literal literal)
 			throws ReasoningEngineException, TheoryException {
-		logMessage(Level.FINE, 0, "=== generate inference: definite provable: ", literal);
+		if (isLogFine) logMessage(Level.FINE, 0, "=== generate inference: definite provable: ", literal);
 
 		Set<String> rulesToDelete = new TreeSet<String>();
 		Set<Rule> rulesModified = theory.removeBodyLiteralFromRules(literal, null);
 		for (Rule rule : rulesModified) {
-			logMessage(Level.FINER, 1, null, literal, ": rule=", rule, ", is empty body=" + rule.isEmptyBody());
+			if (isLogFiner) logMessage(Level.FINER, 1, null, literal, ": rule=", rule, ", is empty body=" + rule.isEmptyBody());
 			if (rule.isEmptyBody()) {
 				Literal headLiteral = rule.getHeadLiterals().get(0);
 				Set<Literal> conflictLiterals = null;
 				rulesToDelete.add(rule.getLabel());
 				switch (rule.getRuleType()) {
 				case STRICT:
-					logMessage(Level.FINEST, 1, "==> (strict) ", literal);
+					if (isLogFinest) logMessage(Level.FINEST, 1, "==> (strict) ", literal);
 					conflictLiterals = getConflictLiterals(headLiteral);
 					if (containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT)) {
-						logMessage(Level.FINEST, 2, "==> generateConclusions_definiteProvable: ==> add ambiguous (+D)",
+						if (isLogFinest) logMessage(Level.FINEST, 2, "==> generateConclusions_definiteProvable: ==> add ambiguous (+D)",
 								headLiteral);
 						Conclusion conclusion = new Conclusion(ConclusionType.DEFINITE_PROVABLE, headLiteral);
 						addRecord(conclusion);
@@ -400,7 +400,7 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 						boolean chk1 = isAmbiguousConclusionExist(headLiteral, ConclusionType.DEFINITE_NOT_PROVABLE);
 						boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE);
 						if (chk1 || chk2) {
-							logMessage(Level.FINEST, 2,
+							if (isLogFinest) logMessage(Level.FINEST, 2,
 									"==> generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
 							Conclusion conclusion = new Conclusion(ConclusionType.DEFINITE_PROVABLE, headLiteral);
 							addRecord(conclusion);
@@ -428,12 +428,12 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 					addRecord(new Conclusion(ConclusionType.POSITIVELY_SUPPORT, headLiteral));
 					// ambiguity propagation - end
 
-					logMessage(Level.FINEST, 1, "==> (defeasible) ", literal);
+					if (isLogFinest) logMessage(Level.FINEST, 1, "==> (defeasible) ", literal);
 					// same as 'generateConclusions_defeasiblyProvable(Literal literal)'
 					// duplicated here for efficiency
 					conflictLiterals = getConflictLiterals(headLiteral);
 					if (containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE)) {
-						logMessage(Level.FINEST, 2, "==> generateConclusions_definiteProvable: ==> add ambiguous (+d)",
+						if (isLogFinest) logMessage(Level.FINEST, 2, "==> generateConclusions_definiteProvable: ==> add ambiguous (+d)",
 								headLiteral);
 						Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral);
 						addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
@@ -445,7 +445,7 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 						boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
 						boolean chk3 = isRecordExist(conflictLiterals, ConclusionType.AMBIGUITY_DEFEATED);
 						if (chk1 || chk2) {
-							logMessage(Level.FINEST, 2,
+							if (isLogFinest) logMessage(Level.FINEST, 2,
 									"==> generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
 							addAmbiguousConclusion(new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral),
 									rule.getOriginalLabel());
@@ -488,12 +488,12 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 	@Override
 	protected ProcessStatus generateConclusions_defeasiblyProvable(final Literal literal)
 			throws ReasoningEngineException, TheoryException {
-		logMessage(Level.FINE, 0, "generate inference: defeasibly provable: ", literal);
+		if (isLogFine) logMessage(Level.FINE, 0, "generate inference: defeasibly provable: ", literal);
 
 		Set<String> rulesToRemove = new TreeSet<String>();
 		Set<Rule> rulesModified = theory.removeBodyLiteralFromRules(literal, RuleType.DEFEASIBLE);
 		for (Rule rule : rulesModified) {
-			logMessage(Level.FINER, 1, null, literal, ": rule=", rule, ", is empty body=", rule.isEmptyBody());
+			if (isLogFiner) logMessage(Level.FINER, 1, null, literal, ": rule=", rule, ", is empty body=", rule.isEmptyBody());
 			if (rule.isEmptyBody()) {
 				Literal headLiteral = rule.getHeadLiterals().get(0);
 				// ambiguity propagation - start
@@ -502,7 +502,7 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 				rulesToRemove.add(rule.getLabel());
 				Set<Literal> conflictLiterals = getConflictLiterals(headLiteral);
 				if (containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE)) {
-					logMessage(Level.FINEST, 2, "==> generateConclusions_defeasiblyProvable: ==> add ambiguous (+d)",
+					if (isLogFinest) logMessage(Level.FINEST, 2, "==> generateConclusions_defeasiblyProvable: ==> add ambiguous (+d)",
 							headLiteral);
 					Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral);
 					addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
@@ -513,7 +513,7 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 					boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
 					boolean chk3 = isRecordExist(conflictLiterals, ConclusionType.AMBIGUITY_DEFEATED);
 					if (chk1 || chk2) {
-						logMessage(Level.FINEST, 2,
+						if (isLogFinest) logMessage(Level.FINEST, 2,
 								"==> generateConclusions_defeasiblyProvable: ==> add ambiguous (+D)", headLiteral);
 						addAmbiguousConclusion(new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral),
 								rule.getOriginalLabel());
@@ -530,14 +530,14 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 						if (isRecordExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE)) hasConflictRecord = true;
 						if (isRecordExist(headLiteral, ConclusionType.DEFEASIBLY_NOT_PROVABLE)) hasConflictRecord = true;
 						if (hasConflictRecord) {
-							logMessage(Level.FINEST, 2, "==> generateConclusions_defeasiblyProvable: ==> add(-d)",
+							if (isLogFinest) logMessage(Level.FINEST, 2, "==> generateConclusions_defeasiblyProvable: ==> add(-d)",
 									headLiteral);
 							if (isLogInferenceProcess) getInferenceLogger().updateRuleInferenceStatus(
 									rule.getOriginalLabel(), RuleType.DEFEASIBLE,
 									ConclusionType.DEFEASIBLY_NOT_PROVABLE, headLiteral, RuleInferenceStatus.DISCARDED);
 							newLiteralFind_defeasiblyNotProvable(headLiteral, true);
 						} else {
-							logMessage(Level.FINEST, 2, "==> generateConclusions_defeasiblyProvable: ==> add(+d)",
+							if (isLogFinest) logMessage(Level.FINEST, 2, "==> generateConclusions_defeasiblyProvable: ==> add(+d)",
 									headLiteral);
 							if (isLogInferenceProcess) getInferenceLogger().updateRuleInferenceStatus(
 									rule.getOriginalLabel(), RuleType.DEFEASIBLE, ConclusionType.DEFEASIBLY_PROVABLE,
@@ -555,7 +555,7 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 	@Override
 	protected ProcessStatus generateConclusions_defeasiblyNotProvable(final Literal literal)
 			throws ReasoningEngineException {
-		logMessage(Level.FINE, 0, "generate inference: defeasibly not provable: ", literal);
+		if (isLogFine) logMessage(Level.FINE, 0, "generate inference: defeasibly not provable: ", literal);
 
 		Collection<Rule> rules = theory.getRules(literal).values();
 		Set<String> rulesToRemove = new TreeSet<String>();
@@ -578,7 +578,7 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 			// ambiguity propagation - end
 			if (rule.getRuleType() == RuleType.DEFEASIBLE && rule.isBodyLiteral(literal)) {
 				rulesToRemove.add(rule.getLabel());
-				logMessage(Level.FINER, 1, "literals added=", headLiteral);
+				if (isLogFiner) logMessage(Level.FINER, 1, "literals added=", headLiteral);
 				inapplicableLiterals.add(headLiteral);
 
 				if (isLogInferenceProcess) getInferenceLogger().updateRuleInferenceStatus(rule.getOriginalLabel(),
@@ -592,10 +592,10 @@ public class SdlReasoningEngineAP extends SdlReasoningEngine {
 		// check whether the literal can be proved by other strict rules
 		// if not, add -d to the pending conclusion list
 		for (Literal inapplicableLiteral : inapplicableLiterals) {
-			logMessage(Level.FINEST, 1, "checking literal=", inapplicableLiteral, " for other rules");
+			if (isLogFinest) logMessage(Level.FINEST, 1, "checking literal=", inapplicableLiteral, " for other rules");
 			if (theory.containsInRuleHead(inapplicableLiteral, RuleType.DEFEASIBLE)) {
 				// literal still provable by other strict rules, so do nothing
-				logMessage(Level.FINEST, 2, "literal [", inapplicableLiteral, "] is provable by other defesible rules");
+				if (isLogFinest) logMessage(Level.FINEST, 2, "literal [", inapplicableLiteral, "] is provable by other defesible rules");
 			} else {
 				Set<Literal> conflictLiterals = getConflictLiterals(inapplicableLiteral);
 				boolean acChk1 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
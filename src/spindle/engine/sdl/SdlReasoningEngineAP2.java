@@ -71,13 +71,13 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 
 	@Override
 	protected void generatePendingConclusions(boolean isDefeasibleRuleOnly) throws ReasoningEngineException, TheoryException {
-		logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generatePendingConclusions - start ===");
-		logMessage(Level.FINE, 1, "isDefeasibleRuleOnly=" + isDefeasibleRuleOnly);
+		if (isLogFine) logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generatePendingConclusions - start ===");
+		if (isLogFine) logMessage(Level.FINE, 1, "isDefeasibleRuleOnly=" + isDefeasibleRuleOnly);
 
 		Set<Literal> unprovedStrictRuleLiterals = new TreeSet<Literal>(theory.getAllLiteralsInRules());
 		Set<Literal> unprovedDefeasibleRuleLiterals = new TreeSet<Literal>(theory.getAllLiteralsInRules());
 
-		logMessage(Level.FINER, 1, "=== +ve set - start ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== +ve set - start ===");
 
 		removeDefeatedRulesInTheory();
 
@@ -154,12 +154,12 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 					ambiguousExist = isTempConclusionExist(conflictLiterals, tempPosDefiniteConclusions);//, ConclusionType.DEFINITE_PROVABLE);
 					if (!ambiguousExist) ambiguousExist = containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT);
 					if (ambiguousExist) {
-						logMessage(Level.FINEST, 1, "==> generatePendingConclusions: ==> add (+D Ambiguous)", literal);
+						if (isLogFinest) logMessage(Level.FINEST, 1, "==> generatePendingConclusions: ==> add (+D Ambiguous)", literal);
 						addAmbiguousConclusion(conclusion, entry.getValue());
 					} else {
 						if (isRecordExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE)) pos = false;
 						if (isRecordExist(literal, ConclusionType.DEFINITE_NOT_PROVABLE)) pos = false;
-						logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
+						if (isLogFinest) logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
 						if (pos) {
 							if (isLogInferenceProcess)
 								getInferenceLogger().updateRuleInferenceStatus(ruleLabels, conclusion, RuleInferenceStatus.APPICABLE);
@@ -191,14 +191,14 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 					ambiguousExist = isTempConclusionExist(conflictLiterals, tempPosDefeasibleConclusions);//, ConclusionType.DEFEASIBLY_PROVABLE);
 					if (!ambiguousExist) ambiguousExist = containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE);
 					if (ambiguousExist) {
-						logMessage(Level.FINEST, 1, "==> generatePendingConclusions: ==> add (+d Ambiguous)", literal);
+						if (isLogFinest) logMessage(Level.FINEST, 1, "==> generatePendingConclusions: ==> add (+d Ambiguous)", literal);
 						addAmbiguousConclusion(conclusion, entry.getValue());
 					} else {
 						if (isRecordExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE)) pos = false;
 						if (isRecordExist(literal, ConclusionType.DEFEASIBLY_NOT_PROVABLE)) pos = false;
 						// -- for AP - start
 						boolean isAmbiguityDefeated = isRecordExist(literal, ConclusionType.AMBIGUITY_DEFEATED);
-						logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos, ", isAmbiguityDefeated=",
+						if (isLogFinest) logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos, ", isAmbiguityDefeated=",
 								isAmbiguityDefeated);
 						if (pos && !isAmbiguityDefeated) {
 							// -- for AP - end
@@ -225,9 +225,9 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 			//default:
 			//}
 		}
-		logMessage(Level.FINER, 1, "=== +ve set - end ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== +ve set - end ===");
 
-		logMessage(Level.FINER, 1, "=== -df set - start ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -df set - start ===");
 		for (Literal literal : unprovedDefeasibleRuleLiterals) {
 			if (!isAmbiguousConclusionExist(literal, ConclusionType.DEFEASIBLY_PROVABLE)) {
 				Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_NOT_PROVABLE, literal);
@@ -242,20 +242,20 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 				}
 			}
 		}
-		logMessage(Level.FINER, 1, "=== -df set -  end  ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -df set -  end  ===");
 
 		// literals that do not exist in strict rule or
 		// literals cannot be resolved using only strict rules
 		// are definite not provable
 		if (!isDefeasibleRuleOnly) {
-			logMessage(Level.FINER, 1, "=== -Df set - start ===");
+			if (isLogFiner) logMessage(Level.FINER, 1, "=== -Df set - start ===");
 			for (Literal literal : unprovedStrictRuleLiterals) {
 				newLiteralFind_definiteNotProvable(literal, false);
 				addInapplicableLiteralsBeforeInference(literal, ConclusionType.DEFINITE_NOT_PROVABLE);
 			}
-			logMessage(Level.FINER, 1, "=== -Df set -  end  ===");
+			if (isLogFiner) logMessage(Level.FINER, 1, "=== -Df set -  end  ===");
 		}
-		logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generatePendingConclusions -  end  ===");
+		if (isLogFine) logMessage(Level.FINE, 0, "=== SdlReasoningEngine.generatePendingConclusions -  end  ===");
 	}
 
 	// ======================================
@@ -305,7 +305,7 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 			Set<Literal> conflictLiterals = getConflictLiterals(literal);
 			switch (conclusion.getConclusionType()) {
 			case DEFINITE_PROVABLE: // same as ambiguity blocking
-				logMessage(Level.FINER, 1, "updateAmbiguousConclusion, check literal (definite): ", literal);
+				if (isLogFiner) logMessage(Level.FINER, 1, "updateAmbiguousConclusion, check literal (definite): ", literal);
 				if (!containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT)) {
 					ambiguousConclusionToRemove.add(conclusion);
 					boolean chk1 = isRecordExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE);
@@ -324,7 +324,7 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 				}
 				break;
 			case DEFEASIBLY_PROVABLE:
-				logMessage(Level.FINER, 1, "updateAmbiguousConclusion, check literal (defeasible): ", literal);
+				if (isLogFiner) logMessage(Level.FINER, 1, "updateAmbiguousConclusion, check literal (defeasible): ", literal);
 				if (!containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE)) {
 					boolean dchk4 = isRecordExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
 					// ambiguity propagation - start
@@ -351,7 +351,7 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 								addRecord(new Conclusion(ConclusionType.AMBIGUITY_DEFEATED, cl));
 							}
 						}
-						logMessage(Level.FINEST, 2, "new pending conclusion added => -d ", literal);
+						if (isLogFinest) logMessage(Level.FINEST, 2, "new pending conclusion added => -d ", literal);
 					} else {
 						if ((dchk5 && dchk4) || dchk6) {
 							addRecord(new Conclusion(ConclusionType.AMBIGUITY_DEFEATED, literal));
@@ -386,7 +386,7 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 
 	@Override
 	protected ProcessStatus generateConclusions_definiteProvable(final Literal literal) throws ReasoningEngineException, TheoryException {
-		logMessage(Level.FINE, 0, "=== generate inference: definite provable: ", literal);
+		if (isLogFine) logMessage(Level.FINE, 0, "=== generate inference: definite provable: ", literal);
 
 		Set<String> rulesToDelete = new TreeSet<String>();
 		Set<Rule> rulesModified = theory.removeBodyLiteralFromRules(literal, null);
@@ -399,19 +399,19 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 
 		for (Rule r : rulesModified) {
 			RuleExt rule = (RuleExt) r;
-			logMessage(Level.FINER, 1, null, literal, ": rule=" + rule, ", is empty body=", rule.isEmptyBody());
+			if (isLogFiner) logMessage(Level.FINER, 1, null, literal, ": rule=" + rule, ", is empty body=", rule.isEmptyBody());
 			if (rule.isEmptyBody()) {
-				logMessage(Level.FINEST, 2, "remove rule:", rule.getLabel());
+				if (isLogFinest) logMessage(Level.FINEST, 2, "remove rule:", rule.getLabel());
 
 				Literal headLiteral = rule.getHeadLiterals().get(0);
 				Set<Literal> conflictLiterals = null;
 				switch (rule.getRuleType()) {
 				case STRICT:
-					logMessage(Level.FINEST, 1, "==> (strict) ", literal);
+					if (isLogFinest) logMessage(Level.FINEST, 1, "==> (strict) ", literal);
 					rulesToDelete.add(rule.getLabel());
 					conflictLiterals = getConflictLiterals(headLiteral);
 					if (containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT)) {
-						logMessage(Level.FINEST, 2, "==>1.1 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
+						if (isLogFinest) logMessage(Level.FINEST, 2, "==>1.1 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
 						Conclusion conclusion = new Conclusion(ConclusionType.DEFINITE_PROVABLE, headLiteral);
 						addRecord(conclusion);
 						addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
@@ -419,7 +419,7 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 						boolean chk1 = isAmbiguousConclusionExist(headLiteral, ConclusionType.DEFINITE_NOT_PROVABLE);
 						boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE);
 						if (chk1 || chk2) {
-							logMessage(Level.FINEST, 2, "==>1.2 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
+							if (isLogFinest) logMessage(Level.FINEST, 2, "==>1.2 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
 							Conclusion conclusion = new Conclusion(ConclusionType.DEFINITE_PROVABLE, headLiteral);
 							addRecord(conclusion);
 							addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
@@ -447,13 +447,13 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 						addRecord(new Conclusion(ConclusionType.POSITIVELY_SUPPORT, headLiteral));
 						// ambiguity propagation - end
 
-						logMessage(Level.FINEST, 1, "==> (defeasible) ", literal);
+						if (isLogFinest) logMessage(Level.FINEST, 1, "==> (defeasible) ", literal);
 						rulesToDelete.add(rule.getLabel());
 						// same as 'generateConclusions_defeasiblyProvable(Literal literal)'
 						// duplicated here for efficiency
 						conflictLiterals = getConflictLiterals(headLiteral);
 						if (containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE)) {
-							logMessage(Level.FINEST, 2, "==>1.5 generateConclusions_definiteProvable: ==> add ambiguous (+d)", headLiteral);
+							if (isLogFinest) logMessage(Level.FINEST, 2, "==>1.5 generateConclusions_definiteProvable: ==> add ambiguous (+d)", headLiteral);
 							Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral);
 							addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
 							addRecord(conclusion);
@@ -466,7 +466,7 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 							boolean chk3 = isRecordExist(conflictLiterals, ConclusionType.AMBIGUITY_DEFEATED);
 							// -- for AP - end
 							if (chk1 || chk2) {
-								logMessage(Level.FINEST, 2, "==>1.6 generateConclusions_definiteProvable: ==> add ambiguous (+D)",
+								if (isLogFinest) logMessage(Level.FINEST, 2, "==>1.6 generateConclusions_definiteProvable: ==> add ambiguous (+D)",
 										headLiteral);
 								addAmbiguousConclusion(new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral),
 										rule.getOriginalLabel());
@@ -508,7 +508,7 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 
 	@Override
 	protected ProcessStatus generateConclusions_defeasiblyProvable(final Literal literal) throws ReasoningEngineException, TheoryException {
-		logMessage(Level.FINE, 1, "generate inference: defeasibly provable: ", literal);
+		if (isLogFine) logMessage(Level.FINE, 1, "generate inference: defeasibly provable: ", literal);
 
 		Set<String> rulesToRemove = new TreeSet<String>();
 		Set<Rule> rulesModified = theory.removeBodyLiteralFromRules(literal, RuleType.DEFEASIBLE);
@@ -521,7 +521,7 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 
 		for (Rule r : rulesModified) {
 			RuleExt rule = (RuleExt) r;
-			logMessage(Level.FINER, 2, null, literal, ": rule=", rule, ", is empty body=", rule.isEmptyBody());
+			if (isLogFiner) logMessage(Level.FINER, 2, null, literal, ": rule=", rule, ", is empty body=", rule.isEmptyBody());
 			if (rule.isEmptyBody() && rule.getStrongerRulesCount() == 0 && rule.getWeakerRulesCount() == 0) {
 				Literal headLiteral = rule.getHeadLiterals().get(0);
 
@@ -533,10 +533,10 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 				Set<Literal> conflictLiterals = getConflictLiterals(headLiteral);
 
 				boolean containsUnprovedRuleInTheory = containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE);
-				logMessage(Level.FINEST, 2, "==>2.0 conflictLiterals: ", conflictLiterals, ",unproved rule in theory=",
+				if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.0 conflictLiterals: ", conflictLiterals, ",unproved rule in theory=",
 						containsUnprovedRuleInTheory);
 				if (containsUnprovedRuleInTheory) {
-					logMessage(Level.FINEST, 2, "==>2.1 generateConclusions_defeasiblyProvable: ==> add ambiguous (+d)", headLiteral);
+					if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.1 generateConclusions_defeasiblyProvable: ==> add ambiguous (+d)", headLiteral);
 					Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral);
 					addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
 					addRecord(conclusion);
@@ -547,7 +547,7 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 					boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
 					boolean chk3 = isRecordExist(conflictLiterals, ConclusionType.AMBIGUITY_DEFEATED);
 					if (chk1 || chk2) {
-						logMessage(Level.FINEST, 2, "==>2.2 generateConclusions_defeasiblyProvable: ==> add ambiguous (+D)", headLiteral);
+						if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.2 generateConclusions_defeasiblyProvable: ==> add ambiguous (+D)", headLiteral);
 						addAmbiguousConclusion(new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral), rule.getOriginalLabel());
 						// -- for AP - start
 					} else if (chk3) {
@@ -576,7 +576,7 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 				}
 			}
 		}
-		logMessage(Level.FINE, 2, "generateConclusions_defeasiblyProvable.removeRules=", rulesToRemove);
+		if (isLogFine) logMessage(Level.FINE, 2, "generateConclusions_defeasiblyProvable.removeRules=", rulesToRemove);
 		removeRules(rulesToRemove);
 		return ProcessStatus.SUCCESS;
 	}
@@ -607,7 +607,7 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 
 	@Override
 	protected ProcessStatus generateConclusions_defeasiblyNotProvable(final Literal literal) throws ReasoningEngineException {
-		logMessage(Level.FINE, 0, "generate inference: defeasibly not provable: ", literal);
+		if (isLogFine) logMessage(Level.FINE, 0, "generate inference: defeasibly not provable: ", literal);
 
 		Collection<Rule> rules = theory.getRules(literal).values();
 		Set<String> rulesToRemove = new TreeSet<String>();
@@ -642,10 +642,10 @@ public class SdlReasoningEngineAP2 extends SdlReasoningEngine2 {
 		// check whether the literal can be proved by other strict rules
 		// if not, add -d to the pending conclusion list
 		for (Literal inapplicableLiteral : inapplicableLiterals) {
-			logMessage(Level.FINER, 1, "checking literal=", inapplicableLiteral, " for other rules");
+			if (isLogFiner) logMessage(Level.FINER, 1, "checking literal=", inapplicableLiteral, " for other rules");
 			if (theory.containsInRuleHead(inapplicableLiteral, RuleType.DEFEASIBLE)) {
 				// literal still provable by other strict rules, so do nothing
-				logMessage(Level.FINEST, 2, "literal [", inapplicableLiteral, "] is provable by other defesible rules");
+				if (isLogFinest) logMessage(Level.FINEST, 2, "literal [", inapplicableLiteral, "] is provable by other defesible rules");
 			} else {
 				Set<Literal> conflictLiterals = getConflictLiterals(inapplicableLiteral);
 				boolean acChk1 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
@@ -0,0 +1,294 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.engine.sdl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import spindle.core.dom.ConflictLiteralsIndex;
+import spindle.core.dom.Literal;
+import spindle.core.dom.Rule;
+import spindle.core.dom.RuleType;
+import spindle.core.dom.Superiority;
+import spindle.core.dom.Theory;
+
+/**
+ * Integer index of the literals and rules of a (normalized) SDL theory, shared by the index based SDL reasoning
+ * engines.
+ * <p>
+ * Literals are numbered in the order: literals in the theory, additional literals (if any), and then the conflict
+ * literals of all of them that are not already indexed. Strict and defeasible rules are indexed with one entry per
+ * rule head; defeaters are not indexed.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @see SdlBitSlicedReasoningEngine
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ */
+class SdlTheoryIndex {
+	static final int[] EMPTY_ARRAY = new int[0];
+
+	// literal index
+	final Map<Literal, Integer> literalIds = new TreeMap<Literal, Integer>();
+	final Literal[] literals;
+	final int theoryLiteralsCount;
+	final int outputLiteralsCount;
+
+	// rule index (one entry per rule head)
+	int[] ruleHead = null;
+	int[][] ruleBody = null;
+	int[][] ruleSuperiors = null;
+	boolean[] isStrictRule = null;
+
+	int[][] strictRulesWithHead = null;
+	int[][] rulesWithHead = null;
+	int[][] rulesWithBody = null;
+	final int[][] conflictLiterals;
+	final int[][] conflictedBy;
+
+	/**
+	 * @param theory theory to index.
+	 * @param conflictLiteralsIndex conflict literals index of the theory; or null if the conflict literals are to be
+	 *            retrieved from the theory.
+	 * @param additionalLiterals additional literals to be indexed, e.g., facts that are not part of the theory; or null
+	 *            if none.
+	 */
+	SdlTheoryIndex(final Theory theory, final ConflictLiteralsIndex conflictLiteralsIndex,
+			final Collection<? extends Collection<Literal>> additionalLiterals) {
+		List<Literal> literalList = new ArrayList<Literal>();
+		for (Literal literal : theory.getAllLiteralsInRules()) {
+			getLiteralId(literal, literalList);
+		}
+		theoryLiteralsCount = literalList.size();
+		if (null != additionalLiterals) {
+			for (Collection<Literal> literalSet : additionalLiterals) {
+				for (Literal literal : literalSet) {
+					getLiteralId(literal, literalList);
+				}
+			}
+		}
+		outputLiteralsCount = literalList.size();
+
+		// conflict literals are added to the index but are not part of the output
+		List<int[]> conflictList = new ArrayList<int[]>();
+		for (int i = 0; i < literalList.size(); i++) {
+			conflictList.add(getConflictLiteralIds(theory, conflictLiteralsIndex, literalList.get(i), literalList));
+		}
+
+		int literalsCount = literalList.size();
+		literals = literalList.toArray(new Literal[literalsCount]);
+		conflictLiterals = conflictList.toArray(new int[literalsCount][]);
+
+		generateRuleIndex(theory);
+
+		List<List<Integer>> conflictedByList = newIndexList(literalsCount);
+		for (int i = 0; i < literalsCount; i++) {
+			for (int conflictId : conflictLiterals[i]) {
+				conflictedByList.get(conflictId).add(i);
+			}
+		}
+		conflictedBy = toIndexArray(conflictedByList);
+	}
+
+	private int getLiteralId(final Literal literal, final List<Literal> literalList) {
+		Integer id = literalIds.get(literal);
+		if (null == id) {
+			id = literalList.size();
+			literalIds.put(literal, id);
+			literalList.add(literal);
+		}
+		return id;
+	}
+
+	private int[] getConflictLiteralIds(final Theory theory, final ConflictLiteralsIndex conflictLiteralsIndex,
+			final Literal literal, final List<Literal> literalList) {
+		int indexId = null == conflictLiteralsIndex ? -1 : conflictLiteralsIndex.getLiteralId(literal);
+		int[] indexConflictIds = indexId < 0 ? null : conflictLiteralsIndex.getConflictLiteralIds(indexId);
+		if (null != indexConflictIds) {
+			int[] ids = new int[indexConflictIds.length];
+			for (int j = 0; j < ids.length; j++) {
+				ids[j] = getLiteralId(conflictLiteralsIndex.getLiteral(indexConflictIds[j]), literalList);
+			}
+			return ids;
+		}
+
+		Set<Literal> conflicts = theory.getConflictLiterals(literal);
+		int[] ids = new int[conflicts.size()];
+		int j = 0;
+		for (Literal conflictLiteral : conflicts) {
+			ids[j++] = getLiteralId(conflictLiteral, literalList);
+		}
+		return ids;
+	}
+
+	private void generateRuleIndex(final Theory theory) {
+		int literalsCount = literals.length;
+
+		List<Rule> rules = new ArrayList<Rule>();
+		List<Integer> heads = new ArrayList<Integer>();
+		Map<String, List<Integer>> ruleEntries = new TreeMap<String, List<Integer>>();
+		for (Rule rule : theory.getFactsAndAllRules().values()) {
+			switch (rule.getRuleType()) {
+			case STRICT:
+			case DEFEASIBLE:
+				List<Integer> entries = new ArrayList<Integer>();
+				for (Literal headLiteral : rule.getHeadLiterals()) {
+					entries.add(rules.size());
+					rules.add(rule);
+					heads.add(literalIds.get(headLiteral));
+				}
+				ruleEntries.put(rule.getLabel(), entries);
+				break;
+			default:
+			}
+		}
+
+		int rulesCount = rules.size();
+		ruleHead = new int[rulesCount];
+		ruleBody = new int[rulesCount][];
+		ruleSuperiors = new int[rulesCount][];
+		isStrictRule = new boolean[rulesCount];
+
+		List<List<Integer>> strictRulesWithHeadList = newIndexList(literalsCount);
+		List<List<Integer>> rulesWithHeadList = newIndexList(literalsCount);
+		List<List<Integer>> rulesWithBodyList = newIndexList(literalsCount);
+
+		for (int r = 0; r < rulesCount; r++) {
+			Rule rule = rules.get(r);
+			int head = heads.get(r);
+			ruleHead[r] = head;
+			isStrictRule[r] = rule.getRuleType() == RuleType.STRICT;
+
+			List<Literal> bodyLiterals = rule.getBodyLiterals();
+			int[] body = new int[bodyLiterals.size()];
+			for (int i = 0; i < body.length; i++) {
+				body[i] = literalIds.get(bodyLiterals.get(i));
+				rulesWithBodyList.get(body[i]).add(r);
+			}
+			ruleBody[r] = body;
+
+			rulesWithHeadList.get(head).add(r);
+			if (isStrictRule[r]) strictRulesWithHeadList.get(head).add(r);
+
+			// rules that are superior to this rule
+			Set<Superiority> superiorities = theory.getInferior(rule.getLabel());
+			if (null == superiorities || superiorities.size() == 0) {
+				ruleSuperiors[r] = EMPTY_ARRAY;
+			} else {
+				List<Integer> superiors = new ArrayList<Integer>();
+				for (Superiority superiority : superiorities) {
+					List<Integer> entries = ruleEntries.get(superiority.getSuperior());
+					if (null != entries) superiors.addAll(entries);
+				}
+				ruleSuperiors[r] = toIntArray(superiors);
+			}
+		}
+
+		strictRulesWithHead = toIndexArray(strictRulesWithHeadList);
+		rulesWithHead = toIndexArray(rulesWithHeadList);
+		rulesWithBody = toIndexArray(rulesWithBodyList);
+	}
+
+	/**
+	 * @return Number of literals indexed, including the conflict literals.
+	 */
+	int getLiteralsCount() {
+		return literals.length;
+	}
+
+	/**
+	 * @return Number of rule entries indexed.
+	 */
+	int getRulesCount() {
+		return ruleHead.length;
+	}
+
+	/**
+	 * Check if all body literals of the rule are provable.
+	 */
+	boolean isApplicable(final int rule, final boolean[] provable) {
+		for (int q : ruleBody[rule]) {
+			if (!provable[q]) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Check if some body literal of the rule is not provable.
+	 */
+	boolean isDiscarded(final int rule, final boolean[] notProvable) {
+		for (int q : ruleBody[rule]) {
+			if (notProvable[q]) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Check if the rule is overridden by an applicable rule for the literal.
+	 */
+	boolean isOverridden(final int rule, final int literal, final boolean[] provable) {
+		for (int t : ruleSuperiors[rule]) {
+			if (ruleHead[t] == literal && isApplicable(t, provable)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Check if all rules for the literal that are superior to the rule are discarded.
+	 */
+	boolean isNotOverridden(final int rule, final int literal, final boolean[] notProvable) {
+		for (int t : ruleSuperiors[rule]) {
+			if (ruleHead[t] == literal && !isDiscarded(t, notProvable)) return false;
+		}
+		return true;
+	}
+
+	static List<List<Integer>> newIndexList(final int size) {
+		List<List<Integer>> indexList = new ArrayList<List<Integer>>(size);
+		for (int i = 0; i < size; i++) {
+			indexList.add(new ArrayList<Integer>());
+		}
+		return indexList;
+	}
+
+	static int[][] toIndexArray(final List<List<Integer>> indexList) {
+		int[][] indexArray = new int[indexList.size()][];
+		for (int i = 0; i < indexArray.length; i++) {
+			indexArray[i] = toIntArray(indexList.get(i));
+		}
+		return indexArray;
+	}
+
+	static int[] toIntArray(final List<Integer> list) {
+		if (list.size() == 0) return EMPTY_ARRAY;
+		int[] array = new int[list.size()];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = list.get(i);
+		}
+		return array;
+	}
+}
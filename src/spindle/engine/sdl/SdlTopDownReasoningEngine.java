@@ -0,0 +1,519 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ *
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ */
+package spindle.engine.sdl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+
+import com.app.utils.Utilities.ProcessStatus;
+
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.Literal;
+import spindle.core.dom.ProvabilityLevel;
+import spindle.core.dom.Rule;
+import spindle.core.dom.Superiority;
+import spindle.core.dom.Theory;
+import spindle.core.dom.TheoryType;
+import spindle.engine.ReasoningEngineException;
+import spindle.sys.AppModuleBase;
+import spindle.sys.message.ErrorMessage;
+
+/**
+ * Top-down (goal directed) SDL Reasoning Engine.
+ * <p>
+ * Evaluates the conclusions of a queried literal by exploring the supporting rules and the conflicting literals that
+ * are relevant to the query only. Sub-goals (a literal at the strict support, definite or defeasible provability
+ * level) are tabled: the answer of each sub-goal is memoized and is reused by all subsequent queries. The sub-goals
+ * are explored depth-first using an explicit stack (instead of recursion) such that the depth of the dependencies is
+ * not limited by the size of the call stack, and are completed one strongly connected component at a time.
+ * </p>
+ * <p>
+ * The engine only answers the queries that it answers the same way as {@link SdlReasoningEngine2} does under
+ * ambiguity blocking. A query is indeterminate, in which case {@link #prove(Literal, ConclusionType)} returns
+ * <code>null</code> and the conclusions have to be generated by the reasoning engine instead, if its answer depends on:
+ * <ul>
+ * <li>a loop (sub-goals that depend on each other);</li>
+ * <li>a literal and its conflicting literal that are both strictly supported;</li>
+ * <li>a literal that is definitely provable while its conflicting literal has rules of its own; or</li>
+ * <li>a rule in a superiority relation.</li>
+ * </ul>
+ * Ambiguity propagation and well-founded semantics are not supported.
+ * </p>
+ * <p>
+ * The engine does not modify the theory, which can be either in regular form or not (facts and defeaters are handled
+ * directly).
+ * </p>
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @see SdlReasoningEngine2
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ */
+public class SdlTopDownReasoningEngine extends AppModuleBase {
+
+	/**
+	 * Three-valued answer of a sub-goal.
+	 */
+	private enum Answer {
+		PROVABLE, NOT_PROVABLE, UNKNOWN;
+
+		Answer and(Answer answer) {
+			if (this == NOT_PROVABLE || answer == NOT_PROVABLE) return NOT_PROVABLE;
+			if (this == UNKNOWN || answer == UNKNOWN) return UNKNOWN;
+			return PROVABLE;
+		}
+
+		Answer or(Answer answer) {
+			if (this == PROVABLE || answer == PROVABLE) return PROVABLE;
+			if (this == UNKNOWN || answer == UNKNOWN) return UNKNOWN;
+			return NOT_PROVABLE;
+		}
+
+		Answer not() {
+			switch (this) {
+			case PROVABLE:
+				return NOT_PROVABLE;
+			case NOT_PROVABLE:
+				return PROVABLE;
+			default:
+				return UNKNOWN;
+			}
+		}
+	}
+
+	/**
+	 * Level of a sub-goal. A literal is strictly supported if it can be derived using facts and strict rules only; and
+	 * is definitely provable if it is strictly supported and none of its conflicting literals is.
+	 */
+	private enum GoalType {
+		STRICT_SUPPORT, DEFINITE, DEFEASIBLE
+	}
+
+	/**
+	 * Tabled sub-goal.
+	 */
+	private static class Goal {
+		private final Literal literal;
+		private final GoalType goalType;
+		private int dfn = -1;
+		private int lowLink = -1;
+		private Answer answer = Answer.UNKNOWN;
+		private boolean isSelfDependent = false;
+		private boolean isIndeterminate = false;
+		private boolean isCompleted = false;
+
+		private List<Goal> dependencies = null;
+		private int nextDependency = 0;
+
+		Goal(Literal literal, GoalType goalType) {
+			this.literal = literal;
+			this.goalType = goalType;
+		}
+
+		boolean isVisited() {
+			return dfn >= 0;
+		}
+
+		public String toString() {
+			return literal + "@" + goalType + "=" + answer + (isCompleted ? "" : "*");
+		}
+	}
+
+	private Theory theory = null;
+
+	private Map<Literal, List<Rule>> rulesWithHead = null;
+
+	private Map<GoalType, Map<Literal, Goal>> goalTables = null;
+	private Deque<Goal> goalStack = null;
+	private int dfnCounter = 0;
+
+	private long goalsEvaluated = 0;
+
+	public SdlTopDownReasoningEngine() {
+		super();
+	}
+
+	/**
+	 * Check if the theory can be queried using the top-down reasoning engine.
+	 *
+	 * @param theory Theory to be queried.
+	 * @return true if the theory is a non-empty SDL theory without literal variables and boolean functions.
+	 */
+	public static boolean isTheorySupported(final Theory theory) {
+		return null != theory && !theory.isEmpty() && TheoryType.SDL == theory.getTheoryType()
+				&& theory.getLiteralVariablesInRulesCount() == 0 && theory.getLiteralBooleanFunctionCount() == 0;
+	}
+
+	/**
+	 * Set the theory to be queried. All tabled answers are discarded.
+	 *
+	 * @param theory Theory to be queried.
+	 * @throws ReasoningEngineException If the theory is empty, not an SDL theory, or contains literal variables.
+	 */
+	public void setTheory(final Theory theory) throws ReasoningEngineException {
+		clear();
+		if (null == theory) throw new ReasoningEngineException(getClass(), ErrorMessage.THEORY_NULL_THEORY);
+		if (theory.isEmpty()) throw new ReasoningEngineException(getClass(), ErrorMessage.THEORY_EMPTY_THEORY);
+		if (TheoryType.SDL != theory.getTheoryType())
+			throw new ReasoningEngineException(getClass(), ErrorMessage.REASONING_ENGINE_NOT_SUPPORTED, theory.getTheoryType());
+		if (theory.getLiteralVariablesInRulesCount() > 0)
+			throw new ReasoningEngineException(getClass(), ErrorMessage.REASONING_ENGINE_LITERAL_VARIABLES_NOT_YET_EVALUATED);
+		if (theory.getLiteralBooleanFunctionCount() > 0)
+			throw new ReasoningEngineException(getClass(), ErrorMessage.REASONING_ENGINE_LITERAL_BOOLEAN_FUNCTION_NOT_YET_EVALUATED);
+
+		this.theory = theory;
+
+		rulesWithHead = new HashMap<Literal, List<Rule>>();
+		for (Rule rule : theory.getFactsAndAllRules().values()) {
+			switch (rule.getRuleType()) {
+			case FACT:
+			case STRICT:
+			case DEFEASIBLE:
+			case DEFEATER:
+				for (Literal headLiteral : rule.getHeadLiterals()) {
+					List<Rule> rules = rulesWithHead.get(headLiteral);
+					if (null == rules) {
+						rules = new ArrayList<Rule>();
+						rulesWithHead.put(headLiteral, rules);
+					}
+					rules.add(rule);
+				}
+				break;
+			default:
+			}
+		}
+
+		goalTables = new EnumMap<GoalType, Map<Literal, Goal>>(GoalType.class);
+		for (GoalType goalType : GoalType.values()) {
+			goalTables.put(goalType, new HashMap<Literal, Goal>());
+		}
+		goalStack = new ArrayDeque<Goal>();
+		dfnCounter = 0;
+	}
+
+	/**
+	 * Check if the literal can be proved with the prescribed conclusion type.
+	 *
+	 * @param literal Literal to query.
+	 * @param conclusionType One of {@link ConclusionType#DEFINITE_PROVABLE}, {@link ConclusionType#DEFINITE_NOT_PROVABLE},
+	 *            {@link ConclusionType#DEFEASIBLY_PROVABLE} or {@link ConclusionType#DEFEASIBLY_NOT_PROVABLE}.
+	 * @return true if the literal can be proved with the conclusion type; false if it cannot; or null if the query is
+	 *         indeterminate.
+	 * @throws ReasoningEngineException If no theory is set or the conclusion type is not supported.
+	 */
+	public Boolean prove(final Literal literal, final ConclusionType conclusionType) throws ReasoningEngineException {
+		if (null == theory) throw new ReasoningEngineException(getClass(), ErrorMessage.THEORY_NULL_THEORY);
+		switch (conclusionType) {
+		case DEFINITE_PROVABLE:
+		case DEFINITE_NOT_PROVABLE:
+		case DEFEASIBLY_PROVABLE:
+		case DEFEASIBLY_NOT_PROVABLE:
+			break;
+		default:
+			throw new ReasoningEngineException(getClass(), ErrorMessage.REASONING_ENGINE_UNSUPPORTED_CONCLUSION_TYPE, conclusionType);
+		}
+
+		// no conclusion is drawn for the literals that do not appear in the theory
+		if (!theory.getAllLiteralsInRules().contains(literal)) return false;
+
+		Goal goal = evaluate(literal, ProvabilityLevel.DEFINITE == conclusionType.getProvabilityLevel() ? GoalType.DEFINITE
+				: GoalType.DEFEASIBLE);
+		logMessage(Level.FINE, 0, "prove", literal, conclusionType.getSymbol(), goal);
+
+		if (goal.isIndeterminate) return null;
+		return conclusionType.isPositiveConclusion() ? goal.answer == Answer.PROVABLE : goal.answer == Answer.NOT_PROVABLE;
+	}
+
+	/**
+	 * Evaluate a sub-goal, or return the tabled answer if the sub-goal has been evaluated before.
+	 * <p>
+	 * The dependencies are explored depth-first using an explicit stack. A sub-goal is completed (together with all
+	 * members of its strongly connected component) once all its dependencies are explored.
+	 * </p>
+	 */
+	private Goal evaluate(final Literal literal, final GoalType goalType) {
+		Goal root = getGoal(literal, goalType);
+		if (root.isVisited()) return root;
+
+		Deque<Goal> callStack = new ArrayDeque<Goal>();
+		visit(root);
+		callStack.push(root);
+		while (!callStack.isEmpty()) {
+			Goal goal = callStack.peek();
+			if (goal.nextDependency < goal.dependencies.size()) {
+				Goal dependency = goal.dependencies.get(goal.nextDependency++);
+				if (!dependency.isVisited()) {
+					visit(dependency);
+					callStack.push(dependency);
+				} else if (!dependency.isCompleted) {
+					if (dependency == goal) goal.isSelfDependent = true;
+					if (dependency.dfn < goal.lowLink) goal.lowLink = dependency.dfn;
+				}
+			} else {
+				callStack.pop();
+				if (goal.lowLink == goal.dfn) {
+					completeGoals(goal);
+				} else {
+					Goal caller = callStack.peek();
+					if (goal.lowLink < caller.lowLink) caller.lowLink = goal.lowLink;
+				}
+			}
+		}
+		return root;
+	}
+
+	/**
+	 * Visit a sub-goal for the first time and discover the sub-goals it depends on.
+	 */
+	private void visit(final Goal goal) {
+		goal.dfn = dfnCounter++;
+		goal.lowLink = goal.dfn;
+		goalStack.push(goal);
+		goal.dependencies = new ArrayList<Goal>();
+		computeAnswer(goal, goal.dependencies);
+	}
+
+	/**
+	 * Complete the strongly connected component led by the prescribed goal. All sub-goals used by the members are
+	 * completed already, except the members themselves: a component with more than one member (or with a member that
+	 * depends on itself) is a loop, and the answers of its members remain unknown. A sub-goal is indeterminate if it is
+	 * in a loop, or if any sub-goal it depends on is indeterminate.
+	 */
+	private void completeGoals(final Goal leader) {
+		List<Goal> members = new ArrayList<Goal>();
+		Goal goal = null;
+		do {
+			goal = goalStack.pop();
+			members.add(goal);
+		} while (goal != leader);
+
+		boolean isIndeterminate = members.size() > 1 || leader.isSelfDependent;
+		for (Goal member : members) {
+			for (Goal dependency : member.dependencies) {
+				isIndeterminate |= dependency.isIndeterminate;
+			}
+		}
+		if (members.size() == 1 && !leader.isSelfDependent) {
+			leader.answer = computeAnswer(leader, null);
+			isIndeterminate |= isStrictConflict(leader) || isContested(leader);
+		}
+		for (Goal member : members) {
+			member.isIndeterminate = isIndeterminate;
+			member.isCompleted = true;
+			member.dependencies = null;
+		}
+	}
+
+	/**
+	 * Check if a literal and (at least) one of its conflicting literals are both strictly supported.
+	 */
+	private boolean isStrictConflict(final Goal goal) {
+		if (GoalType.DEFINITE != goal.goalType) return false;
+		if (Answer.PROVABLE != getAnswer(goal.literal, GoalType.STRICT_SUPPORT, null)) return false;
+		for (Literal conflictLiteral : theory.getConflictLiterals(goal.literal)) {
+			if (Answer.PROVABLE == getAnswer(conflictLiteral, GoalType.STRICT_SUPPORT, null)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Check if the defeasible conclusion of a literal is contested in a way that is not answered top-down: either a
+	 * rule for the literal (or for one of its conflicting literals) is in a superiority relation, or one side is
+	 * definitely provable while the other side has rules of its own.
+	 */
+	private boolean isContested(final Goal goal) {
+		if (GoalType.DEFEASIBLE != goal.goalType) return false;
+		Set<Literal> literals = new TreeSet<Literal>(theory.getConflictLiterals(goal.literal));
+		literals.add(goal.literal);
+		for (Literal literal : literals) {
+			for (Rule rule : getRulesWithHead(literal)) {
+				if (isInSuperiorityRelation(rule)) return true;
+			}
+		}
+		for (Literal literal : literals) {
+			if (Answer.PROVABLE != getAnswer(literal, GoalType.DEFINITE, null)) continue;
+			for (Literal contestingLiteral : literals) {
+				if (contestingLiteral != literal && getRulesWithHead(contestingLiteral).size() > 0) return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isInSuperiorityRelation(final Rule rule) {
+		Set<Superiority> superiorities = theory.getSuperior(rule.getLabel());
+		if (null != superiorities && superiorities.size() > 0) return true;
+		superiorities = theory.getInferior(rule.getLabel());
+		return null != superiorities && superiorities.size() > 0;
+	}
+
+	/**
+	 * Compute the answer of a sub-goal from the tabled answers of the sub-goals it depends on. All rules are examined
+	 * (without short-circuit) such that, if a list is given, all dependencies are added to it.
+	 */
+	private Answer computeAnswer(final Goal goal, final List<Goal> dependencies) {
+		goalsEvaluated++;
+		switch (goal.goalType) {
+		case STRICT_SUPPORT:
+			return computeStrictSupportAnswer(goal.literal, dependencies);
+		case DEFINITE:
+			return computeDefiniteAnswer(goal.literal, dependencies);
+		default:
+			return computeDefeasibleAnswer(goal.literal, dependencies);
+		}
+	}
+
+	/**
+	 * p is strictly supported if there is a fact or strict rule for p with all body literals +D.
+	 */
+	private Answer computeStrictSupportAnswer(final Literal literal, final List<Goal> dependencies) {
+		Answer answer = Answer.NOT_PROVABLE;
+		for (Rule rule : getRulesWithHead(literal)) {
+			switch (rule.getRuleType()) {
+			case FACT:
+			case STRICT:
+				answer = answer.or(getBodyAnswer(rule, GoalType.DEFINITE, dependencies));
+				break;
+			default:
+			}
+		}
+		return answer;
+	}
+
+	/**
+	 * +D p: p is strictly supported and none of its conflicting literals is;<br/>
+	 * -D p: the strong negation of the above.
+	 */
+	private Answer computeDefiniteAnswer(final Literal literal, final List<Goal> dependencies) {
+		Answer answer = getAnswer(literal, GoalType.STRICT_SUPPORT, dependencies);
+		for (Literal conflictLiteral : theory.getConflictLiterals(literal)) {
+			answer = answer.and(getAnswer(conflictLiteral, GoalType.STRICT_SUPPORT, dependencies).not());
+		}
+		return answer;
+	}
+
+	/**
+	 * +d p: +D p; or there is an applicable rule for p, every conflicting literal q is -D, and every rule for q is
+	 * discarded.<br/>
+	 * -d p: the strong negation of the above.
+	 */
+	private Answer computeDefeasibleAnswer(final Literal literal, final List<Goal> dependencies) {
+		Answer definiteAnswer = getAnswer(literal, GoalType.DEFINITE, dependencies);
+
+		Answer supported = Answer.NOT_PROVABLE;
+		for (Rule rule : getRulesWithHead(literal)) {
+			if (isSupportiveRule(rule)) supported = supported.or(getBodyAnswer(rule, GoalType.DEFEASIBLE, dependencies));
+		}
+
+		Answer unopposed = Answer.PROVABLE;
+		for (Literal conflictLiteral : theory.getConflictLiterals(literal)) {
+			unopposed = unopposed.and(getAnswer(conflictLiteral, GoalType.DEFINITE, dependencies).not());
+			for (Rule attackingRule : getRulesWithHead(conflictLiteral)) {
+				unopposed = unopposed.and(getBodyAnswer(attackingRule, GoalType.DEFEASIBLE, dependencies).not());
+			}
+		}
+
+		return definiteAnswer.or(supported.and(unopposed));
+	}
+
+	private Answer getBodyAnswer(final Rule rule, final GoalType goalType, final List<Goal> dependencies) {
+		Answer answer = Answer.PROVABLE;
+		for (Literal bodyLiteral : rule.getBodyLiterals()) {
+			answer = answer.and(getAnswer(bodyLiteral, goalType, dependencies));
+		}
+		return answer;
+	}
+
+	/**
+	 * Return the tabled answer of a sub-goal (which is unknown if the sub-goal is not yet completed), and add the
+	 * sub-goal to the list of dependencies (if any).
+	 */
+	private Answer getAnswer(final Literal literal, final GoalType goalType, final List<Goal> dependencies) {
+		Goal goal = getGoal(literal, goalType);
+		if (null != dependencies) dependencies.add(goal);
+		return goal.isCompleted ? goal.answer : Answer.UNKNOWN;
+	}
+
+	private Goal getGoal(final Literal literal, final GoalType goalType) {
+		Map<Literal, Goal> table = goalTables.get(goalType);
+		Goal goal = table.get(literal);
+		if (null == goal) {
+			goal = new Goal(literal, goalType);
+			table.put(literal, goal);
+		}
+		return goal;
+	}
+
+	private boolean isSupportiveRule(final Rule rule) {
+		switch (rule.getRuleType()) {
+		case FACT:
+		case STRICT:
+		case DEFEASIBLE:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	private List<Rule> getRulesWithHead(final Literal literal) {
+		List<Rule> rules = rulesWithHead.get(literal);
+		if (null == rules) return Collections.emptyList();
+		return rules;
+	}
+
+	/**
+	 * @return Number of sub-goals tabled.
+	 */
+	public int getTabledGoalsCount() {
+		if (null == goalTables) return 0;
+		int count = 0;
+		for (Map<Literal, Goal> table : goalTables.values()) {
+			count += table.size();
+		}
+		return count;
+	}
+
+	/**
+	 * @return Number of sub-goal evaluations performed since the theory is set.
+	 */
+	public long getGoalsEvaluatedCount() {
+		return goalsEvaluated;
+	}
+
+	public ProcessStatus clear() {
+		theory = null;
+		rulesWithHead = null;
+		goalTables = null;
+		goalStack = null;
+		dfnCounter = 0;
+		goalsEvaluated = 0;
+		return ProcessStatus.SUCCESS;
+	}
+}
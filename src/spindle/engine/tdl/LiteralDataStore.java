@@ -53,10 +53,16 @@ import spindle.sys.message.ErrorMessage;
 /**
  * Literal data store.
  * For storing and manipulating (temporal) literals provability information.
+ * <p>
+ * Besides the start time ordered literals sets, the temporals of the body, head and unproved head literals are
+ * indexed (by plain literal) using interval trees, such that the literals overlapping a temporal literal can be
+ * retrieved without scanning the whole provable range of the literal.
+ * </p>
  * 
  * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
  * @since version 2.2.1
- * @version Last modified 2012.09.20
+ * @version Last modified 2026.10.19
+ * @see TemporalIntervalTree
  */
 public class LiteralDataStore extends AppModuleBase {
 	private static final String IDENTATOR = "\n" + AppConst.IDENTATOR;
@@ -69,6 +75,9 @@ public class LiteralDataStore extends AppModuleBase {
 	private Map<ProvabilityLevel, Map<Literal, TreeMap<Temporal, Literal>>> bodyLiterals;
 	private Map<ProvabilityLevel, Map<Literal, TreeMap<Temporal, Literal>>> headLiterals;
 	private Map<ProvabilityLevel, Map<Literal, TreeMap<Temporal, Literal>>> unprovedHeadLiterals;
+	private Map<ProvabilityLevel, Map<Literal, TemporalIntervalTree<Literal>>> bodyLiteralsIndex;
+	private Map<ProvabilityLevel, Map<Literal, TemporalIntervalTree<Literal>>> headLiteralsIndex;
+	private Map<ProvabilityLevel, Map<Literal, TemporalIntervalTree<Literal>>> unprovedHeadLiteralsIndex;
 	// store the set of proved literal which may or may not be appeared as head literals (due to temporal)
 	private Map<ProvabilityLevel, TreeSet<Literal>> provedLiterals;
 
@@ -84,6 +93,9 @@ public class LiteralDataStore extends AppModuleBase {
 		bodyLiterals = new TreeMap<ProvabilityLevel, Map<Literal, TreeMap<Temporal, Literal>>>();
 
 		unprovedHeadLiterals = new TreeMap<ProvabilityLevel, Map<Literal, TreeMap<Temporal, Literal>>>();
+		bodyLiteralsIndex = new TreeMap<ProvabilityLevel, Map<Literal, TemporalIntervalTree<Literal>>>();
+		headLiteralsIndex = new TreeMap<ProvabilityLevel, Map<Literal, TemporalIntervalTree<Literal>>>();
+		unprovedHeadLiteralsIndex = new TreeMap<ProvabilityLevel, Map<Literal, TemporalIntervalTree<Literal>>>();
 		conclusions = new TreeMap<ProvabilityLevel, Map<Literal, TreeMap<Temporal, ConclusionType>>>();
 		enforcedConclusions = new TreeMap<ProvabilityLevel, Map<Literal, TreeMap<Temporal, ConclusionType>>>();
 		provedLiterals = new TreeMap<ProvabilityLevel, TreeSet<Literal>>();
@@ -163,9 +175,34 @@ public class LiteralDataStore extends AppModuleBase {
 		Temporal temporal = literal.getTemporal();
 		if (null == temporal) temporal = PERSISTENT_TEMPORAL;
 		literals.put(temporal, literal);
+		getLiteralIndex(literal, provability, getLiteralsIndex(literalSet), true).put(temporal, literal);
 		if (AppFeatureConst.printDataStoreMessage) System.out.println(literal + ":" + literals);
 	}
 
+	private Map<ProvabilityLevel, Map<Literal, TemporalIntervalTree<Literal>>> getLiteralsIndex(
+			Map<ProvabilityLevel, Map<Literal, TreeMap<Temporal, Literal>>> literalSet) {
+		if (literalSet == headLiterals) return headLiteralsIndex;
+		if (literalSet == unprovedHeadLiterals) return unprovedHeadLiteralsIndex;
+		return bodyLiteralsIndex;
+	}
+
+	private TemporalIntervalTree<Literal> getLiteralIndex(Literal literal, ProvabilityLevel provability,
+			Map<ProvabilityLevel, Map<Literal, TemporalIntervalTree<Literal>>> literalsIndex, boolean createNew) {
+		Map<Literal, TemporalIntervalTree<Literal>> provabilityEntry = literalsIndex.get(provability);
+		if (null == provabilityEntry) {
+			if (!createNew) return null;
+			provabilityEntry = new TreeMap<Literal, TemporalIntervalTree<Literal>>(PLAIN_LITERAL_COMPARATOR);
+			literalsIndex.put(provability, provabilityEntry);
+		}
+		TemporalIntervalTree<Literal> literalIndex = provabilityEntry.get(literal);
+		if (null == literalIndex) {
+			if (!createNew) return null;
+			literalIndex = new TemporalIntervalTree<Literal>();
+			provabilityEntry.put(literal.cloneWithNoTemporal(), literalIndex);
+		}
+		return literalIndex;
+	}
+
 	public void generateProvableTemporalSegments(Literal literal, ProvabilityLevel provability) {
 		Map<Temporal, Literal> headLiteralSet = getHeadLiteralSet(literal, provability, headLiterals);
 		if (null == headLiteralSet || headLiteralSet.size() == 0) return;
@@ -233,9 +270,19 @@ public class LiteralDataStore extends AppModuleBase {
 		if (null == literalTemporal) literalTemporal = PERSISTENT_TEMPORAL;
 		literalsSet.remove(literalTemporal);
 
+		Map<ProvabilityLevel, Map<Literal, TemporalIntervalTree<Literal>>> literalsIndex = getLiteralsIndex(masterLiteralsSet);
+		TemporalIntervalTree<Literal> literalIndex = getLiteralIndex(literal, provability, literalsIndex, false);
+		if (null != literalIndex) literalIndex.remove(literalTemporal);
+
 		if (literalsSet.size() == 0) {
 			provabilityEntry.remove(literal);
 			if (provabilityEntry.size() == 0) masterLiteralsSet.remove(provability);
+
+			Map<Literal, TemporalIntervalTree<Literal>> provabilityIndex = literalsIndex.get(provability);
+			if (null != provabilityIndex) {
+				provabilityIndex.remove(literal);
+				if (provabilityIndex.size() == 0) literalsIndex.remove(provability);
+			}
 		}
 	}
 	
@@ -312,9 +359,32 @@ public class LiteralDataStore extends AppModuleBase {
 			updateConclusion(literal, conclusionType, false);
 		} else {
 			if (newConclusionSet.size() == 0) return;
-			for (NameValuePair<ConclusionType, Literal> newConclusion : newConclusionSet) {
-				updateConclusion(newConclusion.getValue(), newConclusion.getKey(), false);
-			}
+			updateConclusions(literal, conclusionType, newConclusionSet);
+		}
+	}
+
+	/**
+	 * Update the conclusions set with a batch of new conclusions (of the same plain literal and conclusion type), applied
+	 * in order of their start time.
+	 * 
+	 * @param literal Literal of the new conclusions.
+	 * @param conclusionType Conclusion type of the new conclusions.
+	 * @param newConclusionSet New conclusions to be updated.
+	 * @throws LiteralDataStoreException
+	 * @see TdlConclusionUpdater#updateTemporalConclusions(java.util.Collection, java.util.NavigableMap, boolean)
+	 */
+	private void updateConclusions(Literal literal, ConclusionType conclusionType,
+			Deque<NameValuePair<ConclusionType, Literal>> newConclusionSet) throws LiteralDataStoreException {
+		ProvabilityLevel provability = conclusionType.getProvabilityLevel();
+		TreeMap<Temporal, ConclusionType> conclusionSet = getConclusionSet(literal, provability, conclusions, true);
+		try {
+			conclusionUpdater.updateTemporalConclusions(newConclusionSet, conclusionSet, false);
+		} catch (TdlConclusionUpdaterException e) {
+			throw new LiteralDataStoreException(e);
+		}
+		for (NameValuePair<ConclusionType, Literal> newConclusion : newConclusionSet) {
+			addLiteralProved(newConclusion.getValue(), provability);
+			removeUnprovedHeadLiteral(newConclusion.getValue(), provability);
 		}
 	}
 
@@ -685,23 +755,29 @@ public class LiteralDataStore extends AppModuleBase {
 		return null == temporalSet ? null : new TreeMap<Temporal, Literal>(temporalSet);
 	}
 
+	/**
+	 * Retrieve the set of literals overlapping the prescribed literal within the provable range of the literal.
+	 * The overlapping literals are retrieved from the interval tree index of the literals set, such that literals
+	 * that start before the prescribed literal are not scanned unless they overlap it.
+	 */
 	private TreeMap<Temporal, Literal> getRelatedLiteralsSet(Literal literal, ProvabilityLevel provability,
 			Map<ProvabilityLevel, Map<Literal, TreeMap<Temporal, Literal>>> masterLiteralsSet) {
-		TreeMap<Temporal, Literal> literalsSetExtracted = getHeadLiteralSet(literal, provability, masterLiteralsSet, true, true, true);
-		if (AppFeatureConst.printDataStoreMessage) System.out.println("* * literalsSetExtracted=" + literalsSetExtracted);
-		if (null == literalsSetExtracted) return null;
+		TemporalIntervalTree<Literal> literalIndex = getLiteralIndex(literal, provability, getLiteralsIndex(masterLiteralsSet), false);
+		if (null == literalIndex || literalIndex.isEmpty()) return null;
 
-		Temporal literalTemporal = literal.getTemporal();
-		if (null == literalTemporal) return literalsSetExtracted;
-
-		TreeMap<Temporal, Literal> relatedLiterals = new TreeMap<Temporal, Literal>();
-		long literalTemporalEnd = literalTemporal.getEndTime();
-		for (Entry<Temporal, Literal> entry : literalsSetExtracted.entrySet()) {
-			Temporal t = entry.getKey();
-			if (literalTemporal.overlap(t)) {
-				relatedLiterals.put(t, entry.getValue());
-			} else if (t.getStartTime() > literalTemporalEnd) break;
+		TreeSet<Temporal> temporalSegmentToProve = getTemporalSegmentsToProve(literal, provability);
+		if (null == temporalSegmentToProve) return null;
+
+		Temporal startTemporal = temporalSegmentToProve.first().getStartTimeAsInstance();
+		Temporal endTemporal = temporalSegmentToProve.last().getEndTimeAsInstance();
+
+		TreeMap<Temporal, Literal> relatedLiterals = literalIndex.getOverlapping(literal.getTemporal());
+		if (relatedLiterals.size() > 0) {
+			if (relatedLiterals.firstKey().compareTo(startTemporal) < 0) relatedLiterals.headMap(startTemporal).clear();
+			if (relatedLiterals.size() > 0 && relatedLiterals.lastKey().compareTo(endTemporal) >= 0)
+				relatedLiterals.tailMap(endTemporal, true).clear();
 		}
+		if (AppFeatureConst.printDataStoreMessage) System.out.println("* * relatedLiterals=" + relatedLiterals);
 
 		return relatedLiterals.size() == 0 ? null : relatedLiterals;
 	}
@@ -868,8 +944,13 @@ public class LiteralDataStore extends AppModuleBase {
 		Temporal literalTemporal = literal.getTemporal();
 		if (null == literalTemporal) literalTemporal = PERSISTENT_TEMPORAL;
 
+		// temporal segments are consolidated, i.e., they are disjoint and ordered by both start and end time,
+		// so the segments overlapping the literal start from the last segment starting before the literal
+		Temporal fromTemporal = temporalSegments.lower(literalTemporal.getStartTimeAsInstance());
+		Set<Temporal> candidateSegments = null == fromTemporal ? temporalSegments : temporalSegments.tailSet(fromTemporal, true);
+
 		TreeSet<Temporal> temporalsExtracted = new TreeSet<Temporal>();
-		for (Temporal temporal : temporalSegments) {
+		for (Temporal temporal : candidateSegments) {
 			if (temporal.overlap(literalTemporal)) temporalsExtracted.add(temporal);
 			else if (temporal.getStartTime() >= literalTemporal.getEndTime()) break;
 		}
@@ -945,6 +1026,7 @@ public class LiteralDataStore extends AppModuleBase {
 
 		// duplicate the set of temporal literals to unproved set
 		unprovedHeadLiterals.clear();
+		unprovedHeadLiteralsIndex.clear();
 		for (Entry<ProvabilityLevel, Map<Literal, TreeMap<Temporal, Literal>>> provabilityEntry : headLiterals.entrySet()) {
 			Map<Literal, TreeMap<Temporal, Literal>> newProvabilityEntry = new TreeMap<Literal, TreeMap<Temporal, Literal>>(
 					PLAIN_LITERAL_COMPARATOR);
@@ -952,6 +1034,12 @@ public class LiteralDataStore extends AppModuleBase {
 			for (Entry<Literal, TreeMap<Temporal, Literal>> literalsSet : provabilityEntry.getValue().entrySet()) {
 				TreeMap<Temporal, Literal> newLiteralsSet = new TreeMap<Temporal, Literal>(literalsSet.getValue());
 				newProvabilityEntry.put(literalsSet.getKey(), newLiteralsSet);
+
+				TemporalIntervalTree<Literal> literalIndex = getLiteralIndex(literalsSet.getKey(), provabilityEntry.getKey(),
+						unprovedHeadLiteralsIndex, true);
+				for (Entry<Temporal, Literal> entry : newLiteralsSet.entrySet()) {
+					literalIndex.put(entry.getKey(), entry.getValue());
+				}
 			}
 		}
 	}
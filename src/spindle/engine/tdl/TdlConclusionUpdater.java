@@ -21,11 +21,16 @@
  */
 package spindle.engine.tdl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.NavigableMap;
-import java.util.TreeMap;
 import java.util.logging.Level;
 
+import com.app.utils.NameValuePair;
 
 import spindle.core.dom.ConclusionType;
 import spindle.core.dom.Literal;
@@ -37,14 +42,29 @@ import spindle.sys.AppModuleBase;
 import spindle.sys.message.ErrorMessage;
 
 public abstract class TdlConclusionUpdater extends AppModuleBase {
+	private static final Comparator<NameValuePair<ConclusionType, Literal>> START_TIME_COMPARATOR = new Comparator<NameValuePair<ConclusionType, Literal>>() {
+		@Override
+		public int compare(NameValuePair<ConclusionType, Literal> c1, NameValuePair<ConclusionType, Literal> c2) {
+			long t1 = getStartTime(c1.getValue());
+			long t2 = getStartTime(c2.getValue());
+			return t1 < t2 ? -1 : (t1 == t2 ? 0 : 1);
+		}
+
+		private long getStartTime(Literal literal) {
+			Temporal temporal = literal.getTemporal();
+			return null == temporal ? Long.MIN_VALUE : temporal.getStartTime();
+		}
+	};
 
 	public void updateTemporalConclusion(Literal literal, ConclusionType conclusionType,
 			NavigableMap<Temporal, ConclusionType> conclusionSet, boolean enforceNewConclusion) throws TdlConclusionUpdaterException {
 		if (null == literal) throw new TdlConclusionUpdaterException(ErrorMessage.LITERAL_NULL_LITERAL);
-		System.out.println("  updateTemporalConclusion.conclusionSet="+conclusionSet);
+		if (AppFeatureConst.printDataStoreMessage) System.out.println("  updateTemporalConclusion.conclusionSet=" + conclusionSet);
 		// System.out.println("  enforceNewConclusion="+enforceNewConclusion);
-		logMessage(Level.FINER, 1, "updateConclusion, literal=", literal, "conclusionType=", conclusionType, "conclusionSet="
-				+ conclusionSet);
+		if (isLoggable(Level.FINER)) {
+			logMessage(Level.FINER, 1, "updateConclusion, literal=", literal, "conclusionType=", conclusionType, "conclusionSet="
+					+ conclusionSet);
+		}
 
 		Temporal temporal = literal.getTemporal();
 		if (null == temporal) temporal = new Temporal();
@@ -64,6 +84,28 @@ public abstract class TdlConclusionUpdater extends AppModuleBase {
 
 	}
 
+	/**
+	 * Update the conclusions set of a literal with a batch of new conclusions.
+	 * The new conclusions are sorted by their start time (conclusions with the same start time are kept in the order
+	 * given) and are then applied one by one using
+	 * {@link #updateTemporalConclusion(Literal, ConclusionType, NavigableMap, boolean)}, i.e., each new conclusion is
+	 * still located in the conclusions set individually and no merge of the two sorted sequences is performed.
+	 * 
+	 * @param newConclusions New conclusions (of the same plain literal) to be updated.
+	 * @param conclusionSet Conclusions set of the literal.
+	 * @param enforceNewConclusion Whether the new conclusions override the conclusions derived previously.
+	 * @throws TdlConclusionUpdaterException
+	 */
+	public void updateTemporalConclusions(Collection<NameValuePair<ConclusionType, Literal>> newConclusions,
+			NavigableMap<Temporal, ConclusionType> conclusionSet, boolean enforceNewConclusion) throws TdlConclusionUpdaterException {
+		List<NameValuePair<ConclusionType, Literal>> sortedConclusions = new ArrayList<NameValuePair<ConclusionType, Literal>>(
+				newConclusions);
+		Collections.sort(sortedConclusions, START_TIME_COMPARATOR);
+		for (NameValuePair<ConclusionType, Literal> newConclusion : sortedConclusions) {
+			updateTemporalConclusion(newConclusion.getValue(), newConclusion.getKey(), conclusionSet, enforceNewConclusion);
+		}
+	}
+
 	private void doUpdateConclusionWithEnforcement(Literal literal, ConclusionType conclusionType,
 			NavigableMap<Temporal, ConclusionType> conclusionSet) throws TdlConclusionUpdaterException, TemporalException {
 		if (!AppConst.isDeploy) {
@@ -122,13 +164,14 @@ public abstract class TdlConclusionUpdater extends AppModuleBase {
 
 		if (!isCheckSucceedingEntry) return;
 
-		NavigableMap<Temporal, ConclusionType> succeedingEntries = conclusionSet.tailMap(temporal, false);
-		logMessage(Level.FINER, 2, "succeedingEntry", new Object[] { (null == succeedingEntries ? "null" : succeedingEntries) });
-		if (!AppFeatureConst.printDataStoreMessage) System.out.println("    conclusionSetEntry=" + succeedingEntries);
-		if (null == succeedingEntries || succeedingEntries.size() == 0) return;
+		if (AppFeatureConst.printDataStoreMessage) System.out.println("    conclusionSetEntry=" + conclusionSet.tailMap(temporal, false));
 
-		for (Entry<Temporal, ConclusionType> succeedingEntry : (new TreeMap<Temporal, ConclusionType>(succeedingEntries)).entrySet()) {
+		// succeeding entries are verified one by one (instead of copying the whole tail of the conclusions set),
+		// as only the entries overlapping or meeting the new conclusion are affected
+		Entry<Temporal, ConclusionType> succeedingEntry = null;
+		for (Temporal lastTemporal = temporal; null != (succeedingEntry = conclusionSet.higherEntry(lastTemporal));) {
 			Temporal temporalToVerify = succeedingEntry.getKey();
+			lastTemporal = temporalToVerify;
 			ConclusionType succeedingConclusionType = succeedingEntry.getValue();
 			if (!temporal.overlapOrMeet(temporalToVerify)) return;
 
@@ -48,6 +48,7 @@ import spindle.core.dom.Temporal;
 import spindle.core.dom.TemporalStartComparator;
 import spindle.core.dom.TheoryException;
 import spindle.engine.ReasoningEngineException;
+import spindle.engine.TraceEvent;
 import spindle.engine.mdl.MdlReasoningEngine2;
 import spindle.sys.AppConst;
 import spindle.sys.AppFeatureConst;
@@ -123,12 +124,10 @@ public class TdlReasoningEngine2 extends MdlReasoningEngine2 {
 
 		literalDataStore = new LiteralDataStore(theory);
 		literalDataStore.setAppLogger(logger);
-		System.out.println("--- " + getClass().getName() + " - initialize - theory - start");
-		System.out.println(theory.toString());
-		System.out.println("--- " + getClass().getName() + " - initialize - theory - end");
-		System.out.println("--- " + getClass().getName() + " - initialize - literal data store - start");
-		System.out.println(literalDataStore.toString());
-		System.out.println("--- " + getClass().getName() + " - initialize - literal data store - end");
+		if (isLogFinest) {
+			logMessage(Level.FINEST, 0, "--- TdlReasoningEngine2 - initialize - theory", LINE_SEPARATOR, theory);
+			logMessage(Level.FINEST, 0, "--- TdlReasoningEngine2 - initialize - literal data store", LINE_SEPARATOR, literalDataStore);
+		}
 
 		super.initialize();
 	}
@@ -205,7 +204,7 @@ RuleType ruleType= ProvabilityLevel.DEFINITE.equals(provability)?RuleType.STRICT
 	@Override
 	protected void removeComplementaryLiteralAmbiguity(int i) throws ReasoningEngineException {
 		if (!AppConst.isDeploy) System.out.println("-- TdlReasoningEngine2.removeComplementLiteralAmbiguity(" + i + ") - start");
-		logMessage(Level.FINE, 0, "=== removeComplementLiteralAmbiguity - start ===");
+		if (isLogFine) logMessage(Level.FINE, 0, "=== removeComplementLiteralAmbiguity - start ===");
 		Map<Conclusion, Set<Conclusion>> ambiguousConclusionsToAdd = new TreeMap<Conclusion, Set<Conclusion>>();
 		// Map<Conclusion,Set<String>> ambiguousConclusionsToAdd = new TreeMap<Conclusion,Set<String>>();
 		Set<Conclusion> ambiguousConclusionsToRemove = new TreeSet<Conclusion>();
@@ -238,7 +237,7 @@ RuleType ruleType= ProvabilityLevel.DEFINITE.equals(provability)?RuleType.STRICT
 					}
 				}
 				for (Conclusion conclusionToAdd : conclusionEntry.getValue()) {
-					logMessage(Level.FINE, 1, "ambiguousConclusionsToAdd", conclusionToAdd);
+					if (isLogFine) logMessage(Level.FINE, 1, "ambiguousConclusionsToAdd", conclusionToAdd);
 					addAmbiguousConclusion(conclusionToAdd, new TreeSet<String>(rulesSet));
 					addRecord(conclusionToAdd);
 					literalDataStore.addHeadLiteral(conclusionToAdd.getLiteral(), origProvability, false);
@@ -257,7 +256,7 @@ RuleType ruleType= ProvabilityLevel.DEFINITE.equals(provability)?RuleType.STRICT
 			RuleType ruleType = i == 0 ? RuleType.STRICT : RuleType.DEFEASIBLE;
 			try {
 				for (Conclusion conclusion : ambiguousConclusionsToRemove) {
-					logMessage(Level.FINE, 1, "ambiguousConclusionsToRemove", conclusion);
+					if (isLogFine) logMessage(Level.FINE, 1, "ambiguousConclusionsToRemove", conclusion);
 					removeAmbiguousConclusion(conclusion);
 					removeRecord(conclusion);
 					safeRemoveLiteralStoreHeadLiteral(conclusion.getLiteral(), ruleType);
@@ -275,9 +274,9 @@ RuleType ruleType= ProvabilityLevel.DEFINITE.equals(provability)?RuleType.STRICT
 				}
 			}
 			for (Conclusion conclusion : conclusionsDerived) {
-				logMessage(Level.FINE, 1, "conclusionsDerived", conclusion);
+				if (isLogFine) logMessage(Level.FINE, 1, "conclusionsDerived", conclusion);
 			}
-			logMessage(Level.FINE, 0, "=== removeComplementaryLiteralAmbiguity.conclusionsDerived:- start");
+			if (isLogFine) logMessage(Level.FINE, 0, "=== removeComplementaryLiteralAmbiguity.conclusionsDerived:- start");
 			for (Conclusion conclusion : conclusionsDerived) {
 				conflictLiteralsSet.remove(conclusion.getLiteral());
 				
@@ -297,13 +296,12 @@ RuleType ruleType= ProvabilityLevel.DEFINITE.equals(provability)?RuleType.STRICT
 				default:
 				}
 			}
-			logMessage(Level.FINE, 0, "=== removeComplementaryLiteralAmbiguity.conclusionsDerived:- end\n---");
+			if (isLogFine) logMessage(Level.FINE, 0, "=== removeComplementaryLiteralAmbiguity.conclusionsDerived:- end\n---");
 		}
 		// TODO remove record??
 		// System.out.println("-- literalDataStore --");
 		// System.out.println(literalDataStore.toString());
-		System.out.println("-- TdlReasoningEngine2.removeComplementLiteralAmbiguity(" + i + ") - end");
-		logMessage(Level.FINE, 0, "=== removeComplementLiteralAmbiguity -  end  ===");
+		if (isLogFine) logMessage(Level.FINE, 0, "=== removeComplementLiteralAmbiguity -  end  ===");
 	}
 	
 	
@@ -366,7 +364,7 @@ RuleType ruleType= ProvabilityLevel.DEFINITE.equals(provability)?RuleType.STRICT
 			Map<Literal, TreeMap<Temporal, Map<ConclusionType, Set<String>>>> ambiguousConclusions, //
 			Map<Conclusion, Set<Conclusion>> ambiguousConclusionsToAdd, Collection<Conclusion> ambiguousConclusionsToRemove,
 			Collection<Conclusion> conclusionsDerived) throws LiteralDataStoreException {
-		logMessage(Level.FINER, 1, "TdlReasoningEngine2.removeComplementaryTemporalLiteralAmbiguity - start");
+		if (isLogFiner) logMessage(Level.FINER, 1, "TdlReasoningEngine2.removeComplementaryTemporalLiteralAmbiguity - start");
 		if (!AppConst.isDeploy) {
 			System.out.println("-- TdlReasoningEngine2.removeComplementTemporalLiteralAmbiguity - start");
 			System.out.flush();
@@ -377,10 +375,10 @@ RuleType ruleType= ProvabilityLevel.DEFINITE.equals(provability)?RuleType.STRICT
 					Literal literal = entry.getKey().clone();
 					Temporal literalTemporal = temporalEntry.getKey();
 					literal.setTemporal(literalTemporal);
-					logMessage(Level.FINEST, 2, "literal to verify", literal);
+					if (isLogFinest) logMessage(Level.FINEST, 2, "literal to verify", literal);
 				}
 			}
-			logMessage(Level.FINEST, 2, "---");
+			if (isLogFinest) logMessage(Level.FINEST, 2, "---");
 		}
 
 		for (Entry<Literal, TreeMap<Temporal, Map<ConclusionType, Set<String>>>> entry : ambiguousConclusions.entrySet()) {
@@ -390,20 +388,20 @@ RuleType ruleType= ProvabilityLevel.DEFINITE.equals(provability)?RuleType.STRICT
 
 				for (Entry<ConclusionType, Set<String>> conclusionTypeEntry : temporalEntry.getValue().entrySet()) {
 					literal.setTemporal(literalTemporal);
-					logMessage(Level.FINEST, 2, "Ambiguous literal to verify=", literal);
+					if (isLogFinest) logMessage(Level.FINEST, 2, "Ambiguous literal to verify=", literal);
 
 					Set<Literal> conflictLiterals = getConflictLiteralListWithoutOperatorChange(literal);
 
 					ConclusionType conclusionType = conclusionTypeEntry.getKey();
 
 					if (containsUnprovedRelatedRuleInTheory(conflictLiterals, conclusionType.getProvabilityLevel())) {
-						logMessage(Level.FINEST, 3, "==> containsUnprovedRelatedRuleInTheory - literal skipped");
+						if (isLogFinest) logMessage(Level.FINEST, 3, "==> containsUnprovedRelatedRuleInTheory - literal skipped");
 						continue;
 					}
 
 					Temporal provableTemporalSegment = getProvableTemporalSegment_complementaryAmbiguousConclusions(literal,
 							conclusionType.getProvabilityLevel(), conflictLiterals, false);
-					logMessage(Level.FINEST, 3, "getProvableTemporalSegment_complementaryAmbiguousConclusions(" + literal + ","
+					if (isLogFinest) logMessage(Level.FINEST, 3, "getProvableTemporalSegment_complementaryAmbiguousConclusions(" + literal + ","
 							+ conclusionType.getProvabilityLevel() + ")=" + provableTemporalSegment);
 
 					if (null == provableTemporalSegment) continue;
@@ -412,22 +410,22 @@ RuleType ruleType= ProvabilityLevel.DEFINITE.equals(provability)?RuleType.STRICT
 					literalToProve.setTemporal(provableTemporalSegment);
 
 					Set<Literal> ambiguousLiterals = getAmbiguousConclusionsWithSameStart(literalToProve, conclusionType);
-					logMessage(Level.FINEST, 3, "==> ambiguous conclusions with same start=" + ambiguousLiterals);
+					if (isLogFinest) logMessage(Level.FINEST, 3, "==> ambiguous conclusions with same start=" + ambiguousLiterals);
 					if (null == ambiguousLiterals || ambiguousLiterals.size() < 2) {
-						logMessage(Level.FINEST, 4, "==> " + literal + ", NO ambiguous conclusion with same modality");
+						if (isLogFinest) logMessage(Level.FINEST, 4, "==> " + literal + ", NO ambiguous conclusion with same modality");
 					} else {
-						logMessage(Level.FINEST, 4, "==> " + literal + ", ambiguous conclusion exist");
+						if (isLogFinest) logMessage(Level.FINEST, 4, "==> " + literal + ", ambiguous conclusion exist");
 						ConclusionType negativeCT = ConclusionType.DEFINITE_PROVABLE.equals(conclusionType) ? ConclusionType.DEFINITE_NOT_PROVABLE
 								: ConclusionType.DEFEASIBLY_NOT_PROVABLE;
 
 						Conclusion conclusionDerived = new Conclusion(negativeCT, literalToProve);
 						conclusionsDerived.add(conclusionDerived);
-						logMessage(Level.FINEST, 3, "conclusionsDerived=" + conclusionDerived);
+						if (isLogFinest) logMessage(Level.FINEST, 3, "conclusionsDerived=" + conclusionDerived);
 
 						// remove the conclusion from the ambiguous conclusions set
 						Conclusion conclusionToRemove = new Conclusion(conclusionType, literal);
 						ambiguousConclusionsToRemove.add(conclusionToRemove);
-						logMessage(Level.FINEST, 3, "ambiguousConclusionToRemove=" + conclusionToRemove);
+						if (isLogFinest) logMessage(Level.FINEST, 3, "ambiguousConclusionToRemove=" + conclusionToRemove);
 
 						// add the ambiguous conclusion left after the provable time interval
 						if (literalTemporal.endAfter(provableTemporalSegment)) {
@@ -441,7 +439,7 @@ RuleType ruleType= ProvabilityLevel.DEFINITE.equals(provability)?RuleType.STRICT
 								ambiguousConclusionsToAdd.put(conclusionToRemove, residualConclusionsSet);
 							}
 							residualConclusionsSet.add(residualConclusion);
-							logMessage(Level.FINEST, 3, "ambiguousConclusionToAdd=" + residualConclusion);
+							if (isLogFinest) logMessage(Level.FINEST, 3, "ambiguousConclusionToAdd=" + residualConclusion);
 						}
 					}
 				}
@@ -452,7 +450,7 @@ RuleType ruleType= ProvabilityLevel.DEFINITE.equals(provability)?RuleType.STRICT
 			System.out.println("ambiguousConclusionsToRemove=" + ambiguousConclusionsToRemove);
 			System.out.println("-- TdlReasoningEngine2.removeComplementLiteralAmbiguity - end");
 		}
-		logMessage(Level.FINER, 1, "TdlReasoningEngine2.removeComplementaryTemporalLiteralAmbiguity - end");
+		if (isLogFiner) logMessage(Level.FINER, 1, "TdlReasoningEngine2.removeComplementaryTemporalLiteralAmbiguity - end");
 	}
 
 	@Override
@@ -471,7 +469,7 @@ RuleType ruleType= ProvabilityLevel.DEFINITE.equals(provability)?RuleType.STRICT
 		// remove ambiguity caused by complementary literals
 		removeComplementaryLiteralAmbiguity(i);
 
-		logMessage(Level.FINE, 0, "updateAmbiguousConclusions(" + i + ")  - start");
+		if (isLogFine) logMessage(Level.FINE, 0, "updateAmbiguousConclusions(" + i + ")  - start");
 
 		
 	for (Entry<Literal, TreeMap<Temporal, Map<ConclusionType, Set<String>>>> literalEntry : ambiguousTemporalConclusions[i].entrySet()) {
@@ -480,9 +478,9 @@ RuleType ruleType= ProvabilityLevel.DEFINITE.equals(provability)?RuleType.STRICT
 			literalToCheck.setTemporal(temporalEntry.getKey());
 			for (Entry<ConclusionType, Set<String>> conclusionEntry : temporalEntry.getValue().entrySet()) {
 				ConclusionType conclusionType = conclusionEntry.getKey();
-				logMessage(Level.FINE,1,"ambiguous temporal conclusion=",conclusionType.getSymbol()+" "+literalToCheck);
+				if (isLogFine) logMessage(Level.FINE,1,"ambiguous temporal conclusion=",conclusionType.getSymbol()+" "+literalToCheck);
 			}}}
-	logMessage(Level.FINE,1,"---");
+	if (isLogFine) logMessage(Level.FINE,1,"---");
 	
 	Set<Literal> residualConclusionsSet=new TreeSet<Literal>();
 	Set<Conclusion>ambiguousConclusionsToRemove=new TreeSet<Conclusion>();
@@ -495,17 +493,17 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 				for (Entry<ConclusionType, Set<String>> conclusionEntry : temporalEntry.getValue().entrySet()) {
 					ConclusionType conclusionType = conclusionEntry.getKey();
 					Conclusion conclusion=new Conclusion(conclusionType,literal);
-	logMessage(Level.FINER, 1, "verify ambiguous conclusion(" + conclusion + ")");
+	if (isLogFiner) logMessage(Level.FINER, 1, "verify ambiguous conclusion(" + conclusion + ")");
 					
 					Set<Literal>conflictLiterals=getConflictLiterals(literal);
 					
 					Temporal provableTemporalSegment=getProvableTemporalSegment(literal, conclusionType.getProvabilityLevel(), conflictLiterals);
-					logMessage(Level.FINEST,2,"provableTemporalSegment="+provableTemporalSegment);
+					if (isLogFinest) logMessage(Level.FINEST,2,"provableTemporalSegment="+provableTemporalSegment);
 					if (null==provableTemporalSegment)continue;
 					
 					Literal literalToCheck=literal.cloneWithNoTemporal();
 					literalToCheck.setTemporal(provableTemporalSegment);
-					logMessage(Level.FINEST,2,"literalToCheck="+literalToCheck);
+					if (isLogFinest) logMessage(Level.FINEST,2,"literalToCheck="+literalToCheck);
 					
 					Set<String>ruleLabels=conclusionEntry.getValue();				
 					ConclusionType negativeCT=ConclusionType.DEFINITE_PROVABLE.equals(conclusionType)?ConclusionType.DEFINITE_NOT_PROVABLE:ConclusionType.DEFEASIBLY_NOT_PROVABLE;					
@@ -515,21 +513,21 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 				
 					System.out.println("check ambiguous (" + conclusionType.getSymbol() + " " + literalToCheck + "): ambiguous="
 							+ ambiguousExist);
-					logMessage(Level.FINER, 2, "check ambiguous(" + conclusionType.getSymbol() + " " + literalToCheck + "): ambiguous="
+					if (isLogFiner) logMessage(Level.FINER, 2, "check ambiguous(" + conclusionType.getSymbol() + " " + literalToCheck + "): ambiguous="
 							+ ambiguousExist+", ruleLabels="+ruleLabels);
-					logMessage(Level.FINER, 2, "conflictLiterals(" + conclusionType.getSymbol() + " " + literalToCheck + ")="+conflictLiterals);
+					if (isLogFiner) logMessage(Level.FINER, 2, "conflictLiterals(" + conclusionType.getSymbol() + " " + literalToCheck + ")="+conflictLiterals);
 
 					
 					if (!containsUnprovedRelatedRuleInTheory(conflictLiterals, conclusionType.getProvabilityLevel())) {
 						//ambiguousConclusionsToRemove.add(conclusion);
 						
-						logMessage(Level.FINEST, 2, "containsUnprovedRelatedRuleInTheory=false");
+						if (isLogFinest) logMessage(Level.FINEST, 2, "containsUnprovedRelatedRuleInTheory=false");
 						Set<Literal> ambiguousLiterals = getAmbiguousConclusionsWithSameStart(literalToCheck, conclusionType);
 						for (Literal conflictLiteral:conflictLiterals){
 							ambiguousLiterals.addAll(getAmbiguousConclusionsWithSameStart(conflictLiteral, conclusionType));
 						}
 						
-						logMessage(Level.FINEST, 3, "ambiguousLiterals(" + literalToCheck + ")=" + ambiguousLiterals + ")");
+						if (isLogFinest) logMessage(Level.FINEST, 3, "ambiguousLiterals(" + literalToCheck + ")=" + ambiguousLiterals + ")");
 						
 						
 						Set<Literal> trimmedAmbiguousLiterals=new TreeSet<Literal>();
@@ -538,10 +536,10 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 							if (null==ambiguousTemporal)ambiguousTemporal=PERSISTENT_TEMPORAL;
 							
 							if (provableTemporalSegment.contains(ambiguousTemporal)){
-								logMessage(Level.FINEST, 3, "trimmedAmbiguousLiterals(" + ambiguousLiteral + ").1");
+								if (isLogFinest) logMessage(Level.FINEST, 3, "trimmedAmbiguousLiterals(" + ambiguousLiteral + ").1");
 								trimmedAmbiguousLiterals.add(ambiguousLiteral);								
 							} else{
-								logMessage(Level.FINEST, 3, "trimmedAmbiguousLiterals(" + ambiguousLiteral + ").2");
+								if (isLogFinest) logMessage(Level.FINEST, 3, "trimmedAmbiguousLiterals(" + ambiguousLiteral + ").2");
 								Literal trimmedLiteral=ambiguousLiteral.cloneWithNoTemporal();
 								trimmedLiteral.setTemporal(provableTemporalSegment.clone());
 								trimmedAmbiguousLiterals.add(trimmedLiteral);
@@ -551,11 +549,11 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 								residualConclusionsSet.add(residualLiteral);
 							}
 						}
-						logMessage(Level.FINEST, 3, "trimmedAmbiguousLiterals(" + literalToCheck + ")=" + trimmedAmbiguousLiterals + ")");
+						if (isLogFinest) logMessage(Level.FINEST, 3, "trimmedAmbiguousLiterals(" + literalToCheck + ")=" + trimmedAmbiguousLiterals + ")");
 
 						if (trimmedAmbiguousLiterals.size()>1){trimmedAmbiguousLiterals.remove(literalToCheck);
 							conclusionType=evaluateAmbiguousConclusionsByModality(literalToCheck, conclusionType, trimmedAmbiguousLiterals);
-							logMessage(Level.FINEST, 3, "evaluateAmbiguousConclusionsByModality(" + literalToCheck + ")=" + conclusionType + ")");
+							if (isLogFinest) logMessage(Level.FINEST, 3, "evaluateAmbiguousConclusionsByModality(" + literalToCheck + ")=" + conclusionType + ")");
 							
 							if (conclusionType.isPositiveConclusion()){
 							} else{
@@ -563,22 +561,23 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 							}
 						}
 					} else {
-						logMessage(Level.FINEST, 2, "containsUnprovedRelatedRuleInTheory=true");
+						if (isLogFinest) logMessage(Level.FINEST, 2, "containsUnprovedRelatedRuleInTheory=true");
 					}
 					
-					if (null!=conclusionType)
-					logMessage(Level.FINEST,2,"==> conclusion generated: "+conclusionType.getSymbol()+" "+literalToCheck);
-					else logMessage(Level.FINEST,2,"==> no conclusion is generated");
+					if (isLogFinest) {
+						if (null != conclusionType) logMessage(Level.FINEST, 2, "==> conclusion generated: " + conclusionType.getSymbol() + " " + literalToCheck);
+						else logMessage(Level.FINEST, 2, "==> no conclusion is generated");
+					}
 					//generateConclusionsWithLiteral(conclusionType,literalToCheck,true);
 				}
 			}
 		}
 		
 		for (Literal literal:residualConclusionsSet){
-			logMessage(Level.FINEST,1," residual conclusion generated: "+literal);
+			if (isLogFinest) logMessage(Level.FINEST,1," residual conclusion generated: "+literal);
 		}
 		
-		logMessage(Level.FINE, 0, "updateAmbiguousConclusions(" + i + ")  - end");
+		if (isLogFine) logMessage(Level.FINE, 0, "updateAmbiguousConclusions(" + i + ")  - end");
 
 		// super.updateAmbiguousConclusions(i);
 		// updateAmbiguousTemporalConclusions(i);
@@ -609,14 +608,14 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 
 	@Override
 	protected void generatePendingConclusions(boolean isDefeasibleRuleOnly) throws ReasoningEngineException, TheoryException {
-		logMessage(Level.FINE, 0, "=== TdlReasoningEngine2.generatePendingConclusions - start ===");
-		logMessage(Level.FINE, 1, "isDefeasibleRuleOnly=", isDefeasibleRuleOnly);
+		if (isLogFine) logMessage(Level.FINE, 0, "=== TdlReasoningEngine2.generatePendingConclusions - start ===");
+		if (isLogFine) logMessage(Level.FINE, 1, "isDefeasibleRuleOnly=", isDefeasibleRuleOnly);
 		System.out.println("generatePendingConclusions...start");
 		System.out.println(literalDataStore.toString());
 		Set<Literal> unprovedStrictRuleLiterals = new TreeSet<Literal>(theory.getAllLiteralsInRules());
 		Set<Literal> unprovedDefeasibleRuleLiterals = new TreeSet<Literal>(theory.getAllLiteralsInRules());
 
-		logMessage(Level.FINER, 1, "=== +ve set - start ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== +ve set - start ===");
 
 		removeDefeatedRulesInTheory();
 
@@ -724,12 +723,12 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 				if (!ambiguousExist) ambiguousExist = containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT);
 				System.out.println("        ambiguousExist.1.2=" + ambiguousExist);
 				if (ambiguousExist) {
-					logMessage(Level.FINEST, 1, "==> generatePendingConclusions: ==> add (+D Ambiguous)", literal);
+					if (isLogFinest) logMessage(Level.FINEST, 1, "==> generatePendingConclusions: ==> add (+D Ambiguous)", literal);
 					addAmbiguousConclusion(conclusion, ruleLabels);
 				} else {
 					if (isRecordExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE)) pos = false;
 					if (isRecordExist(literal, ConclusionType.DEFINITE_NOT_PROVABLE)) pos = false;
-					logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
+					if (isLogFinest) logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
 					if (pos) {
 						if (isLogInferenceProcess)
 							getInferenceLogger().updateRuleInferenceStatus(ruleLabels, conclusion, RuleInferenceStatus.APPICABLE);
@@ -766,12 +765,12 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 				if (!ambiguousExist) ambiguousExist = containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE);
 				System.out.println("        ambiguousExist.2.2=" + ambiguousExist);
 				if (ambiguousExist) {
-					logMessage(Level.FINEST, 1, "==> generatePendingConclusions: ==> add (+d Ambiguous)", literal);
+					if (isLogFinest) logMessage(Level.FINEST, 1, "==> generatePendingConclusions: ==> add (+d Ambiguous)", literal);
 					addAmbiguousConclusion(conclusion, ruleLabels);
 				} else {
 					if (isRecordExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE)) pos = false;
 					if (isRecordExist(literal, ConclusionType.DEFEASIBLY_NOT_PROVABLE)) pos = false;
-					logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
+					if (isLogFinest) logMessage(Level.FINEST, 1, "02, ambiguousExist=", ambiguousExist, ", pos=", pos);
 					if (pos) {
 						addPendingConclusion(conclusion);
 						if (isLogInferenceProcess)
@@ -791,9 +790,9 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 			// }
 		}
 		System.out.println(TextUtilities.generateHighLightedMessage("verify initial temporary conclusions - +ve set end"));
-		logMessage(Level.FINER, 1, "=== +ve set - end ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== +ve set - end ===");
 
-		logMessage(Level.FINER, 1, "=== -df set - start ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -df set - start ===");
 		for (Literal literal : unprovedDefeasibleRuleLiterals) {
 			if (!isAmbiguousConclusionExist(literal, ConclusionType.DEFEASIBLY_PROVABLE)) {
 				Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_NOT_PROVABLE, literal);
@@ -805,19 +804,19 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 				}
 			}
 		}
-		logMessage(Level.FINER, 1, "=== -df set -  end  ===");
+		if (isLogFiner) logMessage(Level.FINER, 1, "=== -df set -  end  ===");
 
 		// literals that do not exist in strict rule or
 		// literals cannot be resolved using only strict rules are definite not provable
 		if (!isDefeasibleRuleOnly) {
-			logMessage(Level.FINEST, 1, "=== -Df set - start ===");
+			if (isLogFinest) logMessage(Level.FINEST, 1, "=== -Df set - start ===");
 			for (Literal literal : unprovedStrictRuleLiterals) {
 				newLiteralFind_definiteNotProvable(literal, false);
 				addInapplicableLiteralsBeforeInference(literal, ConclusionType.DEFINITE_NOT_PROVABLE);
 			}
-			logMessage(Level.FINEST, 1, "=== -Df set -  end  ===");
+			if (isLogFinest) logMessage(Level.FINEST, 1, "=== -Df set -  end  ===");
 		}
-		logMessage(Level.FINE, 0, "=== TdlReasoningEngine2.generatePendingConclusions -  end  ===");
+		if (isLogFine) logMessage(Level.FINE, 0, "=== TdlReasoningEngine2.generatePendingConclusions -  end  ===");
 
 		System.out.println("generatePendingConclusions...end");
 		if (!AppConst.isDeploy) {
@@ -898,7 +897,7 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 		}
 		ruleSet.add(ruleLabel);
 
-		logMessage(Level.FINE, 3, "ambiguous conclusion added: ", conclusion);
+		if (isLogFine) logTraceEvent(Level.FINE, 3, TraceEvent.AMBIGUOUS_CONCLUSION_ADDED, conclusion);
 
 		addRecord(conclusion);
 
@@ -912,7 +911,7 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 	@Override
 	protected ProcessStatus removeAmbiguousConclusion(Conclusion conclusion) {
 		if (isConclusionExist(conclusion)) return ProcessStatus.SUCCESS;
-		logMessage(Level.FINER, 3, "ambiguous conclusion to remove: ", conclusion);
+		if (isLogFiner) logTraceEvent(Level.FINER, 3, TraceEvent.AMBIGUOUS_CONCLUSION_REMOVED, conclusion);
 
 		Literal literal = conclusion.getLiteral();
 		ConclusionType conclusionType = conclusion.getConclusionType();
@@ -1153,6 +1152,7 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 	// }
 	@Override
 	protected void printEngineStatus(final String callerName) {
+		if (!isLoggable(Level.INFO)) return;
 		String className = getClass().getName();
 		String msg = getReasoningEngineUtilities().generateEngineInferenceStatusMessage(className + "." + callerName,//
 				theory, conclusions, //
@@ -1401,7 +1401,7 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 			/*
 	// copy from SDLReasoningEngine2.generateConclusions_definiteProvable
 	System.out.println("SdlReasoningEngine.generateConclusions_definiteProvable...start");
-		logMessage(Level.FINE, 0, "=== generate inference: definite provable: ", literal);
+		if (isLogFine) logMessage(Level.FINE, 0, "=== generate inference: definite provable: ", literal);
 
 		Set<String> rulesToDelete = new TreeSet<String>();
 		Set<Rule> rulesModified = theory.removeBodyLiteralFromRules(literal, null);
@@ -1414,19 +1414,19 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 
 		for (Rule r : rulesModified) {
 			RuleExt rule = (RuleExt) r;
-			logMessage(Level.FINER, 1, null, literal, ": rule=", rule, ", is empty body=", rule.isEmptyBody());
+			if (isLogFiner) logMessage(Level.FINER, 1, null, literal, ": rule=", rule, ", is empty body=", rule.isEmptyBody());
 			if (rule.isEmptyBody()) {
-				logMessage(Level.FINER, 2, "remove rule:", rule.getLabel());
+				if (isLogFiner) logMessage(Level.FINER, 2, "remove rule:", rule.getLabel());
 
 				Literal headLiteral = rule.getHeadLiterals().get(0);
 				Set<Literal> conflictLiterals = null;
 				switch (rule.getRuleType()) {
 				case STRICT:
-					logMessage(Level.FINEST, 1, "==> (strict) ", literal);
+					if (isLogFinest) logMessage(Level.FINEST, 1, "==> (strict) ", literal);
 					rulesToDelete.add(rule.getLabel());
 					conflictLiterals = getConflictLiterals(headLiteral);
 					if (containsUnprovedRuleInTheory(conflictLiterals, RuleType.STRICT)) {
-						logMessage(Level.FINEST, 2, "==>1.1 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
+						if (isLogFinest) logMessage(Level.FINEST, 2, "==>1.1 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
 						Conclusion conclusion = new Conclusion(ConclusionType.DEFINITE_PROVABLE, headLiteral);
 						addRecord(conclusion);
 						addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
@@ -1434,7 +1434,7 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 						boolean chk1 = isAmbiguousConclusionExist(headLiteral, ConclusionType.DEFINITE_NOT_PROVABLE);
 						boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFINITE_PROVABLE);
 						if (chk1 || chk2) {
-							logMessage(Level.FINEST, 2, "==>1.2 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
+							if (isLogFinest) logMessage(Level.FINEST, 2, "==>1.2 generateConclusions_definiteProvable: ==> add ambiguous (+D)", headLiteral);
 							Conclusion conclusion = new Conclusion(ConclusionType.DEFINITE_PROVABLE, headLiteral);
 							addRecord(conclusion);
 							addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
@@ -1458,13 +1458,13 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 					break;
 				case DEFEASIBLE:
 					if (rule.getStrongerRulesCount() == 0 && rule.getWeakerRulesCount() == 0) {
-						logMessage(Level.FINER, 1, "==> (defeasible) ", literal);
+						if (isLogFiner) logMessage(Level.FINER, 1, "==> (defeasible) ", literal);
 						rulesToDelete.add(rule.getLabel());
 						// same as 'generateConclusions_defeasiblyProvable(Literal literal)'
 						// duplicated here for efficiency
 						conflictLiterals = getConflictLiterals(headLiteral);
 						if (containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE)) {
-							logMessage(Level.FINEST, 2, "==>1.5 generateConclusions_definiteProvable: ==> add ambiguous (+d)", headLiteral);
+							if (isLogFinest) logMessage(Level.FINEST, 2, "==>1.5 generateConclusions_definiteProvable: ==> add ambiguous (+d)", headLiteral);
 							Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral);
 							addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
 							addRecord(conclusion);
@@ -1474,7 +1474,7 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 							boolean chk1 = isAmbiguousConclusionExist(headLiteral, ConclusionType.DEFEASIBLY_NOT_PROVABLE);
 							boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
 							if (chk1 || chk2) {
-								logMessage(Level.FINEST, 2, "==>1.6 generateConclusions_definiteProvable: ==> add ambiguous (+D)",
+								if (isLogFinest) logMessage(Level.FINEST, 2, "==>1.6 generateConclusions_definiteProvable: ==> add ambiguous (+D)",
 										headLiteral);
 								addAmbiguousConclusion(new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral),
 										rule.getOriginalLabel());
@@ -1522,19 +1522,19 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 
 	@Override
 	protected ProcessStatus generateConclusions_definiteNotProvable(final Literal literal) throws ReasoningEngineException {
-		logMessage(Level.FINE,1,"generateConclusions_definiteNotProvable(" + literal + ")...start");
+		if (isLogFine) logMessage(Level.FINE,1,"generateConclusions_definiteNotProvable(" + literal + ")...start");
 		try {
 			super.generateConclusions_definiteNotProvable(literal);
 			TreeMap<Temporal, Literal> negativeLiterals = literalDataStore.getRelatedBodyLiteralsInProvableRange(literal, ProvabilityLevel.DEFINITE);
 			if (null != negativeLiterals && negativeLiterals.size() > 0) {
 				for (Literal negativeLiteral:negativeLiterals.values()){
-					logMessage(Level.FINE,3,"generateRelatedBodyLiteralsConclusions_negative(-d " + literal + ").negativeLiteral="+negativeLiteral);
+					if (isLogFine) logMessage(Level.FINE,3,"generateRelatedBodyLiteralsConclusions_negative(-d " + literal + ").negativeLiteral="+negativeLiteral);
 					super.generateConclusions_definiteNotProvable(negativeLiteral);
 				}
 			}			
 			return ProcessStatus.SUCCESS;
 		} finally {
-			logMessage(Level.FINE,1,"generateConclusions_definiteNotProvable(" + literal + ")...end");
+			if (isLogFine) logMessage(Level.FINE,1,"generateConclusions_definiteNotProvable(" + literal + ")...end");
 		}
 	}
 	
@@ -1547,7 +1547,7 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 		if (null==intervalToVerify)return true;
 		for (Temporal precedingTemporal : unprovedRelatedLiterals.keySet()) {
 				if (intervalToVerify.overlap(precedingTemporal)) {
-					logMessage(Level.FINEST,5,"hasUnprovedRelatedPrecedingLiterals",intervalToVerify,literal,provability,"has unproved preceding temporal ==> ",precedingTemporal );
+					if (isLogFinest) logMessage(Level.FINEST,5,"hasUnprovedRelatedPrecedingLiterals",intervalToVerify,literal,provability,"has unproved preceding temporal ==> ",precedingTemporal );
 					return true;
 				}
 		}
@@ -1613,7 +1613,7 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 			//super.generateConclusions_defeasiblyProvable(literal);
 			
 //			System.out.println("SdlReasoningEngine.generateConclusions_defeasiblyProvable(" + literal + ")...start");
-			logMessage(Level.FINE, 1, "generate inference: defeasibly provable: ", literal);
+			if (isLogFine) logMessage(Level.FINE, 1, "generate inference: defeasibly provable: ", literal);
 
 			Set<String> rulesToRemove = new TreeSet<String>();
 			Set<Rule> rulesModified = theory.removeBodyLiteralFromRules(literal, RuleType.DEFEASIBLE);
@@ -1650,10 +1650,10 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 			}
 			if (rulesModified.size()>0){
 				for (Rule r:rulesModified){
-					logMessage(Level.FINER, 1, "rules modified", r);
+					if (isLogFiner) logMessage(Level.FINER, 1, "rules modified", r);
 				}
 			}else {
-				logMessage(Level.FINER,1,"No rules are modified!");
+				if (isLogFiner) logMessage(Level.FINER,1,"No rules are modified!");
 			}
 			// tdl modification - end
 			// =================================================================
@@ -1668,7 +1668,7 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 			for (Rule r : rulesModified) {
 		//		System.out.println("r=" + r.getLabel());
 				RuleExt rule = (RuleExt) r;
-				logMessage(Level.FINER, 2, null, literal, ": rule=", rule, " is empty body=", rule.isEmptyBody());
+				if (isLogFiner) logMessage(Level.FINER, 2, null, literal, ": rule=", rule, " is empty body=", rule.isEmptyBody());
 				// tdl modification - start
 				Literal headLiteral = evaluateHeadLiteralProvability_defeasiblyProvable(rule,rulesToRemove);
 				if (null!=headLiteral)	headLiteralsToJustify.add(headLiteral);
@@ -1731,7 +1731,7 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 				// tdl modification - end
 			}
 //			System.out.println("generateConclusions_defeasiblyProvable..10");
-			logMessage(Level.FINE, 2, "generateConclusions_defeasiblyProvable.removeRules=", rulesToRemove);
+			if (isLogFine) logMessage(Level.FINE, 2, "generateConclusions_defeasiblyProvable.removeRules=", rulesToRemove);
 
 			removeRules(rulesToRemove);
 			
@@ -1758,9 +1758,9 @@ Set<Conclusion>recordsToRemove=new TreeSet<Conclusion>();
 	
 	private Literal evaluateHeadLiteralProvability_defeasiblyProvable(RuleExt rule,Set<String>rulesToRemove) throws ReasoningEngineException {
 		if (!(rule.isEmptyBody() && rule.getStrongerRulesCount() == 0 && rule.getWeakerRulesCount() == 0)) return null;
-System.out.println(AppConst.IDENTATOR+"evaluateHeadLiteralProvability_defeasibleProvable: "+rule);
+		if (isLogFinest) logMessage(Level.FINEST, 1, "evaluateHeadLiteralProvability_defeasiblyProvable: ", rule);
 		//Set<String> rulesToRemove = new TreeSet<String>();
-logMessage(Level.FINEST, 2, "==> evaluateHeadLiteralProvability_defeasibleProvable: ", rule);
+if (isLogFinest) logMessage(Level.FINEST, 2, "==> evaluateHeadLiteralProvability_defeasibleProvable: ", rule);
 
 		rulesToRemove.add(rule.getLabel());
 		Literal literalJustified = null;
@@ -1768,40 +1768,40 @@ logMessage(Level.FINEST, 2, "==> evaluateHeadLiteralProvability_defeasibleProvab
 
 		Set<Literal> conflictLiterals = getConflictLiterals(headLiteral);
 		boolean containsUnprovedRuleInTheory = containsUnprovedRuleInTheory(conflictLiterals, RuleType.DEFEASIBLE);
-		logMessage(Level.FINEST, 2, "==>2.0 conflictLiterals: ", conflictLiterals, ",unproved rule in theory="
+		if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.0 conflictLiterals: ", conflictLiterals, ",unproved rule in theory="
 				+ containsUnprovedRuleInTheory);
 		if (containsUnprovedRuleInTheory) {
-			logMessage(Level.FINEST, 2, "==>2.1 generateConclusions_defeasiblyProvable: ==> add ambiguous (+d)", headLiteral);
+			if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.1 generateConclusions_defeasiblyProvable: ==> add ambiguous (+d)", headLiteral);
 			System.out.printf(AppConst.IDENTATOR + "generateConclusions_defeasiblyProvable ==> add ambiguous (+d) %1s\n", headLiteral);
 			Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral);
 			addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
 			addRecord(conclusion);
 		} else if (isRecordExist(headLiteral, ConclusionType.DEFEASIBLY_PROVABLE)) {
-			logMessage(Level.FINEST, 2, "==>2.2 +d "+ headLiteral);
+			if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.2 +d "+ headLiteral);
 			// do nothing if record already exist
 		} else {
-			logMessage(Level.FINEST, 2, "==>2.3");
+			if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.3");
 			boolean chk1 = isAmbiguousConclusionExist(headLiteral, ConclusionType.DEFEASIBLY_NOT_PROVABLE);
 			boolean chk2 = isAmbiguousConclusionExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE);
 			System.out.println(AppConst.IDENTATOR+"  ambiguous check: chk1="+chk1+", chk2="+chk2);
 			if (chk1 || chk2) {
-				logMessage(Level.FINEST, 2, "==>2.3.1 generateConclusions_defeasiblyProvable: ==> add ambiguous (+d)", headLiteral);
+				if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.3.1 generateConclusions_defeasiblyProvable: ==> add ambiguous (+d)", headLiteral);
 				Conclusion c=new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE,headLiteral);
 				addAmbiguousConclusion(c, rule.getOriginalLabel());
 				addRecord(c);
 			} else {
-				logMessage(Level.FINEST, 2, "==>2.3.2" );
+				if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.3.2" );
 				boolean hasConflictRecord = false;
 				if (isRecordExist(conflictLiterals, ConclusionType.DEFEASIBLY_PROVABLE)){
-					logMessage(Level.FINEST, 3, "["+headLiteral+"]- has conflict record1");
+					if (isLogFinest) logMessage(Level.FINEST, 3, "["+headLiteral+"]- has conflict record1");
 					hasConflictRecord = true;
 				}
 				if (isRecordExist(headLiteral, ConclusionType.DEFEASIBLY_NOT_PROVABLE)) {
-					logMessage(Level.FINEST, 3, "["+headLiteral+"]- has conflict record2");
+					if (isLogFinest) logMessage(Level.FINEST, 3, "["+headLiteral+"]- has conflict record2");
 					hasConflictRecord = true;
 				}
 				if (hasConflictRecord) {
-					logMessage(Level.FINEST, 2, "==>2.3.2.1 ["+headLiteral+"]- has conflict record");
+					if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.3.2.1 ["+headLiteral+"]- has conflict record");
 		//			if (isLogInferenceProcess)
 	//					getInferenceLogger().updateRuleInferenceStatus(rule.getOriginalLabel(), RuleType.DEFEASIBLE,
 //								ConclusionType.DEFEASIBLY_NOT_PROVABLE, headLiteral, RuleInferenceStatus.DISCARDED);
@@ -1810,7 +1810,7 @@ logMessage(Level.FINEST, 2, "==> evaluateHeadLiteralProvability_defeasibleProvab
 		//			addRecord(c);
 					newLiteralFind_defeasiblyNotProvable(headLiteral, true);
 				} else {
-					logMessage(Level.FINEST, 2, "==>2.3.2.2");
+					if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.3.2.2");
 					// tdl modification - start
 					ProvabilityLevel provability = ProvabilityLevel.DEFEASIBLE;
 
@@ -1821,14 +1821,14 @@ logMessage(Level.FINEST, 2, "==> evaluateHeadLiteralProvability_defeasibleProvab
 					System.out.println(AppConst.IDENTATOR + "  provableTemporalSegment=" + provableTemporalSegment);
 
 					if (null == provableTemporalSegment) {
-						logMessage(Level.FINEST, 2, "==>2.3.2.2.1 provableTemporalSegment=null");
+						if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.3.2.2.1 provableTemporalSegment=null");
 						Conclusion conclusion = new Conclusion(ConclusionType.DEFEASIBLY_PROVABLE, headLiteral);
 						addAmbiguousConclusion(conclusion, rule.getOriginalLabel());
 						addRecord(conclusion);
 					} else {
-						logMessage(Level.FINEST, 2, "==>2.3.2.2.2");
+						if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.3.2.2.2");
 						if (headTemporal.equals(provableTemporalSegment)) {
-							logMessage(Level.FINEST, 2, "==>2.3.2.2.2.1 +d "+headLiteral);
+							if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.3.2.2.2.1 +d "+headLiteral);
 							if (isLogInferenceProcess)
 								getInferenceLogger().updateRuleInferenceStatus(rule.getOriginalLabel(), RuleType.DEFEASIBLE,
 										ConclusionType.DEFEASIBLY_PROVABLE, headLiteral, RuleInferenceStatus.APPICABLE);
@@ -1849,8 +1849,8 @@ logMessage(Level.FINEST, 2, "==> evaluateHeadLiteralProvability_defeasibleProvab
 							addAmbiguousConclusion(conclusion2, rule.getOriginalLabel());
 							addRecord(conclusion2);
 
-							logMessage(Level.FINEST, 2, "==>2.3.2.2.2.2: justify head literal to:"+newHeadLiteral1);
-							logMessage(Level.FINEST, 2, "==>2.3.2.2.2.2: add ambiguous (+d):"+newHeadLiteral2);
+							if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.3.2.2.2.2: justify head literal to:"+newHeadLiteral1);
+							if (isLogFinest) logMessage(Level.FINEST, 2, "==>2.3.2.2.2.2: add ambiguous (+d):"+newHeadLiteral2);
 						}
 					}
 					// tdl modification - end
@@ -1863,7 +1863,7 @@ logMessage(Level.FINEST, 2, "==> evaluateHeadLiteralProvability_defeasibleProvab
 	
 	private Temporal getProvableTemporalSegment(Literal literal, ProvabilityLevel provability,Collection<Literal>conflictLiterals) throws LiteralDataStoreException {
 	//	Set<Literal> conflictLiterals = getConflictLiterals(literal);
-logMessage(Level.FINEST,3,"getProvableTemporalSegment",literal,provability,conflictLiterals);
+if (isLogFinest) logMessage(Level.FINEST,3,"getProvableTemporalSegment",literal,provability,conflictLiterals);
 		Temporal literalTemporal = literal.getTemporal();
 		if (null == literalTemporal) literalTemporal = PERSISTENT_TEMPORAL;
 
@@ -1874,7 +1874,7 @@ logMessage(Level.FINEST,3,"getProvableTemporalSegment",literal,provability,confl
 			// check the temporal information of preceding literals
 			if (hasUnprovedRelatedPrecedingLiterals(literalTemporal,conflictHeadLiteral,provability)){
 				System.out.println("    getProvableTemporalSegment => null temporal segment: has preceding conflict literals unproved");
-				logMessage(Level.FINEST,4,"getProvableTemporalSegment =>null temporal segment","has preceding conflict literals unproved");
+				if (isLogFinest) logMessage(Level.FINEST,4,"getProvableTemporalSegment =>null temporal segment","has preceding conflict literals unproved");
 				return null;
 			}
 //			TreeMap<Temporal, Literal> unprovedPrecedingConflictHeadLiterals = literalDataStore.getUnprovedPrecedingHeadLiterals(
@@ -1902,7 +1902,7 @@ logMessage(Level.FINEST,3,"getProvableTemporalSegment",literal,provability,confl
 							// check to prevent conclusion being defeated due to modal operator in the later process
 							if (literalTemporal.getStartTime() >= acStart) {
 								System.out.println("    getProvableTemporalSegment => null temporal segment: has preceding ambiguous conclusion unresolved");
-								logMessage(Level.FINEST,4,"getProvableTemporalSegment => null temporal segment:","has preceding ambiguous conclusion unresolved");
+								if (isLogFinest) logMessage(Level.FINEST,4,"getProvableTemporalSegment => null temporal segment:","has preceding ambiguous conclusion unresolved");
 								return null;
 							} else {
 								if (endTime > acStart) endTime = acStart;
@@ -1936,19 +1936,19 @@ logMessage(Level.FINEST,3,"getProvableTemporalSegment",literal,provability,confl
 	
 	@Override
 	protected ProcessStatus generateConclusions_defeasiblyNotProvable(final Literal literal) throws ReasoningEngineException {
-		logMessage(Level.FINE,1,"generateConclusions_defeasiblyNotProvable(" + literal + ")...start");
+		if (isLogFine) logMessage(Level.FINE,1,"generateConclusions_defeasiblyNotProvable(" + literal + ")...start");
 		try {
 			super.generateConclusions_defeasiblyNotProvable(literal);
 			TreeMap<Temporal, Literal> negativeLiterals = literalDataStore.getRelatedBodyLiteralsInProvableRange(literal, ProvabilityLevel.DEFEASIBLE);
 			if (null != negativeLiterals && negativeLiterals.size() > 0) {
 				for (Literal negativeLiteral:negativeLiterals.values()){
-					logMessage(Level.FINE,3,"generateRelatedBodyLiteralsConclusions_negative(-d " + literal + ").negativeLiteral="+negativeLiteral);
+					if (isLogFine) logMessage(Level.FINE,3,"generateRelatedBodyLiteralsConclusions_negative(-d " + literal + ").negativeLiteral="+negativeLiteral);
 					super.generateConclusions_defeasiblyNotProvable(negativeLiteral);
 				}
 			}			
 			return ProcessStatus.SUCCESS;
 		} finally {
-			logMessage(Level.FINE,1,"generateConclusions_defeasiblyNotProvable(" + literal + ")...end");
+			if (isLogFine) logMessage(Level.FINE,1,"generateConclusions_defeasiblyNotProvable(" + literal + ")...end");
 		}
 	}
 
@@ -1956,7 +1956,7 @@ logMessage(Level.FINEST,3,"getProvableTemporalSegment",literal,provability,confl
 
 
 	private Map<String, Rule> getRelatedRulesInTheory(Literal literal, Temporal temporalInterval, ProvabilityLevel provability) {
-		logMessage(Level.FINE,1,"generateRelatedBodyLiteralsConclusions_negative(" + literal + ")...start");
+		if (isLogFine) logMessage(Level.FINE,1,"generateRelatedBodyLiteralsConclusions_negative(" + literal + ")...start");
 
 		Set<Literal> literalsInTheory = theory.getRelatedLiterals(literal, provability);
 		if (null == literalsInTheory) return null;
@@ -1977,7 +1977,7 @@ logMessage(Level.FINEST,3,"getProvableTemporalSegment",literal,provability,confl
 
 			}
 		}
-		logMessage(Level.FINE,1,"getRelatedRulesInTheory(" + literal + ").relatedRuleHeadLiterals="+relatedRuleHeadLiterals);
+		if (isLogFine) logMessage(Level.FINE,1,"getRelatedRulesInTheory(" + literal + ").relatedRuleHeadLiterals="+relatedRuleHeadLiterals);
 
 		return relatedRuleHeadLiterals.size() == 0 ? null : relatedRuleHeadLiterals;
 	}
@@ -1992,7 +1992,7 @@ logMessage(Level.FINEST,3,"getProvableTemporalSegment",literal,provability,confl
 
 		ProvabilityLevel provability = conclusionType.getProvabilityLevel();
 		TreeMap<Temporal, Literal> literalsToCheck = literalDataStore.getRelatedBodyLiteralsInProvableRange(literal, provability);
-		logMessage(Level.FINER, 1, "generateRelatedBodyLiteralsConclusions_positive - literalsToCheck", null == literalsToCheck ? "null"
+		if (isLogFiner) logMessage(Level.FINER, 1, "generateRelatedBodyLiteralsConclusions_positive - literalsToCheck", null == literalsToCheck ? "null"
 				: literalsToCheck.values());
 
 	//	if (literal.equals(dummyLiteral) && ProvabilityLevel.DEFEASIBLE.equals(provability))		
@@ -2043,7 +2043,7 @@ logMessage(Level.FINEST,3,"getProvableTemporalSegment",literal,provability,confl
 			if (ct.isPositiveConclusion()) provableBodyLiterals[conclusionType.getProvabilityLevel().ordinal()].add(bodyLiteral);
 		}
 		// System.out.println("** conclusionsGenerated="+conclusionsGenerated);
-		logMessage(Level.FINER, 1, "generateRelatedBodyLiteralsConclusions_positive - conclusionsGenerated", conclusionsGenerated);
+		if (isLogFiner) logMessage(Level.FINER, 1, "generateRelatedBodyLiteralsConclusions_positive - conclusionsGenerated", conclusionsGenerated);
 
 		return conclusionsGenerated;
 	}
@@ -2138,20 +2138,20 @@ logMessage(Level.FINEST,3,"getProvableTemporalSegment",literal,provability,confl
 			}
 			conclusionTypeSet.put(conclusionType,consolidatedTemporals);
 		}
-		logMessage(Level.FINEST,4,"isRecordExist("+literal+","+conclusionType+")1="+consolidatedTemporals);
+		if (isLogFinest) logMessage(Level.FINEST,4,"isRecordExist("+literal+","+conclusionType+")1="+consolidatedTemporals);
 		Temporal literalTemporal=literal.getTemporal();
 		if (null==literalTemporal)literalTemporal=PERSISTENT_TEMPORAL;
 		
 		
 		SortedSet<Temporal>extractedTemporalSet=consolidatedTemporals.subSet(literalTemporal.getStartTimeAsInstance(),true,literalTemporal.getEndTimeAsInstance(),false);
-		logMessage(Level.FINEST,4,"isRecordExist("+literal+","+conclusionType+")2:"+literalTemporal+":"+extractedTemporalSet);
+		if (isLogFinest) logMessage(Level.FINEST,4,"isRecordExist("+literal+","+conclusionType+")2:"+literalTemporal+":"+extractedTemporalSet);
 		if (null!=extractedTemporalSet && extractedTemporalSet.size()>0){
 			for (Temporal temporal:extractedTemporalSet){
 				if (temporal.contains(literalTemporal))return true;
 			}
 		}
 		Temporal extractedTemporal=consolidatedTemporals.floor(literalTemporal.getStartTimeAsInstance());
-		logMessage(Level.FINEST,4,"isRecordExist("+literal+","+conclusionType+")3:"+literalTemporal+":"+extractedTemporal);
+		if (isLogFinest) logMessage(Level.FINEST,4,"isRecordExist("+literal+","+conclusionType+")3:"+literalTemporal+":"+extractedTemporal);
 		if (null!=extractedTemporal){
 			if (extractedTemporal.contains(literalTemporal))return true;
 		}
@@ -2185,11 +2185,11 @@ logMessage(Level.FINEST,3,"getProvableTemporalSegment",literal,provability,confl
 	
 	@Override
 	protected ProcessStatus newLiteralFind_defeasiblyNotProvable(final Literal literal, final boolean isCheckInference) {
-		logMessage(Level.FINE, 1, "newLiteralFind_defeasiblyNotProvable", literal);
+		if (isLogFine) logMessage(Level.FINE, 1, "newLiteralFind_defeasiblyNotProvable", literal);
 		Conclusion conclusion = new Conclusion(ConclusionType.TENTATIVELY_NOT_PROVABLE, literal);
 		addRecord(conclusion);
 		if (isCheckInference) {
-logMessage(Level.FINEST,0,			getTemporalRecordsString("temporalRecords",temporalRecords));
+if (isLogFinest) logMessage(Level.FINEST,0,			getTemporalRecordsString("temporalRecords",temporalRecords));
 			checkInference(conclusion);
 		}
 		return ProcessStatus.SUCCESS;
@@ -0,0 +1,436 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.engine.tdl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Level;
+
+import spindle.core.dom.Conclusion;
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.DomUtilities;
+import spindle.core.dom.Literal;
+import spindle.core.dom.Rule;
+import spindle.core.dom.RuleType;
+import spindle.core.dom.Temporal;
+import spindle.core.dom.Theory;
+import spindle.engine.ReasoningEngine;
+import spindle.engine.ReasoningEngineException;
+import spindle.engine.ReasoningEngineFactory;
+import spindle.engine.TheoryNormalizer;
+import spindle.sys.AppModuleBase;
+import spindle.sys.Conf;
+import spindle.sys.message.ErrorMessage;
+
+/**
+ * Reason on a stream of temporal events using a sliding window.
+ * <p>
+ * Events are temporal literals that arrive in the order of their start times, the start time of the latest event
+ * being the current stream time. After each (batch of) events, the rules of the theory, the events and the carried
+ * over conclusions that overlap the window <code>[current time - window size, +&infin;)</code> are reasoned as a TDL
+ * theory of its own. The start of the window is the horizon of the stream: when the horizon moves forward, the
+ * conclusions (or the parts of the conclusions) that lie before the horizon are frozen and can be retrieved using
+ * {@link #pollFrozenConclusions()}; while the events that end before the horizon, and the rules whose literals all end
+ * before the horizon, are evicted. Provable conclusions that cross the horizon, or that are still used in the body of
+ * some rules not yet evicted, are carried over to the next window as facts (for definitely provable literals) or
+ * defeasible rules with empty body (for defeasibly provable literals), as in the case of the input literals of
+ * {@link spindle.tools.cache.ComponentReasoner}.
+ * </p>
+ * <p>
+ * So the memory used, and the time taken to process an event, depend only on the theory and the number of events in a
+ * window but not on the length of the stream, provided that the frozen conclusions are polled regularly.
+ * Conclusions that lie before the horizon are not revised anymore, i.e., the window size should cover the longest time
+ * span over which a rule may refer back.
+ * </p>
+ * <p>
+ * As the stream reasoner uses the TDL theory normalizer and reasoning engine, it is available only when the TDL
+ * reasoning engine is supported.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see Conf#getTdlStreamWindow()
+ */
+public class TdlStreamReasoner extends AppModuleBase {
+	private static final String EVENT_RULE_LABEL_PREFIX = "event_";
+	private static final String CARRY_OVER_RULE_LABEL_PREFIX = "carry_";
+
+	private Theory theory = null;
+	private long windowSize = 0;
+
+	private long currentTime = Long.MIN_VALUE;
+	private long horizon = Long.MIN_VALUE;
+
+	private Set<Literal> streamLiterals = null;
+	private Set<String> activeRuleLabels = null;
+	private Set<Literal> activeBodyLiterals = null;
+	private TreeMap<Long, Set<String>> ruleActivationTimes = null;
+	private TreeMap<Long, Set<String>> ruleExpiryTimes = null;
+
+	private Deque<Literal> events = null;
+	private Map<Literal, ConclusionType> carryOverConclusions = null;
+	private Map<Literal, Map<ConclusionType, Conclusion>> conclusions = null;
+	private List<Conclusion> frozenConclusions = null;
+
+	private long eventsCount = 0;
+
+	public TdlStreamReasoner(final Theory theory) {
+		this(theory, Conf.getTdlStreamWindow());
+	}
+
+	/**
+	 * @param theory theory (before normalization) to be applied on the event stream.
+	 * @param windowSize window size, in time units.
+	 */
+	public TdlStreamReasoner(final Theory theory, final long windowSize) {
+		super();
+		if (null == theory) throw new IllegalArgumentException("theory is null");
+		if (windowSize <= 0) throw new IllegalArgumentException("window size must be positive: " + windowSize);
+		this.theory = theory.clone();
+		this.windowSize = windowSize;
+
+		streamLiterals = new TreeSet<Literal>();
+		activeRuleLabels = new TreeSet<String>();
+		activeBodyLiterals = new TreeSet<Literal>();
+		ruleActivationTimes = new TreeMap<Long, Set<String>>();
+		ruleExpiryTimes = new TreeMap<Long, Set<String>>();
+		for (Rule rule : this.theory.getFactsAndAllRules().values()) {
+			long activationTime = Long.MAX_VALUE;
+			long expiryTime = Long.MIN_VALUE;
+			for (Literal literal : rule.getLiteralList()) {
+				Temporal temporal = literal.hasTemporalInfo() ? literal.getTemporal() : new Temporal();
+				activationTime = Math.min(activationTime, temporal.getStartTime());
+				expiryTime = Math.max(expiryTime, temporal.getEndTime());
+			}
+			if (Long.MIN_VALUE == activationTime) {
+				activeRuleLabels.add(rule.getLabel());
+				activeBodyLiterals.addAll(rule.getBodyLiterals());
+			} else {
+				addRuleToTimeIndex(ruleActivationTimes, activationTime, rule.getLabel());
+			}
+			if (Long.MAX_VALUE != expiryTime) addRuleToTimeIndex(ruleExpiryTimes, expiryTime, rule.getLabel());
+		}
+		for (Literal literal : this.theory.getAllLiteralsInRules()) {
+			streamLiterals.add(literal.cloneWithNoTemporal());
+		}
+
+		events = new ArrayDeque<Literal>();
+		carryOverConclusions = new TreeMap<Literal, ConclusionType>();
+		conclusions = new TreeMap<Literal, Map<ConclusionType, Conclusion>>();
+		frozenConclusions = new ArrayList<Conclusion>();
+	}
+
+	/**
+	 * Rules are indexed by the earliest start time (activation time) and the latest end time (expiry time) of their
+	 * literals. A rule is added to the window once its activation time is within a window size ahead of the current
+	 * stream time, and evicted once its expiry time falls before the horizon. Rules with persistent literals are always
+	 * active.
+	 */
+	private static void addRuleToTimeIndex(final TreeMap<Long, Set<String>> timeIndex, final long time, final String ruleLabel) {
+		Set<String> ruleLabels = timeIndex.get(time);
+		if (null == ruleLabels) {
+			ruleLabels = new TreeSet<String>();
+			timeIndex.put(time, ruleLabels);
+		}
+		ruleLabels.add(ruleLabel);
+	}
+
+	/**
+	 * Add an event to the stream and reason on the updated window.
+	 * 
+	 * @param event temporal literal.
+	 * @throws ReasoningEngineException if the event contains no temporal information, starts before the current
+	 *             stream time, or exception is thrown while reasoning.
+	 */
+	public void addEvent(final Literal event) throws ReasoningEngineException {
+		List<Literal> newEvents = new ArrayList<Literal>(1);
+		newEvents.add(event);
+		addEvents(newEvents);
+	}
+
+	/**
+	 * Add a batch of events to the stream and reason on the updated window once.
+	 * 
+	 * @param newEvents temporal literals, in the order of their start times.
+	 * @throws ReasoningEngineException if any of the events contains no temporal information, starts before the
+	 *             current stream time, or exception is thrown while reasoning.
+	 */
+	public void addEvents(final Collection<Literal> newEvents) throws ReasoningEngineException {
+		long time = currentTime;
+		for (Literal event : newEvents) {
+			if (!event.hasTemporalInfo())
+				throw new ReasoningEngineException(getClass(), ErrorMessage.LITERAL_LITERAL_CONTAINS_NO_TEMPORAL_INFO, event);
+			if (event.getTemporal().getStartTime() < time)
+				throw new ReasoningEngineException(getClass(), ErrorMessage.REASONING_ENGINE_STREAM_EVENT_OUT_OF_ORDER, event,
+						Long.toString(time));
+			time = event.getTemporal().getStartTime();
+		}
+		if (time > currentTime) moveHorizon(time);
+		for (Literal event : newEvents) {
+			events.addLast(event.clone());
+			streamLiterals.add(event.cloneWithNoTemporal());
+			eventsCount++;
+		}
+		reason();
+	}
+
+	/**
+	 * Advance the current stream time (without events) and reason on the updated window.
+	 * 
+	 * @param time new stream time.
+	 * @throws ReasoningEngineException
+	 */
+	public void advanceTime(final long time) throws ReasoningEngineException {
+		if (time <= currentTime) return;
+		moveHorizon(time);
+		reason();
+	}
+
+	/**
+	 * End the stream: freeze all conclusions of the current window and evict all events. The theory rules that have
+	 * not yet expired are kept, such that the stream can be continued afterwards.
+	 */
+	public void flush() {
+		for (Entry<Literal, Map<ConclusionType, Conclusion>> entry : conclusions.entrySet()) {
+			Literal literal = entry.getKey();
+			if (!literal.hasTemporalInfo()) continue;
+			if (literal.getTemporal().getStartTime() < horizon)
+				literal = getLiteralWithTemporal(literal, horizon, literal.getTemporal().getEndTime());
+			for (ConclusionType conclusionType : entry.getValue().keySet()) {
+				frozenConclusions.add(new Conclusion(conclusionType, literal));
+			}
+		}
+		conclusions.clear();
+		carryOverConclusions.clear();
+		events.clear();
+		if (currentTime > horizon) horizon = currentTime;
+	}
+
+	/**
+	 * Move the horizon according to the new stream time; freeze the conclusions before the new horizon and evict the
+	 * events and rules that end before it.
+	 */
+	private void moveHorizon(final long time) {
+		currentTime = time;
+		boolean isActiveRulesChanged = false;
+
+		long activationTime = time > Long.MAX_VALUE - windowSize ? Long.MAX_VALUE : time + windowSize;
+		Map<Long, Set<String>> activatedRules = ruleActivationTimes.headMap(activationTime, true);
+		if (activatedRules.size() > 0) {
+			for (Set<String> ruleLabels : activatedRules.values()) {
+				activeRuleLabels.addAll(ruleLabels);
+			}
+			activatedRules.clear();
+			isActiveRulesChanged = true;
+		}
+
+		long newHorizon = time - windowSize;
+		long oldHorizon = horizon;
+		if (newHorizon > horizon) {
+			horizon = newHorizon;
+			Map<Long, Set<String>> expiredRules = ruleExpiryTimes.headMap(horizon, true);
+			if (expiredRules.size() > 0) {
+				for (Set<String> ruleLabels : expiredRules.values()) {
+					activeRuleLabels.removeAll(ruleLabels);
+				}
+				expiredRules.clear();
+				isActiveRulesChanged = true;
+			}
+		}
+
+		if (isActiveRulesChanged) {
+			activeBodyLiterals.clear();
+			for (String ruleLabel : activeRuleLabels) {
+				activeBodyLiterals.addAll(theory.getRule(ruleLabel).getBodyLiterals());
+			}
+		}
+		if (oldHorizon == horizon) return;
+
+		// conclusions that end before the horizon are carried over only if they are still used by some active rules
+		Map<Literal, ConclusionType> newCarryOverConclusions = new TreeMap<Literal, ConclusionType>();
+		for (Entry<Literal, ConclusionType> entry : carryOverConclusions.entrySet()) {
+			if (entry.getKey().getTemporal().getEndTime() <= horizon && activeBodyLiterals.contains(entry.getKey()))
+				newCarryOverConclusions.put(entry.getKey(), entry.getValue());
+		}
+
+		Iterator<Entry<Literal, Map<ConclusionType, Conclusion>>> it = conclusions.entrySet().iterator();
+		while (it.hasNext()) {
+			Entry<Literal, Map<ConclusionType, Conclusion>> entry = it.next();
+			Literal literal = entry.getKey();
+			if (!literal.hasTemporalInfo()) continue;
+			Temporal temporal = literal.getTemporal();
+			long startTime = Math.max(temporal.getStartTime(), oldHorizon);
+			long endTime = Math.min(temporal.getEndTime(), horizon);
+			boolean isExpired = temporal.getEndTime() <= horizon;
+			for (Conclusion conclusion : entry.getValue().values()) {
+				ConclusionType conclusionType = conclusion.getConclusionType();
+				if (startTime < endTime)
+					frozenConclusions.add(new Conclusion(conclusionType, getLiteralWithTemporal(literal, startTime, endTime)));
+				if (conclusionType.isPositiveConclusion() && temporal.getStartTime() < horizon
+						&& (!isExpired || activeBodyLiterals.contains(literal))) {
+					ConclusionType carryOverType = newCarryOverConclusions.get(literal);
+					if (null == carryOverType || ConclusionType.DEFINITE_PROVABLE == conclusionType)
+						newCarryOverConclusions.put(literal, conclusionType);
+				}
+			}
+			if (isExpired) it.remove();
+		}
+		carryOverConclusions = newCarryOverConclusions;
+
+		Iterator<Literal> eit = events.iterator();
+		while (eit.hasNext()) {
+			if (eit.next().getTemporal().getEndTime() <= horizon) eit.remove();
+		}
+	}
+
+	/**
+	 * Reason on the theory composed of the active rules, the events in the window and the carried over conclusions.
+	 * Conclusions that end before the horizon have been frozen already and are discarded.
+	 */
+	private void reason() throws ReasoningEngineException {
+		try {
+			Theory windowTheory = theory.createNewTheoryWithRules(activeRuleLabels);
+			for (Literal event : events) {
+				Rule rule = DomUtilities.getRule(windowTheory.getUniqueRuleLabel(EVENT_RULE_LABEL_PREFIX), RuleType.FACT);
+				rule.addHeadLiteral(event.clone());
+				windowTheory.addRule(rule);
+			}
+			for (Entry<Literal, ConclusionType> entry : carryOverConclusions.entrySet()) {
+				if (isCoveredByEvent(entry.getKey())) continue;
+				RuleType ruleType = ConclusionType.DEFINITE_PROVABLE == entry.getValue() ? RuleType.FACT : RuleType.DEFEASIBLE;
+				Rule rule = DomUtilities.getRule(windowTheory.getUniqueRuleLabel(CARRY_OVER_RULE_LABEL_PREFIX), ruleType);
+				rule.addHeadLiteral(entry.getKey().clone());
+				windowTheory.addRule(rule);
+			}
+
+			conclusions.clear();
+			if (windowTheory.isEmpty()) return;
+
+			TheoryNormalizer theoryNormalizer = ReasoningEngineFactory.getTheoryNormalizer(windowTheory.getTheoryType());
+			theoryNormalizer.setAppLogger(logger);
+			theoryNormalizer.setTheory(windowTheory);
+			theoryNormalizer.transformTheoryToRegularForm();
+			if (theoryNormalizer.getTheory().getDefeatersCount() > 0) theoryNormalizer.removeDefeater();
+			Theory normalizedTheory = theoryNormalizer.getTheory();
+
+			ReasoningEngine reasoningEngine = ReasoningEngineFactory.getReasoningEngine(normalizedTheory);
+			reasoningEngine.setAppLogger(logger);
+			Map<Literal, Map<ConclusionType, Conclusion>> windowConclusions = reasoningEngine.getConclusions(normalizedTheory);
+
+			// keep only the conclusions of the theory and event literals (but not those of the literals introduced
+			// by the normalizer) that end after the horizon
+			for (Entry<Literal, Map<ConclusionType, Conclusion>> entry : windowConclusions.entrySet()) {
+				Literal literal = entry.getKey();
+				if (!streamLiterals.contains(literal.cloneWithNoTemporal())) continue;
+				if (literal.hasTemporalInfo() && literal.getTemporal().getEndTime() <= horizon) continue;
+				conclusions.put(literal, entry.getValue());
+			}
+			logMessage(Level.FINER, 1, "window [", horizon, ",", currentTime, "]: rules=", activeRuleLabels.size(),
+					", events=", events.size(), ", carried over=", carryOverConclusions.size(), ", conclusions=",
+					conclusions.size());
+		} catch (ReasoningEngineException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new ReasoningEngineException(getClass(), e);
+		}
+	}
+
+	private boolean isCoveredByEvent(final Literal literal) {
+		for (Literal event : events) {
+			if (event.equalsWithNoTemporal(literal) && event.getTemporal().contains(literal.getTemporal())) return true;
+		}
+		return false;
+	}
+
+	private static Literal getLiteralWithTemporal(final Literal literal, final long startTime, final long endTime) {
+		Literal newLiteral = literal.clone();
+		newLiteral.setTemporal(new Temporal(startTime, endTime));
+		return newLiteral;
+	}
+
+	/**
+	 * Return the conclusions frozen since the last call, and release them from the stream reasoner.
+	 * 
+	 * @return Frozen conclusions, in the order they were frozen.
+	 */
+	public List<Conclusion> pollFrozenConclusions() {
+		List<Conclusion> polledConclusions = frozenConclusions;
+		frozenConclusions = new ArrayList<Conclusion>();
+		return polledConclusions;
+	}
+
+	/**
+	 * @return Conclusions of the current window (after the horizon), including the persistent conclusions.
+	 */
+	public Map<Literal, Map<ConclusionType, Conclusion>> getWindowConclusions() {
+		return conclusions;
+	}
+
+	/**
+	 * @return Start time of the latest event (or the time last advanced to).
+	 */
+	public long getCurrentTime() {
+		return currentTime;
+	}
+
+	/**
+	 * @return Start of the window; conclusions before it are frozen.
+	 */
+	public long getHorizon() {
+		return horizon;
+	}
+
+	public long getWindowSize() {
+		return windowSize;
+	}
+
+	/**
+	 * @return Number of events in the current window.
+	 */
+	public int getWindowEventsCount() {
+		return events.size();
+	}
+
+	/**
+	 * @return Number of rules of the theory that have not yet expired.
+	 */
+	public int getActiveRulesCount() {
+		return activeRuleLabels.size();
+	}
+
+	/**
+	 * @return Total number of events added to the stream.
+	 */
+	public long getEventsCount() {
+		return eventsCount;
+	}
+}
@@ -0,0 +1,311 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.engine.tdl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+
+import spindle.core.dom.Conclusion;
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.Literal;
+import spindle.core.dom.Rule;
+import spindle.core.dom.Temporal;
+import spindle.core.dom.Theory;
+import spindle.core.dom.TheoryType;
+import spindle.engine.ReasoningEngineException;
+import spindle.engine.ReasoningEngineFactory;
+import spindle.engine.TheoryNormalizer;
+import spindle.sys.AppConst;
+import spindle.sys.AppModuleBase;
+import spindle.sys.Conf;
+import spindle.tools.grounder.TheoryGrounder;
+
+/**
+ * Reason on a temporal theory time partition by time partition, with the partitions reasoned in parallel.
+ * <p>
+ * The temporal reach of a rule is the time span covered by its literals, i.e., from the earliest start time to the
+ * latest end time of its head and body literals. The time axis is cut wherever no rule (or fact) reaches across, which
+ * splits the theory into time partitions whose literals neither overlap nor meet the literals of the other partitions.
+ * As a conclusion of a temporal literal depends only on the rules whose literals overlap it, the time partitions are
+ * independent of each others: no conclusion needs to be handed over at the partition boundaries, and each partition
+ * can be normalized and reasoned as a theory of its own (using a new theory normalizer and reasoning engine per
+ * partition) concurrently. Consecutive partitions are grouped such that each thread receives a similar number of
+ * rules.
+ * </p>
+ * <p>
+ * The conclusions of the theory are the union of the partition conclusions, which can be consolidated into maximal
+ * time segments per literal using {@link #consolidateConclusions(Map)}.
+ * </p>
+ * <p>
+ * Time partition reasoning is supported only for temporal theories in which every literal carries temporal
+ * information (a persistent literal reaches all partitions) and without literal variables.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see Conf#getNoOfParallelReasoningThreads()
+ */
+public class TdlTimePartitionReasoner extends AppModuleBase {
+	private int partitionsCount = 0;
+	private long maxTemporalReach = 0;
+
+	public TdlTimePartitionReasoner() {
+		super();
+	}
+
+	/**
+	 * Check if the theory can be reasoned time partition by time partition using the current reasoner configuration.
+	 * 
+	 * @param theory theory.
+	 * @return true if time partition reasoning is supported; false otherwise.
+	 */
+	public static boolean isTimePartitionReasoningSupported(final Theory theory) {
+		if (AppConst.isDeploy) return false;
+		if (null == theory || TheoryType.TDL != theory.getTheoryType()) return false;
+		if (Conf.getReasonerVersion() == 1) return false;
+		if (theory.getLiteralVariableCount() > 0 || theory.getLiteralBooleanFunctionCount() > 0) return false;
+		if (theory.getLiteralVariablesInRulesCount() > 0 || theory.getLiteralBooleanFunctionsInRulesCount() > 0) return false;
+		if (Conf.isTheoryGrounding() && TheoryGrounder.isGroundingRequired(theory)) return false;
+		for (Literal literal : theory.getAllLiteralsInRules()) {
+			if (!literal.hasTemporalInfo()) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Split the theory into time partitions.
+	 * 
+	 * @param theory temporal theory.
+	 * @return Labels of the rules in each time partition, in time order.
+	 */
+	public List<Set<String>> getTimePartitions(final Theory theory) {
+		// rules indexed by the start of their temporal reach
+		TreeMap<Long, List<Rule>> rulesByStartTime = new TreeMap<Long, List<Rule>>();
+		maxTemporalReach = 0;
+		for (Rule rule : theory.getFactsAndAllRules().values()) {
+			Temporal reach = getTemporalReach(rule);
+			List<Rule> rules = rulesByStartTime.get(reach.getStartTime());
+			if (null == rules) {
+				rules = new ArrayList<Rule>();
+				rulesByStartTime.put(reach.getStartTime(), rules);
+			}
+			rules.add(rule);
+			if (reach.getEndTime() - reach.getStartTime() > maxTemporalReach)
+				maxTemporalReach = reach.getEndTime() - reach.getStartTime();
+		}
+
+		List<Set<String>> partitions = new ArrayList<Set<String>>();
+		Set<String> partition = null;
+		long partitionEndTime = Long.MIN_VALUE;
+		for (Entry<Long, List<Rule>> entry : rulesByStartTime.entrySet()) {
+			if (null == partition || entry.getKey() > partitionEndTime) {
+				partition = new TreeSet<String>();
+				partitions.add(partition);
+			}
+			for (Rule rule : entry.getValue()) {
+				partition.add(rule.getLabel());
+				partitionEndTime = Math.max(partitionEndTime, getTemporalReach(rule).getEndTime());
+			}
+		}
+		return partitions;
+	}
+
+	private static Temporal getTemporalReach(final Rule rule) {
+		long startTime = Long.MAX_VALUE;
+		long endTime = Long.MIN_VALUE;
+		for (Literal literal : rule.getLiteralList()) {
+			startTime = Math.min(startTime, literal.getTemporal().getStartTime());
+			endTime = Math.max(endTime, literal.getTemporal().getEndTime());
+		}
+		return new Temporal(startTime, endTime);
+	}
+
+	/**
+	 * Group consecutive time partitions such that each group contains (about) the same number of rules.
+	 */
+	private static List<Set<String>> groupTimePartitions(final List<Set<String>> partitions, final int noOfRules,
+			final int noOfGroups) {
+		List<Set<String>> groups = new ArrayList<Set<String>>(noOfGroups);
+		int groupSize = (noOfRules + noOfGroups - 1) / noOfGroups;
+		Set<String> group = null;
+		for (Set<String> partition : partitions) {
+			if (null == group || group.size() >= groupSize) {
+				group = new TreeSet<String>();
+				groups.add(group);
+			}
+			group.addAll(partition);
+		}
+		return groups;
+	}
+
+	/**
+	 * Generate the conclusions of a temporal theory time partition by time partition.
+	 * 
+	 * @param theory theory (before normalization).
+	 * @return Conclusions of the literals in the theory.
+	 * @throws ReasoningEngineException
+	 */
+	public Map<Literal, Map<ConclusionType, Conclusion>> getConclusions(final Theory theory) throws ReasoningEngineException {
+		partitionsCount = 0;
+
+		ExecutorService executor = null;
+		try {
+			List<Set<String>> partitions = getTimePartitions(theory);
+			partitionsCount = partitions.size();
+			int noOfThreads = Math.min(Conf.getNoOfParallelReasoningThreads(), partitionsCount);
+			if (noOfThreads > 1) partitions = groupTimePartitions(partitions, theory.getFactsAndAllRules().size(), noOfThreads);
+			logMessage(Level.FINE, 0, "time partitions: ", partitionsCount, ", max. temporal reach: ", maxTemporalReach,
+					", threads: ", noOfThreads);
+
+			// the conclusion updater is shared by the literal data stores of all reasoning engines
+			ReasoningEngineFactory.getTdlConclusionUpdater();
+
+			List<Callable<Map<Literal, Map<ConclusionType, Conclusion>>>> tasks = new ArrayList<Callable<Map<Literal, Map<ConclusionType, Conclusion>>>>(
+					partitions.size());
+			// defeaters removal transforms all rules of the theory,
+			// so it is applied to every partition whenever the theory contains defeaters
+			final boolean isRemoveDefeater = theory.getDefeatersCount() > 0;
+			for (Set<String> partition : partitions) {
+				final Theory partitionTheory = theory.createNewTheoryWithRules(partition);
+				tasks.add(new Callable<Map<Literal, Map<ConclusionType, Conclusion>>>() {
+					@Override
+					public Map<Literal, Map<ConclusionType, Conclusion>> call() throws Exception {
+						return generatePartitionConclusions(partitionTheory, isRemoveDefeater);
+					}
+				});
+			}
+
+			Map<Literal, Map<ConclusionType, Conclusion>> conclusions = new TreeMap<Literal, Map<ConclusionType, Conclusion>>();
+			if (noOfThreads > 1) {
+				executor = Executors.newFixedThreadPool(noOfThreads);
+				for (Future<Map<Literal, Map<ConclusionType, Conclusion>>> future : executor.invokeAll(tasks)) {
+					addPartitionConclusions(conclusions, future.get());
+				}
+			} else {
+				for (Callable<Map<Literal, Map<ConclusionType, Conclusion>>> task : tasks) {
+					addPartitionConclusions(conclusions, task.call());
+				}
+			}
+			return conclusions;
+		} catch (ReasoningEngineException e) {
+			throw e;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof ReasoningEngineException) throw (ReasoningEngineException) e.getCause();
+			throw new ReasoningEngineException(getClass(), e.getCause());
+		} catch (Exception e) {
+			throw new ReasoningEngineException(getClass(), e);
+		} finally {
+			if (null != executor) executor.shutdownNow();
+		}
+	}
+
+	private Map<Literal, Map<ConclusionType, Conclusion>> generatePartitionConclusions(final Theory partitionTheory,
+			final boolean isRemoveDefeater) throws Exception {
+		TheoryNormalizer theoryNormalizer = new TdlTheoryNormalizer2();
+		theoryNormalizer.setAppLogger(logger);
+		theoryNormalizer.setTheory(partitionTheory);
+		theoryNormalizer.transformTheoryToRegularForm();
+		if (isRemoveDefeater) theoryNormalizer.removeDefeater();
+		Theory normalizedTheory = theoryNormalizer.getTheory();
+
+		TdlReasoningEngine2 reasoningEngine = new TdlReasoningEngine2();
+		reasoningEngine.setAppLogger(logger);
+		return reasoningEngine.getConclusions(normalizedTheory);
+	}
+
+	/**
+	 * Temporal literals of different partitions never coincide. Literals without temporal information (introduced by
+	 * the theory normalizer) may appear in several partitions, in which case their conclusions are merged.
+	 */
+	private static void addPartitionConclusions(final Map<Literal, Map<ConclusionType, Conclusion>> conclusions,
+			final Map<Literal, Map<ConclusionType, Conclusion>> partitionConclusions) {
+		for (Entry<Literal, Map<ConclusionType, Conclusion>> entry : partitionConclusions.entrySet()) {
+			Map<ConclusionType, Conclusion> literalConclusions = conclusions.get(entry.getKey());
+			if (null == literalConclusions) conclusions.put(entry.getKey(), entry.getValue());
+			else literalConclusions.putAll(entry.getValue());
+		}
+	}
+
+	/**
+	 * Consolidate the conclusions of the temporal literals into maximal time segments per literal and conclusion type.
+	 * 
+	 * @param conclusions conclusions.
+	 * @return Time segments of the conclusions, indexed by literals (without temporal information) and conclusion
+	 *         types.
+	 * @see Temporal#consolidateTemporalSegments(Collection)
+	 */
+	public static Map<Literal, Map<ConclusionType, Collection<Temporal>>> consolidateConclusions(
+			final Map<Literal, Map<ConclusionType, Conclusion>> conclusions) {
+		Map<Literal, Map<ConclusionType, Collection<Temporal>>> consolidatedConclusions = new TreeMap<Literal, Map<ConclusionType, Collection<Temporal>>>();
+		for (Entry<Literal, Map<ConclusionType, Conclusion>> entry : conclusions.entrySet()) {
+			Literal literal = entry.getKey();
+			if (!literal.hasTemporalInfo()) continue;
+			Literal plainLiteral = literal.cloneWithNoTemporal();
+			Map<ConclusionType, Collection<Temporal>> literalConclusions = consolidatedConclusions.get(plainLiteral);
+			if (null == literalConclusions) {
+				literalConclusions = new TreeMap<ConclusionType, Collection<Temporal>>();
+				consolidatedConclusions.put(plainLiteral, literalConclusions);
+			}
+			for (ConclusionType conclusionType : entry.getValue().keySet()) {
+				Collection<Temporal> temporals = literalConclusions.get(conclusionType);
+				if (null == temporals) {
+					temporals = new ArrayList<Temporal>();
+					literalConclusions.put(conclusionType, temporals);
+				}
+				temporals.add(literal.getTemporal());
+			}
+		}
+		for (Map<ConclusionType, Collection<Temporal>> literalConclusions : consolidatedConclusions.values()) {
+			for (Collection<Temporal> temporals : literalConclusions.values()) {
+				Temporal.consolidateTemporalSegments(temporals);
+			}
+		}
+		return consolidatedConclusions;
+	}
+
+	/**
+	 * @return Number of time partitions in the theory last reasoned.
+	 */
+	public int getPartitionsCount() {
+		return partitionsCount;
+	}
+
+	/**
+	 * @return Maximum temporal reach of the rules in the theory last partitioned.
+	 */
+	public long getMaxTemporalReach() {
+		return maxTemporalReach;
+	}
+}
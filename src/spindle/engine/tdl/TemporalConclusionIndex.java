@@ -0,0 +1,351 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.engine.tdl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import spindle.core.dom.Conclusion;
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.Literal;
+import spindle.core.dom.ProvabilityLevel;
+import spindle.core.dom.Temporal;
+
+/**
+ * Query index over the conclusions of a temporal theory.
+ * <p>
+ * Conclusions are indexed by conclusion type in interval trees (see {@link TemporalIntervalTree}), by literal, and as
+ * a time sorted list of events (the start and end of every conclusion), such that the following queries can be
+ * answered in O(log n + k) time, where k is the number of results:
+ * <ul>
+ * <li>snapshot: conclusions holding at a time instance ({@link #getConclusionsAt(long)});</li>
+ * <li>range: conclusions (or literals) holding at some time during an interval ({@link #getConclusionsDuring(Temporal)},
+ * {@link #getLiteralsDuring(Temporal, ConclusionType)});</li>
+ * <li>per literal: conclusions of a literal at a time instance or during an interval;</li>
+ * <li>changes: conclusions starting or ending during an interval ({@link #getEvents(long, long)}).</li>
+ * </ul>
+ * Conclusions without temporal information (persistent conclusions) hold at all times.
+ * </p>
+ * <p>
+ * The index is built once after reasoning and is not synchronized.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see spindle.Reasoner#getTemporalConclusionIndex()
+ */
+public class TemporalConclusionIndex {
+	/**
+	 * Start or end of a conclusion.
+	 */
+	public static class Event implements Comparable<Event> {
+		private long time;
+		private boolean isStart;
+		private Conclusion conclusion;
+
+		private Event(final long time, final boolean isStart, final Conclusion conclusion) {
+			this.time = time;
+			this.isStart = isStart;
+			this.conclusion = conclusion;
+		}
+
+		public long getTime() {
+			return time;
+		}
+
+		/**
+		 * @return true if the conclusion starts to hold at the event time; false if it ceases to hold.
+		 */
+		public boolean isStart() {
+			return isStart;
+		}
+
+		public Conclusion getConclusion() {
+			return conclusion;
+		}
+
+		/**
+		 * Events are ordered by time, with the conclusions that cease to hold before those that start to hold at the
+		 * same time.
+		 */
+		@Override
+		public int compareTo(final Event event) {
+			if (time != event.time) return time < event.time ? -1 : 1;
+			if (isStart != event.isStart) return isStart ? 1 : -1;
+			return conclusion.compareTo(event.conclusion);
+		}
+
+		@Override
+		public String toString() {
+			return time + (isStart ? " +" : " -") + "[" + conclusion + "]";
+		}
+	}
+
+	private Map<ConclusionType, TemporalIntervalTree<List<Conclusion>>> conclusionsIndex = null;
+	private Map<Literal, TemporalIntervalTree<List<Conclusion>>> literalsIndex = null;
+
+	private List<Event> events = null;
+	private long[] eventTimes = null;
+	private int size = 0;
+
+	public TemporalConclusionIndex() {
+		conclusionsIndex = new TreeMap<ConclusionType, TemporalIntervalTree<List<Conclusion>>>();
+		literalsIndex = new TreeMap<Literal, TemporalIntervalTree<List<Conclusion>>>();
+		events = new ArrayList<Event>();
+	}
+
+	/**
+	 * Create an index over the conclusions generated by a reasoning engine.
+	 * 
+	 * @param conclusions conclusions.
+	 */
+	public TemporalConclusionIndex(final Map<Literal, Map<ConclusionType, Conclusion>> conclusions) {
+		this();
+		for (Map<ConclusionType, Conclusion> literalConclusions : conclusions.values()) {
+			for (Conclusion conclusion : literalConclusions.values()) {
+				add(conclusion);
+			}
+		}
+	}
+
+	/**
+	 * Add the conclusions of a literal data store to the index.
+	 * 
+	 * @param conclusions conclusions, as returned by {@link LiteralDataStore#getAllConclusions()}.
+	 */
+	public void addDataStoreConclusions(final Map<ProvabilityLevel, Map<Literal, TreeMap<Temporal, ConclusionType>>> conclusions) {
+		for (Map<Literal, TreeMap<Temporal, ConclusionType>> provabilityConclusions : conclusions.values()) {
+			for (Entry<Literal, TreeMap<Temporal, ConclusionType>> entry : provabilityConclusions.entrySet()) {
+				for (Entry<Temporal, ConclusionType> temporalEntry : entry.getValue().entrySet()) {
+					Literal literal = entry.getKey().cloneWithNoTemporal();
+					literal.setTemporal(temporalEntry.getKey());
+					add(new Conclusion(temporalEntry.getValue(), literal));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Add a conclusion to the index.
+	 * 
+	 * @param conclusion conclusion.
+	 */
+	public void add(final Conclusion conclusion) {
+		Temporal temporal = conclusion.hasTemporalInfo() ? conclusion.getTemporal() : null;
+
+		TemporalIntervalTree<List<Conclusion>> tree = conclusionsIndex.get(conclusion.getConclusionType());
+		if (null == tree) {
+			tree = new TemporalIntervalTree<List<Conclusion>>();
+			conclusionsIndex.put(conclusion.getConclusionType(), tree);
+		}
+		addToTree(tree, temporal, conclusion);
+
+		Literal plainLiteral = conclusion.getLiteral().cloneWithNoTemporal();
+		tree = literalsIndex.get(plainLiteral);
+		if (null == tree) {
+			tree = new TemporalIntervalTree<List<Conclusion>>();
+			literalsIndex.put(plainLiteral, tree);
+		}
+		addToTree(tree, temporal, conclusion);
+
+		if (null != temporal) {
+			if (Long.MIN_VALUE != temporal.getStartTime()) events.add(new Event(temporal.getStartTime(), true, conclusion));
+			if (Long.MAX_VALUE != temporal.getEndTime()) events.add(new Event(temporal.getEndTime(), false, conclusion));
+			eventTimes = null;
+		}
+		size++;
+	}
+
+	private static void addToTree(final TemporalIntervalTree<List<Conclusion>> tree, final Temporal temporal,
+			final Conclusion conclusion) {
+		List<Conclusion> conclusions = tree.get(temporal);
+		if (null == conclusions) {
+			conclusions = new ArrayList<Conclusion>(1);
+			tree.put(temporal, conclusions);
+		}
+		conclusions.add(conclusion);
+	}
+
+	/**
+	 * Return the conclusions holding at a time instance.
+	 * 
+	 * @param time time instance.
+	 * @return Conclusions holding at the time instance, in temporal order.
+	 */
+	public List<Conclusion> getConclusionsAt(final long time) {
+		return getConclusionsDuring(Temporal.getTemporalInstance(time));
+	}
+
+	/**
+	 * Return the conclusions of a type holding at a time instance.
+	 * 
+	 * @param time time instance.
+	 * @param conclusionType conclusion type.
+	 * @return Conclusions holding at the time instance, in temporal order.
+	 */
+	public List<Conclusion> getConclusionsAt(final long time, final ConclusionType conclusionType) {
+		return getConclusionsDuring(Temporal.getTemporalInstance(time), conclusionType);
+	}
+
+	/**
+	 * Return the conclusions holding at some time during an interval.
+	 * 
+	 * @param temporal interval.
+	 * @return Conclusions overlapping the interval, ordered by conclusion type and then by temporal.
+	 */
+	public List<Conclusion> getConclusionsDuring(final Temporal temporal) {
+		List<Conclusion> conclusions = new ArrayList<Conclusion>();
+		for (TemporalIntervalTree<List<Conclusion>> tree : conclusionsIndex.values()) {
+			addAll(conclusions, tree.getOverlapping(temporal));
+		}
+		return conclusions;
+	}
+
+	/**
+	 * Return the conclusions of a type holding at some time during an interval.
+	 * 
+	 * @param temporal interval.
+	 * @param conclusionType conclusion type.
+	 * @return Conclusions overlapping the interval, in temporal order.
+	 */
+	public List<Conclusion> getConclusionsDuring(final Temporal temporal, final ConclusionType conclusionType) {
+		List<Conclusion> conclusions = new ArrayList<Conclusion>();
+		TemporalIntervalTree<List<Conclusion>> tree = conclusionsIndex.get(conclusionType);
+		if (null != tree) addAll(conclusions, tree.getOverlapping(temporal));
+		return conclusions;
+	}
+
+	/**
+	 * Return the literals (without temporal information) with conclusions of a type holding at some time during an
+	 * interval, e.g., the literals that are defeasibly provable during the interval.
+	 * 
+	 * @param temporal interval.
+	 * @param conclusionType conclusion type.
+	 * @return Literals with conclusions overlapping the interval.
+	 */
+	public Set<Literal> getLiteralsDuring(final Temporal temporal, final ConclusionType conclusionType) {
+		Set<Literal> literals = new TreeSet<Literal>();
+		for (Conclusion conclusion : getConclusionsDuring(temporal, conclusionType)) {
+			literals.add(conclusion.getLiteral().cloneWithNoTemporal());
+		}
+		return literals;
+	}
+
+	/**
+	 * Return the conclusions of a literal holding at a time instance.
+	 * 
+	 * @param literal literal (the temporal information of which is ignored).
+	 * @param time time instance.
+	 * @return Conclusions of the literal holding at the time instance.
+	 */
+	public List<Conclusion> getConclusionsAt(final Literal literal, final long time) {
+		return getConclusionsDuring(literal, Temporal.getTemporalInstance(time));
+	}
+
+	/**
+	 * Return the conclusions of a literal holding at some time during an interval.
+	 * 
+	 * @param literal literal (the temporal information of which is ignored).
+	 * @param temporal interval.
+	 * @return Conclusions of the literal overlapping the interval, in temporal order.
+	 */
+	public List<Conclusion> getConclusionsDuring(final Literal literal, final Temporal temporal) {
+		List<Conclusion> conclusions = new ArrayList<Conclusion>();
+		TemporalIntervalTree<List<Conclusion>> tree = literalsIndex.get(literal.cloneWithNoTemporal());
+		if (null != tree) addAll(conclusions, tree.getOverlapping(temporal));
+		return conclusions;
+	}
+
+	private static void addAll(final List<Conclusion> conclusions, final Map<Temporal, List<Conclusion>> entries) {
+		for (List<Conclusion> temporalConclusions : entries.values()) {
+			conclusions.addAll(temporalConclusions);
+		}
+	}
+
+	/**
+	 * Return the events (start and end of conclusions) during an interval.
+	 * 
+	 * @param startTime start time (inclusive).
+	 * @param endTime end time (exclusive).
+	 * @return Events during the interval, in time order.
+	 */
+	public List<Event> getEvents(final long startTime, final long endTime) {
+		if (null == eventTimes) sortEvents();
+		int from = getFirstEventIndex(startTime);
+		int to = getFirstEventIndex(endTime);
+		return from < to ? Collections.unmodifiableList(events.subList(from, to)) : Collections.<Event> emptyList();
+	}
+
+	/**
+	 * @return All events, in time order.
+	 */
+	public List<Event> getEvents() {
+		if (null == eventTimes) sortEvents();
+		return Collections.unmodifiableList(events);
+	}
+
+	private void sortEvents() {
+		Collections.sort(events);
+		eventTimes = new long[events.size()];
+		for (int i = 0; i < eventTimes.length; i++) {
+			eventTimes[i] = events.get(i).getTime();
+		}
+	}
+
+	/**
+	 * Binary search for the index of the first event on or after the given time.
+	 */
+	private int getFirstEventIndex(final long time) {
+		int low = 0, high = eventTimes.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (eventTimes[mid] < time) low = mid + 1;
+			else high = mid;
+		}
+		return low;
+	}
+
+	/**
+	 * @return Literals (without temporal information) in the index.
+	 */
+	public Set<Literal> getLiterals() {
+		return Collections.unmodifiableSet(literalsIndex.keySet());
+	}
+
+	/**
+	 * @return Number of conclusions in the index.
+	 */
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+}
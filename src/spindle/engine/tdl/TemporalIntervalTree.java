@@ -0,0 +1,238 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.engine.tdl;
+
+import java.util.TreeMap;
+
+import spindle.core.dom.Temporal;
+
+/**
+ * Augmented interval tree for temporal segments.
+ * <p>
+ * Entries are stored in a (height balanced) AVL tree ordered by the natural order of their temporals, i.e., by start
+ * time and then by end time; and every node records the maximum end time of its subtree. This allows all entries
+ * overlapping (see {@link Temporal#overlap(Temporal)}) a given temporal, or containing a given time instance, to be
+ * retrieved in O(log n + k) time, where k is the number of entries found, instead of scanning all entries that start
+ * before the end of the temporal.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @param <V> value type.
+ */
+public class TemporalIntervalTree<V> {
+	private static final Temporal PERSISTENT_TEMPORAL = new Temporal();
+
+	private static class Node<V> {
+		private Temporal temporal;
+		private V value;
+		private Node<V> left = null, right = null;
+		private int height = 1;
+		private long maxEndTime;
+
+		private Node(final Temporal temporal, final V value) {
+			this.temporal = temporal;
+			this.value = value;
+			maxEndTime = temporal.getEndTime();
+		}
+	}
+
+	private Node<V> root = null;
+	private int size = 0;
+
+	public TemporalIntervalTree() {
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void clear() {
+		root = null;
+		size = 0;
+	}
+
+	public V get(final Temporal temporal) {
+		Temporal key = null == temporal ? PERSISTENT_TEMPORAL : temporal;
+		Node<V> node = root;
+		while (null != node) {
+			int c = key.compareTo(node.temporal);
+			if (c == 0) return node.value;
+			node = c < 0 ? node.left : node.right;
+		}
+		return null;
+	}
+
+	/**
+	 * Associate a value with a temporal, replacing the value previously associated with the same temporal (if any).
+	 * 
+	 * @param temporal temporal; or null for persistent temporal.
+	 * @param value value.
+	 */
+	public void put(final Temporal temporal, final V value) {
+		root = put(root, null == temporal ? PERSISTENT_TEMPORAL : temporal, value);
+	}
+
+	/**
+	 * Remove the value associated with a temporal.
+	 * 
+	 * @param temporal temporal; or null for persistent temporal.
+	 */
+	public void remove(final Temporal temporal) {
+		root = remove(root, null == temporal ? PERSISTENT_TEMPORAL : temporal);
+	}
+
+	/**
+	 * Retrieve all entries with temporal overlapping the given temporal.
+	 * 
+	 * @param temporal temporal; or null for persistent temporal (which overlaps all entries).
+	 * @return Entries overlapping the given temporal, in temporal order.
+	 */
+	public TreeMap<Temporal, V> getOverlapping(final Temporal temporal) {
+		Temporal query = null == temporal ? PERSISTENT_TEMPORAL : temporal;
+		TreeMap<Temporal, V> entries = new TreeMap<Temporal, V>();
+		collectOverlapping(root, query, query.getStartTime(), query.getEndTime(), entries);
+		return entries;
+	}
+
+	/**
+	 * Retrieve all entries with temporal containing the given time instance.
+	 * 
+	 * @param time time instance.
+	 * @return Entries containing the given time instance, in temporal order.
+	 */
+	public TreeMap<Temporal, V> getStabbing(final long time) {
+		return getOverlapping(Temporal.getTemporalInstance(time));
+	}
+
+	/**
+	 * An entry may overlap the query temporal only if it starts on or before the query end time and ends on or after
+	 * the query start time. Subtrees that cannot contain such entries are pruned, and the candidates are then verified
+	 * using {@link Temporal#overlap(Temporal)}, which handles time instances and persistent temporals.
+	 */
+	private void collectOverlapping(final Node<V> node, final Temporal query, final long startTime, final long endTime,
+			final TreeMap<Temporal, V> entries) {
+		if (null == node || node.maxEndTime < startTime) return;
+		collectOverlapping(node.left, query, startTime, endTime, entries);
+		if (node.temporal.getStartTime() > endTime) return;
+		if (query.overlap(node.temporal)) entries.put(node.temporal, node.value);
+		collectOverlapping(node.right, query, startTime, endTime, entries);
+	}
+
+	private static int height(final Node<?> node) {
+		return null == node ? 0 : node.height;
+	}
+
+	private static <V> Node<V> update(final Node<V> node) {
+		node.height = Math.max(height(node.left), height(node.right)) + 1;
+		long maxEndTime = node.temporal.getEndTime();
+		if (null != node.left && node.left.maxEndTime > maxEndTime) maxEndTime = node.left.maxEndTime;
+		if (null != node.right && node.right.maxEndTime > maxEndTime) maxEndTime = node.right.maxEndTime;
+		node.maxEndTime = maxEndTime;
+		return node;
+	}
+
+	private static <V> Node<V> rotateRight(final Node<V> node) {
+		Node<V> left = node.left;
+		node.left = left.right;
+		left.right = update(node);
+		return update(left);
+	}
+
+	private static <V> Node<V> rotateLeft(final Node<V> node) {
+		Node<V> right = node.right;
+		node.right = right.left;
+		right.left = update(node);
+		return update(right);
+	}
+
+	private static <V> Node<V> balance(final Node<V> node) {
+		update(node);
+		int balance = height(node.left) - height(node.right);
+		if (balance > 1) {
+			if (height(node.left.left) < height(node.left.right)) node.left = rotateLeft(node.left);
+			return rotateRight(node);
+		} else if (balance < -1) {
+			if (height(node.right.right) < height(node.right.left)) node.right = rotateRight(node.right);
+			return rotateLeft(node);
+		}
+		return node;
+	}
+
+	private Node<V> put(final Node<V> node, final Temporal temporal, final V value) {
+		if (null == node) {
+			size++;
+			return new Node<V>(temporal, value);
+		}
+		int c = temporal.compareTo(node.temporal);
+		if (c == 0) {
+			node.value = value;
+			return node;
+		}
+		if (c < 0) node.left = put(node.left, temporal, value);
+		else node.right = put(node.right, temporal, value);
+		return balance(node);
+	}
+
+	private Node<V> remove(final Node<V> node, final Temporal temporal) {
+		if (null == node) return null;
+		int c = temporal.compareTo(node.temporal);
+		if (c < 0) {
+			node.left = remove(node.left, temporal);
+		} else if (c > 0) {
+			node.right = remove(node.right, temporal);
+		} else {
+			size--;
+			if (null == node.left) return node.right;
+			if (null == node.right) return node.left;
+			Node<V> successor = node.right;
+			while (null != successor.left) {
+				successor = successor.left;
+			}
+			node.temporal = successor.temporal;
+			node.value = successor.value;
+			size++;
+			node.right = remove(node.right, successor.temporal);
+		}
+		return balance(node);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		toString(root, sb);
+		return "{" + sb.toString() + "}";
+	}
+
+	private static void toString(final Node<?> node, final StringBuilder sb) {
+		if (null == node) return;
+		toString(node.left, sb);
+		if (sb.length() > 0) sb.append(", ");
+		sb.append(node.temporal).append("=").append(node.value);
+		toString(node.right, sb);
+	}
+}
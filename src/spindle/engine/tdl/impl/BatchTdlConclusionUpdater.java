@@ -0,0 +1,126 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.engine.tdl.impl;
+
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.logging.Level;
+
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.Literal;
+import spindle.core.dom.Temporal;
+import spindle.core.dom.TemporalException;
+import spindle.engine.tdl.TdlConclusionUpdater;
+import spindle.engine.tdl.TdlConclusionUpdaterException;
+import spindle.sys.message.ErrorMessage;
+
+/**
+ * TDL conclusion updater for production use.
+ * <p>
+ * Conclusions are updated using the same strategy as {@link BasicTdlConclusionUpdater}, i.e., a new conclusion
+ * overrides the conflicting part of the preceding conclusion, is truncated by the conflicting succeeding conclusion,
+ * and is joined with the overlapping or meeting conclusions of the same type. However, no diagnostic messages are
+ * generated unless tracing (logging at level {@link Level#FINEST}) is enabled, and the succeeding conclusions are
+ * verified in place instead of on a copy of the tail of the conclusions set. As every update inserts at most three
+ * segments, and every segment removed has been inserted before, an update takes O(log n) amortized time.
+ * </p>
+ * <p>
+ * This is the default conclusion updater; see {@link TdlConclusionUpdaterBenchmark} for a comparison with
+ * {@link BasicTdlConclusionUpdater}.
+ * </p>
+ * 
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ */
+public class BatchTdlConclusionUpdater extends TdlConclusionUpdater {
+
+	@Override
+	protected void doUpdateConclusion(Literal literal, ConclusionType conclusionType, NavigableMap<Temporal, ConclusionType> conclusionSet)
+			throws TdlConclusionUpdaterException, TemporalException {
+		boolean isTracing = isLoggable(Level.FINEST);
+		if (isTracing) logMessage(Level.FINEST, 2, "doUpdateConclusion: ", conclusionType.getSymbol(), literal);
+
+		Temporal temporal = literal.getTemporal();
+		if (null == temporal) temporal = new Temporal();
+		long temporalStart = temporal.getStartTime();
+
+		// update preceding entry
+		Entry<Temporal, ConclusionType> precedingEntry = conclusionSet.floorEntry(temporal.getStartTimeAsInstance());
+		if (null == precedingEntry || !temporal.overlapOrMeet(precedingEntry.getKey())) {
+			conclusionSet.put(temporal, conclusionType);
+		} else {
+			Temporal precedingTemporal = precedingEntry.getKey();
+			ConclusionType precedingConclusionType = precedingEntry.getValue();
+			if (conclusionType.equals(precedingConclusionType)) {
+				// preceding conclusion already includes the new conclusion
+				if (precedingTemporal.contains(temporal)) return;
+				Temporal joinedTemporal = temporal.join(precedingTemporal);
+				conclusionSet.remove(precedingTemporal);
+				temporal = joinedTemporal;
+				conclusionSet.put(temporal, conclusionType);
+			} else {
+				if (!precedingTemporal.meet(temporal)) {
+					if (precedingTemporal.getStartTime() == temporalStart)
+						throw new TdlConclusionUpdaterException(ErrorMessage.CONCLUSION_CONFLICTING_CONCLUIONS_PROVED_WITH_SAME_START_TIME,
+								new Object[] { literal, precedingTemporal, precedingConclusionType.getSymbol(), temporal,
+										conclusionType.getSymbol() });
+					conclusionSet.remove(precedingTemporal);
+					conclusionSet.put(new Temporal(precedingTemporal.getStartTime(), temporalStart), precedingConclusionType);
+					if (temporal.endBefore(precedingTemporal)) {
+						conclusionSet.put(new Temporal(temporal.getEndTime(), precedingTemporal.getEndTime()), precedingConclusionType);
+					}
+				}
+				conclusionSet.put(temporal, conclusionType);
+			}
+		}
+
+		// update succeeding entries
+		Entry<Temporal, ConclusionType> succeedingEntry = null;
+		for (Temporal lastTemporal = temporal; null != (succeedingEntry = conclusionSet.higherEntry(lastTemporal));) {
+			Temporal succeedingTemporal = succeedingEntry.getKey();
+			ConclusionType succeedingConclusionType = succeedingEntry.getValue();
+			if (!temporal.overlapOrMeet(succeedingTemporal)) break;
+
+			if (conclusionType.equals(succeedingConclusionType)) {
+				if (temporal.contains(succeedingTemporal)) {
+					conclusionSet.remove(succeedingTemporal);
+					lastTemporal = succeedingTemporal;
+				} else {
+					Temporal joinedTemporal = temporal.join(succeedingTemporal);
+					conclusionSet.remove(temporal);
+					conclusionSet.remove(succeedingTemporal);
+					conclusionSet.put(joinedTemporal, conclusionType);
+					break;
+				}
+			} else {
+				// the two conclusions intervals only meet each others
+				if (temporal.meet(succeedingTemporal)) break;
+
+				conclusionSet.remove(temporal);
+				conclusionSet.put(new Temporal(temporal.getStartTime(), succeedingTemporal.getStartTime()), conclusionType);
+				break;
+			}
+		}
+
+		if (isTracing) logMessage(Level.FINEST, 2, "conclusionSet=", conclusionSet);
+	}
+}
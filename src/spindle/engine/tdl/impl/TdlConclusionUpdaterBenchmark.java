@@ -0,0 +1,119 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.engine.tdl.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+
+import com.app.utils.Utilities;
+
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.Literal;
+import spindle.core.dom.Temporal;
+import spindle.core.dom.TemporalStartComparator;
+import spindle.engine.tdl.TdlConclusionUpdater;
+import spindle.sys.Conf;
+
+/**
+ * Benchmark of the TDL conclusion updaters.
+ * <p>
+ * The same stream of random updates of a single literal is applied to each conclusion updater given, and the average
+ * time per update is reported together with the number of segments in the resulting conclusions set. The conclusions
+ * sets produced by the updaters are compared with each other after every run.
+ * </p>
+ * <p>
+ * Updates are generated in blocks of ten time units, all updates in a block share the same conclusion type and the
+ * conclusion types of adjacent blocks differ, such that no conflicting conclusions with the same start time are
+ * generated. An updater with O(log n) amortized update time shows an (almost) constant time per update when the
+ * number of updates grows.
+ * </p>
+ * <p>
+ * Usage: <code>java spindle.engine.tdl.impl.TdlConclusionUpdaterBenchmark [updates ...] [updater class ...]</code>,
+ * the number of updates defaults to 2000, 32000 and 512000; and the updater to {@link BatchTdlConclusionUpdater}.
+ * Note that {@link BasicTdlConclusionUpdater} writes the conclusions set to the console on every update and is only
+ * practical with a small number of updates.
+ * </p>
+ * 
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ */
+public class TdlConclusionUpdaterBenchmark {
+	private static final long SEED = 1;
+	private static final int BLOCK_SIZE = 10;
+
+	private static final ConclusionType[] CONCLUSION_TYPES = { ConclusionType.DEFEASIBLY_PROVABLE,
+			ConclusionType.DEFEASIBLY_NOT_PROVABLE };
+
+	public static void main(String... args) throws Exception {
+		List<Integer> updatesCounts = new ArrayList<Integer>();
+		List<String> updaterClassNames = new ArrayList<String>();
+		for (String arg : args) {
+			if (arg.matches("\\d+")) updatesCounts.add(Integer.parseInt(arg));
+			else updaterClassNames.add(arg);
+		}
+		if (updatesCounts.size() == 0) {
+			updatesCounts.add(2000);
+			updatesCounts.add(32000);
+			updatesCounts.add(512000);
+		}
+		if (updaterClassNames.size() == 0) updaterClassNames.add(BatchTdlConclusionUpdater.class.getName());
+
+		Conf.initializeApplicationContext(null);
+
+		for (int updatesCount : updatesCounts) {
+			NavigableMap<Temporal, ConclusionType> firstConclusionSet = null;
+			for (String updaterClassName : updaterClassNames) {
+				TdlConclusionUpdater updater = Utilities.getInstance(updaterClassName, TdlConclusionUpdater.class);
+				NavigableMap<Temporal, ConclusionType> conclusionSet = new TreeMap<Temporal, ConclusionType>(
+						new TemporalStartComparator());
+
+				long duration = run(updater, updatesCount, conclusionSet);
+
+				System.out.printf("%-30s updates=%8d  time/update=%10.2f us  segments=%d%n", updater.getClass().getSimpleName(),
+						updatesCount, duration / 1000.0 / updatesCount, conclusionSet.size());
+				if (null == firstConclusionSet) {
+					firstConclusionSet = conclusionSet;
+				} else if (!firstConclusionSet.equals(conclusionSet)) {
+					System.out.println("  conclusions set differs from " + updaterClassNames.get(0));
+				}
+			}
+		}
+	}
+
+	private static long run(TdlConclusionUpdater updater, int updatesCount, NavigableMap<Temporal, ConclusionType> conclusionSet)
+			throws Exception {
+		Random random = new Random(SEED);
+		long startTime = System.nanoTime();
+		for (int i = 0; i < updatesCount; i++) {
+			long start = random.nextInt(updatesCount * BLOCK_SIZE);
+			long blockEnd = (start / BLOCK_SIZE + 1) * BLOCK_SIZE;
+			Literal literal = new Literal("p");
+			literal.setTemporal(new Temporal(start, start + 1 + random.nextInt((int) (blockEnd - start))));
+			ConclusionType conclusionType = CONCLUSION_TYPES[(int) ((start / BLOCK_SIZE) % 2)];
+			updater.updateTemporalConclusion(literal, conclusionType, conclusionSet, false);
+		}
+		return System.nanoTime() - startTime;
+	}
+}
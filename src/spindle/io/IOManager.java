@@ -32,6 +32,7 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -54,6 +55,7 @@ import spindle.core.dom.ConclusionType;
 import spindle.core.dom.Literal;
 import spindle.core.dom.Theory;
 import spindle.core.dom.TheoryException;
+import spindle.io.outputter.BinaryTheoryOutputter;
 import spindle.io.parser.DflTheoryParser2;
 import spindle.io.parser.XmlTheoryParser2;
 import spindle.sys.AppConst;
@@ -73,6 +75,11 @@ import com.app.utils.Utilities.ProcessStatus;
  * <p>
  * Provides I/O (theories and conclusions) support (and coordination) to SPINdle reasoning engines.
  * </p>
+ * <p>
+ * Parsers and outputters keep the state of the theory or conclusions being processed. The I/O manager therefore only
+ * registers the parser and outputter classes of each type, and a new parser (outputter) instance is created for each
+ * call, so that theories and conclusions can be loaded and saved by several threads concurrently.
+ * </p>
  * 
  * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
  * @version Last modified 2011.07.27
@@ -84,8 +91,8 @@ public final class IOManager {
 	private static Set<String> interfaceFilter = new HashSet<String>();
 	private static long configurationTimeUsed = 0;
 
-	private static Map<String, TheoryParser> parsers = null;
-	private static Map<String, TheoryOutputter> outputters = null;
+	private static volatile Map<String, Class<? extends TheoryParser>> parsers = null;
+	private static volatile Map<String, Class<? extends TheoryOutputter>> outputters = null;
 
 	static {
 		try {
@@ -171,8 +178,8 @@ public final class IOManager {
 		try {
 			Map<String, Set<String>> classes = Conf.isSearchIOclasses() ? searchIOclasses() : getIOclassesFromConfigFile();
 
-			parsers = new HashMap<String, TheoryParser>();
-			outputters = new HashMap<String, TheoryOutputter>();
+			Map<String, Class<? extends TheoryParser>> parserClasses = new HashMap<String, Class<? extends TheoryParser>>();
+			Map<String, Class<? extends TheoryOutputter>> outputterClasses = new HashMap<String, Class<? extends TheoryOutputter>>();
 			printMessage(1, "configurating I/O classes - start");
 			for (Entry<String, Set<String>> entry : classes.entrySet()) {
 				if (TheoryParser.class.getName().equals(entry.getKey())) {
@@ -183,7 +190,7 @@ public final class IOManager {
 							// Class<?> clazz = Class.forName(parserName);
 							// TheoryParser parser = clazz.asSubclass(TheoryParser.class).newInstance();
 							printMessage("...success, type=[" + parser.getParserType() + "]");
-							parsers.put(parser.getParserType(), parser);
+							parserClasses.put(parser.getParserType(), parser.getClass());
 						} catch (Exception e) {
 							if (!AppConst.isDeploy) printMessage("...failed");
 							throw new ConfigurationException(ErrorMessage.IO_PARSER_INITITATION_ERROR, new String[] { parserName }, e);
@@ -197,7 +204,7 @@ public final class IOManager {
 							// Class<?> clazz = Class.forName(outputterName);
 							// TheoryOutputter outputter = clazz.asSubclass(TheoryOutputter.class).newInstance();
 							printMessage("...success, type=[" + outputter.getOutputterType() + "]");
-							outputters.put(outputter.getOutputterType(), outputter);
+							outputterClasses.put(outputter.getOutputterType(), outputter.getClass());
 						} catch (Exception e) {
 							if (!AppConst.isDeploy) printMessage("...failed");
 							throw new ConfigurationException(ErrorMessage.IO_OUTPUTTER_INITIATION_ERROR, new String[] { outputterName }, e);
@@ -205,6 +212,9 @@ public final class IOManager {
 					}
 				}
 			}
+			// the registry is published only when it is complete and is not modified afterwards
+			outputters = Collections.unmodifiableMap(outputterClasses);
+			parsers = Collections.unmodifiableMap(parserClasses);
 			configurationTimeUsed += (System.currentTimeMillis() - timeStart);
 			printMessage(1, "configurating I/O classes - end");
 		} catch (Exception e) {
@@ -361,15 +371,25 @@ public final class IOManager {
 		return parsers.keySet();
 	}
 
+	/**
+	 * Return a new parser instance of the specified type.
+	 * 
+	 * @param parserType the parser type
+	 * @return a new parser instance, which is not shared with other callers
+	 * @throws ParserException if the parser type is unknown
+	 * @throws ConfigurationException if the parser cannot be created
+	 */
 	public static final TheoryParser getParser(final String parserType) throws ParserException, ConfigurationException {
 		if (null == parsers) initialize();
 
 		String type = parserType.toLowerCase();
-		if (parsers.containsKey(type)) {
-			TheoryParser parser = parsers.get(type);
-			parser.resetAppLogger();
-			return parser;
-		} else throw new ParserException(ErrorMessage.IO_PARSER_TYPE_UNKNOWN, new Object[] { type });
+		Class<? extends TheoryParser> parserClass = parsers.get(type);
+		if (null == parserClass) throw new ParserException(ErrorMessage.IO_PARSER_TYPE_UNKNOWN, new Object[] { type });
+		try {
+			return parserClass.newInstance();
+		} catch (Exception e) {
+			throw new ConfigurationException(ErrorMessage.IO_PARSER_INITITATION_ERROR, e, parserClass.getName());
+		}
 	}
 
 	/**
@@ -384,19 +404,21 @@ public final class IOManager {
 	/**
 	 * @param outputterType
 	 *            the outputter type
-	 * @return the associated FileOutputter of the specified file
-	 * @throws OutputterException
-	 * @throws IOException
+	 * @return a new instance of the associated FileOutputter of the specified file, which is not shared with other
+	 *         callers
+	 * @throws ConfigurationException if the outputter type is unknown or the outputter cannot be created
 	 */
 	public static final TheoryOutputter getOutputter(final String outputterType) throws ConfigurationException {
 		if (null == outputters) initialize();
 
 		String type = outputterType.toLowerCase();
-		if (outputters.containsKey(type)) {
-			TheoryOutputter outputter = outputters.get(type);
-			outputter.resetAppLogger();
-			return outputter;
-		} else throw new ConfigurationException(ErrorMessage.IO_OUTPUTTER_TYPE_UNKNOWN, new Object[] { type });
+		Class<? extends TheoryOutputter> outputterClass = outputters.get(type);
+		if (null == outputterClass) throw new ConfigurationException(ErrorMessage.IO_OUTPUTTER_TYPE_UNKNOWN, new Object[] { type });
+		try {
+			return outputterClass.newInstance();
+		} catch (Exception e) {
+			throw new ConfigurationException(ErrorMessage.IO_OUTPUTTER_INITIATION_ERROR, e, outputterClass.getName());
+		}
 	}
 
 	/**
@@ -488,4 +510,95 @@ public final class IOManager {
 			}
 		}
 	}
+
+	/**
+	 * Save the conclusions without copying them into a list, see {@link TheoryOutputter#save(OutputStream, Map)}.
+	 * 
+	 * @param filename
+	 * @param conclusions conclusions sorted by literal
+	 * @return ProcessStatus.SUCCESS if success, exception throw otherwise
+	 * @throws OutputterException
+	 */
+	public static final ProcessStatus save(File filename, Map<Literal, Map<ConclusionType, Conclusion>> conclusions,//
+			AppLogger logger) throws OutputterException {
+		File path = filename.getParentFile();
+		if (null != path) path.mkdirs();
+		String outputterType = FileManager.getFileExtension(filename);
+		try {
+			return save(new FileOutputStream(filename), getOutputter(outputterType), conclusions, logger);
+		} catch (Exception e) {
+			throw new OutputterException(e);
+		}
+	}
+
+	public static final ProcessStatus save(OutputStream outs, String outputterType,//
+			Map<Literal, Map<ConclusionType, Conclusion>> conclusions, AppLogger logger) throws OutputterException, IOException {
+		try {
+			return save(outs, getOutputter(outputterType), conclusions, logger);
+		} catch (ConfigurationException e) {
+			throw new OutputterException(e);
+		}
+	}
+
+	public static final ProcessStatus save(OutputStream outs, TheoryOutputter outputter,//
+			Map<Literal, Map<ConclusionType, Conclusion>> conclusions, AppLogger logger) throws OutputterException, IOException {
+		try {
+			if (null != logger) outputter.setAppLogger(logger);
+			outputter.save(outs, conclusions);
+			return ProcessStatus.SUCCESS;
+		} catch (Exception e) {
+			throw new OutputterException("Exception throw while saving conclusions", e);
+		} finally {
+			outputter.resetAppLogger();
+			if (null != outs) {
+				outs.flush();
+				outs.close();
+			}
+		}
+	}
+
+	/**
+	 * Save the conclusions as the differences against the conclusions in a reference conclusions file, see
+	 * {@link BinaryTheoryOutputter#save(OutputStream, Map, Map, String)}. The conclusions can only be saved in the binary
+	 * theory format and the name of the reference file is saved as specified.
+	 * 
+	 * @param filename
+	 * @param conclusions conclusions to be saved
+	 * @param referenceFilename reference conclusions file
+	 * @return ProcessStatus.SUCCESS if success, exception throw otherwise
+	 * @throws OutputterException
+	 */
+	public static final ProcessStatus save(File filename, Map<Literal, Map<ConclusionType, Conclusion>> conclusions,//
+			File referenceFilename, AppLogger logger) throws OutputterException {
+		String outputterType = FileManager.getFileExtension(filename);
+		TheoryOutputter outputter = null;
+		try {
+			outputter = getOutputter(outputterType);
+		} catch (Exception e) {
+			throw new OutputterException(e);
+		}
+		if (!(outputter instanceof BinaryTheoryOutputter))
+			throw new OutputterException("delta conclusions cannot be saved in " + outputterType + " format");
+
+		OutputStream outs = null;
+		try {
+			Map<Literal, Map<ConclusionType, Conclusion>> referenceConclusions = getConclusions(referenceFilename, logger);
+			File path = filename.getParentFile();
+			if (null != path) path.mkdirs();
+			outs = new FileOutputStream(filename);
+			if (null != logger) outputter.setAppLogger(logger);
+			((BinaryTheoryOutputter) outputter).save(outs, conclusions, referenceConclusions, referenceFilename.getPath());
+			return ProcessStatus.SUCCESS;
+		} catch (Exception e) {
+			throw new OutputterException("Exception throw while saving conclusions", e);
+		} finally {
+			outputter.resetAppLogger();
+			if (null != outs) {
+				try {
+					outs.close();
+				} catch (IOException e) {
+				}
+			}
+		}
+	}
 }
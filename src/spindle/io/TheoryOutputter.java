@@ -23,8 +23,11 @@ package spindle.io;
 
 import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
 
 import spindle.core.dom.Conclusion;
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.Literal;
 import spindle.core.dom.Theory;
 import spindle.sys.AppModule;
 
@@ -56,4 +59,14 @@ public interface TheoryOutputter extends AppModule {
 	 */
 	void save(OutputStream os, List<Conclusion> conclusionsAsList) throws OutputterException;
 
+	/**
+	 * Save the conclusions in the same order as the sorted conclusions list, i.e., by conclusion type and then by literal.
+	 * Outputters that support streaming write the conclusions directly from the map without copying them.
+	 * 
+	 * @param os <code>java.io.OutputStream</code>
+	 * @param conclusions conclusions sorted by literal
+	 * @throws OutputterException
+	 */
+	void save(OutputStream os, Map<Literal, Map<ConclusionType, Conclusion>> conclusions) throws OutputterException;
+
 }
@@ -21,12 +21,15 @@
  */
 package spindle.io.outputter;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -39,6 +42,9 @@ import javax.xml.transform.TransformerFactory;
 import org.w3c.dom.Document;
 
 import spindle.core.dom.Conclusion;
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.DomUtilities;
+import spindle.core.dom.Literal;
 import spindle.core.dom.Theory;
 import spindle.io.OutputterException;
 import spindle.io.TheoryOutputter;
@@ -57,8 +63,8 @@ public abstract class AbstractTheoryOutputter extends AppModuleBase implements T
 	protected static final String SYMBOL_NEGATION = DflTheoryConst.SYMBOL_NEGATION;
 	protected static final String DEFAULT_RULE_LABEL_PREFIX = Theory.DEFAULT_RULE_LABEL_PREFIX;
 
-	private static DocumentBuilder xmlDocumentBuilder = null;
-	private static Transformer xmlTransformer = null;
+	private DocumentBuilder xmlDocumentBuilder = null;
+	private Transformer xmlTransformer = null;
 
 	private String outputterType = null;
 	protected Writer writer = null;
@@ -78,28 +84,13 @@ public abstract class AbstractTheoryOutputter extends AppModuleBase implements T
 		if (null == os) throw new OutputterException(ErrorMessage.IO_OUTPUT_STREAM_NULL);
 		if (null == theory) throw new OutputterException(ErrorMessage.THEORY_NULL_THEORY);
 
-		writer = new OutputStreamWriter(os);
+		writer = new BufferedWriter(new OutputStreamWriter(os));
 		try {
 			saveToStream(os, theory);
 		} catch (Exception e) {
 			throw new OutputterException(e);
 		} finally {
-			if (null != writer) {
-				try {
-					writer.flush();
-					writer.close();
-				} catch (IOException e) {
-				}
-				writer = null;
-			}
-			if (null != os) {
-				try {
-					os.flush();
-					os.close();
-				} catch (IOException e) {
-				}
-				os = null;
-			}
+			close(os);
 		}
 	}
 
@@ -108,27 +99,45 @@ public abstract class AbstractTheoryOutputter extends AppModuleBase implements T
 		if (null == os) throw new OutputterException(ErrorMessage.IO_OUTPUT_STREAM_NULL);
 		if (null == conclusionsAsList) throw new OutputterException(ErrorMessage.CONCLUSION_NULL_CONCLUSIONS_SET);
 
-		writer = new OutputStreamWriter(os);
+		writer = new BufferedWriter(new OutputStreamWriter(os));
 		try {
 			saveToStream(os, conclusionsAsList);
 		} catch (Exception e) {
 			throw new OutputterException(e);
 		} finally {
-			if (null != writer) {
-				try {
-					writer.flush();
-					writer.close();
-				} catch (IOException e) {
-				}
-				writer = null;
+			close(os);
+		}
+	}
+
+	@Override
+	public void save(OutputStream os, Map<Literal, Map<ConclusionType, Conclusion>> conclusions) throws OutputterException {
+		if (null == os) throw new OutputterException(ErrorMessage.IO_OUTPUT_STREAM_NULL);
+		if (null == conclusions) throw new OutputterException(ErrorMessage.CONCLUSION_NULL_CONCLUSIONS_SET);
+
+		writer = new BufferedWriter(new OutputStreamWriter(os));
+		try {
+			saveToStream(os, conclusions);
+		} catch (Exception e) {
+			throw new OutputterException(e);
+		} finally {
+			close(os);
+		}
+	}
+
+	private void close(OutputStream os) {
+		if (null != writer) {
+			try {
+				writer.flush();
+				writer.close();
+			} catch (IOException e) {
 			}
-			if (null != os) {
-				try {
-					os.flush();
-					os.close();
-				} catch (IOException e) {
-				}
-				os = null;
+			writer = null;
+		}
+		if (null != os) {
+			try {
+				os.flush();
+				os.close();
+			} catch (IOException e) {
 			}
 		}
 	}
@@ -137,6 +146,18 @@ public abstract class AbstractTheoryOutputter extends AppModuleBase implements T
 
 	protected abstract void saveToStream(OutputStream os, List<Conclusion> conclusionsAsList) throws OutputterException;
 
+	/**
+	 * Save the conclusions in the conclusions map. Outputters that do not write the conclusions incrementally save a
+	 * sorted copy of the conclusions.
+	 */
+	protected void saveToStream(OutputStream os, Map<Literal, Map<ConclusionType, Conclusion>> conclusions) throws OutputterException {
+		List<Conclusion> conclusionsAsList = new ArrayList<Conclusion>();
+		for (Conclusion conclusion : DomUtilities.getSortedConclusions(conclusions)) {
+			conclusionsAsList.add(conclusion);
+		}
+		saveToStream(os, conclusionsAsList);
+	}
+
 	// //////////////////////////////////////////////
 	// common functions
 	//
@@ -0,0 +1,125 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.io.outputter;
+
+import spindle.core.dom.ConclusionType;
+
+/**
+ * Constants used in binary theory parser and outputter.
+ * <p>
+ * A binary theory file starts with a header (magic number, format version and content type, i.e., theory or
+ * conclusions) and is followed by a number of sections.
+ * The table of sections (section id, offset, length and number of items of each section) is stored at the end of the
+ * file, followed by a trailer with the offset of the table, so that the file can be written in one pass and sections
+ * can be located without reading the preceding ones. Sections with unknown ids are ignored by the parser.
+ * </p>
+ * <p>
+ * Names, modes and rule labels are stored once in the string dictionary section and literals once in the literal
+ * section; all other sections refer to them by their index. Indexes and counts are written as unsigned variable-length
+ * integers (7 bits per byte, least significant group first). Both dictionary sections end with a table of the (4 bytes)
+ * offsets of their items so that items can be decoded individually when they are first used.
+ * </p>
+ * <p>
+ * Conclusions are grouped by literal (without temporal information). Each group stores the literal index and one
+ * record for each interval in which the literal is concluded: the conclusion types as a bit set (see
+ * {@link #CONCLUSION_TYPES}) packed with two flags telling whether the interval start and end are present, followed by
+ * the interval start and end as differences with the previous interval start. A delta conclusions file stores only the
+ * groups that differ from those of a reference conclusions file, with groups no longer concluded stored without any
+ * interval, and a reference section with the name, number of conclusions and checksum of the reference conclusions.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ */
+public interface BinaryTheoryConst {
+	int MAGIC_NUMBER = 0x53504454; // "SPDT"
+	short FORMAT_VERSION = 1;
+
+	/**
+	 * Size of the header: magic number, format version and content type.
+	 */
+	int HEADER_SIZE = 8;
+	/**
+	 * Size of the trailer: offset of the table of sections and magic number.
+	 */
+	int TRAILER_SIZE = 12;
+	/**
+	 * Size of an entry in the table of sections: section id, offset, length and number of items.
+	 */
+	int SECTION_ENTRY_SIZE = 24;
+
+	// content types
+	short CONTENT_THEORY = 0;
+	short CONTENT_CONCLUSIONS = 1;
+
+	// sections
+	int SECTION_STRINGS = 1;
+	int SECTION_LITERALS = 2;
+	int SECTION_DESCRIPTION = 3;
+	int SECTION_MODE_RULES = 4;
+	int SECTION_LITERAL_VARIABLES = 5;
+	int SECTION_RULES = 6;
+	int SECTION_SUPERIORITY = 7;
+	int SECTION_CONCLUSIONS = 8;
+	int SECTION_REFERENCE = 9;
+
+	// mode rule types
+	byte MODE_CONVERSION = 1;
+	byte MODE_CONFLICT = 2;
+	byte MODE_EXCLUSION = 3;
+
+	// rule types
+	byte RULE_FACT = 0;
+	byte RULE_STRICT = 1;
+	byte RULE_DEFEASIBLE = 2;
+	byte RULE_DEFEATER = 3;
+
+	// literal flags
+	int LITERAL_NEGATION = 0x01;
+	int LITERAL_MODE = 0x02;
+	int LITERAL_MODE_NEGATION = 0x04;
+	int LITERAL_TEMPORAL = 0x08;
+	int LITERAL_PREDICATES = 0x10;
+	int LITERAL_PLACE_HOLDER = 0x20;
+	int LITERAL_VARIABLE = 0x40;
+	int LITERAL_LITERAL_PREDICATES = 0x80;
+
+	// conclusion flags (the conclusion types are stored in the bits above)
+	int CONCLUSION_START = 0x01;
+	int CONCLUSION_END = 0x02;
+	int CONCLUSION_TYPES_SHIFT = 2;
+
+	/**
+	 * Conclusion types, in the order of their bits in the conclusion records.
+	 */
+	ConclusionType[] CONCLUSION_TYPES = { ConclusionType.DEFINITE_PROVABLE, ConclusionType.DEFINITE_NOT_PROVABLE,
+			ConclusionType.DEFEASIBLY_PROVABLE, ConclusionType.DEFEASIBLY_NOT_PROVABLE, ConclusionType.TENTATIVELY_PROVABLE,
+			ConclusionType.TENTATIVELY_NOT_PROVABLE, ConclusionType.POSITIVELY_SUPPORT, ConclusionType.NEGATIVELY_SUPPORT,
+			ConclusionType.AMBIGUITY_DEFEATED };
+
+	// rule flags
+	int RULE_MODE = 0x01;
+	int RULE_MODE_NEGATION = 0x02;
+	int RULE_TEMPORAL = 0x04;
+	int RULE_ORIGINAL_LABEL = 0x08;
+}
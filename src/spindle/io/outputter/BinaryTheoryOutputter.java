@@ -0,0 +1,682 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.io.outputter;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import spindle.core.dom.Conclusion;
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.DomConst;
+import spindle.core.dom.Literal;
+import spindle.core.dom.LiteralVariable;
+import spindle.core.dom.Mode;
+import spindle.core.dom.Rule;
+import spindle.core.dom.Superiority;
+import spindle.core.dom.Temporal;
+import spindle.core.dom.Theory;
+import spindle.io.OutputterException;
+import spindle.sys.message.ErrorMessage;
+
+/**
+ * Defeasible theory outputter in the SPINdle binary theory format.
+ * <p>
+ * The theory is written in one pass: the description, mode conversion/conflict/exclusion rules, literal variables,
+ * rules and superiority relations are written first, with names and literals replaced by their indexes in the
+ * dictionaries; the string and literal dictionaries, which are built while writing, are written after them. Unlike the
+ * DFL and XML formats, the rule labels (including the generated ones) and all literal information are saved, so that
+ * the theory loaded from the file is the same as the one saved.
+ * </p>
+ * <p>
+ * Conclusions are saved as one group per literal (see {@link BinaryTheoryConst}), either in full or, using
+ * {@link #save(OutputStream, Map, Map, String)}, as the differences against a reference set of conclusions.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see spindle.io.outputter.BinaryTheoryConst
+ * @see spindle.io.parser.BinaryTheoryParser
+ */
+public class BinaryTheoryOutputter extends AbstractTheoryOutputter implements BinaryTheoryConst {
+	public static final String OUTPUTTER_TYPE = "spb";
+
+	private static final Charset CHARSET = Charset.forName("UTF-8");
+	private static final String LITERAL_PREDICATE_DEFAULT_VALUE = DomConst.Literal.DEFAULT_PREDICATE_VALUE;
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private static final int[] CONCLUSION_TYPE_BITS = new int[ConclusionType.values().length];
+	static {
+		for (int i = 0; i < CONCLUSION_TYPES.length; i++) {
+			CONCLUSION_TYPE_BITS[CONCLUSION_TYPES[i].ordinal()] = 1 << i;
+		}
+	}
+
+	private static final Comparator<ConclusionRun> CONCLUSION_RUN_COMPARATOR = new Comparator<ConclusionRun>() {
+		@Override
+		public int compare(ConclusionRun run1, ConclusionRun run2) {
+			if (run1.startTime != run2.startTime) return run1.startTime < run2.startTime ? -1 : 1;
+			if (run1.endTime != run2.endTime) return run1.endTime < run2.endTime ? -1 : 1;
+			return 0;
+		}
+	};
+
+	private DataOutputStream out = null;
+	private CountingOutputStream countingOut = null;
+	private List<long[]> sections = null;
+	private long sectionStart = 0;
+
+	private Map<String, Integer> stringIndexes = null;
+	private List<String> strings = null;
+
+	private Map<LiteralRecord, Integer> literalIndexes = null;
+	private ByteArrayOutputStream literalRecords = null;
+	private int[] literalOffsets = null;
+	private ByteArrayOutputStream record = null;
+	private DataOutputStream recordOut = null;
+
+	private Map<Literal, Map<ConclusionType, Conclusion>> referenceConclusions = null;
+	private String referenceName = null;
+
+	public BinaryTheoryOutputter() {
+		super(OUTPUTTER_TYPE);
+	}
+
+	/**
+	 * Save the conclusions as the differences against a set of reference conclusions, i.e., only the literals with
+	 * conclusions that are added, removed or changed are saved.
+	 * 
+	 * @param os Output stream.
+	 * @param conclusions Conclusions to be saved.
+	 * @param referenceConclusions Reference conclusions.
+	 * @param referenceName Name of the reference conclusions file, used by the parser to load the reference
+	 *            conclusions; or null if the reference conclusions will be supplied to the parser explicitly.
+	 * @throws OutputterException
+	 * @see spindle.io.parser.BinaryTheoryParser#getConclusions(java.io.InputStream, Map)
+	 */
+	public void save(OutputStream os, Map<Literal, Map<ConclusionType, Conclusion>> conclusions,
+			Map<Literal, Map<ConclusionType, Conclusion>> referenceConclusions, String referenceName) throws OutputterException {
+		if (null == referenceConclusions) throw new OutputterException(ErrorMessage.CONCLUSION_NULL_CONCLUSIONS_SET);
+		this.referenceConclusions = referenceConclusions;
+		this.referenceName = referenceName;
+		try {
+			save(os, conclusions);
+		} finally {
+			this.referenceConclusions = null;
+			this.referenceName = null;
+		}
+	}
+
+	@Override
+	protected void saveToStream(OutputStream os, Theory theory) throws OutputterException {
+		try {
+			startDocument(os, CONTENT_THEORY);
+
+			String description = theory.getDescription();
+			if (null != description && !"".equals(description)) {
+				writeVarInt(out, getStringIndex(description));
+				endSection(SECTION_DESCRIPTION, 1);
+			}
+
+			int count = saveModeRules(MODE_CONVERSION, theory.getAllModeConversionRules());
+			count += saveModeRules(MODE_CONFLICT, theory.getAllModeConflictRules());
+			count += saveModeRules(MODE_EXCLUSION, theory.getAllModeExclusionRules());
+			endSection(SECTION_MODE_RULES, count);
+
+			count = saveLiteralVariables(theory.getLiteralVariables());
+			count += saveLiteralVariables(theory.getLiteralBooleanFunctions());
+			endSection(SECTION_LITERAL_VARIABLES, count);
+
+			Map<String, Rule> rules = theory.getFactsAndAllRules();
+			for (Rule rule : rules.values()) {
+				saveRule(rule);
+			}
+			endSection(SECTION_RULES, rules.size());
+
+			List<Superiority> superiorities = theory.getAllSuperiority();
+			for (Superiority superiority : superiorities) {
+				writeVarInt(out, getStringIndex(superiority.getSuperior()));
+				writeVarInt(out, getStringIndex(superiority.getInferior()));
+			}
+			endSection(SECTION_SUPERIORITY, superiorities.size());
+
+			endDocument();
+		} catch (OutputterException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new OutputterException(e);
+		} finally {
+			reset();
+		}
+	}
+
+	@Override
+	protected void saveToStream(OutputStream os, List<Conclusion> conclusionsAsList) throws OutputterException {
+		Map<String, ConclusionGroup> conclusionGroups = new LinkedHashMap<String, ConclusionGroup>();
+		for (Conclusion conclusion : conclusionsAsList) {
+			addConclusion(conclusionGroups, conclusion.getLiteral(), conclusion.getConclusionType());
+		}
+		saveConclusions(os, conclusionGroups);
+	}
+
+	@Override
+	protected void saveToStream(OutputStream os, Map<Literal, Map<ConclusionType, Conclusion>> conclusions) throws OutputterException {
+		saveConclusions(os, getConclusionGroups(conclusions));
+	}
+
+	private void saveConclusions(OutputStream os, Map<String, ConclusionGroup> conclusionGroups) throws OutputterException {
+		try {
+			startDocument(os, CONTENT_CONCLUSIONS);
+
+			int count = 0;
+			if (null == referenceConclusions) {
+				for (ConclusionGroup conclusionGroup : conclusionGroups.values()) {
+					saveConclusionGroup(conclusionGroup);
+				}
+				count = conclusionGroups.size();
+			} else {
+				Map<String, ConclusionGroup> referenceGroups = getConclusionGroups(referenceConclusions);
+				for (Entry<String, ConclusionGroup> entry : conclusionGroups.entrySet()) {
+					ConclusionGroup referenceGroup = referenceGroups.remove(entry.getKey());
+					if (null != referenceGroup && referenceGroup.hasSameConclusions(entry.getValue())) continue;
+					saveConclusionGroup(entry.getValue());
+					count++;
+				}
+				// literals that are no longer concluded are saved without any conclusion
+				for (ConclusionGroup referenceGroup : referenceGroups.values()) {
+					writeVarInt(out, getLiteralIndex(referenceGroup.literal));
+					writeVarInt(out, 0);
+				}
+				count += referenceGroups.size();
+			}
+			endSection(SECTION_CONCLUSIONS, count);
+
+			if (null != referenceConclusions) {
+				out.writeByte(null == referenceName ? 0 : 1);
+				if (null != referenceName) writeVarInt(out, getStringIndex(referenceName));
+				int[] checksum = getConclusionsChecksum(referenceConclusions);
+				out.writeInt(checksum[0]);
+				out.writeInt(checksum[1]);
+				endSection(SECTION_REFERENCE, 1);
+			}
+
+			endDocument();
+		} catch (OutputterException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new OutputterException(e);
+		} finally {
+			reset();
+		}
+	}
+
+	private void saveConclusionGroup(ConclusionGroup conclusionGroup) throws IOException {
+		writeVarInt(out, getLiteralIndex(conclusionGroup.literal));
+
+		List<ConclusionRun> runs = new ArrayList<ConclusionRun>(conclusionGroup.runs.values());
+		if (runs.size() > 1) Collections.sort(runs, CONCLUSION_RUN_COMPARATOR);
+		writeVarInt(out, runs.size());
+
+		long previousStartTime = 0;
+		for (ConclusionRun run : runs) {
+			int flags = run.conclusionTypes << CONCLUSION_TYPES_SHIFT;
+			if (run.startTime != Long.MIN_VALUE) flags |= CONCLUSION_START;
+			if (run.endTime != Long.MAX_VALUE) flags |= CONCLUSION_END;
+			writeVarInt(out, flags);
+			if ((flags & CONCLUSION_START) != 0) {
+				writeVarLong(out, run.startTime - previousStartTime);
+				previousStartTime = run.startTime;
+			}
+			if ((flags & CONCLUSION_END) != 0) writeVarLong(out, run.endTime - previousStartTime);
+		}
+	}
+
+	/**
+	 * Group the conclusions by literal (without temporal information).
+	 */
+	private static Map<String, ConclusionGroup> getConclusionGroups(Map<Literal, Map<ConclusionType, Conclusion>> conclusions) {
+		Map<String, ConclusionGroup> conclusionGroups = new LinkedHashMap<String, ConclusionGroup>();
+		for (Entry<Literal, Map<ConclusionType, Conclusion>> entry : conclusions.entrySet()) {
+			for (ConclusionType conclusionType : entry.getValue().keySet()) {
+				addConclusion(conclusionGroups, entry.getKey(), conclusionType);
+			}
+		}
+		return conclusionGroups;
+	}
+
+	private static void addConclusion(Map<String, ConclusionGroup> conclusionGroups, Literal literal, ConclusionType conclusionType) {
+		Temporal temporal = literal.getTemporal();
+		Literal plainLiteral = literal;
+		if (null != temporal) {
+			plainLiteral = literal.clone();
+			plainLiteral.setTemporal(null);
+		}
+
+		String key = plainLiteral.toString();
+		ConclusionGroup conclusionGroup = conclusionGroups.get(key);
+		if (null == conclusionGroup) {
+			conclusionGroup = new ConclusionGroup(plainLiteral);
+			conclusionGroups.put(key, conclusionGroup);
+		}
+
+		long startTime = null == temporal ? Long.MIN_VALUE : temporal.getStartTime();
+		long endTime = null == temporal ? Long.MAX_VALUE : temporal.getEndTime();
+		ConclusionRun run = new ConclusionRun(startTime, endTime);
+		ConclusionRun existingRun = conclusionGroup.runs.get(run);
+		if (null == existingRun) conclusionGroup.runs.put(run, run);
+		else run = existingRun;
+		run.conclusionTypes |= CONCLUSION_TYPE_BITS[conclusionType.ordinal()];
+	}
+
+	/**
+	 * Return the number of conclusions and a checksum of a set of conclusions, used to verify that a delta
+	 * conclusions file is applied to the same reference conclusions that it was created from. The checksum does not
+	 * depend on the order of the conclusions in the set.
+	 * 
+	 * @param conclusions Conclusions.
+	 * @return The number of conclusions and the checksum.
+	 */
+	public static int[] getConclusionsChecksum(Map<Literal, Map<ConclusionType, Conclusion>> conclusions) {
+		CRC32 crc = new CRC32();
+		int count = 0;
+		int checksum = 0;
+		for (Entry<Literal, Map<ConclusionType, Conclusion>> entry : conclusions.entrySet()) {
+			byte[] literal = entry.getKey().toString().getBytes(CHARSET);
+			for (ConclusionType conclusionType : entry.getValue().keySet()) {
+				crc.reset();
+				crc.update(conclusionType.ordinal());
+				crc.update(literal);
+				checksum += (int) crc.getValue();
+				count++;
+			}
+		}
+		return new int[] { count, checksum };
+	}
+
+	private int saveModeRules(byte modeRuleType, Map<String, Set<String>> modeRules) throws IOException {
+		if (null == modeRules) return 0;
+		for (Entry<String, Set<String>> entry : modeRules.entrySet()) {
+			out.writeByte(modeRuleType);
+			writeVarInt(out, getStringIndex(entry.getKey()));
+			writeVarInt(out, entry.getValue().size());
+			for (String mode : entry.getValue()) {
+				writeVarInt(out, getStringIndex(mode));
+			}
+		}
+		return modeRules.size();
+	}
+
+	private int saveLiteralVariables(Map<LiteralVariable, LiteralVariable> literalVariables) throws IOException {
+		if (null == literalVariables) return 0;
+		for (Entry<LiteralVariable, LiteralVariable> entry : literalVariables.entrySet()) {
+			writeVarInt(out, getLiteralIndex(entry.getKey()));
+			writeVarInt(out, getLiteralIndex(entry.getValue()));
+		}
+		return literalVariables.size();
+	}
+
+	private void saveRule(Rule rule) throws IOException, OutputterException {
+		switch (rule.getRuleType()) {
+		case FACT:
+			out.writeByte(RULE_FACT);
+			break;
+		case STRICT:
+			out.writeByte(RULE_STRICT);
+			break;
+		case DEFEASIBLE:
+			out.writeByte(RULE_DEFEASIBLE);
+			break;
+		case DEFEATER:
+			out.writeByte(RULE_DEFEATER);
+			break;
+		default:
+			throw new OutputterException("rule type [" + rule.getRuleType() + "] cannot be saved in " + OUTPUTTER_TYPE + " format");
+		}
+
+		String label = rule.getLabel();
+		String originalLabel = rule.getOriginalLabel();
+		Mode mode = rule.getMode();
+		Temporal temporal = rule.getTemporal();
+
+		int flags = 0;
+		if (null != originalLabel && !originalLabel.equals(label)) flags |= RULE_ORIGINAL_LABEL;
+		if (null != mode && !"".equals(mode.getName())) flags |= mode.isNegation() ? RULE_MODE | RULE_MODE_NEGATION : RULE_MODE;
+		if (null != temporal) flags |= RULE_TEMPORAL;
+		out.writeByte(flags);
+
+		writeVarInt(out, getStringIndex(label));
+		if ((flags & RULE_ORIGINAL_LABEL) != 0) writeVarInt(out, getStringIndex(originalLabel));
+		if ((flags & RULE_MODE) != 0) writeVarInt(out, getStringIndex(mode.getName()));
+		if ((flags & RULE_TEMPORAL) != 0) {
+			out.writeLong(temporal.getStartTime());
+			out.writeLong(temporal.getEndTime());
+		}
+
+		List<Literal> headLiterals = rule.getHeadLiterals();
+		writeVarInt(out, headLiterals.size());
+		for (Literal literal : headLiterals) {
+			writeVarInt(out, getLiteralIndex(literal));
+		}
+		List<Literal> bodyLiterals = rule.getBodyLiterals();
+		writeVarInt(out, bodyLiterals.size());
+		for (Literal literal : bodyLiterals) {
+			writeVarInt(out, getLiteralIndex(literal));
+		}
+	}
+
+	/**
+	 * Return the index of a string in the string dictionary, adding it to the dictionary if necessary.
+	 */
+	private int getStringIndex(String str) {
+		Integer index = stringIndexes.get(str);
+		if (null == index) {
+			index = strings.size();
+			strings.add(str);
+			stringIndexes.put(str, index);
+		}
+		return index;
+	}
+
+	/**
+	 * Return the index of a literal in the literal dictionary, adding it to the dictionary if necessary. Literals are
+	 * identified by their encoded records (instead of {@link Literal#equals(Object)}, which does not distinguish
+	 * predicates that are not grounded).
+	 */
+	private int getLiteralIndex(Literal literal) throws IOException {
+		// literal predicates of literal variables are added to the dictionary first
+		Literal[] literalPredicates = null;
+		int[] literalPredicateIndexes = null;
+		if (literal instanceof LiteralVariable) {
+			literalPredicates = ((LiteralVariable) literal).getLiteralPredicates();
+			if (null != literalPredicates) {
+				literalPredicateIndexes = new int[literalPredicates.length];
+				for (int i = 0; i < literalPredicates.length; i++) {
+					literalPredicateIndexes[i] = null == literalPredicates[i] ? 0 : getLiteralIndex(literalPredicates[i]) + 1;
+				}
+			}
+		}
+
+		Mode mode = literal.getMode();
+		Temporal temporal = literal.getTemporal();
+		String[] predicates = null == literalPredicates ? literal.getPredicates() : null;
+		if (null != predicates && predicates.length == 1 && LITERAL_PREDICATE_DEFAULT_VALUE.equals(predicates[0])) predicates = null;
+
+		int flags = 0;
+		if (literal.isNegation()) flags |= LITERAL_NEGATION;
+		if (null != mode && !"".equals(mode.getName())) flags |= mode.isNegation() ? LITERAL_MODE | LITERAL_MODE_NEGATION : LITERAL_MODE;
+		if (null != temporal) flags |= LITERAL_TEMPORAL;
+		if (null != predicates && predicates.length > 0) flags |= LITERAL_PREDICATES;
+		if (literal.isPlaceHolder()) flags |= LITERAL_PLACE_HOLDER;
+		if (literal instanceof LiteralVariable) flags |= LITERAL_VARIABLE;
+		if (null != literalPredicateIndexes) flags |= LITERAL_LITERAL_PREDICATES;
+
+		record.reset();
+		recordOut.writeByte(flags);
+		writeVarInt(recordOut, getStringIndex(literal.getName()));
+		if ((flags & LITERAL_MODE) != 0) writeVarInt(recordOut, getStringIndex(mode.getName()));
+		if ((flags & LITERAL_TEMPORAL) != 0) {
+			recordOut.writeLong(temporal.getStartTime());
+			recordOut.writeLong(temporal.getEndTime());
+		}
+		if ((flags & LITERAL_PREDICATES) != 0) {
+			writeVarInt(recordOut, predicates.length);
+			for (String predicate : predicates) {
+				writeVarInt(recordOut, getStringIndex(predicate));
+			}
+		}
+		if ((flags & LITERAL_LITERAL_PREDICATES) != 0) {
+			writeVarInt(recordOut, literalPredicateIndexes.length);
+			for (int index : literalPredicateIndexes) {
+				writeVarInt(recordOut, index);
+			}
+		}
+
+		LiteralRecord literalRecord = new LiteralRecord(record.toByteArray());
+		Integer index = literalIndexes.get(literalRecord);
+		if (null == index) {
+			index = literalIndexes.size();
+			if (index == literalOffsets.length) literalOffsets = Arrays.copyOf(literalOffsets, index << 1);
+			literalOffsets[index] = literalRecords.size();
+			literalRecords.write(literalRecord.bytes);
+			literalIndexes.put(literalRecord, index);
+		}
+		return index;
+	}
+
+	/**
+	 * End the current section. Sections are addressed using int offsets within the section and cannot be larger than
+	 * Integer.MAX_VALUE bytes, while the document itself can.
+	 */
+	private void endSection(int sectionId, int count) throws IOException, OutputterException {
+		long offset = countingOut.count;
+		if (offset - sectionStart > Integer.MAX_VALUE)
+			throw new OutputterException("theory is too large to be saved in " + OUTPUTTER_TYPE + " format, section: " + sectionId);
+		if (count > 0) sections.add(new long[] { sectionId, sectionStart, offset - sectionStart, count });
+		sectionStart = offset;
+	}
+
+	private void startDocument(OutputStream os, short contentType) throws IOException {
+		countingOut = new CountingOutputStream(new BufferedOutputStream(os, BUFFER_SIZE));
+		out = new DataOutputStream(countingOut);
+		sections = new ArrayList<long[]>();
+
+		stringIndexes = new HashMap<String, Integer>();
+		strings = new ArrayList<String>();
+
+		literalIndexes = new HashMap<LiteralRecord, Integer>();
+		literalRecords = new ByteArrayOutputStream(BUFFER_SIZE);
+		literalOffsets = new int[1024];
+		record = new ByteArrayOutputStream();
+		recordOut = new DataOutputStream(record);
+
+		out.writeInt(MAGIC_NUMBER);
+		out.writeShort(FORMAT_VERSION);
+		out.writeShort(contentType);
+		sectionStart = countingOut.count;
+	}
+
+	/**
+	 * Write the literal and string dictionaries, the table of sections and the trailer.
+	 */
+	private void endDocument() throws IOException, OutputterException {
+		int literalsCount = literalIndexes.size();
+		literalRecords.writeTo(out);
+		for (int i = 0; i < literalsCount; i++) {
+			out.writeInt(literalOffsets[i]);
+		}
+		endSection(SECTION_LITERALS, literalsCount);
+
+		int stringsCount = strings.size();
+		int[] stringOffsets = new int[stringsCount];
+		for (int i = 0; i < stringsCount; i++) {
+			stringOffsets[i] = (int) (countingOut.count - sectionStart);
+			byte[] bytes = strings.get(i).getBytes(CHARSET);
+			writeVarInt(out, bytes.length);
+			out.write(bytes);
+		}
+		for (int offset : stringOffsets) {
+			out.writeInt(offset);
+		}
+		endSection(SECTION_STRINGS, stringsCount);
+
+		long tableOffset = countingOut.count;
+		out.writeInt(sections.size());
+		for (long[] section : sections) {
+			out.writeInt((int) section[0]);
+			out.writeLong(section[1]);
+			out.writeLong(section[2]);
+			out.writeInt((int) section[3]);
+		}
+		out.writeLong(tableOffset);
+		out.writeInt(MAGIC_NUMBER);
+		out.flush();
+	}
+
+	private void reset() {
+		out = null;
+		countingOut = null;
+		sections = null;
+		stringIndexes = null;
+		strings = null;
+		literalIndexes = null;
+		literalRecords = null;
+		literalOffsets = null;
+		record = null;
+		recordOut = null;
+	}
+
+	private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	/**
+	 * Write a signed value as a variable-length integer (zigzag encoded so that small negative values are short).
+	 */
+	private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+		value = (value << 1) ^ (value >> 63);
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	/**
+	 * Output stream that counts the bytes written, as {@link DataOutputStream#size()} stops counting at
+	 * Integer.MAX_VALUE.
+	 */
+	private static class CountingOutputStream extends FilterOutputStream {
+		private long count = 0;
+
+		private CountingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			count += len;
+		}
+	}
+
+	/**
+	 * Conclusions of a literal (without temporal information).
+	 */
+	private static class ConclusionGroup {
+		private final Literal literal;
+		private final Map<ConclusionRun, ConclusionRun> runs = new HashMap<ConclusionRun, ConclusionRun>(4);
+
+		private ConclusionGroup(final Literal literal) {
+			this.literal = literal;
+		}
+
+		private boolean hasSameConclusions(ConclusionGroup conclusionGroup) {
+			if (runs.size() != conclusionGroup.runs.size()) return false;
+			for (ConclusionRun run : runs.values()) {
+				ConclusionRun otherRun = conclusionGroup.runs.get(run);
+				if (null == otherRun || run.conclusionTypes != otherRun.conclusionTypes) return false;
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Conclusion types of a literal in an interval.
+	 */
+	private static class ConclusionRun {
+		private final long startTime;
+		private final long endTime;
+		private int conclusionTypes = 0;
+
+		private ConclusionRun(final long startTime, final long endTime) {
+			this.startTime = startTime;
+			this.endTime = endTime;
+		}
+
+		@Override
+		public int hashCode() {
+			return (int) (startTime ^ (startTime >>> 32)) * 31 + (int) (endTime ^ (endTime >>> 32));
+		}
+
+		/**
+		 * Runs are equal if they have the same interval; the conclusion types are compared separately.
+		 */
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (!(o instanceof ConclusionRun)) return false;
+			ConclusionRun run = (ConclusionRun) o;
+			return startTime == run.startTime && endTime == run.endTime;
+		}
+	}
+
+	/**
+	 * Encoded literal record, used as the key of the literal dictionary.
+	 */
+	private static class LiteralRecord {
+		private final byte[] bytes;
+		private final int hashCode;
+
+		private LiteralRecord(final byte[] bytes) {
+			this.bytes = bytes;
+			hashCode = Arrays.hashCode(bytes);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (!(o instanceof LiteralRecord)) return false;
+			return Arrays.equals(bytes, ((LiteralRecord) o).bytes);
+		}
+	}
+}
@@ -33,6 +33,8 @@ import java.util.Vector;
 import spindle.core.dom.Conclusion;
 import spindle.core.dom.ConclusionType;
 import spindle.core.dom.DomConst;
+import spindle.core.dom.DomUtilities;
+import spindle.core.dom.Literal;
 import spindle.core.dom.LiteralVariable;
 import spindle.core.dom.Mode;
 import spindle.core.dom.Rule;
@@ -215,13 +217,22 @@ public class DflTheoryOutputter extends AbstractTheoryOutputter {
 
 	@Override
 	protected void saveToStream(OutputStream os, List<Conclusion> conclusionsAsList) throws OutputterException {
+		saveConclusions(conclusionsAsList);
+	}
+
+	@Override
+	protected void saveToStream(OutputStream os, Map<Literal, Map<ConclusionType, Conclusion>> conclusions) throws OutputterException {
+		saveConclusions(DomUtilities.getSortedConclusions(conclusions));
+	}
+
+	private void saveConclusions(Iterable<Conclusion> conclusions) throws OutputterException {
 		try {
 			if (null == writer) throw new IOException("writer is null");
 
 			printHeader();
 			writer.write(CONCLUSION_COMMENT.toString());
 
-			for (Conclusion conclusion : conclusionsAsList) {
+			for (Conclusion conclusion : conclusions) {
 				String conclusionStr = conclusion.getLiteral().toString();
 				conclusionStr = conclusionStr.replaceAll("" + DomConst.Literal.LITERAL_NEGATION_SIGN, DflTheoryConst.SYMBOL_NEGATION);
 
@@ -0,0 +1,315 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.io.outputter;
+
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import spindle.core.dom.Conclusion;
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.DomConst;
+import spindle.core.dom.DomUtilities;
+import spindle.core.dom.Literal;
+import spindle.core.dom.LiteralVariable;
+import spindle.core.dom.Mode;
+import spindle.core.dom.Rule;
+import spindle.core.dom.Superiority;
+import spindle.core.dom.Temporal;
+import spindle.core.dom.Theory;
+import spindle.io.OutputterException;
+
+/**
+ * Streaming defeasible theory and conclusions outputter in XML.
+ * <p>
+ * Theories and conclusions are written element by element using a StAX {@link XMLStreamWriter}, in the same format as
+ * {@link spindle.io.outputter.XmlTheoryOutputter2}, without building the JAXB object graph ({@link spindle.io.xjc.dom2})
+ * of the whole document first. Conclusions saved from a conclusions map are written directly from the map, so that only
+ * constant extra memory is needed whatever the number of conclusions.
+ * </p>
+ * <p>
+ * The outputter is not registered in the I/O configuration by default, {@link spindle.io.outputter.XmlTheoryOutputter2}
+ * remains the XML outputter. It can be enabled by registering it in place of {@link spindle.io.outputter.XmlTheoryOutputter2}
+ * in the I/O configuration file.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see spindle.io.outputter.XmlTheoryOutputter2
+ * @see spindle.io.parser.StreamingXmlTheoryParser
+ */
+public class StreamingXmlTheoryOutputter extends AbstractTheoryOutputter {
+	public static final String OUTPUTTER_TYPE = XmlTheoryOutputter2.OUTPUTTER_TYPE;
+
+	private static final String XML_NAMESPACE = "http://spin.nicta.org.au/spindle/spindleDefeasibleTheory2.xsd";
+	private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+	private static final String LITERAL_PREDICATE_DEFAULT_VALUE = DomConst.Literal.DEFAULT_PREDICATE_VALUE;
+
+	private XMLOutputFactory outputFactory = null;
+	private Writer xmlWriter = null;
+	private XMLStreamWriter out = null;
+
+	public StreamingXmlTheoryOutputter() {
+		super(OUTPUTTER_TYPE);
+	}
+
+	@Override
+	protected void saveToStream(OutputStream os, Theory theory) throws OutputterException {
+		try {
+			startDocument(os, "theory", isEmptyTheory(theory));
+
+			String description = theory.getDescription();
+			if (null != description && !"".equals(description)) writeElement("description", description);
+
+			saveModeRules(theory.getAllModeConversionRules(), "convert", "from", "to");
+			saveModeRules(theory.getAllModeConflictRules(), "conflict", "mode", "conflictWIth");
+			saveModeRules(theory.getAllModeExclusionRules(), "exclude", "mode", "excludeWith");
+
+			for (Entry<LiteralVariable, LiteralVariable> entry : theory.getLiteralVariables().entrySet()) {
+				out.writeStartElement("literalVariable");
+				saveLiteralVariable("name", entry.getKey());
+				saveLiteralVariable("value", entry.getValue());
+				out.writeEndElement();
+			}
+			for (Entry<LiteralVariable, LiteralVariable> entry : theory.getLiteralBooleanFunctions().entrySet()) {
+				out.writeStartElement("literalBooleanFunction");
+				saveLiteralVariable("name", entry.getKey());
+				writeElement("value", entry.getValue().getName());
+				out.writeEndElement();
+			}
+
+			for (Rule rule : theory.getFactsAndAllRules().values()) {
+				switch (rule.getRuleType()) {
+				case FACT:
+					saveLiteral("fact", rule.getHeadLiterals().get(0));
+					break;
+				case STRICT:
+				case DEFEASIBLE:
+				case DEFEATER:
+					saveRule(rule);
+					break;
+				default:
+				}
+			}
+
+			for (Superiority superiority : theory.getAllSuperiority()) {
+				out.writeEmptyElement("superiority");
+				out.writeAttribute("superior", superiority.getSuperior());
+				out.writeAttribute("inferior", superiority.getInferior());
+			}
+
+			endDocument();
+		} catch (Exception e) {
+			throw new OutputterException(e);
+		} finally {
+			out = null;
+			xmlWriter = null;
+		}
+	}
+
+	@Override
+	protected void saveToStream(OutputStream os, List<Conclusion> conclusionsAsList) throws OutputterException {
+		saveConclusions(os, conclusionsAsList);
+	}
+
+	@Override
+	protected void saveToStream(OutputStream os, Map<Literal, Map<ConclusionType, Conclusion>> conclusions) throws OutputterException {
+		saveConclusions(os, DomUtilities.getSortedConclusions(conclusions));
+	}
+
+	private void saveConclusions(OutputStream os, Iterable<Conclusion> conclusions) throws OutputterException {
+		try {
+			startDocument(os, "conclusions", !conclusions.iterator().hasNext());
+			for (Conclusion conclusion : conclusions) {
+				out.writeStartElement("conclusion");
+				writeElement("tag", conclusion.getConclusionType().getTextTag());
+				saveLiteral("literal", conclusion.getLiteral());
+				out.writeEndElement();
+			}
+			endDocument();
+		} catch (Exception e) {
+			throw new OutputterException(e);
+		} finally {
+			out = null;
+			xmlWriter = null;
+		}
+	}
+
+	private void saveModeRules(Map<String, Set<String>> modeRules, String elementName, String modeElementName,
+			String modesElementName) throws XMLStreamException {
+		if (null == modeRules) return;
+		for (Entry<String, Set<String>> entry : modeRules.entrySet()) {
+			out.writeStartElement(elementName);
+			writeElement(modeElementName, entry.getKey());
+			for (String mode : entry.getValue()) {
+				writeElement(modesElementName, mode);
+			}
+			out.writeEndElement();
+		}
+	}
+
+	private void saveLiteralVariable(String elementName, LiteralVariable literalVariable) throws XMLStreamException {
+		out.writeStartElement(elementName);
+		writeElement("atom", literalVariable.getName());
+		savePredicates(literalVariable.getPredicates());
+		out.writeEndElement();
+	}
+
+	private void saveRule(Rule rule) throws XMLStreamException {
+		out.writeStartElement("rule");
+
+		String ruleLabel = rule.getLabel();
+		if (null != ruleLabel && !"".equals(ruleLabel) && !ruleLabel.startsWith(DEFAULT_RULE_LABEL_PREFIX))
+			out.writeAttribute("label", ruleLabel);
+		out.writeAttribute("ruletype", rule.getRuleType().name());
+
+		Mode mode = rule.getMode();
+		if (null != mode && !"".equals(mode.getName())) writeElement("mode", mode.getName());
+
+		List<Literal> headLiterals = rule.getHeadLiterals();
+		if (null != headLiterals && headLiterals.size() > 0) {
+			out.writeStartElement("head");
+			for (Literal literal : headLiterals) {
+				saveLiteral("literal", literal);
+			}
+			out.writeEndElement();
+		}
+
+		List<Literal> bodyLiterals = rule.getBodyLiterals();
+		if (null != bodyLiterals && bodyLiterals.size() > 0) {
+			out.writeStartElement("body");
+			if (bodyLiterals.size() == 1) {
+				saveLiteral("literal", bodyLiterals.get(0));
+			} else {
+				out.writeStartElement("and");
+				for (Literal literal : bodyLiterals) {
+					saveLiteral("literal", literal);
+				}
+				out.writeEndElement();
+			}
+			out.writeEndElement();
+		}
+
+		out.writeEndElement();
+	}
+
+	private void saveLiteral(String elementName, Literal literal) throws XMLStreamException {
+		out.writeStartElement(elementName);
+
+		Mode mode = literal.getMode();
+		boolean hasMode = null != mode && !"".equals(mode.getName());
+
+		if (!literal.isNegation()) writeElement("atom", literal.getName());
+		if (hasMode && !mode.isNegation()) writeElement("mode", mode.getName());
+		if (literal.isNegation()) {
+			out.writeStartElement("not");
+			writeElement("atom", literal.getName());
+			out.writeEndElement();
+		}
+		if (hasMode && mode.isNegation()) {
+			out.writeStartElement("not");
+			writeElement("mode", mode.getName());
+			out.writeEndElement();
+		}
+
+		Temporal temporal = literal.getTemporal();
+		if (null != temporal && temporal.hasTemporalInfo()) {
+			out.writeStartElement("interval");
+			if (Long.MIN_VALUE != temporal.getStartTime()) writeElement("start", Long.toString(temporal.getStartTime()));
+			if (Long.MAX_VALUE != temporal.getEndTime()) writeElement("end", Long.toString(temporal.getEndTime()));
+			out.writeEndElement();
+		}
+
+		savePredicates(literal.getPredicates());
+
+		out.writeEndElement();
+	}
+
+	private void savePredicates(String[] predicates) throws XMLStreamException {
+		if (null == predicates || predicates.length == 0) return;
+		if (predicates.length == 1) {
+			if (LITERAL_PREDICATE_DEFAULT_VALUE.equals(predicates[0])) return;
+			out.writeStartElement("predicates");
+			writeElement("predicate", predicates[0]);
+			out.writeEndElement();
+		} else {
+			out.writeStartElement("predicates");
+			for (String p : predicates) {
+				writeElement("predicate", LITERAL_PREDICATE_DEFAULT_VALUE.equals(p) ? "" : p);
+			}
+			out.writeEndElement();
+		}
+	}
+
+	private void writeElement(String elementName, String text) throws XMLStreamException {
+		out.writeStartElement(elementName);
+		out.writeCharacters(text);
+		out.writeEndElement();
+	}
+
+	private boolean isEmptyTheory(Theory theory) {
+		String description = theory.getDescription();
+		if (null != description && !"".equals(description)) return false;
+		if (!isEmpty(theory.getAllModeConversionRules()) || !isEmpty(theory.getAllModeConflictRules())
+				|| !isEmpty(theory.getAllModeExclusionRules())) return false;
+		return theory.getLiteralVariables().isEmpty() && theory.getLiteralBooleanFunctions().isEmpty()
+				&& theory.getFactsAndAllRules().isEmpty() && theory.getAllSuperiority().isEmpty();
+	}
+
+	private static boolean isEmpty(Map<String, Set<String>> modeRules) {
+		return null == modeRules || modeRules.isEmpty();
+	}
+
+	/**
+	 * Start the document with the root element, which is written as an empty element (as the JAXB marshaller does) if
+	 * the document has no content.
+	 */
+	private void startDocument(OutputStream os, String rootElement, boolean isEmptyDocument) throws Exception {
+		if (null == outputFactory) outputFactory = XMLOutputFactory.newInstance();
+
+		// documents are written in UTF-8 with the same XML declaration as the JAXB marshaller
+		xmlWriter = new BufferedWriter(new OutputStreamWriter(os, "UTF-8"));
+		xmlWriter.write(XML_DECLARATION);
+		out = outputFactory.createXMLStreamWriter(xmlWriter);
+		out.setDefaultNamespace(XML_NAMESPACE);
+		if (isEmptyDocument) out.writeEmptyElement(XML_NAMESPACE, rootElement);
+		else out.writeStartElement(XML_NAMESPACE, rootElement);
+		out.writeDefaultNamespace(XML_NAMESPACE);
+	}
+
+	private void endDocument() throws Exception {
+		out.writeEndDocument();
+		out.flush();
+		out.close();
+		xmlWriter.flush();
+	}
+}
@@ -73,9 +73,6 @@ public class XmlTheoryOutputter2 extends AbstractTheoryOutputter {
 
 	private static ObjectFactory objectFactory = null;
 
-	private static XmlTheoryOutputter2 INSTANCE = null;
-	private static Marshaller ruleMarshaller = null;
-
 	private Marshaller theoryMarshaller = null;
 	private Marshaller conclusionsMarshaller = null;
 
@@ -97,10 +94,10 @@ public class XmlTheoryOutputter2 extends AbstractTheoryOutputter {
 
 	public static String getRuleAsXmlString(spindle.core.dom.Rule rule) throws OutputterException {
 		try {
-			if (null == INSTANCE) INSTANCE = new XmlTheoryOutputter2();
-			if (null == ruleMarshaller) ruleMarshaller = XjcUtilities.getRuleMarshaller();
+			XmlTheoryOutputter2 outputter = new XmlTheoryOutputter2();
+			Marshaller ruleMarshaller = XjcUtilities.getRuleMarshaller();
 
-			CtRule cRule = INSTANCE.generateRule(rule);
+			CtRule cRule = outputter.generateRule(rule);
 
 			Rules cRules = objectFactory.createRules();
 			cRules.setRule(cRule);
@@ -122,7 +119,7 @@ public class XmlTheoryOutputter2 extends AbstractTheoryOutputter {
 
 	public XmlTheoryOutputter2() {
 		super(OUTPUTTER_TYPE);
-		if (null == objectFactory) objectFactory = XjcUtilities.getObjectFactory();
+		objectFactory = XjcUtilities.getObjectFactory();
 	}
 
 	@Override
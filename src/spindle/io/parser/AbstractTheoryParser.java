@@ -21,8 +21,11 @@
  */
 package spindle.io.parser;
 
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -65,6 +68,17 @@ public abstract class AbstractTheoryParser extends AppModuleBase implements Theo
 	protected static final String SYMBOL_NEGATION = DflTheoryConst.SYMBOL_NEGATION;
 	protected static final String TEMP_RULE_LABEL = "TEMP_RULE_LABEL";
 
+	/**
+	 * Files larger than this size are memory-mapped instead of being read into the heap.
+	 */
+	private static final int MEMORY_MAP_THRESHOLD = 1 << 20;
+	private static final int READ_BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * Maximum size of a buffer, files larger than this size are mapped in several windows.
+	 */
+	protected static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+
 	private String parserType = null;
 	private List<Rule> pendingRules = null;
 	private AppConstants appConstants = null;
@@ -242,6 +256,117 @@ public abstract class AbstractTheoryParser extends AppModuleBase implements Theo
 		return conclusions;
 	}
 
+	/**
+	 * Read the whole input into a byte buffer. Files are memory-mapped (or read through their channel if they are small)
+	 * without moving the stream position so that they can be re-read by another parser (for example, the JavaCC generated
+	 * parser) if necessary.
+	 * 
+	 * @return Input as a byte buffer, or null if the input is too large to be mapped.
+	 * @see #readInput(InputStream, int, InputWindowBoundary)
+	 */
+	protected static ByteBuffer readInput(InputStream ins) throws IOException {
+		if (ins instanceof FileInputStream) {
+			FileChannel channel = ((FileInputStream) ins).getChannel();
+			long start = channel.position();
+			long size = channel.size() - start;
+			if (size > MAX_WINDOW_SIZE) return null;
+			return readInput(channel, start, (int) size);
+		}
+
+		byte[] bytes = new byte[Math.max(READ_BUFFER_SIZE, ins.available() + 1)];
+		int len = 0;
+		int n;
+		while ((n = ins.read(bytes, len, bytes.length - len)) >= 0) {
+			len += n;
+			if (len == bytes.length) {
+				byte[] newBytes = new byte[bytes.length << 1];
+				System.arraycopy(bytes, 0, newBytes, 0, len);
+				bytes = newBytes;
+			}
+		}
+		return ByteBuffer.wrap(bytes, 0, len);
+	}
+
+	/**
+	 * Read the whole input into byte buffers (windows) of at most the specified size, without moving the stream position.
+	 * Inputs that fit into one window are read using {@link #readInput(InputStream)}; otherwise, the file is mapped
+	 * window by window, where every window but the last one ends at the position returned by the window boundary, so
+	 * that no statement spans two windows.
+	 * 
+	 * @param ins Input stream.
+	 * @param windowSize Maximum size of a window.
+	 * @param windowBoundary Window boundary.
+	 * @return Windows of the input, in input order.
+	 * @throws IOException if a window contains no window boundary.
+	 */
+	protected static List<ByteBuffer> readInput(InputStream ins, int windowSize, InputWindowBoundary windowBoundary)
+			throws IOException {
+		List<ByteBuffer> windows = new ArrayList<ByteBuffer>();
+		long size = getInputSize(ins);
+		if (size <= windowSize) {
+			ByteBuffer buffer = readInput(ins);
+			if (null == buffer) throw new IOException("input is too large to be loaded");
+			windows.add(buffer);
+			return windows;
+		}
+
+		FileChannel channel = ((FileInputStream) ins).getChannel();
+		long position = channel.position();
+		long end = position + size;
+		while (position < end) {
+			ByteBuffer window = readInput(channel, position, (int) Math.min(windowSize, end - position));
+			if (position + window.limit() < end) {
+				int windowEnd = windowBoundary.getWindowEnd(window);
+				if (windowEnd <= 0) throw new IOException("no statement ends within " + windowSize + " bytes from position " + position);
+				window.limit(windowEnd);
+			}
+			windows.add(window);
+			position += window.limit();
+		}
+		return windows;
+	}
+
+	/**
+	 * Read a part of a file into a byte buffer, memory-mapped if it is large, without moving the channel position.
+	 * 
+	 * @param channel File channel.
+	 * @param position Position of the file where the buffer starts.
+	 * @param size Size of the buffer.
+	 * @return Part of the file as a byte buffer.
+	 */
+	protected static ByteBuffer readInput(FileChannel channel, long position, int size) throws IOException {
+		if (size >= MEMORY_MAP_THRESHOLD) return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) >= 0) {
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Return the number of bytes remaining in the input if it is a file, or -1 otherwise.
+	 */
+	protected static long getInputSize(InputStream ins) throws IOException {
+		if (!(ins instanceof FileInputStream)) return -1;
+		FileChannel channel = ((FileInputStream) ins).getChannel();
+		return channel.size() - channel.position();
+	}
+
+	/**
+	 * Locate the end of the last complete statement in a window of the input.
+	 * 
+	 * @see AbstractTheoryParser#readInput(InputStream, int, InputWindowBoundary)
+	 */
+	protected interface InputWindowBoundary {
+		/**
+		 * @param window Window of the input.
+		 * @return Position right after the last complete statement in the window, or -1 if no statement ends in the
+		 *         window.
+		 */
+		int getWindowEnd(ByteBuffer window);
+	}
+
 	protected AppConstants getAppConstants() {
 		if (null == appConstants) appConstants = AppConstants.getInstance(null);
 		return appConstants;
@@ -0,0 +1,559 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.io.parser;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+import spindle.core.dom.Conclusion;
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.DomUtilities;
+import spindle.core.dom.Literal;
+import spindle.core.dom.LiteralVariable;
+import spindle.core.dom.Mode;
+import spindle.core.dom.Rule;
+import spindle.core.dom.RuleType;
+import spindle.core.dom.Superiority;
+import spindle.core.dom.Temporal;
+import spindle.io.IOManager;
+import spindle.io.ParserException;
+import spindle.io.outputter.BinaryTheoryConst;
+import spindle.io.outputter.BinaryTheoryOutputter;
+import spindle.sys.message.ErrorMessage;
+
+/**
+ * Defeasible theory parser for theory saved in the SPINdle binary theory format.
+ * <p>
+ * Files are memory-mapped (see {@link AbstractTheoryParser#readInput(InputStream)}) and the sections are located
+ * through the table of sections at the end of the file, so that only the sections needed are read. Files larger than
+ * {@link AbstractTheoryParser#MAX_WINDOW_SIZE} bytes are mapped section by section, where every section must fit into
+ * one buffer. Strings in the string dictionary are decoded when they are first used and literals are decoded directly
+ * from the literal dictionary whenever they are referred to; no other intermediate representation of the theory is
+ * created.
+ * </p>
+ * <p>
+ * The load time of a theory in the binary format can be compared with the DFL and XML formats using
+ * {@link TheoryParserBenchmark}.
+ * </p>
+ * <p>
+ * The conclusions of a delta conclusions file are applied to the reference conclusions, which are either loaded from
+ * the reference conclusions file named in the file (relative names are resolved against the current directory) or
+ * supplied using {@link #getConclusions(InputStream, Map)}.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see spindle.io.outputter.BinaryTheoryConst
+ * @see spindle.io.outputter.BinaryTheoryOutputter
+ */
+public class BinaryTheoryParser extends AbstractTheoryParser implements BinaryTheoryConst {
+	public static final String PARSER_TYPE = BinaryTheoryOutputter.OUTPUTTER_TYPE;
+
+	private static final Charset CHARSET = Charset.forName("UTF-8");
+	private static final int MAX_SECTION_ID = SECTION_REFERENCE;
+
+	/**
+	 * The whole input, or null if the input is mapped section by section.
+	 */
+	private ByteBuffer input = null;
+	private FileChannel channel = null;
+	private long inputStart = 0;
+
+	/**
+	 * Buffer being read, i.e., the section being read or the literal or string dictionary, and the position in it.
+	 */
+	private ByteBuffer buffer = null;
+	private int position = 0;
+
+	/**
+	 * Contents and number of items of the sections, indexed by section id.
+	 */
+	private ByteBuffer[] sections = null;
+	private int[] sectionCounts = null;
+
+	private ByteBuffer stringsBuffer = null;
+	private String[] strings = null;
+	private int stringOffsetsStart = 0;
+	private byte[] stringBytes = null;
+
+	private ByteBuffer literalsBuffer = null;
+	private int literalsCount = 0;
+	private int literalOffsetsStart = 0;
+
+	private Map<Literal, Map<ConclusionType, Conclusion>> referenceConclusions = null;
+
+	public BinaryTheoryParser() {
+		super(PARSER_TYPE);
+	}
+
+	/**
+	 * Load the conclusions, applying the conclusions of a delta conclusions file to the reference conclusions supplied
+	 * (instead of the ones in the reference conclusions file named in the file). The reference conclusions are not
+	 * modified.
+	 * 
+	 * @param ins Input stream.
+	 * @param referenceConclusions Reference conclusions.
+	 * @return The conclusions.
+	 * @throws ParserException
+	 */
+	public Map<Literal, Map<ConclusionType, Conclusion>> getConclusions(InputStream ins,
+			Map<Literal, Map<ConclusionType, Conclusion>> referenceConclusions) throws ParserException {
+		if (null == referenceConclusions) throw new ParserException(ErrorMessage.CONCLUSION_NULL_CONCLUSIONS_SET);
+		this.referenceConclusions = referenceConclusions;
+		try {
+			return getConclusions(ins);
+		} finally {
+			this.referenceConclusions = null;
+		}
+	}
+
+	@Override
+	protected void generateTheory(InputStream ins) throws ParserException {
+		try {
+			openDocument(ins, CONTENT_THEORY);
+
+			if (openSection(SECTION_DESCRIPTION)) theory.setDescription(getString(readVarInt()));
+
+			generateModeRules();
+			generateLiteralVariables();
+			generateRules();
+			generateSuperiorities();
+		} catch (ParserException e) {
+			theory = null;
+			throw e;
+		} catch (IndexOutOfBoundsException e) {
+			theory = null;
+			throw new ParserException("binary theory file is corrupted", e);
+		} catch (Exception e) {
+			theory = null;
+			throw new ParserException(e);
+		} finally {
+			reset();
+		}
+	}
+
+	@Override
+	protected Map<Literal, Map<ConclusionType, Conclusion>> generateConclusions(InputStream ins) throws ParserException {
+		try {
+			openDocument(ins, CONTENT_CONCLUSIONS);
+
+			Map<Literal, Map<ConclusionType, Conclusion>> reference = null;
+			Set<String> updatedLiterals = null;
+			if (openSection(SECTION_REFERENCE)) {
+				reference = getReferenceConclusions();
+				updatedLiterals = new HashSet<String>();
+			}
+
+			Map<Literal, Map<ConclusionType, Conclusion>> conclusions = new TreeMap<Literal, Map<ConclusionType, Conclusion>>();
+			if (openSection(SECTION_CONCLUSIONS)) {
+				for (int i = 0; i < sectionCounts[SECTION_CONCLUSIONS]; i++) {
+					int literalIndex = readVarInt();
+					int runsCount = readCount();
+					if (null != updatedLiterals) updatedLiterals.add(getLiteral(literalIndex).toString());
+
+					long previousStartTime = 0;
+					for (int j = 0; j < runsCount; j++) {
+						int flags = readVarInt();
+						long startTime = Long.MIN_VALUE;
+						long endTime = Long.MAX_VALUE;
+						if ((flags & CONCLUSION_START) != 0) {
+							startTime = previousStartTime + readVarLong();
+							previousStartTime = startTime;
+						}
+						if ((flags & CONCLUSION_END) != 0) endTime = previousStartTime + readVarLong();
+
+						Literal literal = getLiteral(literalIndex);
+						if ((flags & (CONCLUSION_START | CONCLUSION_END)) != 0) literal.setTemporal(new Temporal(startTime, endTime));
+						addConclusions(conclusions, literal, flags >>> CONCLUSION_TYPES_SHIFT);
+					}
+				}
+			}
+
+			if (null != reference) {
+				// conclusions of the literals that are not in the delta are unchanged
+				for (Entry<Literal, Map<ConclusionType, Conclusion>> entry : reference.entrySet()) {
+					Literal literal = entry.getKey();
+					Literal plainLiteral = literal;
+					if (null != literal.getTemporal()) {
+						plainLiteral = literal.clone();
+						plainLiteral.setTemporal(null);
+					}
+					if (!updatedLiterals.contains(plainLiteral.toString())) {
+						conclusions.put(literal, new TreeMap<ConclusionType, Conclusion>(entry.getValue()));
+					}
+				}
+			}
+			return conclusions;
+		} catch (ParserException e) {
+			throw e;
+		} catch (IndexOutOfBoundsException e) {
+			throw new ParserException("binary theory file is corrupted", e);
+		} catch (Exception e) {
+			throw new ParserException(e);
+		} finally {
+			reset();
+		}
+	}
+
+	private void addConclusions(Map<Literal, Map<ConclusionType, Conclusion>> conclusions, Literal literal, int conclusionTypes)
+			throws ParserException {
+		if (conclusionTypes == 0 || conclusionTypes >>> CONCLUSION_TYPES.length != 0)
+			throw new ParserException("binary theory file is corrupted, conclusion types: " + conclusionTypes);
+		Map<ConclusionType, Conclusion> literalConclusions = conclusions.get(literal);
+		if (null == literalConclusions) {
+			literalConclusions = new TreeMap<ConclusionType, Conclusion>();
+			conclusions.put(literal, literalConclusions);
+		}
+		for (int i = 0; i < CONCLUSION_TYPES.length; i++) {
+			if ((conclusionTypes & (1 << i)) != 0) literalConclusions.put(CONCLUSION_TYPES[i], new Conclusion(CONCLUSION_TYPES[i], literal));
+		}
+	}
+
+	/**
+	 * Return the reference conclusions of a delta conclusions file, loading them from the reference conclusions file if
+	 * they are not supplied, and check that they are the conclusions that the delta was created from.
+	 */
+	private Map<Literal, Map<ConclusionType, Conclusion>> getReferenceConclusions() throws Exception {
+		String referenceName = readByte() == 0 ? null : getString(readVarInt());
+		int count = buffer.getInt(position);
+		int checksum = buffer.getInt(position + 4);
+		position += 8;
+
+		Map<Literal, Map<ConclusionType, Conclusion>> reference = referenceConclusions;
+		if (null == reference) {
+			if (null == referenceName) throw new ParserException("reference conclusions are required to load the delta conclusions");
+			// the reference may itself be a delta conclusions file
+			reference = IOManager.getConclusions(new File(referenceName), null);
+		}
+
+		int[] referenceChecksum = BinaryTheoryOutputter.getConclusionsChecksum(reference);
+		if (referenceChecksum[0] != count || referenceChecksum[1] != checksum)
+			throw new ParserException("reference conclusions are not the ones that the delta conclusions were created from"
+					+ (null == referenceName ? "" : ": " + referenceName));
+		return reference;
+	}
+
+	private void generateModeRules() throws ParserException {
+		if (!openSection(SECTION_MODE_RULES)) return;
+		for (int i = 0; i < sectionCounts[SECTION_MODE_RULES]; i++) {
+			byte modeRuleType = readByte();
+			String modeName = getString(readVarInt());
+			String[] modes = new String[readCount()];
+			for (int j = 0; j < modes.length; j++) {
+				modes[j] = getString(readVarInt());
+			}
+
+			switch (modeRuleType) {
+			case MODE_CONVERSION:
+				theory.addModeConversionRules(modeName, modes);
+				break;
+			case MODE_CONFLICT:
+				theory.addModeConflictRules(modeName, modes);
+				break;
+			case MODE_EXCLUSION:
+				theory.addModeExclusionRules(modeName, modes);
+				break;
+			default:
+				throw new ParserException("unknown mode rule type: " + modeRuleType);
+			}
+		}
+	}
+
+	private void generateLiteralVariables() throws Exception {
+		if (!openSection(SECTION_LITERAL_VARIABLES)) return;
+		for (int i = 0; i < sectionCounts[SECTION_LITERAL_VARIABLES]; i++) {
+			Literal name = getLiteral(readVarInt());
+			Literal value = getLiteral(readVarInt());
+			if (!(name instanceof LiteralVariable) || !(value instanceof LiteralVariable))
+				throw new ParserException("literal variable expected: " + name + "=" + value);
+			theory.addLiteralVariable((LiteralVariable) name, (LiteralVariable) value);
+		}
+	}
+
+	private void generateRules() throws Exception {
+		if (!openSection(SECTION_RULES)) return;
+		for (int i = 0; i < sectionCounts[SECTION_RULES]; i++) {
+			RuleType ruleType = getRuleType(readByte());
+			int flags = readByte();
+
+			Rule newRule = DomUtilities.getRule(getString(readVarInt()), ruleType);
+			if ((flags & RULE_ORIGINAL_LABEL) != 0) newRule.setOriginalLabel(getString(readVarInt()));
+			if ((flags & RULE_MODE) != 0) newRule.setMode(new Mode(getString(readVarInt()), (flags & RULE_MODE_NEGATION) != 0));
+			if ((flags & RULE_TEMPORAL) != 0) newRule.setTemporal(readTemporal());
+
+			int headLiteralsCount = readCount();
+			for (int j = 0; j < headLiteralsCount; j++) {
+				newRule.addHeadLiteral(getLiteral(readVarInt()));
+			}
+			int bodyLiteralsCount = readCount();
+			for (int j = 0; j < bodyLiteralsCount; j++) {
+				newRule.addBodyLiteral(getLiteral(readVarInt()));
+			}
+			theory.addRule(newRule);
+		}
+	}
+
+	private void generateSuperiorities() throws ParserException {
+		if (!openSection(SECTION_SUPERIORITY)) return;
+		for (int i = 0; i < sectionCounts[SECTION_SUPERIORITY]; i++) {
+			String superior = getString(readVarInt());
+			String inferior = getString(readVarInt());
+			theory.add(new Superiority(superior, inferior));
+		}
+	}
+
+	private RuleType getRuleType(byte ruleType) throws ParserException {
+		switch (ruleType) {
+		case RULE_FACT:
+			return RuleType.FACT;
+		case RULE_STRICT:
+			return RuleType.STRICT;
+		case RULE_DEFEASIBLE:
+			return RuleType.DEFEASIBLE;
+		case RULE_DEFEATER:
+			return RuleType.DEFEATER;
+		default:
+			throw new ParserException("unknown rule type: " + ruleType);
+		}
+	}
+
+	/**
+	 * Decode the literal with the specified index in the literal dictionary. A new literal instance is returned on every
+	 * call.
+	 */
+	private Literal getLiteral(int index) throws ParserException {
+		if (index < 0 || index >= literalsCount) throw new ParserException("binary theory file is corrupted, literal index: " + index);
+		ByteBuffer currentBuffer = buffer;
+		int currentPosition = position;
+		buffer = literalsBuffer;
+		position = buffer.getInt(literalOffsetsStart + (index << 2));
+
+		int flags = readByte() & 0xFF;
+		String name = getString(readVarInt());
+		Mode mode = (flags & LITERAL_MODE) == 0 ? null : new Mode(getString(readVarInt()), (flags & LITERAL_MODE_NEGATION) != 0);
+		Temporal temporal = (flags & LITERAL_TEMPORAL) == 0 ? null : readTemporal();
+
+		String[] predicates = null;
+		if ((flags & LITERAL_PREDICATES) != 0) {
+			predicates = new String[readCount()];
+			for (int i = 0; i < predicates.length; i++) {
+				predicates[i] = getString(readVarInt());
+			}
+		}
+
+		Literal[] literalPredicates = null;
+		if ((flags & LITERAL_LITERAL_PREDICATES) != 0) {
+			literalPredicates = new Literal[readCount()];
+			for (int i = 0; i < literalPredicates.length; i++) {
+				// literal predicates are always added to the dictionary before the literal variables using them
+				int literalPredicateIndex = readVarInt();
+				if (literalPredicateIndex > index) throw new ParserException("binary theory file is corrupted, literal index: " + index);
+				if (literalPredicateIndex > 0) literalPredicates[i] = getLiteral(literalPredicateIndex - 1);
+			}
+		}
+		buffer = currentBuffer;
+		position = currentPosition;
+
+		boolean isNegation = (flags & LITERAL_NEGATION) != 0;
+		if ((flags & LITERAL_VARIABLE) == 0) {
+			return DomUtilities.getLiteral(name, isNegation, mode, temporal, predicates, (flags & LITERAL_PLACE_HOLDER) != 0);
+		} else {
+			LiteralVariable literalVariable = new LiteralVariable(name, isNegation, mode, predicates, literalPredicates);
+			if (null != temporal) literalVariable.setTemporal(temporal);
+			return literalVariable;
+		}
+	}
+
+	/**
+	 * Return the string with the specified index in the string dictionary, decoding it if it is used for the first time.
+	 */
+	private String getString(int index) throws ParserException {
+		if (index < 0 || index >= strings.length) throw new ParserException("binary theory file is corrupted, string index: " + index);
+		String str = strings[index];
+		if (null == str) {
+			ByteBuffer currentBuffer = buffer;
+			int currentPosition = position;
+			buffer = stringsBuffer;
+			position = buffer.getInt(stringOffsetsStart + (index << 2));
+			int length = readVarInt();
+			if (null == stringBytes || stringBytes.length < length) stringBytes = new byte[Math.max(length, 256)];
+			stringsBuffer.position(position);
+			stringsBuffer.get(stringBytes, 0, length);
+			str = new String(stringBytes, 0, length, CHARSET);
+			strings[index] = str;
+			buffer = currentBuffer;
+			position = currentPosition;
+		}
+		return str;
+	}
+
+	private Temporal readTemporal() {
+		long startTime = buffer.getLong(position);
+		long endTime = buffer.getLong(position + 8);
+		position += 16;
+		return new Temporal(startTime, endTime);
+	}
+
+	private byte readByte() {
+		return buffer.get(position++);
+	}
+
+	private int readVarInt() {
+		int value = 0;
+		int shift = 0;
+		byte b;
+		while ((b = buffer.get(position++)) < 0) {
+			value |= (b & 0x7F) << shift;
+			shift += 7;
+		}
+		return value | (b << shift);
+	}
+
+	private long readVarLong() {
+		long value = 0;
+		int shift = 0;
+		byte b;
+		while ((b = buffer.get(position++)) < 0) {
+			value |= (long) (b & 0x7F) << shift;
+			shift += 7;
+		}
+		value |= (long) b << shift;
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Read the number of items that follow, which cannot be larger than the number of bytes remaining.
+	 */
+	private int readCount() throws ParserException {
+		int count = readVarInt();
+		if (count < 0 || count > buffer.limit() - position) throw new ParserException("binary theory file is corrupted");
+		return count;
+	}
+
+	/**
+	 * Read the input, check the header and the trailer and read the table of sections.
+	 */
+	private void openDocument(InputStream ins, short contentType) throws Exception {
+		long size = getInputSize(ins);
+		if (size <= MAX_WINDOW_SIZE) {
+			input = readInput(ins);
+			size = input.limit();
+		} else {
+			channel = ((FileInputStream) ins).getChannel();
+			inputStart = channel.position();
+		}
+
+		if (size < HEADER_SIZE + TRAILER_SIZE) throw new ParserException("input is not in " + PARSER_TYPE + " format");
+		ByteBuffer header = getInput(0, HEADER_SIZE);
+		ByteBuffer trailer = getInput(size - TRAILER_SIZE, TRAILER_SIZE);
+		if (header.getInt(0) != MAGIC_NUMBER || trailer.getInt(TRAILER_SIZE - 4) != MAGIC_NUMBER)
+			throw new ParserException("input is not in " + PARSER_TYPE + " format");
+		short version = header.getShort(4);
+		if (version < 1 || version > FORMAT_VERSION) throw new ParserException("unsupported " + PARSER_TYPE + " format version: " + version);
+		if (header.getShort(6) != contentType)
+			throw new ParserException("input is not " + (contentType == CONTENT_THEORY ? "a theory" : "a set of conclusions") + " in "
+					+ PARSER_TYPE + " format");
+
+		long tableOffset = trailer.getLong(0);
+		if (tableOffset < HEADER_SIZE || tableOffset > size - TRAILER_SIZE - 4) throw new ParserException("binary theory file is corrupted");
+		int sectionsCount = getInput(tableOffset, 4).getInt(0);
+		long tableSize = (long) sectionsCount * SECTION_ENTRY_SIZE;
+		if (sectionsCount < 0 || tableSize > MAX_WINDOW_SIZE || tableOffset + 4 + tableSize > size - TRAILER_SIZE)
+			throw new ParserException("binary theory file is corrupted");
+
+		sections = new ByteBuffer[MAX_SECTION_ID + 1];
+		sectionCounts = new int[MAX_SECTION_ID + 1];
+		ByteBuffer table = getInput(tableOffset + 4, (int) tableSize);
+		for (int i = 0; i < sectionsCount; i++) {
+			int p = i * SECTION_ENTRY_SIZE;
+			int sectionId = table.getInt(p);
+			long offset = table.getLong(p + 4);
+			long length = table.getLong(p + 12);
+			int count = table.getInt(p + 20);
+			if (offset < HEADER_SIZE || length < 0 || offset + length > tableOffset || count < 0 || count > length)
+				throw new ParserException("binary theory file is corrupted, section: " + sectionId);
+			// sections unknown to this version of the parser are ignored
+			if (sectionId <= 0 || sectionId > MAX_SECTION_ID) continue;
+			if (length > MAX_WINDOW_SIZE) throw new ParserException("section " + sectionId + " is too large to be loaded");
+			sections[sectionId] = getInput(offset, (int) length);
+			sectionCounts[sectionId] = count;
+		}
+
+		stringsBuffer = sections[SECTION_STRINGS];
+		strings = new String[sectionCounts[SECTION_STRINGS]];
+		if (null != stringsBuffer) stringOffsetsStart = stringsBuffer.limit() - (strings.length << 2);
+
+		literalsBuffer = sections[SECTION_LITERALS];
+		literalsCount = sectionCounts[SECTION_LITERALS];
+		if (null != literalsBuffer) literalOffsetsStart = literalsBuffer.limit() - (literalsCount << 2);
+	}
+
+	/**
+	 * Return the part of the input with the specified offset and length, which starts at position 0 of the buffer
+	 * returned.
+	 */
+	private ByteBuffer getInput(long offset, int length) throws IOException {
+		if (null == input) return readInput(channel, inputStart + offset, length);
+		ByteBuffer part = input.duplicate();
+		part.position((int) offset);
+		part.limit((int) offset + length);
+		return part.slice();
+	}
+
+	/**
+	 * Start reading a section.
+	 * 
+	 * @return false if the section is not in the input.
+	 */
+	private boolean openSection(int sectionId) {
+		if (null == sections[sectionId]) return false;
+		buffer = sections[sectionId];
+		position = 0;
+		return true;
+	}
+
+	private void reset() {
+		input = null;
+		channel = null;
+		inputStart = 0;
+		buffer = null;
+		position = 0;
+		sections = null;
+		sectionCounts = null;
+		stringsBuffer = null;
+		strings = null;
+		stringBytes = null;
+		literalsBuffer = null;
+		literalsCount = 0;
+	}
+}
@@ -0,0 +1,376 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.io.parser;
+
+import java.nio.ByteBuffer;
+
+import spindle.io.parser.impl.DflTheoryParser2baseConstants;
+
+/**
+ * Table-driven DFL lexer that scans tokens directly from a byte buffer.
+ * <p>
+ * The scanner recognises the subset of the DFL token set used by facts, rules, superiority relations, mode conversion
+ * rules and conclusions, using the token kinds defined by the JavaCC generated parser. Names are interned through a
+ * name table keyed by their bytes so that identical names share a single string instance and no string is created for
+ * names that have been seen before. Any construct that is not recognised (literal variables and functions, durations,
+ * non-ASCII characters, etc) is reported as {@link #OTHER} so that the caller can hand the input over to the full
+ * JavaCC parser.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see spindle.io.parser.impl.DflTheoryParser2base
+ */
+class DflByteScanner implements DflTheoryParser2baseConstants {
+	private static final byte CLASS_OTHER = 0;
+	private static final byte CLASS_SPACE = 1;
+	private static final byte CLASS_EOL = 2;
+	private static final byte CLASS_DIGIT = 3;
+	private static final byte CLASS_LETTER = 4;
+	private static final byte CLASS_COMMENT = 5;
+	private static final byte CLASS_SYMBOL = 6;
+	private static final byte CLASS_OPERATOR = 7;
+
+	private static final String KEYWORD_SET = "set";
+	private static final int MAX_NUMBER_DIGITS = 18;
+
+	private static final byte[] CHAR_CLASS = new byte[256];
+	private static final int[] SYMBOL_KIND = new int[128];
+
+	static {
+		CHAR_CLASS[' '] = CLASS_SPACE;
+		CHAR_CLASS['\t'] = CLASS_SPACE;
+		CHAR_CLASS['\r'] = CLASS_SPACE;
+		CHAR_CLASS['\n'] = CLASS_EOL;
+		CHAR_CLASS['#'] = CLASS_COMMENT;
+		for (int c = '0'; c <= '9'; c++)
+			CHAR_CLASS[c] = CLASS_DIGIT;
+		for (int c = 'a'; c <= 'z'; c++)
+			CHAR_CLASS[c] = CLASS_LETTER;
+		for (int c = 'A'; c <= 'Z'; c++)
+			CHAR_CLASS[c] = CLASS_LETTER;
+		CHAR_CLASS['_'] = CLASS_LETTER;
+
+		SYMBOL_KIND['('] = ARG_START;
+		SYMBOL_KIND[')'] = ARG_END;
+		SYMBOL_KIND['['] = MODE_START;
+		SYMBOL_KIND[']'] = MODE_END;
+		SYMBOL_KIND['{'] = TEMPORAL_START;
+		SYMBOL_KIND['}'] = TEMPORAL_END;
+		SYMBOL_KIND[','] = ARGUMENT_SEPARATOR;
+		SYMBOL_KIND[':'] = RULE_LABEL_SEPARATOR;
+		for (int c = 0; c < SYMBOL_KIND.length; c++) {
+			if (SYMBOL_KIND[c] != 0) CHAR_CLASS[c] = CLASS_SYMBOL;
+		}
+
+		CHAR_CLASS['-'] = CLASS_OPERATOR;
+		CHAR_CLASS['+'] = CLASS_OPERATOR;
+		CHAR_CLASS['>'] = CLASS_OPERATOR;
+		CHAR_CLASS['<'] = CLASS_OPERATOR;
+		CHAR_CLASS['='] = CLASS_OPERATOR;
+		CHAR_CLASS['~'] = CLASS_OPERATOR;
+		CHAR_CLASS['!'] = CLASS_OPERATOR;
+	}
+
+	private final ByteBuffer buffer;
+	private final int end;
+	private final boolean isConclusionMode;
+	private final NameTable nameTable;
+
+	private int pos;
+	private int tokenStart;
+	private int tokenCount;
+	private int kind;
+	private String image;
+	private long number;
+
+	/**
+	 * Create a scanner over the bytes in [start, end) of the buffer.
+	 * 
+	 * @param buffer Byte buffer to scan, can be a heap or a memory-mapped buffer.
+	 * @param start Position of the first byte to scan.
+	 * @param end Position after the last byte to scan.
+	 * @param isConclusionMode true if the scanner should recognise conclusion tags (+D, -D, +d, -d).
+	 * @param nameTable Name table used to intern names.
+	 */
+	DflByteScanner(final ByteBuffer buffer, final int start, final int end, final boolean isConclusionMode, final NameTable nameTable) {
+		this.buffer = buffer;
+		this.end = end;
+		this.isConclusionMode = isConclusionMode;
+		this.nameTable = nameTable;
+		pos = start;
+		next();
+	}
+
+	/**
+	 * @return Kind of the current token.
+	 */
+	int getKind() {
+		return kind;
+	}
+
+	/**
+	 * @return Image of the current token if it is a {@link #STRING} or {@link #NUMBER}.
+	 */
+	String getImage() {
+		if (null == image && kind == NUMBER) image = nameTable.intern(buffer, tokenStart, pos - tokenStart, 0);
+		return image;
+	}
+
+	/**
+	 * @return Value of the current {@link #NUMBER} token.
+	 * @throws NumberFormatException if the number does not fit into a long.
+	 */
+	long getNumber() {
+		if (number < 0) throw new NumberFormatException(getImage());
+		return number;
+	}
+
+	/**
+	 * @return Position of the current token, can be used to {@link #reset(int)} the scanner.
+	 */
+	int getTokenStart() {
+		return tokenStart;
+	}
+
+	/**
+	 * @return Number of tokens scanned so far.
+	 */
+	int getTokenCount() {
+		return tokenCount;
+	}
+
+	/**
+	 * Move the scanner back to a token start position obtained using {@link #getTokenStart()}.
+	 */
+	void reset(final int tokenStart) {
+		pos = tokenStart;
+		next();
+	}
+
+	/**
+	 * Advance to the next token.
+	 * 
+	 * @return Kind of the new current token.
+	 */
+	int next() {
+		image = null;
+		tokenCount++;
+		while (pos < end) {
+			int c = buffer.get(pos) & 0xff;
+			tokenStart = pos;
+			switch (CHAR_CLASS[c]) {
+			case CLASS_SPACE:
+				pos++;
+				break;
+			case CLASS_COMMENT:
+				// comment text, including the line break, is skipped
+				pos++;
+				while (pos < end && buffer.get(pos++) != '\n') {
+				}
+				break;
+			case CLASS_EOL:
+				pos++;
+				return kind = EOL;
+			case CLASS_SYMBOL:
+				pos++;
+				return kind = SYMBOL_KIND[c];
+			case CLASS_DIGIT:
+			case CLASS_LETTER:
+				return kind = scanWord();
+			case CLASS_OPERATOR:
+				return kind = scanOperator(c);
+			default:
+				return kind = OTHER;
+			}
+		}
+		tokenStart = pos;
+		return kind = EOF;
+	}
+
+	private int scanWord() {
+		int hash = 0;
+		long value = 0;
+		boolean isNumber = true;
+		int len = 0;
+		int c;
+		while (pos < end) {
+			c = buffer.get(pos) & 0xff;
+			byte charClass = CHAR_CLASS[c];
+			if (charClass == CLASS_DIGIT) {
+				if (isNumber) value = len < MAX_NUMBER_DIGITS ? value * 10 + (c - '0') : -1;
+			} else if (charClass == CLASS_LETTER) {
+				isNumber = false;
+			} else break;
+			hash = 31 * hash + c;
+			len++;
+			pos++;
+		}
+		if (isNumber) {
+			// decimal numbers are left to the JavaCC parser
+			if (pos < end && buffer.get(pos) == '.') return OTHER;
+			number = value;
+			return NUMBER;
+		}
+		image = nameTable.intern(buffer, tokenStart, len, hash);
+		return KEYWORD_SET.equals(image) ? SET_LITERAL_VARIABLE : STRING;
+	}
+
+	private int scanOperator(final int c) {
+		int c1 = pos + 1 < end ? buffer.get(pos + 1) & 0xff : -1;
+		switch (c) {
+		case '-':
+			if (c1 == '>') return advance(2, RULE_TYPE_STRICT);
+			if (c1 == 'i' && isFollowedBy(pos + 2, "nf")) return advance(4, NEG_INF);
+			if (c1 == 'd' || c1 == 'D') return scanConclusionTag(c1 == 'd' ? DEFEASIBLE_NOT_PROVABLE : DEFINITE_NOT_PROVABLE);
+			return advance(1, MINUS);
+		case '+':
+			if (c1 == 'd' || c1 == 'D') return scanConclusionTag(c1 == 'd' ? DEFEASIBLE_PROVABLE : DEFINITE_PROVABLE);
+			return OTHER;
+		case '>':
+			if (c1 == '>') return advance(2, RULE_TYPE_FACT);
+			if (c1 == '=') return OTHER;
+			return advance(1, GREATER);
+		case '<':
+			if (c1 == '>') return advance(2, EXCLUDED);
+			if (c1 == '=') return OTHER;
+			return advance(1, LESSER);
+		case '=':
+			if (c1 == '>') return advance(2, RULE_TYPE_DEFEASIBLE);
+			if (c1 == '=') return advance(2, EQUALS);
+			return OTHER;
+		case '~':
+			if (c1 == '>') return advance(2, RULE_TYPE_DEFEATER);
+			return OTHER;
+		case '!':
+			if (c1 == '=') return advance(2, NOT_EQUALS);
+			return OTHER;
+		default:
+			return OTHER;
+		}
+	}
+
+	/**
+	 * Conclusion tags are a sign followed by <code>D</code> or <code>d</code> and a blank. A sign followed by a name
+	 * starting with <code>D</code> or <code>d</code> is a negated literal; anything in between is left to the JavaCC
+	 * parser.
+	 */
+	private int scanConclusionTag(final int conclusionKind) {
+		int c2 = pos + 2 < end ? buffer.get(pos + 2) & 0xff : -1;
+		if (c2 >= 0) {
+			byte charClass = CHAR_CLASS[c2];
+			if (charClass == CLASS_DIGIT || charClass == CLASS_LETTER) return buffer.get(pos) == '-' ? advance(1, MINUS) : OTHER;
+			if (isConclusionMode && (c2 == ' ' || c2 == '\t')) return advance(3, conclusionKind);
+		}
+		return OTHER;
+	}
+
+	private boolean isFollowedBy(final int p, final String s) {
+		if (p + s.length() > end) return false;
+		for (int i = 0; i < s.length(); i++) {
+			if (buffer.get(p + i) != s.charAt(i)) return false;
+		}
+		return true;
+	}
+
+	private int advance(final int len, final int tokenKind) {
+		pos += len;
+		return tokenKind;
+	}
+
+	/**
+	 * Open addressing hash table that maps byte sequences to (shared) strings.
+	 */
+	static final class NameTable {
+		private String[] names;
+		private int[] hashes;
+		private int size;
+
+		NameTable() {
+			this(1024);
+		}
+
+		NameTable(final int initialCapacity) {
+			int capacity = 16;
+			while (capacity < initialCapacity) capacity <<= 1;
+			names = new String[capacity];
+			hashes = new int[capacity];
+			size = 0;
+		}
+
+		String intern(final ByteBuffer buffer, final int start, final int len, int hash) {
+			if (hash == 0) {
+				for (int i = 0; i < len; i++)
+					hash = 31 * hash + (buffer.get(start + i) & 0xff);
+			}
+			int mask = names.length - 1;
+			int i = mix(hash) & mask;
+			String name;
+			while (null != (name = names[i])) {
+				if (hashes[i] == hash && isSame(name, buffer, start, len)) return name;
+				i = (i + 1) & mask;
+			}
+			char[] chars = new char[len];
+			for (int j = 0; j < len; j++)
+				chars[j] = (char) (buffer.get(start + j) & 0xff);
+			name = new String(chars);
+			names[i] = name;
+			hashes[i] = hash;
+			if (++size > (names.length >> 1)) rehash();
+			return name;
+		}
+
+		int size() {
+			return size;
+		}
+
+		private static int mix(final int hash) {
+			int h = hash * 0x9E3779B9;
+			return h ^ (h >>> 16);
+		}
+
+		private static boolean isSame(final String name, final ByteBuffer buffer, final int start, final int len) {
+			if (name.length() != len) return false;
+			for (int i = 0; i < len; i++) {
+				if (name.charAt(i) != (buffer.get(start + i) & 0xff)) return false;
+			}
+			return true;
+		}
+
+		private void rehash() {
+			String[] oldNames = names;
+			int[] oldHashes = hashes;
+			names = new String[oldNames.length << 1];
+			hashes = new int[names.length];
+			int mask = names.length - 1;
+			for (int j = 0; j < oldNames.length; j++) {
+				if (null == oldNames[j]) continue;
+				int i = mix(oldHashes[j]) & mask;
+				while (null != names[i])
+					i = (i + 1) & mask;
+				names[i] = oldNames[j];
+				hashes[i] = oldHashes[j];
+			}
+		}
+	}
+}
@@ -226,7 +226,7 @@ public class DflTheoryParser extends AbstractTheoryParser {
 						ruleModeNegation = true;
 					}
 				}
-				if ("".equals(ruleLabel)) ruleLabel = TEMP_RULE_LABEL + Theory.formatter.format(ruleCounter++);
+				if ("".equals(ruleLabel)) ruleLabel = TEMP_RULE_LABEL + Theory.formatRuleLabelNumber(ruleCounter++);
 
 				Rule rule = extractRule(ruleType, ruleLabel, ("".equals(ruleMode) ? null : new Mode(ruleMode, ruleModeNegation)), ruleStr);
 				if (ruleLabel.startsWith(TEMP_RULE_LABEL)) addPendingRule(rule);
@@ -53,37 +53,36 @@ import spindle.sys.AppLogger;
  */
 public class DflTheoryParser2 extends AbstractTheoryParser {
 	public static final String PARSER_TYPE = DflTheoryOutputter.OUTPUTTER_TYPE;
-	private static DflTheoryParser2 INSTANCE = null;
+	/**
+	 * Instance used by the static methods that parse a literal, rule or superiority relation, which do not use the
+	 * state of the parser.
+	 */
+	private static final DflTheoryParser2 INSTANCE = new DflTheoryParser2();
 
 	public static Literal extractLiteral(final String literalStr) throws ParserException {
-		if (null == INSTANCE) INSTANCE = new DflTheoryParser2();
 		return INSTANCE.parseLiteral(literalStr);
 	}
 
 	public static LiteralVariable extractLiteralVariable(final String literalVariableString) throws ParserException {
-		if (null == INSTANCE) INSTANCE = new DflTheoryParser2();
 		Literal literal = INSTANCE.parseLiteral(literalVariableString);
 		return DomUtilities.getLiteralVariable(literal);
 	}
 
 	public static Theory getTheory(String theoryString, AppLogger logger) throws ParserException {
-		if (null == INSTANCE) INSTANCE = new DflTheoryParser2();
-		return INSTANCE.getTheory(new ByteArrayInputStream(theoryString.getBytes()));
+		// parsers keep the state of the theory being parsed and are not shared between calls
+		return new DflTheoryParser2().getTheory(new ByteArrayInputStream(theoryString.getBytes()));
 	}
 
 	public static Map<Literal, Map<ConclusionType, Conclusion>> getConclusions(String conclusionsString, AppLogger logger)
 			throws ParserException {
-		if (null == INSTANCE) INSTANCE = new DflTheoryParser2();
 		return INSTANCE.generateConclusions(new ByteArrayInputStream(conclusionsString.getBytes()));
 	}
 
 	public static Rule extractRuleStr(final String rule) throws ParserException {
-		if (null == INSTANCE) INSTANCE = new DflTheoryParser2();
 		return INSTANCE.parseRule(rule);
 	}
 
 	public static Superiority extractSuperiorityStr(final String superiorityStr) throws ParserException {
-		if (null == INSTANCE) INSTANCE = new DflTheoryParser2();
 		return INSTANCE.parseSuperiority(superiorityStr);
 	}
 
@@ -94,7 +93,6 @@ public class DflTheoryParser2 extends AbstractTheoryParser {
 	public static String getLiteralFunctionEvaluationString(final String literalFunctionStr, //
 			Map<LiteralVariable, LiteralVariable> literalVariableMapping, Map<LiteralVariable, String> literalBooleanFunctionAnswers)
 			throws ParserException {
-		if (null == INSTANCE) INSTANCE = new DflTheoryParser2();
 		String str = literalFunctionStr;
 		if (!literalFunctionStr.startsWith("$")) str = "$" + literalFunctionStr;
 		if (!literalFunctionStr.endsWith("$")) str += "$";
@@ -104,7 +102,6 @@ public class DflTheoryParser2 extends AbstractTheoryParser {
 	public static List<String> getTokenizeLiteralFunction(final String literalFunctionStr, //
 			Map<LiteralVariable, LiteralVariable> literalVariableMapping, Map<LiteralVariable, String> literalBooleanFunctionAnswers)
 			throws ParserException {
-		if (null == INSTANCE) INSTANCE = new DflTheoryParser2();
 		String str = literalFunctionStr;
 		if (!literalFunctionStr.startsWith("$")) str = "$" + literalFunctionStr;
 		if (!literalFunctionStr.endsWith("$")) str += "$";
@@ -0,0 +1,662 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.io.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+
+import spindle.core.dom.Conclusion;
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.DomUtilities;
+import spindle.core.dom.Literal;
+import spindle.core.dom.Mode;
+import spindle.core.dom.Rule;
+import spindle.core.dom.RuleException;
+import spindle.core.dom.RuleType;
+import spindle.core.dom.Superiority;
+import spindle.core.dom.Temporal;
+import spindle.core.dom.Theory;
+import spindle.core.dom.TheoryException;
+import spindle.io.ParserException;
+import spindle.io.outputter.DflTheoryOutputter;
+import spindle.io.parser.impl.DflTheoryParser2base;
+import spindle.io.parser.impl.DflTheoryParser2baseConstants;
+import spindle.io.parser.impl.ParseException;
+import spindle.sys.Conf;
+
+/**
+ * High throughput defeasible theory and conclusions parser for theory represented using DFL.
+ * <p>
+ * The whole input is scanned as bytes, from a memory-mapped buffer when reading from a file or from a heap buffer
+ * otherwise, using the table-driven {@link DflByteScanner}. Literal names and rule labels are interned directly from the
+ * input bytes and rules are built without creating intermediate strings or tokens.
+ * </p>
+ * <p>
+ * The parser accepts the same language as {@link spindle.io.parser.DflTheoryParser2}. Facts, rules, superiority
+ * relations and mode conversion/conflict/exclusion rules are handled here; the input is handed over to the JavaCC
+ * generated parser ({@link spindle.io.parser.impl.DflTheoryParser2base}) as soon as any other construct (literal
+ * variables, literal boolean functions, durations, etc) or syntax error is found, so that the theories and error
+ * messages generated are the same as those of the original parser.
+ * </p>
+ * <p>
+ * When {@link Conf#getNoOfParallelParsingThreads()} is larger than one, large inputs are split at line breaks into
+ * chunks of about {@link Conf#getParallelParsingChunkSize()} bytes that are parsed concurrently. The statements parsed
+ * are then added to the theory sequentially, in input order, with unlabelled rules labelled as they would be by the
+ * JavaCC generated parser.
+ * </p>
+ * <p>
+ * Files larger than {@link AbstractTheoryParser#MAX_WINDOW_SIZE} bytes are mapped in several windows that end at line
+ * breaks, and are split into chunks window by window.
+ * </p>
+ * <p>
+ * The parser is not registered in the default I/O configuration, where {@link spindle.io.parser.DflTheoryParser2}
+ * remains the DFL parser; it can be registered in its place in <code>io_conf.xml</code>. Its throughput can be
+ * compared with that of {@link spindle.io.parser.DflTheoryParser2} using {@link TheoryParserBenchmark}.
+ * </p>
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see spindle.io.parser.DflTheoryParser2
+ */
+public class FastDflTheoryParser extends AbstractTheoryParser implements DflTheoryParser2baseConstants {
+	public static final String PARSER_TYPE = DflTheoryOutputter.OUTPUTTER_TYPE;
+
+	/**
+	 * Number of tokens the JavaCC generated parser looks ahead before committing to an optional rule label.
+	 */
+	private static final int JAVACC_LOOKAHEAD = 7;
+
+	/**
+	 * Number of bytes searched at a time, backwards from the end of a window, for the last statement boundary.
+	 */
+	private static final int WINDOW_BOUNDARY_SEARCH_SIZE = 1 << 16;
+
+	/**
+	 * Windows of files larger than {@link AbstractTheoryParser#MAX_WINDOW_SIZE} end at the last line break that is not
+	 * part of a comment.
+	 */
+	private static final InputWindowBoundary WINDOW_BOUNDARY = new InputWindowBoundary() {
+		@Override
+		public int getWindowEnd(ByteBuffer window) {
+			int limit = window.limit();
+			for (int start = limit; start > 0;) {
+				start = Math.max(0, start - WINDOW_BOUNDARY_SEARCH_SIZE);
+				int boundary = getStatementBoundary(window, start, limit);
+				if (boundary < limit) {
+					for (int next; (next = getStatementBoundary(window, boundary, limit)) < limit;)
+						boundary = next;
+					return boundary;
+				}
+			}
+			return -1;
+		}
+	};
+
+	public FastDflTheoryParser() {
+		super(PARSER_TYPE);
+	}
+
+	@Override
+	protected void generateTheory(InputStream ins) throws ParserException {
+		try {
+			List<ByteBuffer> windows = readInput(ins, MAX_WINDOW_SIZE, WINDOW_BOUNDARY);
+			try {
+				theory = parseTheory(windows);
+				return;
+			} catch (ParseException e) {
+				// construct not handled by the byte scanner,
+				// parse the input again using the JavaCC generated parser
+			}
+			theory = new DflTheoryParser2base(getFallbackInputStream(ins, windows)).parseTheory();
+		} catch (ParseException e) {
+			throw new ParserException(e);
+		} catch (IOException e) {
+			throw new ParserException(e);
+		}
+	}
+
+	@Override
+	protected Map<Literal, Map<ConclusionType, Conclusion>> generateConclusions(InputStream ins) throws ParserException {
+		try {
+			List<ByteBuffer> windows = readInput(ins, MAX_WINDOW_SIZE, WINDOW_BOUNDARY);
+			try {
+				Map<Literal, Map<ConclusionType, Conclusion>> conclusions = new TreeMap<Literal, Map<ConclusionType, Conclusion>>();
+				for (ByteBuffer window : windows) {
+					new ChunkParser(window, 0, window.limit(), true).parseConclusions(conclusions);
+				}
+				return conclusions;
+			} catch (ParseException e) {
+				// construct not handled by the byte scanner,
+				// parse the input again using the JavaCC generated parser
+			}
+			return new DflTheoryParser2base(getFallbackInputStream(ins, windows)).parseConclusions();
+		} catch (ParseException e) {
+			throw new ParserException(e);
+		} catch (IOException e) {
+			throw new ParserException(e);
+		}
+	}
+
+	private InputStream getFallbackInputStream(InputStream ins, List<ByteBuffer> windows) {
+		if (windows.size() > 1) return ins;
+		ByteBuffer buffer = windows.get(0);
+		if (!buffer.hasArray()) return ins;
+		return new ByteArrayInputStream(buffer.array(), buffer.arrayOffset(), buffer.limit());
+	}
+
+	/**
+	 * Parse the theory in the windows of the input. Inputs larger than two chunks are split into chunks at statement
+	 * boundaries that are parsed in parallel using {@link Conf#getNoOfParallelParsingThreads()} threads; as windows end
+	 * at statement boundaries, every window is split into chunks on its own.
+	 */
+	private Theory parseTheory(List<ByteBuffer> windows) throws ParseException {
+		int noOfThreads = Conf.getNoOfParallelParsingThreads();
+		List<ChunkParser> chunkParsers = new ArrayList<ChunkParser>();
+		for (ByteBuffer window : windows) {
+			int[] chunkBoundaries = noOfThreads > 1 ? getChunkBoundaries(window, Conf.getParallelParsingChunkSize()) : new int[] { 0,
+					window.limit() };
+			for (int i = 0; i < chunkBoundaries.length - 1; i++) {
+				// every chunk uses its own view of the buffer as buffer positions are not thread safe
+				chunkParsers.add(new ChunkParser(window.duplicate(), chunkBoundaries[i], chunkBoundaries[i + 1], false));
+			}
+		}
+		int chunksCount = chunkParsers.size();
+		if (chunksCount == 1) return mergeStatements(Collections.singletonList(chunkParsers.get(0).parseStatements()));
+		if (noOfThreads <= 1) {
+			List<List<Object>> chunkStatements = new ArrayList<List<Object>>(chunksCount);
+			for (ChunkParser chunkParser : chunkParsers) {
+				chunkStatements.add(chunkParser.parseStatements());
+			}
+			return mergeStatements(chunkStatements);
+		}
+
+		noOfThreads = Math.min(noOfThreads, chunksCount);
+		logMessage(Level.FINE, 0, "parallel parsing, windows: ", windows.size(), ", chunks: ", chunksCount, ", threads: ", noOfThreads);
+
+		List<Callable<List<Object>>> tasks = new ArrayList<Callable<List<Object>>>(chunksCount);
+		for (final ChunkParser chunkParser : chunkParsers) {
+			tasks.add(new Callable<List<Object>>() {
+				@Override
+				public List<Object> call() throws Exception {
+					return chunkParser.parseStatements();
+				}
+			});
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(noOfThreads);
+		try {
+			List<List<Object>> chunkStatements = new ArrayList<List<Object>>(chunksCount);
+			for (Future<List<Object>> future : executor.invokeAll(tasks)) {
+				chunkStatements.add(future.get());
+			}
+			return mergeStatements(chunkStatements);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof ParseException) throw (ParseException) e.getCause();
+			throw new ParseException(e.getCause().getMessage());
+		} catch (InterruptedException e) {
+			throw new ParseException(e.getMessage());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Split the buffer into chunks of about the specified size. Chunks end at a line break that is not part of a
+	 * comment, so that no statement spans two chunks.
+	 * 
+	 * @return Chunk boundaries, the i-th chunk is [boundaries[i], boundaries[i+1]).
+	 */
+	private static int[] getChunkBoundaries(final ByteBuffer buffer, final int chunkSize) {
+		int limit = buffer.limit();
+		List<Integer> boundaries = new ArrayList<Integer>();
+		boundaries.add(0);
+		int step = Math.max(1, chunkSize);
+		int pos = 0;
+		// positions are compared as differences to the limit as they may overflow close to Integer.MAX_VALUE
+		while (limit - pos > step) {
+			int boundary = getStatementBoundary(buffer, pos + step, limit);
+			if (boundary >= limit) break;
+			boundaries.add(boundary);
+			pos = boundary;
+		}
+		boundaries.add(limit);
+
+		int[] chunkBoundaries = new int[boundaries.size()];
+		for (int i = 0; i < chunkBoundaries.length; i++)
+			chunkBoundaries[i] = boundaries.get(i);
+		return chunkBoundaries;
+	}
+
+	private static int getStatementBoundary(final ByteBuffer buffer, int pos, final int limit) {
+		int lineStart = pos;
+		while (lineStart > 0 && buffer.get(lineStart - 1) != '\n')
+			lineStart--;
+		boolean isComment = false;
+		for (; pos < limit; pos++) {
+			byte b = buffer.get(pos);
+			if (b == '#') {
+				isComment = true;
+			} else if (b == '\n') {
+				// a comment swallows its line break, the statement continues on the next line
+				if (!isComment) {
+					for (int i = lineStart; i < pos && !isComment; i++)
+						isComment = buffer.get(i) == '#';
+				}
+				if (!isComment) return pos + 1;
+				isComment = false;
+				lineStart = pos + 1;
+			}
+		}
+		return limit;
+	}
+
+	/**
+	 * Add the statements parsed from the chunks to a new theory, in the order they appear in the input. Labels of
+	 * unlabelled rules are generated in the same order as the JavaCC generated parser, so that the theory generated is
+	 * independent of the number of chunks.
+	 */
+	private Theory mergeStatements(List<List<Object>> chunkStatements) throws ParseException {
+		Theory newTheory = new Theory();
+		List<Rule> unlabelledRules = new ArrayList<Rule>();
+		try {
+			for (List<Object> statements : chunkStatements) {
+				for (Object statement : statements) {
+					if (statement instanceof Rule) {
+						newTheory.addRule((Rule) statement);
+					} else if (statement instanceof UnlabelledRule) {
+						UnlabelledRule unlabelledRule = (UnlabelledRule) statement;
+						// the JavaCC generated parser draws a label for every unlabelled rule when it is parsed;
+						// rules without rule base are labelled again after the whole theory is parsed
+						String ruleLabel = newTheory.getUniqueRuleLabel();
+						if (unlabelledRule.hasRuleBase) {
+							unlabelledRule.rule.setLabel(ruleLabel);
+							newTheory.addRule(unlabelledRule.rule);
+						} else {
+							unlabelledRules.add(unlabelledRule.rule);
+						}
+					} else if (statement instanceof Superiority) {
+						newTheory.add((Superiority) statement);
+					} else {
+						ModeRules modeRules = (ModeRules) statement;
+						switch (modeRules.sign) {
+						case EQUALS:
+							newTheory.addModeConversionRules(modeRules.modeName, modeRules.modes);
+							break;
+						case NOT_EQUALS:
+							newTheory.addModeConflictRules(modeRules.modeName, modeRules.modes);
+							break;
+						default:
+							newTheory.addModeExclusionRules(modeRules.modeName, modeRules.modes);
+						}
+					}
+				}
+			}
+			for (Rule rule : unlabelledRules) {
+				rule.setLabel(newTheory.getUniqueRuleLabel());
+				newTheory.addRule(rule);
+			}
+			return newTheory;
+		} catch (TheoryException e) {
+			// theory errors are reported by the JavaCC generated parser
+			throw new ParseException(e.getMessage());
+		}
+	}
+
+	private static RuleType getRuleType(int kind) {
+		switch (kind) {
+		case RULE_TYPE_FACT:
+			return RuleType.FACT;
+		case RULE_TYPE_STRICT:
+			return RuleType.STRICT;
+		case RULE_TYPE_DEFEASIBLE:
+			return RuleType.DEFEASIBLE;
+		case RULE_TYPE_DEFEATER:
+			return RuleType.DEFEATER;
+		default:
+			return null;
+		}
+	}
+
+	private static ConclusionType getConclusionType(int kind) throws ParseException {
+		switch (kind) {
+		case DEFINITE_PROVABLE:
+			return ConclusionType.DEFINITE_PROVABLE;
+		case DEFINITE_NOT_PROVABLE:
+			return ConclusionType.DEFINITE_NOT_PROVABLE;
+		case DEFEASIBLE_PROVABLE:
+			return ConclusionType.DEFEASIBLY_PROVABLE;
+		case DEFEASIBLE_NOT_PROVABLE:
+			return ConclusionType.DEFEASIBLY_NOT_PROVABLE;
+		default:
+			throw new ParseException();
+		}
+	}
+
+	/**
+	 * Unlabelled rule, to be labelled when the statements of all chunks are merged.
+	 */
+	private static final class UnlabelledRule {
+		private final Rule rule;
+		private final boolean hasRuleBase;
+
+		private UnlabelledRule(final Rule rule, final boolean hasRuleBase) {
+			this.rule = rule;
+			this.hasRuleBase = hasRuleBase;
+		}
+	}
+
+	/**
+	 * Mode conversion, conflict or exclusion rules of a mode.
+	 */
+	private static final class ModeRules {
+		private final int sign;
+		private final String modeName;
+		private final String[] modes;
+
+		private ModeRules(final int sign, final String modeName, final String[] modes) {
+			this.sign = sign;
+			this.modeName = modeName;
+			this.modes = modes;
+		}
+	}
+
+	/**
+	 * Parser of the statements in a range of the input buffer.
+	 * Statements are recorded in the order they appear and are added to the theory by
+	 * {@link FastDflTheoryParser#mergeStatements(List)}.
+	 */
+	private static final class ChunkParser implements DflTheoryParser2baseConstants {
+		private final DflByteScanner scanner;
+		private final List<Object> statements;
+		private final List<String> predicatesList;
+		private boolean isRuleLabelled;
+
+		private ChunkParser(final ByteBuffer buffer, final int start, final int end, final boolean isConclusionMode) {
+			scanner = new DflByteScanner(buffer, start, end, isConclusionMode, new DflByteScanner.NameTable());
+			statements = new ArrayList<Object>();
+			predicatesList = new ArrayList<String>();
+		}
+
+		private List<Object> parseStatements() throws ParseException {
+			try {
+				while (scanner.getKind() != EOF) {
+					if (scanner.getKind() == EOL) scanner.next();
+					else parseTheoryTerm();
+				}
+				return statements;
+			} catch (ParseException e) {
+				throw e;
+			} catch (Exception e) {
+				// rule and temporal errors are reported by the JavaCC generated parser
+				throw new ParseException(e.getMessage());
+			}
+		}
+
+		private Map<Literal, Map<ConclusionType, Conclusion>> parseConclusions(
+				final Map<Literal, Map<ConclusionType, Conclusion>> conclusions) throws ParseException {
+			try {
+				while (scanner.getKind() != EOF) {
+					if (scanner.getKind() == EOL) {
+						scanner.next();
+						continue;
+					}
+					ConclusionType conclusionType = getConclusionType(scanner.getKind());
+					scanner.next();
+					Literal literal = parseLiteral();
+
+					Map<ConclusionType, Conclusion> conclusionList = conclusions.get(literal);
+					if (null == conclusionList) {
+						conclusionList = new TreeMap<ConclusionType, Conclusion>();
+						conclusions.put(literal, conclusionList);
+					}
+					conclusionList.put(conclusionType, new Conclusion(conclusionType, literal));
+				}
+				return conclusions;
+			} catch (ParseException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new ParseException(e.getMessage());
+			}
+		}
+
+		private void expect(int kind) throws ParseException {
+			if (scanner.getKind() != kind) throw new ParseException();
+			scanner.next();
+		}
+
+		private String expectString() throws ParseException {
+			if (scanner.getKind() != STRING) throw new ParseException();
+			String str = scanner.getImage();
+			scanner.next();
+			return str;
+		}
+
+		private void parseTheoryTerm() throws ParseException, RuleException {
+			if (scanner.getKind() == STRING) {
+				int tokenStart = scanner.getTokenStart();
+				String name = scanner.getImage();
+				switch (scanner.next()) {
+				case GREATER:
+				case LESSER:
+					parseSuperiority(name);
+					return;
+				case EQUALS:
+				case NOT_EQUALS:
+				case EXCLUDED:
+					parseModeRules(name);
+					return;
+				default:
+					scanner.reset(tokenStart);
+				}
+			}
+			parseRule();
+		}
+
+		private void parseSuperiority(String ruleLabel) throws ParseException {
+			boolean isSuperior = scanner.getKind() == GREATER;
+			do {
+				scanner.next();
+				String label = expectString();
+				statements.add(isSuperior ? new Superiority(ruleLabel, label) : new Superiority(label, ruleLabel));
+			} while (scanner.getKind() == ARGUMENT_SEPARATOR);
+		}
+
+		private void parseModeRules(String modeName) throws ParseException {
+			int sign = scanner.getKind();
+			List<String> modes = new ArrayList<String>();
+			do {
+				scanner.next();
+				modes.add(expectString());
+			} while (scanner.getKind() == ARGUMENT_SEPARATOR);
+
+			statements.add(new ModeRules(sign, modeName, modes.toArray(new String[modes.size()])));
+		}
+
+		private void parseRule() throws ParseException, RuleException {
+			isRuleLabelled = false;
+			Rule rule = parseRuleBase();
+			List<Literal> bodyLiterals = null;
+			if (null == getRuleType(scanner.getKind())) bodyLiterals = parseLiterals();
+
+			RuleType ruleType = getRuleType(scanner.getKind());
+			if (null == ruleType) throw new ParseException();
+			scanner.next();
+			List<Literal> headLiterals = parseLiterals();
+
+			boolean hasRuleBase = null != rule;
+			if (!hasRuleBase) rule = DomUtilities.getRule(TEMP_RULE_LABEL, RuleType.DEFEASIBLE);
+			rule.setRuleType(ruleType);
+			if (null != bodyLiterals) {
+				for (Literal literal : bodyLiterals) {
+					rule.addBodyLiteral(literal);
+				}
+			}
+			for (Literal literal : headLiterals) {
+				rule.addHeadLiteral(literal);
+			}
+			if (isRuleLabelled) statements.add(rule);
+			else statements.add(new UnlabelledRule(rule, hasRuleBase));
+		}
+
+		/**
+		 * Parse the optional rule label, mode and temporal of a rule, i.e., <code>label[mode]{start,end}:</code>.
+		 * As with the JavaCC generated parser, the rule base is only skipped if it does not match within the first
+		 * {@value FastDflTheoryParser#JAVACC_LOOKAHEAD} tokens.
+		 * 
+		 * @return Rule created (labelled with {@link AbstractTheoryParser#TEMP_RULE_LABEL} if the rule base has no label),
+		 *         or null if the rule has no rule base.
+		 */
+		private Rule parseRuleBase() throws ParseException {
+			switch (scanner.getKind()) {
+			case STRING:
+			case MODE_START:
+			case TEMPORAL_START:
+			case RULE_LABEL_SEPARATOR:
+				break;
+			default:
+				return null;
+			}
+
+			int tokenStart = scanner.getTokenStart();
+			int tokenCount = scanner.getTokenCount();
+			String ruleLabel = null;
+			Mode ruleMode = null;
+			Temporal ruleTemporal = null;
+			try {
+				if (scanner.getKind() == STRING) ruleLabel = expectString();
+				if (scanner.getKind() == MODE_START) ruleMode = parseMode();
+				if (scanner.getKind() == TEMPORAL_START) ruleTemporal = parseTemporal();
+				expect(RULE_LABEL_SEPARATOR);
+			} catch (ParseException e) {
+				if (scanner.getTokenCount() - tokenCount >= JAVACC_LOOKAHEAD) throw e;
+				scanner.reset(tokenStart);
+				return null;
+			}
+
+			isRuleLabelled = null != ruleLabel;
+			Rule rule = DomUtilities.getRule(isRuleLabelled ? ruleLabel : TEMP_RULE_LABEL, RuleType.DEFEASIBLE);
+			if (null != ruleMode) rule.setMode(ruleMode);
+			if (null != ruleTemporal) rule.setTemporal(ruleTemporal);
+			return rule;
+		}
+
+		private List<Literal> parseLiterals() throws ParseException {
+			List<Literal> literals = new ArrayList<Literal>();
+			literals.add(parseLiteral());
+			while (scanner.getKind() == ARGUMENT_SEPARATOR) {
+				scanner.next();
+				literals.add(parseLiteral());
+			}
+			return literals;
+		}
+
+		private Literal parseLiteral() throws ParseException {
+			Mode mode = null;
+			if (scanner.getKind() == MODE_START) mode = parseMode();
+			boolean isNegation = false;
+			if (scanner.getKind() == MINUS) {
+				isNegation = true;
+				scanner.next();
+			}
+			String name = expectString();
+			String[] predicates = null;
+			if (scanner.getKind() == ARG_START) predicates = parsePredicates();
+			Temporal temporal = null;
+			if (scanner.getKind() == TEMPORAL_START) temporal = parseTemporal();
+
+			Literal literal = DomUtilities.getLiteral(name, isNegation);
+			if (null != predicates) literal.setPredicates(predicates);
+			if (null != mode) literal.setMode(mode);
+			if (null != temporal) literal.setTemporal(temporal);
+			return literal;
+		}
+
+		private Mode parseMode() throws ParseException {
+			scanner.next();
+			boolean isNegation = false;
+			if (scanner.getKind() == MINUS) {
+				isNegation = true;
+				scanner.next();
+			}
+			String modeName = expectString();
+			expect(MODE_END);
+			return new Mode(modeName, isNegation);
+		}
+
+		private String[] parsePredicates() throws ParseException {
+			predicatesList.clear();
+			do {
+				scanner.next();
+				switch (scanner.getKind()) {
+				case STRING:
+				case NUMBER:
+					predicatesList.add(scanner.getImage());
+					scanner.next();
+					break;
+				default:
+					throw new ParseException();
+				}
+			} while (scanner.getKind() == ARGUMENT_SEPARATOR);
+			expect(ARG_END);
+			return predicatesList.toArray(new String[predicatesList.size()]);
+		}
+
+		private Temporal parseTemporal() throws ParseException {
+			scanner.next();
+			Temporal temporal = new Temporal();
+			if (scanner.getKind() == NEG_INF) scanner.next();
+			else temporal.setStartTime(parseTime());
+			if (scanner.getKind() == ARGUMENT_SEPARATOR) {
+				scanner.next();
+				temporal.setEndTime(parseTime());
+			}
+			expect(TEMPORAL_END);
+			return temporal;
+		}
+
+		private long parseTime() throws ParseException {
+			boolean isNegation = false;
+			if (scanner.getKind() == MINUS) {
+				isNegation = true;
+				scanner.next();
+			}
+			if (scanner.getKind() != NUMBER) throw new ParseException();
+			long time = scanner.getNumber();
+			scanner.next();
+			return isNegation ? -time : time;
+		}
+	}
+}
@@ -0,0 +1,501 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.io.parser;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import spindle.core.dom.Conclusion;
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.DomUtilities;
+import spindle.core.dom.Literal;
+import spindle.core.dom.LiteralVariable;
+import spindle.core.dom.Mode;
+import spindle.core.dom.Rule;
+import spindle.core.dom.RuleException;
+import spindle.core.dom.Superiority;
+import spindle.core.dom.Temporal;
+import spindle.core.dom.Theory;
+import spindle.core.dom.TheoryException;
+import spindle.io.ParserException;
+import spindle.io.outputter.XmlTheoryOutputter2;
+
+/**
+ * Streaming defeasible theory and conclusions parser for theory represented using XML.
+ * <p>
+ * Documents written according to the XML schema of {@link spindle.io.parser.XmlTheoryParser2} are read using a StAX
+ * {@link XMLStreamReader} and rules are added to the theory as soon as they are read, without building the JAXB
+ * object graph ({@link spindle.io.xjc.dom2}) of the whole document first. Literal names, modes and predicates are
+ * shared between rules, so that the memory required is about the size of the theory generated.
+ * </p>
+ * <p>
+ * Element names, element order, occurrences and required attributes are checked against the schema while reading;
+ * the first violation is reported with its location in the document.
+ * </p>
+ * <p>
+ * As documents that the JAXB parser accepts in spite of schema violations are rejected, the parser is not registered
+ * in the default I/O configuration, where {@link spindle.io.parser.XmlTheoryParser2} remains the XML parser; it can be
+ * registered in its place in <code>io_conf.xml</code>. Its throughput and peak heap usage can be compared with those of
+ * {@link spindle.io.parser.XmlTheoryParser2} using {@link TheoryParserBenchmark}.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see spindle.io.parser.XmlTheoryParser2
+ */
+public class StreamingXmlTheoryParser extends AbstractTheoryParser {
+	public static final String PARSER_TYPE = XmlTheoryOutputter2.OUTPUTTER_TYPE;
+
+	private static final String XML_NAMESPACE = "http://spin.nicta.org.au/spindle/spindleDefeasibleTheory2.xsd";
+
+	private static final String THEORY = "theory";
+	private static final String DESCRIPTION = "description";
+	private static final String CONVERT = "convert";
+	private static final String CONFLICT = "conflict";
+	private static final String EXCLUDE = "exclude";
+	private static final String LITERAL_VARIABLE = "literalVariable";
+	private static final String LITERAL_BOOLEAN_FUNCTION = "literalBooleanFunction";
+	private static final String FACT = "fact";
+	private static final String RULE = "rule";
+	private static final String SUPERIORITY = "superiority";
+	private static final String CONCLUSIONS = "conclusions";
+	private static final String CONCLUSION = "conclusion";
+
+	private static final String ATOM = "atom";
+	private static final String MODE = "mode";
+	private static final String NOT = "not";
+	private static final String INTERVAL = "interval";
+	private static final String START = "start";
+	private static final String END = "end";
+	private static final String PREDICATES = "predicates";
+	private static final String PREDICATE = "predicate";
+	private static final String HEAD = "head";
+	private static final String BODY = "body";
+	private static final String AND = "and";
+	private static final String LITERAL = "literal";
+	private static final String FROM = "from";
+	private static final String TO = "to";
+	private static final String CONFLICT_WITH = "conflictWIth";
+	private static final String EXCLUDE_WITH = "excludeWith";
+	private static final String NAME = "name";
+	private static final String VALUE = "value";
+	private static final String TAG = "tag";
+
+	private static final String LABEL = "label";
+	private static final String RULE_TYPE = "ruletype";
+	private static final String SUPERIOR = "superior";
+	private static final String INFERIOR = "inferior";
+
+	/**
+	 * Order of the theory elements in the schema.
+	 */
+	private static final String[] THEORY_ELEMENTS = { DESCRIPTION, CONVERT, CONFLICT, EXCLUDE, LITERAL_VARIABLE,
+			LITERAL_BOOLEAN_FUNCTION, RULE, SUPERIORITY };
+
+	private XMLInputFactory inputFactory = null;
+	private XMLStreamReader reader = null;
+	private Map<String, String> names = null;
+
+	private int ruleCounter = 0;
+
+	public StreamingXmlTheoryParser() {
+		super(PARSER_TYPE);
+	}
+
+	@Override
+	protected void generateTheory(InputStream ins) throws ParserException {
+		try {
+			openDocument(ins, THEORY);
+			ruleCounter = 0;
+
+			List<Superiority> superiorities = new ArrayList<Superiority>();
+			int stage = 0;
+			while (nextElement()) {
+				String elementName = reader.getLocalName();
+				int elementStage = getTheoryElementStage(elementName);
+				if (elementStage < stage) throw getParserException("element <" + elementName + "> not allowed here");
+				stage = elementStage;
+
+				switch (stage) {
+				case 0:
+					theory.setDescription(reader.getElementText());
+					stage = 1;
+					break;
+				case 1:
+					generateModeRules(FROM, TO, 1);
+					break;
+				case 2:
+					generateModeRules(MODE, CONFLICT_WITH, 2);
+					break;
+				case 3:
+					generateModeRules(MODE, EXCLUDE_WITH, 3);
+					break;
+				case 4:
+				case 5:
+					generateLiteralVariablePair(stage == 5);
+					break;
+				case 6:
+					Rule newRule = FACT.equals(elementName) ? generateFact() : generateRule();
+					if (newRule.getLabel().startsWith(TEMP_RULE_LABEL)) addPendingRule(newRule);
+					else theory.addRule(newRule);
+					break;
+				default:
+					// superiority relations are added after the mode rules and literal variables,
+					// as in XmlTheoryParser2
+					superiorities.add(new Superiority(getRequiredAttribute(SUPERIOR), getRequiredAttribute(INFERIOR)));
+					endElement();
+				}
+			}
+			if (stage < 6) throw getParserException("fact or rule expected");
+
+			for (Superiority superiority : superiorities) {
+				theory.add(superiority);
+			}
+			closeDocument();
+		} catch (ParserException e) {
+			theory = null;
+			throw e;
+		} catch (Exception e) {
+			theory = null;
+			throw new ParserException(e);
+		} finally {
+			reset();
+		}
+	}
+
+	@Override
+	protected Map<Literal, Map<ConclusionType, Conclusion>> generateConclusions(InputStream ins) throws ParserException {
+		Map<Literal, Map<ConclusionType, Conclusion>> conclusions = new TreeMap<Literal, Map<ConclusionType, Conclusion>>();
+		try {
+			openDocument(ins, CONCLUSIONS);
+			while (nextElement()) {
+				requireElement(CONCLUSION);
+				requireNextElement(TAG);
+				ConclusionType conclusionType = getConclusionType_xml(reader.getElementText());
+				requireNextElement(LITERAL);
+				Literal literal = generateLiteral();
+				endElement();
+
+				Map<ConclusionType, Conclusion> conclusionSet = conclusions.get(literal);
+				if (null == conclusionSet) {
+					conclusionSet = new TreeMap<ConclusionType, Conclusion>();
+					conclusions.put(literal, conclusionSet);
+				}
+				conclusionSet.put(conclusionType, new Conclusion(conclusionType, literal));
+			}
+			closeDocument();
+			if (conclusions.size() == 0) conclusions = null;
+			return conclusions;
+		} catch (XMLStreamException e) {
+			throw new ParserException(e);
+		} finally {
+			reset();
+		}
+	}
+
+	private int getTheoryElementStage(String elementName) throws ParserException {
+		if (FACT.equals(elementName)) return 6;
+		for (int i = 0; i < THEORY_ELEMENTS.length; i++) {
+			if (THEORY_ELEMENTS[i].equals(elementName)) return i;
+		}
+		throw getParserException("unknown element <" + elementName + ">");
+	}
+
+	private void generateModeRules(String modeElement, String modesElement, int ruleKind) throws XMLStreamException,
+			ParserException {
+		requireNextElement(modeElement);
+		String modeName = getName(reader.getElementText());
+		List<String> modes = new ArrayList<String>();
+		while (nextElement()) {
+			requireElement(modesElement);
+			modes.add(getName(reader.getElementText()));
+		}
+		if (modes.size() == 0) throw getParserException("element <" + modesElement + "> expected");
+
+		String[] m = modes.toArray(new String[modes.size()]);
+		switch (ruleKind) {
+		case 1:
+			theory.addModeConversionRules(modeName, m);
+			break;
+		case 2:
+			theory.addModeConflictRules(modeName, m);
+			break;
+		default:
+			theory.addModeExclusionRules(modeName, m);
+		}
+	}
+
+	private void generateLiteralVariablePair(boolean isBooleanFunction) throws XMLStreamException, ParserException,
+			TheoryException {
+		requireNextElement(NAME);
+		LiteralVariable name = generateLiteralVariable();
+
+		requireNextElement(VALUE);
+		LiteralVariable value;
+		if (isBooleanFunction) {
+			String literalFunctionStr = DflTheoryParser2.getLiteralFunctionEvaluationString(reader.getElementText().trim(), null,
+					null);
+			value = DomUtilities.getLiteralVariable(DomUtilities.getLiteral(literalFunctionStr, false));
+		} else {
+			value = generateLiteralVariable();
+		}
+		endElement();
+
+		theory.addLiteralVariable(name, value);
+	}
+
+	private LiteralVariable generateLiteralVariable() throws XMLStreamException, ParserException {
+		requireNextElement(ATOM);
+		Literal literal = DomUtilities.getLiteral(getName(reader.getElementText()), false);
+		if (nextElement()) {
+			requireElement(PREDICATES);
+			literal.setPredicates(generatePredicates());
+			endElement();
+		}
+		return DomUtilities.getLiteralVariable(literal);
+	}
+
+	private Rule generateFact() throws XMLStreamException, ParserException, RuleException {
+		Rule newRule = DomUtilities.getRule(theory.getUniqueRuleLabel(), spindle.core.dom.RuleType.FACT);
+		newRule.addHeadLiteral(generateLiteral());
+		return newRule;
+	}
+
+	private Rule generateRule() throws XMLStreamException, ParserException, RuleException {
+		String ruleLabel = reader.getAttributeValue(null, LABEL);
+		if (null == ruleLabel || "".equals(ruleLabel)) ruleLabel = TEMP_RULE_LABEL + Theory.formatRuleLabelNumber(ruleCounter++);
+		Rule newRule = DomUtilities.getRule(ruleLabel, getRuleType_xml(getRequiredAttribute(RULE_TYPE)));
+
+		if (!nextElement()) throw getParserException("element <" + HEAD + "> expected");
+		if (MODE.equals(reader.getLocalName())) {
+			String ruleMode = reader.getElementText();
+			if (!"".equals(ruleMode.trim())) newRule.setMode(new Mode(getName(ruleMode), false));
+			if (!nextElement()) throw getParserException("element <" + HEAD + "> expected");
+		}
+		if (INTERVAL.equals(reader.getLocalName())) {
+			newRule.setTemporal(generateTemporal());
+			if (!nextElement()) throw getParserException("element <" + HEAD + "> expected");
+		}
+
+		requireElement(HEAD);
+		while (nextElement()) {
+			requireElement(LITERAL);
+			newRule.addHeadLiteral(generateLiteral());
+		}
+		if (newRule.getHeadLiterals().size() == 0) throw getParserException("element <" + LITERAL + "> expected");
+
+		if (nextElement()) {
+			requireElement(BODY);
+			if (!nextElement()) throw getParserException("element <" + LITERAL + "> or <" + AND + "> expected");
+			if (LITERAL.equals(reader.getLocalName())) {
+				newRule.addBodyLiteral(generateLiteral());
+			} else {
+				requireElement(AND);
+				while (nextElement()) {
+					requireElement(LITERAL);
+					newRule.addBodyLiteral(generateLiteral());
+				}
+			}
+			endElement();
+			endElement();
+		}
+		return newRule;
+	}
+
+	private Literal generateLiteral() throws XMLStreamException, ParserException {
+		String name = null;
+		boolean isNegation = false;
+		String modeName = null;
+		boolean isModeNegation = false;
+		Temporal temporal = null;
+		String[] predicates = null;
+
+		// order of the literal elements: atom, mode, not (twice at most), interval and predicates
+		int stage = 0;
+		int negationsCount = 0;
+		while (nextElement()) {
+			String elementName = reader.getLocalName();
+			if (stage <= 0 && ATOM.equals(elementName)) {
+				name = getName(reader.getElementText());
+				stage = 1;
+			} else if (stage <= 1 && MODE.equals(elementName)) {
+				modeName = getName(reader.getElementText());
+				stage = 2;
+			} else if (stage <= 3 && NOT.equals(elementName) && negationsCount < 2) {
+				if (!nextElement()) throw getParserException("element <" + ATOM + "> or <" + MODE + "> expected");
+				if (ATOM.equals(reader.getLocalName())) {
+					if (null != name) throw new ParserException("multiplue literal names are declared: " + name);
+					name = getName(reader.getElementText());
+					isNegation = true;
+				} else {
+					requireElement(MODE);
+					if (null != modeName) throw new ParserException("multiplue literal modal operator are declared: " + modeName);
+					modeName = getName(reader.getElementText());
+					isModeNegation = true;
+				}
+				endElement();
+				negationsCount++;
+				stage = 3;
+			} else if (stage <= 3 && INTERVAL.equals(elementName)) {
+				temporal = generateTemporal();
+				stage = 4;
+			} else if (stage <= 4 && PREDICATES.equals(elementName)) {
+				predicates = generatePredicates();
+				stage = 5;
+			} else {
+				throw getParserException("element <" + elementName + "> not allowed here");
+			}
+		}
+
+		Literal literal = DomUtilities.getLiteral(name, isNegation, modeName, isModeNegation);
+		if (null != temporal) literal.setTemporal(temporal);
+		if (null != predicates) literal.setPredicates(predicates);
+		return literal;
+	}
+
+	private String[] generatePredicates() throws XMLStreamException, ParserException {
+		List<String> predicates = new ArrayList<String>();
+		while (nextElement()) {
+			requireElement(PREDICATE);
+			predicates.add(getName(reader.getElementText()));
+		}
+		if (predicates.size() == 0) throw getParserException("element <" + PREDICATE + "> expected");
+		return predicates.toArray(new String[predicates.size()]);
+	}
+
+	private Temporal generateTemporal() throws XMLStreamException, ParserException {
+		long start = Long.MIN_VALUE;
+		long end = Long.MAX_VALUE;
+		boolean hasStart = false;
+		boolean hasEnd = false;
+		while (nextElement()) {
+			String elementName = reader.getLocalName();
+			if (!hasStart && !hasEnd && START.equals(elementName)) {
+				start = getTime(reader.getElementText());
+				hasStart = true;
+			} else if (!hasEnd && END.equals(elementName)) {
+				end = getTime(reader.getElementText());
+				hasEnd = true;
+			} else {
+				throw getParserException("element <" + elementName + "> not allowed here");
+			}
+		}
+		return new Temporal(start, end);
+	}
+
+	private long getTime(String value) throws ParserException {
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException e) {
+			throw getParserException("invalid time value: " + value);
+		}
+	}
+
+	/**
+	 * Return the shared instance of a literal name, mode or predicate.
+	 */
+	private String getName(String name) {
+		String n = names.get(name);
+		if (null == n) {
+			names.put(name, name);
+			n = name;
+		}
+		return n;
+	}
+
+	private void openDocument(InputStream ins, String rootElement) throws XMLStreamException, ParserException {
+		if (null == inputFactory) {
+			inputFactory = XMLInputFactory.newInstance();
+			inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+			inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		}
+		reader = inputFactory.createXMLStreamReader(ins);
+		names = new HashMap<String, String>();
+		reader.nextTag();
+		requireElement(rootElement);
+	}
+
+	private void closeDocument() throws XMLStreamException {
+		while (reader.hasNext()) {
+			reader.next();
+		}
+	}
+
+	private void reset() {
+		if (null != reader) {
+			try {
+				reader.close();
+			} catch (XMLStreamException e) {
+			}
+			reader = null;
+		}
+		names = null;
+	}
+
+	/**
+	 * Move to the next child element of the current element.
+	 * 
+	 * @return true if the reader is positioned at the start of a child element; or false if it is positioned at the end of
+	 *         the current element.
+	 */
+	private boolean nextElement() throws XMLStreamException, ParserException {
+		if (reader.nextTag() != XMLStreamConstants.START_ELEMENT) return false;
+		if (!XML_NAMESPACE.equals(reader.getNamespaceURI()))
+			throw getParserException("element <" + reader.getName() + "> not in namespace " + XML_NAMESPACE);
+		return true;
+	}
+
+	private void endElement() throws XMLStreamException, ParserException {
+		if (nextElement()) throw getParserException("element <" + reader.getLocalName() + "> not allowed here");
+	}
+
+	private void requireNextElement(String elementName) throws XMLStreamException, ParserException {
+		if (!nextElement()) throw getParserException("element <" + elementName + "> expected");
+		requireElement(elementName);
+	}
+
+	private void requireElement(String elementName) throws ParserException {
+		if (!elementName.equals(reader.getLocalName()) || !XML_NAMESPACE.equals(reader.getNamespaceURI()))
+			throw getParserException("element <" + elementName + "> expected, found <" + reader.getName() + ">");
+	}
+
+	private String getRequiredAttribute(String attributeName) throws ParserException {
+		String value = reader.getAttributeValue(null, attributeName);
+		if (null == value) throw getParserException("attribute [" + attributeName + "] missing in element <" + reader.getLocalName() + ">");
+		return value;
+	}
+
+	private ParserException getParserException(String message) {
+		return new ParserException(message + " (line " + reader.getLocation().getLineNumber() + ", column "
+				+ reader.getLocation().getColumnNumber() + ")");
+	}
+}
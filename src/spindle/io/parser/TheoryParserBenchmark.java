@@ -0,0 +1,223 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.io.parser;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import com.app.utils.Utilities;
+
+import spindle.core.dom.DomUtilities;
+import spindle.core.dom.Literal;
+import spindle.core.dom.Rule;
+import spindle.core.dom.RuleType;
+import spindle.core.dom.Superiority;
+import spindle.core.dom.Theory;
+import spindle.io.IOManager;
+import spindle.io.TheoryParser;
+import spindle.sys.Conf;
+
+/**
+ * Benchmark of the theory parsers.
+ * <p>
+ * A random theory with the number of rules given is saved in the format of each parser, using the outputter of the
+ * same type registered in the I/O configuration, and loaded by each parser given. Every parser loads the theory once
+ * to warm up and then the number of times specified, and the average time per load is reported together with the
+ * throughput in rules and megabytes per second. The heap used after garbage collection is reported as the memory
+ * required by the parser: the peak is the largest heap used after any garbage collection during the loads, and the
+ * retained heap is the heap used after a full garbage collection with the theory loaded. The theories loaded by the
+ * parsers are compared with the one loaded by the first parser.
+ * </p>
+ * <p>
+ * The theory contains facts, strict and defeasible rules and defeaters with up to three body literals, some of which
+ * are negated or have predicates, and a superiority relation for one rule in ten.
+ * </p>
+ * <p>
+ * Usage: <code>java spindle.io.parser.TheoryParserBenchmark [rules ...] [parser class ...]</code>, the number of rules
+ * defaults to 10000 and 100000; and the parsers to {@link DflTheoryParser2} and {@link FastDflTheoryParser}. The number
+ * of timed loads can be set using the system property <code>runs</code> (defaults to 3). For example, the XML parsers
+ * are compared using <code>java spindle.io.parser.TheoryParserBenchmark 100000 spindle.io.parser.XmlTheoryParser2
+ * spindle.io.parser.StreamingXmlTheoryParser</code>; and the load time of the binary format with the DFL and XML formats
+ * using <code>java spindle.io.parser.TheoryParserBenchmark 100000 spindle.io.parser.BinaryTheoryParser
+ * spindle.io.parser.DflTheoryParser2 spindle.io.parser.XmlTheoryParser2</code>.
+ * </p>
+ * 
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ */
+public class TheoryParserBenchmark {
+	private static final long SEED = 1;
+	private static final String GC_NOTIFICATION = "com.sun.management.gc.notification";
+	private static final int MAX_BODY_LITERALS_COUNT = 3;
+	private static final RuleType[] RULE_TYPES = { RuleType.FACT, RuleType.STRICT, RuleType.DEFEASIBLE, RuleType.DEFEASIBLE,
+			RuleType.DEFEASIBLE, RuleType.DEFEATER };
+
+	private static final Set<String> heapMemoryPoolNames = new HashSet<String>();
+	private static volatile long peakHeapUsage = 0;
+
+	public static void main(String... args) throws Exception {
+		List<Integer> rulesCounts = new ArrayList<Integer>();
+		List<String> parserClassNames = new ArrayList<String>();
+		for (String arg : args) {
+			if (arg.matches("\\d+")) rulesCounts.add(Integer.parseInt(arg));
+			else parserClassNames.add(arg);
+		}
+		if (rulesCounts.size() == 0) {
+			rulesCounts.add(10000);
+			rulesCounts.add(100000);
+		}
+		if (parserClassNames.size() == 0) {
+			parserClassNames.add(DflTheoryParser2.class.getName());
+			parserClassNames.add(FastDflTheoryParser.class.getName());
+		}
+		int runs = Integer.getInteger("runs", 3);
+
+		Conf.initializeApplicationContext(null);
+		addGarbageCollectionListener();
+
+		for (int rulesCount : rulesCounts) {
+			Theory theory = generateTheory(rulesCount);
+			Map<String, File> files = new HashMap<String, File>();
+
+			String firstTheory = null;
+			for (String parserClassName : parserClassNames) {
+				TheoryParser parser = Utilities.getInstance(parserClassName, TheoryParser.class);
+				File file = files.get(parser.getParserType());
+				if (null == file) {
+					file = File.createTempFile("theory", "." + parser.getParserType());
+					file.deleteOnExit();
+					IOManager.save(new FileOutputStream(file), parser.getParserType(), theory, null);
+					files.put(parser.getParserType(), file);
+				}
+
+				String parserName = parser.getClass().getSimpleName();
+				String loadedTheory = parser.getTheory(new FileInputStream(file)).toString();
+				if (null == firstTheory) {
+					firstTheory = loadedTheory;
+				} else if (!firstTheory.equals(loadedTheory)) {
+					System.out.println("  theory differs from " + parserClassNames.get(0));
+				}
+				loadedTheory = null;
+				// the parser keeps the theory loaded
+				parser = null;
+
+				long duration = 0;
+				long baseHeapUsage = getHeapUsage();
+				long retainedHeapUsage = 0;
+				peakHeapUsage = 0;
+				for (int i = 0; i < runs; i++) {
+					parser = Utilities.getInstance(parserClassName, TheoryParser.class);
+					long startTime = System.nanoTime();
+					parser.getTheory(new FileInputStream(file));
+					duration += System.nanoTime() - startTime;
+					retainedHeapUsage = Math.max(retainedHeapUsage, getHeapUsage());
+					parser = null;
+				}
+				duration /= runs;
+				long peak = Math.max(peakHeapUsage, retainedHeapUsage);
+
+				System.out.printf("%-30s rules=%8d  size=%8.2f MB  time=%10.2f ms  rules/s=%10.0f  MB/s=%7.2f  "
+						+ "heap peak=%8.2f MB  retained=%8.2f MB%n", parserName, rulesCount, file.length() / 1048576.0,
+						duration / 1000000.0, rulesCount * 1e9 / duration, file.length() / 1048576.0 * 1e9 / duration,
+						(peak - baseHeapUsage) / 1048576.0, (retainedHeapUsage - baseHeapUsage) / 1048576.0);
+			}
+		}
+	}
+
+	/**
+	 * Return the heap used after a full garbage collection.
+	 */
+	private static long getHeapUsage() {
+		System.gc();
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+
+	/**
+	 * Record the heap used after every garbage collection (on JVMs that send garbage collection notifications) as the
+	 * peak heap usage.
+	 */
+	private static void addGarbageCollectionListener() {
+		for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (memoryPool.getType() == MemoryType.HEAP) heapMemoryPoolNames.add(memoryPool.getName());
+		}
+		NotificationListener listener = new NotificationListener() {
+			@Override
+			public void handleNotification(Notification notification, Object handback) {
+				if (!GC_NOTIFICATION.equals(notification.getType())) return;
+				CompositeData gcInfo = (CompositeData) ((CompositeData) notification.getUserData()).get("gcInfo");
+				long heapUsage = 0;
+				for (Object entry : ((TabularData) gcInfo.get("memoryUsageAfterGc")).values()) {
+					CompositeData memoryUsage = (CompositeData) entry;
+					if (heapMemoryPoolNames.contains(memoryUsage.get("key")))
+						heapUsage += (Long) ((CompositeData) memoryUsage.get("value")).get("used");
+				}
+				if (heapUsage > peakHeapUsage) peakHeapUsage = heapUsage;
+			}
+		};
+		for (GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			if (garbageCollector instanceof NotificationEmitter)
+				((NotificationEmitter) garbageCollector).addNotificationListener(listener, null, null);
+		}
+	}
+
+	private static Theory generateTheory(int rulesCount) throws Exception {
+		Random random = new Random(SEED);
+		int literalsCount = Math.max(1, rulesCount / 2);
+		Theory theory = new Theory();
+		for (int i = 0; i < rulesCount; i++) {
+			RuleType ruleType = RULE_TYPES[random.nextInt(RULE_TYPES.length)];
+			Rule rule = DomUtilities.getRule("r" + i, ruleType);
+			int bodyLiteralsCount = ruleType == RuleType.FACT ? 0 : 1 + random.nextInt(MAX_BODY_LITERALS_COUNT);
+			for (int j = 0; j < bodyLiteralsCount; j++) {
+				rule.addBodyLiteral(generateLiteral(random, literalsCount));
+			}
+			rule.addHeadLiteral(generateLiteral(random, literalsCount));
+			theory.addRule(rule);
+			if (i > 0 && random.nextInt(10) == 0) theory.add(new Superiority("r" + i, "r" + random.nextInt(i)));
+		}
+		return theory;
+	}
+
+	private static Literal generateLiteral(Random random, int literalsCount) {
+		Literal literal = DomUtilities.getLiteral("p" + random.nextInt(literalsCount), random.nextInt(4) == 0);
+		if (random.nextInt(8) == 0) literal.setPredicates(new String[] { "a" + random.nextInt(10), "b" + random.nextInt(10) });
+		return literal;
+	}
+}
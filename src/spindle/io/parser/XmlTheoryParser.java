@@ -247,7 +247,7 @@ public class XmlTheoryParser extends AbstractTheoryParser {
 				ruleLabel = attributeValue;
 			}
 		}
-		if ("".equals(ruleLabel)) ruleLabel = TEMP_RULE_LABEL + Theory.formatter.format(ruleCounter++);
+		if ("".equals(ruleLabel)) ruleLabel = TEMP_RULE_LABEL + Theory.formatRuleLabelNumber(ruleCounter++);
 
 		Rule rule = DomUtilities.getRule(ruleLabel, ruleType);
 		List<Literal> bodyLiterals = null;
@@ -70,60 +70,52 @@ import spindle.sys.AppLogger;
 public class XmlTheoryParser2 extends AbstractTheoryParser {
 	public static final String PARSER_TYPE = XmlTheoryOutputter2.OUTPUTTER_TYPE;
 	
-	private static XmlTheoryParser2 INSTANCE = null;
-	private static Unmarshaller ruleUnmarshaller = null;
-	
+
 	private static final String RULE_PREFIX = "<rules xmlns=\"http://spin.nicta.org.au/spindle/spindleDefeasibleTheory2.xsd\" "
 			+ "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" "
 			+">";
 	private static final String RULE_POSTFIX = "</rules>";
 
 	public static spindle.core.dom.Theory getTheory(String xmlString, AppLogger logger) throws ParserException {
-		if (null == INSTANCE) INSTANCE = new XmlTheoryParser2();
+		// parsers keep the state of the theory being parsed and are not shared between calls
+		XmlTheoryParser2 parser = new XmlTheoryParser2();
 		try {
 			InputStream ins = new ByteArrayInputStream(xmlString.replaceAll("[\t\r\n]", "").getBytes());
-			if (null != logger) INSTANCE.setAppLogger(logger);
-			return INSTANCE.getTheory(ins);
+			if (null != logger) parser.setAppLogger(logger);
+			return parser.getTheory(ins);
 		} catch (Exception e) {
 			throw new ParserException(e);
-		} finally {
-			INSTANCE.resetAppLogger();
 		}
 	}
 
 	public static Map<spindle.core.dom.Literal, Map<spindle.core.dom.ConclusionType, spindle.core.dom.Conclusion>> getConclusions(
 			String xmlString, AppLogger logger) throws ParserException {
-		if (null == INSTANCE) INSTANCE = new XmlTheoryParser2();
+		XmlTheoryParser2 parser = new XmlTheoryParser2();
 		try {
 			InputStream ins = new ByteArrayInputStream(xmlString.replaceAll("[\t\r\n]", "").getBytes());
-			if (null != logger) INSTANCE.setAppLogger(logger);
-			return INSTANCE.getConclusions(ins);
+			if (null != logger) parser.setAppLogger(logger);
+			return parser.getConclusions(ins);
 		} catch (Exception e) {
 			throw new ParserException(e);
-		} finally {
-			INSTANCE.resetAppLogger();
 		}
 	}
 
 	public static spindle.core.dom.Rule getRule(String xmlString, AppLogger logger) throws ParserException {
+		XmlTheoryParser2 parser = new XmlTheoryParser2();
 		try {
-			if (null == INSTANCE) INSTANCE = new XmlTheoryParser2();
-			if (null != logger) INSTANCE.setAppLogger(logger);
+			if (null != logger) parser.setAppLogger(logger);
 			String ruleStr = RULE_PREFIX + xmlString + RULE_POSTFIX;
 
 			InputStream ins = new ByteArrayInputStream(ruleStr.replaceAll("[\t\r\n]", "").getBytes());
 
-			if (null == ruleUnmarshaller) ruleUnmarshaller = XjcUtilities.getRuleUnmarshaller();
-			Rules cRule = (Rules) ruleUnmarshaller.unmarshal(ins);
+			Rules cRule = (Rules) XjcUtilities.getRuleUnmarshaller().unmarshal(ins);
 
-			spindle.core.dom.Rule rule = INSTANCE.generateRule(cRule.getRule());
+			spindle.core.dom.Rule rule = parser.generateRule(cRule.getRule());
 			if (rule.getLabel().startsWith(TEMP_RULE_LABEL)) rule.setLabel(spindle.core.dom.Theory.DEFAULT_RULE_LABEL_PREFIX + "0001");
 
 			return rule;
 		} catch (Exception e) {
 			throw new ParserException(e);
-		} finally {
-			INSTANCE.resetAppLogger();
 		}
 	}
 
@@ -260,7 +252,7 @@ public class XmlTheoryParser2 extends AbstractTheoryParser {
 		String ruleLabel = cRule.getLabel();
 
 		if (null == ruleLabel || "".equals(ruleLabel))
-			ruleLabel = TEMP_RULE_LABEL + spindle.core.dom.Theory.formatter.format(ruleCounter++);
+			ruleLabel = TEMP_RULE_LABEL + spindle.core.dom.Theory.formatRuleLabelNumber(ruleCounter++);
 		// if ("".equals(ruleLabel)) ruleLabel = TEMP_RULE_LABEL + Theory.formatter.format(ruleCounter++);
 		// if (null == ruleLabel) ruleLabel = theory.getUniqueRuleLabel();
 		spindle.core.dom.RuleType ruleType = getRuleType_xml(cRule.getRuletype());
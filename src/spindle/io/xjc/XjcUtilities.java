@@ -48,27 +48,22 @@ public class XjcUtilities {
 	private static JAXBContext jcConclusions = null;
 	private static JAXBContext jcRule = null;
 
-	private static Unmarshaller theoryUnmarshaller = null;
-	private static Unmarshaller conclusionsUnmarshaller = null;
-	private static Unmarshaller ruleUnmarshaller = null;
-
-	private static Marshaller theoryMarshaller = null;
-	private static Marshaller conclusionsMarshaller = null;
-	private static Marshaller ruleMarshaller = null;
-
 	private static ObjectFactory objectFactory = null;
 
-	private static JAXBContext getTheoryJaxbContext() throws JAXBException {
+	// JAXB contexts are thread-safe and are shared, while marshallers and unmarshallers are not and a new one is created
+	// for each call
+
+	private synchronized static JAXBContext getTheoryJaxbContext() throws JAXBException {
 		if (null == jcTheory) jcTheory = JAXBContext.newInstance(Theory.class);
 		return jcTheory;
 	}
 
-	private static JAXBContext getConclusionsJaxbContext() throws JAXBException {
+	private synchronized static JAXBContext getConclusionsJaxbContext() throws JAXBException {
 		if (null == jcConclusions) jcConclusions = JAXBContext.newInstance(Conclusions.class);
 		return jcConclusions;
 	}
 
-	private static JAXBContext getRuleJaxbContext() throws JAXBException {
+	private synchronized static JAXBContext getRuleJaxbContext() throws JAXBException {
 		if (null == jcRule) jcRule = JAXBContext.newInstance(Rules.class);
 		return jcRule;
 	}
@@ -103,45 +98,36 @@ public class XjcUtilities {
 	}
 
 	public static Unmarshaller getTheoryUnmarshaller() throws JAXBException {
-		if (null == theoryUnmarshaller) theoryUnmarshaller = getTheoryJaxbContext().createUnmarshaller();
-		return theoryUnmarshaller;
+		return getTheoryJaxbContext().createUnmarshaller();
 	}
 
 	public static Unmarshaller getConclusionsUnmarshaller() throws JAXBException {
-		if (null == conclusionsUnmarshaller) conclusionsUnmarshaller = getConclusionsJaxbContext().createUnmarshaller();
-		return conclusionsUnmarshaller;
+		return getConclusionsJaxbContext().createUnmarshaller();
 	}
 
 	public static Unmarshaller getRuleUnmarshaller() throws JAXBException {
-		if (null == ruleUnmarshaller) ruleUnmarshaller = getRuleJaxbContext().createUnmarshaller();
-		return ruleUnmarshaller;
+		return getRuleJaxbContext().createUnmarshaller();
 	}
 
 	public static Marshaller getTheoryMarshaller() throws JAXBException {
-		if (null == theoryMarshaller) {
-			theoryMarshaller = getTheoryJaxbContext().createMarshaller();
-			if (!AppConst.isDeploy) theoryMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, new Boolean(true));
-		}
+		Marshaller theoryMarshaller = getTheoryJaxbContext().createMarshaller();
+		if (!AppConst.isDeploy) theoryMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, new Boolean(true));
 		return theoryMarshaller;
 	}
 
 	public static Marshaller getConclusionsMarshaller() throws JAXBException {
-		if (null == conclusionsMarshaller) {
-			conclusionsMarshaller = getConclusionsJaxbContext().createMarshaller();
-			if (!AppConst.isDeploy) conclusionsMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, new Boolean(true));
-		}
+		Marshaller conclusionsMarshaller = getConclusionsJaxbContext().createMarshaller();
+		if (!AppConst.isDeploy) conclusionsMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, new Boolean(true));
 		return conclusionsMarshaller;
 	}
 
 	public static Marshaller getRuleMarshaller() throws JAXBException {
-		if (null == ruleMarshaller) {
-			ruleMarshaller = getRuleJaxbContext().createMarshaller();
-			ruleMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, new Boolean(true));
-		}
+		Marshaller ruleMarshaller = getRuleJaxbContext().createMarshaller();
+		ruleMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, new Boolean(true));
 		return ruleMarshaller;
 	}
 
-	public static ObjectFactory getObjectFactory() {
+	public synchronized static ObjectFactory getObjectFactory() {
 		if (null == objectFactory) objectFactory = new ObjectFactory();
 		return objectFactory;
 	}
@@ -35,5 +35,13 @@ public interface AppLogger {
 
 	void setLogLevel(Level logLevel);
 
+	/**
+	 * Check if a message of the specified level would be logged.
+	 * 
+	 * @param logLevel log level.
+	 * @return true if messages of the level are logged; false otherwise.
+	 */
+	boolean isLoggable(Level logLevel);
+
 	void onLogMessage(Level logLevel, int indentLevel, String message, Object... objects);
 }
@@ -82,9 +82,14 @@ public class AppLoggerImpl implements AppLogger {
 		logger.setLevel(logLevel);
 	}
 
+	@Override
+	public boolean isLoggable(Level logLevel) {
+		return null != logger && logger.isLoggable(logLevel);
+	}
+
 	@Override
 	public void onLogMessage(Level logLevel, int indentLevel, String message, Object... objects) {
-		if (null == logger || !logger.isLoggable(logLevel)) return;
+		if (!isLoggable(logLevel)) return;
 
 		StringBuilder sb = new StringBuilder();
 		for (int i = 0; i < indentLevel; i++) {
@@ -39,6 +39,8 @@ public abstract class AppModuleBase implements AppModule {
 	protected AppLogger logger = null;
 	protected static String LINE_SEPARATOR = FileManager.LINE_SEPARATOR;
 
+	private static final Object[] EMPTY_OBJECTS = new Object[0];
+
 	public AppModuleBase() {
 		super();
 	}
@@ -64,8 +66,41 @@ public abstract class AppModuleBase implements AppModule {
 		logger.setLogLevel(logLevel);
 	}
 
+	/**
+	 * Check if a message of the specified level would be logged by the current logger.
+	 * 
+	 * @param logLevel log level.
+	 * @return true if messages of the level are logged; false otherwise.
+	 */
+	public boolean isLoggable(final Level logLevel) {
+		return null != logger && logger.isLoggable(logLevel);
+	}
+
+	// the fixed arity methods below are used to avoid the creation of
+	// the varargs array when the log level is not enabled
+	protected void logMessage(Level logLevel, final int indentLevel, final String message) {
+		if (!isLoggable(logLevel)) return;
+		logger.onLogMessage(logLevel, indentLevel, message, EMPTY_OBJECTS);
+	}
+
+	protected void logMessage(Level logLevel, final int indentLevel, final String message, final Object object) {
+		if (!isLoggable(logLevel)) return;
+		logger.onLogMessage(logLevel, indentLevel, message, object);
+	}
+
+	protected void logMessage(Level logLevel, final int indentLevel, final String message, final Object object1, final Object object2) {
+		if (!isLoggable(logLevel)) return;
+		logger.onLogMessage(logLevel, indentLevel, message, object1, object2);
+	}
+
+	protected void logMessage(Level logLevel, final int indentLevel, final String message, final Object object1, final Object object2,
+			final Object object3) {
+		if (!isLoggable(logLevel)) return;
+		logger.onLogMessage(logLevel, indentLevel, message, object1, object2, object3);
+	}
+
 	protected void logMessage(Level logLevel, final int indentLevel, final String message, final Object... objects) {
-		if (null == logger) return;
+		if (!isLoggable(logLevel)) return;
 		logger.onLogMessage(logLevel, indentLevel, message, objects);
 	}
 
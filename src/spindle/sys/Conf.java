@@ -256,6 +256,110 @@ public class Conf {
 		props.setProperty(ConfTag.REASONER_CONTINUES_WITH_MIXED_TEMPORAL_LITERAL, Boolean.toString(reasoningWithMixedTemporalLiterals));
 	}
 
+	public static boolean isLazyModeConversion() {
+		if (!isInitialized) initializeApplicationContext(null);
+		return props.getPropertyAsBoolean(ConfTag.REASONER_MDL_LAZY_MODE_CONVERSION, false);
+	}
+
+	public static void setLazyModeConversion(boolean lazyModeConversion) {
+		if (!isInitialized) initializeApplicationContext(null);
+		props.setProperty(ConfTag.REASONER_MDL_LAZY_MODE_CONVERSION, Boolean.toString(lazyModeConversion));
+	}
+
+	public static boolean isMdlParallelPartitions() {
+		if (!isInitialized) initializeApplicationContext(null);
+		return props.getPropertyAsBoolean(ConfTag.REASONER_MDL_PARALLEL_PARTITIONS, false);
+	}
+
+	public static void setMdlParallelPartitions(boolean mdlParallelPartitions) {
+		if (!isInitialized) initializeApplicationContext(null);
+		props.setProperty(ConfTag.REASONER_MDL_PARALLEL_PARTITIONS, Boolean.toString(mdlParallelPartitions));
+	}
+
+	public static boolean isTheoryGrounding() {
+		if (!isInitialized) initializeApplicationContext(null);
+		return props.getPropertyAsBoolean(ConfTag.REASONER_THEORY_GROUNDING, false);
+	}
+
+	public static void setTheoryGrounding(boolean theoryGrounding) {
+		if (!isInitialized) initializeApplicationContext(null);
+		props.setProperty(ConfTag.REASONER_THEORY_GROUNDING, Boolean.toString(theoryGrounding));
+	}
+
+	public static boolean isConclusionCache() {
+		if (!isInitialized) initializeApplicationContext(null);
+		return props.getPropertyAsBoolean(ConfTag.REASONER_CONCLUSION_CACHE, false);
+	}
+
+	public static void setConclusionCache(boolean conclusionCache) {
+		if (!isInitialized) initializeApplicationContext(null);
+		props.setProperty(ConfTag.REASONER_CONCLUSION_CACHE, Boolean.toString(conclusionCache));
+	}
+
+	public static int getConclusionCacheMemorySize() {
+		if (!isInitialized) initializeApplicationContext(null);
+		return props.getPropertyAsInteger(ConfTag.REASONER_CONCLUSION_CACHE_MEMORY_SIZE, 64);
+	}
+
+	public static void setConclusionCacheMemorySize(int conclusionCacheMemorySize) {
+		if (!isInitialized) initializeApplicationContext(null);
+		props.setProperty(ConfTag.REASONER_CONCLUSION_CACHE_MEMORY_SIZE, Integer.toString(conclusionCacheMemorySize));
+	}
+
+	/**
+	 * Return the folder of the on-disk conclusion cache, or null if the cache is kept in memory only.
+	 */
+	public static String getConclusionCacheFolder() {
+		if (!isInitialized) initializeApplicationContext(null);
+		String folder = props.getProperty(ConfTag.REASONER_CONCLUSION_CACHE_FOLDER, "").trim();
+		return "".equals(folder) ? null : folder;
+	}
+
+	public static void setConclusionCacheFolder(String conclusionCacheFolder) {
+		if (!isInitialized) initializeApplicationContext(null);
+		props.setProperty(ConfTag.REASONER_CONCLUSION_CACHE_FOLDER, null == conclusionCacheFolder ? "" : conclusionCacheFolder);
+	}
+
+	public static long getConclusionCacheDiskSize() {
+		if (!isInitialized) initializeApplicationContext(null);
+		return props.getPropertyAsLong(ConfTag.REASONER_CONCLUSION_CACHE_DISK_SIZE, 64L * 1024 * 1024);
+	}
+
+	public static void setConclusionCacheDiskSize(long conclusionCacheDiskSize) {
+		if (!isInitialized) initializeApplicationContext(null);
+		props.setProperty(ConfTag.REASONER_CONCLUSION_CACHE_DISK_SIZE, Long.toString(conclusionCacheDiskSize));
+	}
+
+	public static boolean isComponentCache() {
+		if (!isInitialized) initializeApplicationContext(null);
+		return props.getPropertyAsBoolean(ConfTag.REASONER_COMPONENT_CACHE, false);
+	}
+
+	public static void setComponentCache(boolean componentCache) {
+		if (!isInitialized) initializeApplicationContext(null);
+		props.setProperty(ConfTag.REASONER_COMPONENT_CACHE, Boolean.toString(componentCache));
+	}
+
+	public static int getComponentCacheMemorySize() {
+		if (!isInitialized) initializeApplicationContext(null);
+		return props.getPropertyAsInteger(ConfTag.REASONER_COMPONENT_CACHE_MEMORY_SIZE, 4096);
+	}
+
+	public static void setComponentCacheMemorySize(int componentCacheMemorySize) {
+		if (!isInitialized) initializeApplicationContext(null);
+		props.setProperty(ConfTag.REASONER_COMPONENT_CACHE_MEMORY_SIZE, Integer.toString(componentCacheMemorySize));
+	}
+
+	public static boolean isComponentCacheVerify() {
+		if (!isInitialized) initializeApplicationContext(null);
+		return props.getPropertyAsBoolean(ConfTag.REASONER_COMPONENT_CACHE_VERIFY, false);
+	}
+
+	public static void setComponentCacheVerify(boolean componentCacheVerify) {
+		if (!isInitialized) initializeApplicationContext(null);
+		props.setProperty(ConfTag.REASONER_COMPONENT_CACHE_VERIFY, Boolean.toString(componentCacheVerify));
+	}
+
 	public static boolean isLogInferenceProcess() {
 		if (!isInitialized) initializeApplicationContext(null);
 		return props.getPropertyAsBoolean(ConfTag.IS_LOG_INFERENCE_PROCESS);
@@ -281,6 +385,26 @@ public class Conf {
 		return props.getProperty(ConfTag.REASONER_TDL_CONCLUSION_UPDATER);
 	}
 
+	public static long getTdlStreamWindow() {
+		if (!isInitialized) initializeApplicationContext(null);
+		return props.getPropertyAsLong(ConfTag.REASONER_TDL_STREAM_WINDOW, 1000L);
+	}
+
+	public static void setTdlStreamWindow(long tdlStreamWindow) {
+		if (!isInitialized) initializeApplicationContext(null);
+		props.setProperty(ConfTag.REASONER_TDL_STREAM_WINDOW, "" + tdlStreamWindow);
+	}
+
+	public static boolean isTdlTimePartitions() {
+		if (!isInitialized) initializeApplicationContext(null);
+		return props.getPropertyAsBoolean(ConfTag.REASONER_TDL_TIME_PARTITIONS, false);
+	}
+
+	public static void setTdlTimePartitions(boolean tdlTimePartitions) {
+		if (!isInitialized) initializeApplicationContext(null);
+		props.setProperty(ConfTag.REASONER_TDL_TIME_PARTITIONS, Boolean.toString(tdlTimePartitions));
+	}
+
 	public static String getTheoryAnalyser_stronglyConnectedComponentClassName() {
 		if (!isInitialized) initializeApplicationContext(null);
 		return props.getProperty(ConfTag.THEORY_ANALYSER_STRONGLY_COMPONENT_IMPL);
@@ -333,15 +457,15 @@ public class Conf {
 		props.setProperty(ConfTag.IS_MULTI_THREAD_MODE, Boolean.toString(isMultiThreadMode));
 	}
 
-	// public static int getNoOfParallelReasoningThreads() {
-	// if (!isInitialized) initializeApplicationContext(null);
-	// return props.getPropertyAsInteger(ConfTag.REASONER_PARALLEL_REASONING_THREADS);
-	// }
-	//
-	// public static void setNoOfParallelReasoningThreads(int noOfParallelReasoningThreads) {
-	// if (!isInitialized) initializeApplicationContext(null);
-	// props.setProperty(ConfTag.REASONER_PARALLEL_REASONING_THREADS, "" + noOfParallelReasoningThreads);
-	// }
+	public static int getNoOfParallelReasoningThreads() {
+		if (!isInitialized) initializeApplicationContext(null);
+		return props.getPropertyAsInteger(ConfTag.REASONER_PARALLEL_REASONING_THREADS, 3);
+	}
+
+	public static void setNoOfParallelReasoningThreads(int noOfParallelReasoningThreads) {
+		if (!isInitialized) initializeApplicationContext(null);
+		props.setProperty(ConfTag.REASONER_PARALLEL_REASONING_THREADS, "" + noOfParallelReasoningThreads);
+	}
 
 	public static boolean isReasonerGarbageCollection() {
 		if (!isInitialized) initializeApplicationContext(null);
@@ -363,6 +487,26 @@ public class Conf {
 		return props.getPropertyAsBoolean(ConfTag.IS_SEARCH_IO_CLASSES);
 	}
 
+	public static int getNoOfParallelParsingThreads() {
+		if (!isInitialized) initializeApplicationContext(null);
+		return props.getPropertyAsInteger(ConfTag.IO_PARALLEL_PARSING_THREADS, 1);
+	}
+
+	public static void setNoOfParallelParsingThreads(int noOfParallelParsingThreads) {
+		if (!isInitialized) initializeApplicationContext(null);
+		props.setProperty(ConfTag.IO_PARALLEL_PARSING_THREADS, "" + noOfParallelParsingThreads);
+	}
+
+	public static int getParallelParsingChunkSize() {
+		if (!isInitialized) initializeApplicationContext(null);
+		return props.getPropertyAsInteger(ConfTag.IO_PARALLEL_PARSING_CHUNK_SIZE, 8 << 20);
+	}
+
+	public static void setParallelParsingChunkSize(int parallelParsingChunkSize) {
+		if (!isInitialized) initializeApplicationContext(null);
+		props.setProperty(ConfTag.IO_PARALLEL_PARSING_CHUNK_SIZE, "" + parallelParsingChunkSize);
+	}
+
 	public static void setLogLevel(final Level newLogLevel) {
 		if (!isInitialized) initializeApplicationContext(null);
 		logLevel = newLogLevel;
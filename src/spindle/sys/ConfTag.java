@@ -49,8 +49,11 @@ public interface ConfTag {
 	String IS_GARBAGE_COLLECTION = "reasoner.garbage.collection";
 	String REASONER_GARBAGE_COLLECTION_TIME_INTERVAL = "reasoner.garbage.collection.timeInterval";
 	String IS_MULTI_THREAD_MODE = "reasoner.multiThreadMode";
+	String REASONER_PARALLEL_REASONING_THREADS = "reasoner.parallelReasoningThreads";
 
 	String IS_SEARCH_IO_CLASSES = "app.io.searchClasses";
+	String IO_PARALLEL_PARSING_THREADS = "app.io.parallelParsingThreads";
+	String IO_PARALLEL_PARSING_CHUNK_SIZE = "app.io.parallelParsingChunkSize";
 	String IS_SHOW_STATISTICS = "app.showStatistics";
 
 	String IS_LOG_INFERENCE_PROCESS = "reasoner.logInference";
@@ -59,7 +62,22 @@ public interface ConfTag {
 	String REASONER_AMBIGUOUS_PROPAGATION = "reasoner.ambiguityPropagation";
 	String REASONER_CONTINUES_WITH_MIXED_TEMPORAL_LITERAL="reasoner.mixLiteralsMode";
 
+	String REASONER_MDL_LAZY_MODE_CONVERSION = "reasoner.mdl.lazyModeConversion";
+	String REASONER_MDL_PARALLEL_PARTITIONS = "reasoner.mdl.parallelPartitions";
+
 	String REASONER_TDL_CONCLUSION_UPDATER="reasoner.tdl.conclusionUpdater";
+	String REASONER_TDL_STREAM_WINDOW = "reasoner.tdl.streamWindow";
+	String REASONER_TDL_TIME_PARTITIONS = "reasoner.tdl.timePartitions";
+
+	String REASONER_THEORY_GROUNDING = "reasoner.theoryGrounding";
+
+	String REASONER_CONCLUSION_CACHE = "reasoner.conclusionCache";
+	String REASONER_CONCLUSION_CACHE_MEMORY_SIZE = "reasoner.conclusionCache.memorySize";
+	String REASONER_CONCLUSION_CACHE_FOLDER = "reasoner.conclusionCache.folder";
+	String REASONER_CONCLUSION_CACHE_DISK_SIZE = "reasoner.conclusionCache.diskSize";
+	String REASONER_COMPONENT_CACHE = "reasoner.componentCache";
+	String REASONER_COMPONENT_CACHE_MEMORY_SIZE = "reasoner.componentCache.memorySize";
+	String REASONER_COMPONENT_CACHE_VERIFY = "reasoner.componentCache.verify";
 	
 	String THEORY_ANALYSER_STRONGLY_COMPONENT_IMPL = "theoryAnalyser.scc.impl";
 
@@ -72,6 +72,7 @@ public interface ErrorMessage {
 	String RULE_NON_DEFEASIBLE_RULE_WITH_MULTIPLE_HEADS = "RULE_NON_DEFEASIBLE_RULE_WITH_MULTIPLE_HEADS";
 	String RULE_NO_STRONGER_RULE_EXISTS = "RULE_NO_STRONGER_RULE_EXISTS";
 	String RULE_NO_WEAKER_RULE_EXISTS = "RULE_NO_WEAKER_RULE_EXISTS";
+	String RULE_BODY_LITERALS_DIFFER_IN_VARIABLES_ONLY = "RULE_BODY_LITERALS_DIFFER_IN_VARIABLES_ONLY";
 
 	// literal
 	String LITERAL_NAME_MISSING = "LITERAL_NAME_MISSING";
@@ -136,6 +137,8 @@ public interface ErrorMessage {
 	String REASONING_ENGINE_LITERAL_VARIABLES_NOT_YET_EVALUATED = "REASONING_ENGINE_LITERAL_VARIABLES_NOT_YET_EVALUATED";
 	String REASONING_ENGINE_LITERAL_BOOLEAN_FUNCTION_NOT_YET_EVALUATED = "REASONING_ENGINE_LITERAL_BOOLEAN_FUNCTION_NOT_YET_EVALUATED";
 	String REASONING_ENGINE_UNSUPPORTED_CONCLUSION_TYPE = "REASONING_ENGINE_UNSUPPORTED_CONCLUSION_TYPE";
+	String REASONING_ENGINE_TOO_MANY_SCENARIOS = "REASONING_ENGINE_TOO_MANY_SCENARIOS";
+	String REASONING_ENGINE_STREAM_EVENT_OUT_OF_ORDER = "REASONING_ENGINE_STREAM_EVENT_OUT_OF_ORDER";
 
 	// literal data store
 	String LITERAL_DATA_STORE_LITERAL_NOT_IN_PROVABLE_SET="LITERAL_DATA_STORE_LITERAL_NOT_IN_PROVABLE_SET";
@@ -145,6 +148,10 @@ public interface ErrorMessage {
 	String LITERAL_VARIABLE_EVALUATOR_CYCLIC_VARIABLE_DEPENDENCIES = "LITERAL_VARIABLE_EVALUATOR_CYCLIC_VARIABLE_DEPENDENCIES";
 	String LITERAL_VARIABLE_EVALUATOR_IMPROPER_RESULT_TYPE = "LITERAL_VARIABLE_EVALUATOR_IMPROPER_RESULT_TYPE";
 
+	// theory grounder
+	String THEORY_GROUNDER_UNSAFE_RULE = "THEORY_GROUNDER_UNSAFE_RULE";
+	String THEORY_GROUNDER_NON_GROUND_ATOM = "THEORY_GROUNDER_NON_GROUND_ATOM";
+
 	// console
 	String CONSOLE_ERROR_MESSAGE = "CONSOLE_ERROR_MESSAGE";
 	String CONSOLE_NULL_SCANNER = "CONSOLE_NULL_SCANNER";
@@ -75,6 +75,7 @@ public interface SystemMessage {
 	String REASONER_CONCLUSIONS_GENERATED = "REASONER_CONCLUSIONS_GENERATED";
 	String REASONER_GET_CONCLUSION_AS_SET = "REASONER_GET_CONCLUSION_AS_SET";
 	String REASONER_TIME_USED = "REASONER_TIME_USED";
+	String REASONER_COMPONENT_CONCLUSIONS_DIFFER = "REASONER_COMPONENT_CONCLUSIONS_DIFFER";
 
 	// theory normalizer
 	String THEORY_NORMALIZER_REGULAR_FORM_TRANSFORMATION = "THEORY_NORMALIZER_REGULAR_FORM_TRANSFORMATION";
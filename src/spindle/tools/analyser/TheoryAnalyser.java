@@ -29,7 +29,10 @@ import spindle.core.dom.Theory;
 
 import spindle.sys.AppModuleBase;
 import spindle.sys.message.ErrorMessage;
+import spindle.tools.analyser.dom.TheoryComponent;
+import spindle.tools.analyser.impl.ModalTheoryPartitioner;
 import spindle.tools.analyser.impl.StronglyConnectedComponents;
+import spindle.tools.analyser.impl.TheoryComponentsSplitter;
 
 /**
  * Theory analyser controller class.
@@ -60,4 +63,44 @@ public class TheoryAnalyser extends AppModuleBase {
 			scc.clear();
 		}
 	}
+
+	/**
+	 * Split the theory into independent components.
+	 * 
+	 * @return List of theory components, in topological order.
+	 * @throws TheoryAnalyserException
+	 * @see TheoryComponentsSplitter
+	 */
+	public List<TheoryComponent> getTheoryComponents() throws TheoryAnalyserException {
+		if (null == theory) throw new TheoryAnalyserException(ErrorMessage.THEORY_NULL_THEORY);
+		TheoryComponentsSplitter splitter = new TheoryComponentsSplitter();
+		try {
+			splitter.setAppLogger(logger);
+			splitter.setTheory(theory);
+			return splitter.getTheoryComponents();
+		} finally {
+			splitter.resetAppLogger();
+			splitter.clear();
+		}
+	}
+
+	/**
+	 * Partition a modal theory into independent parts that can be reasoned separately.
+	 * 
+	 * @return List of theory partitions.
+	 * @throws TheoryAnalyserException
+	 * @see ModalTheoryPartitioner
+	 */
+	public List<TheoryComponent> getModalTheoryPartitions() throws TheoryAnalyserException {
+		if (null == theory) throw new TheoryAnalyserException(ErrorMessage.THEORY_NULL_THEORY);
+		ModalTheoryPartitioner partitioner = new ModalTheoryPartitioner();
+		try {
+			partitioner.setAppLogger(logger);
+			partitioner.setTheory(theory);
+			return partitioner.getTheoryPartitions();
+		} finally {
+			partitioner.resetAppLogger();
+			partitioner.clear();
+		}
+	}
 }
@@ -0,0 +1,118 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.tools.analyser.dom;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import spindle.core.dom.Literal;
+
+/**
+ * DOM used to represent an independent component of a theory, i.e., a strongly connected set of literals (together
+ * with their complements) and the rules deriving them.
+ * <p>
+ * The conclusions of the literals in a component depend only on the rules of the component and the conclusions of
+ * its input literals, i.e., the body literals that are derived by the components it depends on.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ */
+public class TheoryComponent {
+	private int componentId;
+	private Set<Literal> literals = new TreeSet<Literal>();
+	private Set<String> ruleLabels = new TreeSet<String>();
+	private Set<Literal> inputLiterals = new TreeSet<Literal>();
+	private Set<Integer> dependencies = new TreeSet<Integer>();
+	private boolean isCyclic = false;
+
+	public TheoryComponent(final int componentId) {
+		this.componentId = componentId;
+	}
+
+	public int getComponentId() {
+		return componentId;
+	}
+
+	/**
+	 * @return The literals (appeared in the theory) that belong to this component.
+	 */
+	public Set<Literal> getLiterals() {
+		return literals;
+	}
+
+	/**
+	 * @return The labels of rules with head literals in this component.
+	 */
+	public Set<String> getRuleLabels() {
+		return ruleLabels;
+	}
+
+	/**
+	 * @return The body literals of the component rules that belong to other components.
+	 */
+	public Set<Literal> getInputLiterals() {
+		return inputLiterals;
+	}
+
+	/**
+	 * @return The ids of components that this component depends on.
+	 */
+	public Set<Integer> getDependencies() {
+		return dependencies;
+	}
+
+	/**
+	 * @return true if the literals in this component depend on themselves, i.e., the component contains a loop.
+	 */
+	public boolean isCyclic() {
+		return isCyclic;
+	}
+
+	public void setCyclic(final boolean isCyclic) {
+		this.isCyclic = isCyclic;
+	}
+
+	/**
+	 * Merge the content of another component into this component. Input literals and dependencies that become
+	 * internal to the merged component are removed.
+	 * 
+	 * @param component component to merge.
+	 */
+	public void merge(final TheoryComponent component) {
+		literals.addAll(component.literals);
+		ruleLabels.addAll(component.ruleLabels);
+		inputLiterals.addAll(component.inputLiterals);
+		inputLiterals.removeAll(literals);
+		dependencies.addAll(component.dependencies);
+		dependencies.remove(componentId);
+		dependencies.remove(component.componentId);
+		isCyclic |= component.isCyclic;
+	}
+
+	@Override
+	public String toString() {
+		return "component[" + componentId + "]: literals=" + literals + ", rules=" + ruleLabels + ", inputs=" + inputLiterals
+				+ ", dependencies=" + dependencies + (isCyclic ? ", cyclic" : "");
+	}
+}
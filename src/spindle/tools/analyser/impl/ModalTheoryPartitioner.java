@@ -0,0 +1,206 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.tools.analyser.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Level;
+
+import spindle.core.dom.Literal;
+import spindle.core.dom.Mode;
+import spindle.core.dom.Rule;
+import spindle.core.dom.Superiority;
+import spindle.core.dom.Theory;
+import spindle.sys.message.ErrorMessage;
+import spindle.tools.analyser.TheoryAnalyserComponentBase;
+import spindle.tools.analyser.TheoryAnalyserException;
+import spindle.tools.analyser.dom.TheoryComponent;
+
+/**
+ * Partition a modal theory into independent parts that can be reasoned separately.
+ * <p>
+ * Modal operators are first grouped into the connected components of the mode relations graph, which contains an
+ * (undirected) edge for every mode conversion, conflict and exclusion rule. Two literals may then interact with each
+ * other only if they have the same atom (i.e., the same name and predicates, ignoring negation) and their modal
+ * operators belong to the same group. Each such atom/group pair is represented by one node in the literals graph,
+ * and the nodes of all literals of a rule (including the head literals with the rule mode applied), as well as the
+ * head literals of rules in the same superiority relation, are merged together. Each connected component of the
+ * literals graph forms a theory partition.
+ * </p>
+ * <p>
+ * Unlike the components returned by {@link TheoryComponentsSplitter}, partitions do not depend on each other, i.e.,
+ * the conclusions of a partition are the same regardless of whether it is reasoned alone or as part of the whole
+ * theory.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see TheoryComponent
+ */
+public class ModalTheoryPartitioner extends TheoryAnalyserComponentBase {
+	private Map<String, String> modeGroups = null;
+	private Map<Literal, Integer> nodeIds = null;
+	private List<Integer> parents = null;
+
+	public ModalTheoryPartitioner() {
+		super();
+	}
+
+	public List<TheoryComponent> getTheoryPartitions() throws TheoryAnalyserException {
+		Theory theory = getTheory();
+		if (null == theory) throw new TheoryAnalyserException(ErrorMessage.THEORY_NULL_THEORY);
+
+		logMessage(Level.FINE, 0, "=== Modal theory partitioner - start");
+		try {
+			generateModeGroups(theory);
+			generateLiteralsGraph(theory);
+			List<TheoryComponent> partitions = generateTheoryPartitions(theory);
+			logMessage(Level.FINE, 1, "partitions found: ", partitions.size());
+			return partitions;
+		} finally {
+			modeGroups = null;
+			nodeIds = null;
+			parents = null;
+			logMessage(Level.FINE, 0, "=== Modal theory partitioner - end");
+		}
+	}
+
+	private void generateModeGroups(final Theory theory) {
+		modeGroups = new TreeMap<String, String>();
+		addModeRelations(theory.getAllModeConversionRules());
+		addModeRelations(theory.getAllModeConflictRules());
+		addModeRelations(theory.getAllModeExclusionRules());
+	}
+
+	private void addModeRelations(final Map<String, Set<String>> modeRelations) {
+		if (null == modeRelations) return;
+		for (Entry<String, Set<String>> entry : modeRelations.entrySet()) {
+			String modeGroup = getModeGroup(entry.getKey());
+			for (String modeName : entry.getValue()) {
+				String group = getModeGroup(modeName);
+				if (!modeGroup.equals(group)) modeGroups.put(group, modeGroup);
+			}
+		}
+	}
+
+	private String getModeGroup(final String modeName) {
+		String modeGroup = modeName;
+		String parent;
+		while (null != (parent = modeGroups.get(modeGroup))) {
+			modeGroup = parent;
+		}
+		if (!modeGroup.equals(modeName)) modeGroups.put(modeName, modeGroup);
+		return modeGroup;
+	}
+
+	/**
+	 * Return the node id of a literal, which is shared by all literals with the same atom and modal operator group.
+	 */
+	private int getNodeId(final Literal literal, final Mode mode) {
+		Literal node = literal.clone();
+		node.setNegation(false);
+		node.setMode(new Mode(getModeGroup(mode.getName()), false));
+
+		Integer nodeId = nodeIds.get(node);
+		if (null == nodeId) {
+			nodeId = parents.size();
+			parents.add(nodeId);
+			nodeIds.put(node, nodeId);
+		}
+		return nodeId;
+	}
+
+	private int getNodeId(final Literal literal) {
+		return getNodeId(literal, literal.getMode());
+	}
+
+	private int find(final int nodeId) {
+		int root = nodeId;
+		while (parents.get(root) != root) {
+			root = parents.get(root);
+		}
+		int id = nodeId;
+		while (id != root) {
+			int parent = parents.get(id);
+			parents.set(id, root);
+			id = parent;
+		}
+		return root;
+	}
+
+	private void union(final int nodeId1, final int nodeId2) {
+		int root1 = find(nodeId1);
+		int root2 = find(nodeId2);
+		if (root1 != root2) parents.set(root2, root1);
+	}
+
+	private void generateLiteralsGraph(final Theory theory) {
+		nodeIds = new TreeMap<Literal, Integer>();
+		parents = new ArrayList<Integer>();
+
+		for (Rule rule : theory.getFactsAndAllRules().values()) {
+			List<Literal> headLiterals = rule.getHeadLiterals();
+			if (headLiterals.size() == 0) continue;
+			int headNodeId = getNodeId(headLiterals.get(0));
+			Mode ruleMode = rule.getMode();
+			boolean hasRuleMode = null != ruleMode && !"".equals(ruleMode.getName());
+			for (Literal headLiteral : headLiterals) {
+				union(headNodeId, getNodeId(headLiteral));
+				if (hasRuleMode) union(headNodeId, getNodeId(headLiteral, ruleMode));
+			}
+			for (Literal bodyLiteral : rule.getBodyLiterals()) {
+				union(headNodeId, getNodeId(bodyLiteral));
+			}
+		}
+		for (Superiority superiority : theory.getAllSuperiority()) {
+			Rule superior = theory.getRule(superiority.getSuperior());
+			Rule inferior = theory.getRule(superiority.getInferior());
+			if (null == superior || null == inferior) continue;
+			if (superior.getHeadLiterals().size() == 0 || inferior.getHeadLiterals().size() == 0) continue;
+			union(getNodeId(superior.getHeadLiterals().get(0)), getNodeId(inferior.getHeadLiterals().get(0)));
+		}
+	}
+
+	private List<TheoryComponent> generateTheoryPartitions(final Theory theory) {
+		List<TheoryComponent> partitions = new ArrayList<TheoryComponent>();
+		Map<Integer, TheoryComponent> rootPartitions = new TreeMap<Integer, TheoryComponent>();
+		for (Rule rule : theory.getFactsAndAllRules().values()) {
+			if (rule.getHeadLiterals().size() == 0) continue;
+			int root = find(getNodeId(rule.getHeadLiterals().get(0)));
+			TheoryComponent partition = rootPartitions.get(root);
+			if (null == partition) {
+				partition = new TheoryComponent(partitions.size());
+				partitions.add(partition);
+				rootPartitions.put(root, partition);
+			}
+			partition.getRuleLabels().add(rule.getLabel());
+			partition.getLiterals().addAll(rule.getHeadLiterals());
+			partition.getLiterals().addAll(rule.getBodyLiterals());
+		}
+		return partitions;
+	}
+}
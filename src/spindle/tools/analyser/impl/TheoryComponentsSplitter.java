@@ -0,0 +1,251 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.tools.analyser.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Level;
+
+import spindle.core.dom.Literal;
+import spindle.core.dom.Rule;
+import spindle.core.dom.Superiority;
+import spindle.core.dom.Theory;
+import spindle.sys.message.ErrorMessage;
+import spindle.tools.analyser.TheoryAnalyserComponentBase;
+import spindle.tools.analyser.TheoryAnalyserException;
+import spindle.tools.analyser.dom.TheoryComponent;
+
+/**
+ * Split a theory into independent components.
+ * <p>
+ * A literal and its complement are represented by the same node in the literals dependency graph, which contains an
+ * edge from every body literal of a rule to its head literals. Head literals of the same rule, and head literals of
+ * rules in the same superiority relation, are linked in both directions so that they always end up in the same
+ * component. Each strongly connected component of the graph (computed using an iterative version of Tarjan's
+ * algorithm) forms a theory component.
+ * </p>
+ * <p>
+ * Components are returned in topological order, i.e., a component always appears after all the components that it
+ * depends on.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see TheoryComponent
+ */
+public class TheoryComponentsSplitter extends TheoryAnalyserComponentBase {
+	private Map<Literal, Integer> nodeIds = null;
+	private List<Set<Integer>> successors = null;
+
+	public TheoryComponentsSplitter() {
+		super();
+	}
+
+	public List<TheoryComponent> getTheoryComponents() throws TheoryAnalyserException {
+		Theory theory = getTheory();
+		if (null == theory) throw new TheoryAnalyserException(ErrorMessage.THEORY_NULL_THEORY);
+
+		logMessage(Level.FINE, 0, "=== Theory components splitter - start");
+		try {
+			generateLiteralsDependencyGraph(theory);
+			int[] componentIds = searchStronglyConnectedComponents();
+			List<TheoryComponent> components = generateTheoryComponents(theory, componentIds);
+			updateCyclicComponents(components, componentIds);
+			logMessage(Level.FINE, 1, "components found: ", components.size());
+			return components;
+		} finally {
+			nodeIds = null;
+			successors = null;
+			logMessage(Level.FINE, 0, "=== Theory components splitter - end");
+		}
+	}
+
+	private int getNodeId(final Literal literal) {
+		Integer nodeId = nodeIds.get(literal);
+		if (null == nodeId) {
+			nodeId = nodeIds.get(literal.getComplementClone());
+			if (null == nodeId) {
+				nodeId = successors.size();
+				successors.add(new TreeSet<Integer>());
+			}
+			nodeIds.put(literal, nodeId);
+		}
+		return nodeId;
+	}
+
+	private void generateLiteralsDependencyGraph(final Theory theory) {
+		nodeIds = new TreeMap<Literal, Integer>();
+		successors = new ArrayList<Set<Integer>>();
+
+		for (Literal literal : theory.getAllLiteralsInRules()) {
+			getNodeId(literal);
+		}
+		for (Rule rule : theory.getFactsAndAllRules().values()) {
+			List<Literal> headLiterals = rule.getHeadLiterals();
+			if (headLiterals.size() == 0) continue;
+			int headNodeId = getNodeId(headLiterals.get(0));
+			for (int i = 1; i < headLiterals.size(); i++) {
+				link(headNodeId, getNodeId(headLiterals.get(i)));
+			}
+			for (Literal bodyLiteral : rule.getBodyLiterals()) {
+				int bodyNodeId = getNodeId(bodyLiteral);
+				for (Literal headLiteral : headLiterals) {
+					successors.get(bodyNodeId).add(getNodeId(headLiteral));
+				}
+			}
+		}
+		for (Superiority superiority : theory.getAllSuperiority()) {
+			Rule superior = theory.getRule(superiority.getSuperior());
+			Rule inferior = theory.getRule(superiority.getInferior());
+			if (null == superior || null == inferior) continue;
+			if (superior.getHeadLiterals().size() == 0 || inferior.getHeadLiterals().size() == 0) continue;
+			link(getNodeId(superior.getHeadLiterals().get(0)), getNodeId(inferior.getHeadLiterals().get(0)));
+		}
+	}
+
+	private void link(final int nodeId1, final int nodeId2) {
+		if (nodeId1 == nodeId2) return;
+		successors.get(nodeId1).add(nodeId2);
+		successors.get(nodeId2).add(nodeId1);
+	}
+
+	/**
+	 * Search the strongly connected components of the literals dependency graph.
+	 * 
+	 * @return Component id of each node, numbered in topological order.
+	 */
+	private int[] searchStronglyConnectedComponents() {
+		int nodesCount = successors.size();
+		int[][] edges = new int[nodesCount][];
+		for (int i = 0; i < nodesCount; i++) {
+			Set<Integer> nodeSuccessors = successors.get(i);
+			edges[i] = new int[nodeSuccessors.size()];
+			int j = 0;
+			for (Integer successor : nodeSuccessors) {
+				edges[i][j++] = successor;
+			}
+		}
+
+		int[] index = new int[nodesCount];
+		int[] lowLink = new int[nodesCount];
+		int[] edgePos = new int[nodesCount];
+		int[] componentIds = new int[nodesCount];
+		boolean[] isOnStack = new boolean[nodesCount];
+		int[] stack = new int[nodesCount];
+		int[] callStack = new int[nodesCount];
+		int stackSize = 0, callStackSize = 0, counter = 0, componentsCount = 0;
+		Arrays.fill(index, -1);
+
+		for (int v = 0; v < nodesCount; v++) {
+			if (index[v] >= 0) continue;
+			index[v] = lowLink[v] = counter++;
+			stack[stackSize++] = v;
+			isOnStack[v] = true;
+			callStack[callStackSize++] = v;
+
+			while (callStackSize > 0) {
+				int u = callStack[callStackSize - 1];
+				if (edgePos[u] < edges[u].length) {
+					int w = edges[u][edgePos[u]++];
+					if (index[w] < 0) {
+						index[w] = lowLink[w] = counter++;
+						stack[stackSize++] = w;
+						isOnStack[w] = true;
+						callStack[callStackSize++] = w;
+					} else if (isOnStack[w] && index[w] < lowLink[u]) {
+						lowLink[u] = index[w];
+					}
+				} else {
+					callStackSize--;
+					if (callStackSize > 0) {
+						int p = callStack[callStackSize - 1];
+						if (lowLink[u] < lowLink[p]) lowLink[p] = lowLink[u];
+					}
+					if (lowLink[u] == index[u]) {
+						int w;
+						do {
+							w = stack[--stackSize];
+							isOnStack[w] = false;
+							componentIds[w] = componentsCount;
+						} while (w != u);
+						componentsCount++;
+					}
+				}
+			}
+		}
+
+		// components are found in reverse topological order
+		for (int i = 0; i < nodesCount; i++) {
+			componentIds[i] = componentsCount - 1 - componentIds[i];
+		}
+		return componentIds;
+	}
+
+	/**
+	 * A component is cyclic if it contains more than one node, or if its only node depends on itself.
+	 */
+	private void updateCyclicComponents(final List<TheoryComponent> components, final int[] componentIds) {
+		int[] nodesCount = new int[components.size()];
+		for (int componentId : componentIds) {
+			nodesCount[componentId]++;
+		}
+		for (int i = 0; i < componentIds.length; i++) {
+			if (nodesCount[componentIds[i]] > 1 || successors.get(i).contains(i)) components.get(componentIds[i]).setCyclic(true);
+		}
+	}
+
+	private List<TheoryComponent> generateTheoryComponents(final Theory theory, final int[] componentIds) {
+		int componentsCount = 0;
+		for (int componentId : componentIds) {
+			if (componentId >= componentsCount) componentsCount = componentId + 1;
+		}
+		List<TheoryComponent> components = new ArrayList<TheoryComponent>(componentsCount);
+		for (int i = 0; i < componentsCount; i++) {
+			components.add(new TheoryComponent(i));
+		}
+
+		for (Entry<Literal, Integer> entry : nodeIds.entrySet()) {
+			components.get(componentIds[entry.getValue()]).getLiterals().add(entry.getKey());
+		}
+		for (Rule rule : theory.getFactsAndAllRules().values()) {
+			if (rule.getHeadLiterals().size() == 0) continue;
+			int componentId = componentIds[nodeIds.get(rule.getHeadLiterals().get(0))];
+			TheoryComponent component = components.get(componentId);
+			component.getRuleLabels().add(rule.getLabel());
+			for (Literal bodyLiteral : rule.getBodyLiterals()) {
+				int bodyComponentId = componentIds[nodeIds.get(bodyLiteral)];
+				if (bodyComponentId != componentId) {
+					component.getInputLiterals().add(bodyLiteral);
+					component.getDependencies().add(bodyComponentId);
+				}
+			}
+		}
+		return components;
+	}
+}
@@ -0,0 +1,342 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.tools.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Level;
+
+import spindle.core.dom.Conclusion;
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.DomUtilities;
+import spindle.core.dom.Literal;
+import spindle.core.dom.Rule;
+import spindle.core.dom.RuleType;
+import spindle.core.dom.Theory;
+import spindle.core.dom.TheoryType;
+import spindle.engine.ReasoningEngine;
+import spindle.engine.ReasoningEngineFactory;
+import spindle.engine.TheoryNormalizer;
+import spindle.sys.AppModuleBase;
+import spindle.sys.Conf;
+import spindle.tools.analyser.TheoryAnalyser;
+import spindle.tools.analyser.dom.TheoryComponent;
+import spindle.tools.grounder.TheoryGrounder;
+
+/**
+ * Reason on a theory component by component, with the conclusions of each component cached.
+ * <p>
+ * The theory is split into independent components (see {@link TheoryAnalyser#getTheoryComponents()}), which are
+ * then reasoned in topological order. The conclusions of a component are cached under a Merkle-style key composed of
+ * the fingerprint of the component rules and the conclusions of its input literals (which are derived by the
+ * components it depends on). So when only part of a theory has changed, only the changed components, and the
+ * downstream components whose input conclusions have changed, are recomputed; all other components are served from
+ * the cache.
+ * </p>
+ * <p>
+ * A component that is not in the cache is reasoned as a theory of its own, in which the input literals are
+ * represented by facts (for definitely provable literals) and defeasible rules with empty body (for defeasibly
+ * provable literals). Input literals that are left undetermined by the reasoning engine cannot be represented in this
+ * way, in which case the component is reasoned together with all the components it depends on instead.
+ * </p>
+ * <p>
+ * Component reasoning is supported only for standard defeasible theories (without modal operators, temporal
+ * information or literal variables) under the ambiguity blocking semantics (with or without well-founded semantics),
+ * where the conclusions of the literals used in rule bodies completely characterise their effect on the rule heads.
+ * Note that the conclusions generated may still differ from the ones generated by reasoning with the whole theory
+ * where the reasoning engine's own conclusions on a part of the theory depend on the rest of the theory, such as with
+ * conflicting strict rules. Setting <code>reasoner.componentCache.verify</code> verifies the conclusions against the
+ * ones of the whole theory.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see ConclusionCache
+ * @see TheoryFingerprint#getComponentReasoningFingerprint(String, java.util.Collection)
+ */
+public class ComponentReasoner extends AppModuleBase {
+	private static final String INPUT_RULE_LABEL_PREFIX = "input_";
+	private static final ConclusionType[] NOT_PROVABLE_CONCLUSION_TYPES = { ConclusionType.DEFINITE_NOT_PROVABLE,
+			ConclusionType.DEFEASIBLY_NOT_PROVABLE };
+
+	private ConclusionCache conclusionCache = null;
+
+	private int componentsCount = 0;
+	private int componentsReusedCount = 0;
+
+	public ComponentReasoner(final ConclusionCache conclusionCache) {
+		super();
+		this.conclusionCache = conclusionCache;
+	}
+
+	/**
+	 * Check if the theory can be reasoned component by component using the current reasoner configuration.
+	 * 
+	 * @param theory theory.
+	 * @return true if component reasoning is supported; false otherwise.
+	 */
+	public static boolean isComponentReasoningSupported(final Theory theory) {
+		if (null == theory || TheoryType.SDL != theory.getTheoryType()) return false;
+		if (Conf.isReasoningWithAmbiguityPropagation()) return false;
+		if (theory.getLiteralVariableCount() > 0 || theory.getLiteralBooleanFunctionCount() > 0) return false;
+		if (theory.getLiteralVariablesInRulesCount() > 0 || theory.getLiteralBooleanFunctionsInRulesCount() > 0) return false;
+		if (theory.getModeConversionRulesCount() > 0 || theory.getModeConflictRulesCount() > 0
+				|| theory.getModeExclusionRulesCount() > 0) return false;
+		if (Conf.isTheoryGrounding() && TheoryGrounder.isGroundingRequired(theory)) return false;
+		for (Literal literal : theory.getAllLiteralsInRules()) {
+			if (!"".equals(literal.getMode().getName()) || literal.hasTemporalInfo()) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Generate the conclusions of a theory component by component.
+	 * 
+	 * @param theory theory (before normalization).
+	 * @return Conclusions of the literals in the theory.
+	 * @throws ConclusionCacheException
+	 */
+	public Map<Literal, Map<ConclusionType, Conclusion>> getConclusions(final Theory theory) throws ConclusionCacheException {
+		componentsCount = 0;
+		componentsReusedCount = 0;
+
+		TheoryAnalyser theoryAnalyser = new TheoryAnalyser();
+		try {
+			theoryAnalyser.setAppLogger(logger);
+			theoryAnalyser.setTheory(theory);
+			List<TheoryComponent> components = theoryAnalyser.getTheoryComponents();
+			if (!Conf.isReasoningWithWellFoundedSemantics()) components = mergeCyclicComponents(components);
+
+			Set<Literal> bodyLiterals = new TreeSet<Literal>();
+			for (Rule rule : theory.getFactsAndAllRules().values()) {
+				bodyLiterals.addAll(rule.getBodyLiterals());
+			}
+
+			Map<Integer, TheoryComponent> componentsById = new TreeMap<Integer, TheoryComponent>();
+			Map<Literal, Map<ConclusionType, Conclusion>> conclusions = new TreeMap<Literal, Map<ConclusionType, Conclusion>>();
+			for (TheoryComponent component : components) {
+				componentsById.put(component.getComponentId(), component);
+
+				// undetermined input literals cannot be represented by facts or rules, in which case the component is
+				// reasoned together with all components that it depends on, with no input literals
+				Set<String> ruleLabels = component.getRuleLabels();
+				Set<Literal> inputLiterals = component.getInputLiterals();
+				if (hasUndeterminedInputLiterals(component, conclusions)) {
+					ruleLabels = getUpstreamRuleLabels(component, componentsById);
+					inputLiterals = new TreeSet<Literal>();
+				}
+
+				List<Conclusion> inputConclusions = new ArrayList<Conclusion>();
+				for (Literal inputLiteral : inputLiterals) {
+					inputConclusions.addAll(conclusions.get(inputLiteral).values());
+				}
+				String key = TheoryFingerprint.getComponentReasoningFingerprint(TheoryFingerprint.getFingerprint(theory, ruleLabels),
+						inputConclusions);
+
+				Map<Literal, Map<ConclusionType, Conclusion>> componentConclusions = conclusionCache.get(key);
+				if (null == componentConclusions) {
+					logMessage(Level.FINER, 1, "reason component: ", component);
+					componentConclusions = generateComponentConclusions(theory, ruleLabels, inputLiterals, component.getLiterals(),
+							conclusions);
+					conclusionCache.put(key, componentConclusions);
+				} else {
+					logMessage(Level.FINER, 1, "reuse component: ", component);
+					componentsReusedCount++;
+				}
+				conclusions.putAll(componentConclusions);
+
+				// as in the case of reasoning with the whole theory,
+				// literals that do not appear in the normalized theory (such as literals that appear only in the head of
+				// defeaters) have no conclusions, unless they appear in the body of some rules, in which case they are
+				// neither definitely nor defeasibly provable
+				for (Literal literal : component.getLiterals()) {
+					if (!componentConclusions.containsKey(literal) && bodyLiterals.contains(literal)) {
+						Map<ConclusionType, Conclusion> literalConclusions = new TreeMap<ConclusionType, Conclusion>();
+						for (ConclusionType conclusionType : NOT_PROVABLE_CONCLUSION_TYPES) {
+							literalConclusions.put(conclusionType, new Conclusion(conclusionType, literal));
+						}
+						conclusions.put(literal, literalConclusions);
+					}
+				}
+			}
+			componentsCount = components.size();
+			logMessage(Level.FINE, 0, "components reasoned: ", getComponentsComputedCount(), "/", componentsCount);
+
+			// remove the undetermined literals
+			Iterator<Map<ConclusionType, Conclusion>> it = conclusions.values().iterator();
+			while (it.hasNext()) {
+				if (it.next().size() == 0) it.remove();
+			}
+			return conclusions;
+		} catch (ConclusionCacheException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new ConclusionCacheException(e);
+		} finally {
+			theoryAnalyser.resetAppLogger();
+		}
+	}
+
+	/**
+	 * Without well-founded semantics, literals in loops may be left undetermined by the reasoning engine, in which case
+	 * the conclusions of the literals depending on them cannot be characterised by the conclusions of the loop literals
+	 * alone. So all cyclic components, and all components that depend on them, are merged into one component that is
+	 * reasoned as a whole (after all other components).
+	 */
+	private static List<TheoryComponent> mergeCyclicComponents(final List<TheoryComponent> components) {
+		List<TheoryComponent> mergedComponents = new ArrayList<TheoryComponent>(components.size());
+		TheoryComponent cyclicComponent = null;
+		Set<Integer> cyclicComponentIds = new TreeSet<Integer>();
+		for (TheoryComponent component : components) {
+			boolean isCyclic = component.isCyclic();
+			for (Integer dependency : component.getDependencies()) {
+				if (cyclicComponentIds.contains(dependency)) isCyclic = true;
+			}
+			if (isCyclic) {
+				cyclicComponentIds.add(component.getComponentId());
+				if (null == cyclicComponent) cyclicComponent = component;
+				else cyclicComponent.merge(component);
+			} else {
+				mergedComponents.add(component);
+			}
+		}
+		if (null != cyclicComponent) {
+			cyclicComponent.getDependencies().removeAll(cyclicComponentIds);
+			mergedComponents.add(cyclicComponent);
+		}
+		return mergedComponents;
+	}
+
+	/**
+	 * Check if some input literals of a component are undetermined, i.e., are neither definitely provable nor
+	 * defeasibly provable or not provable.
+	 */
+	private static boolean hasUndeterminedInputLiterals(final TheoryComponent component,
+			final Map<Literal, Map<ConclusionType, Conclusion>> conclusions) {
+		for (Literal inputLiteral : component.getInputLiterals()) {
+			Map<ConclusionType, Conclusion> inputConclusions = conclusions.get(inputLiteral);
+			if (null == inputConclusions) return true;
+			if (!inputConclusions.containsKey(ConclusionType.DEFINITE_PROVABLE)
+					&& !inputConclusions.containsKey(ConclusionType.DEFEASIBLY_PROVABLE)
+					&& !inputConclusions.containsKey(ConclusionType.DEFEASIBLY_NOT_PROVABLE)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Return the labels of the rules of a component and of all components that it depends on, directly or indirectly.
+	 */
+	private static Set<String> getUpstreamRuleLabels(final TheoryComponent component,
+			final Map<Integer, TheoryComponent> componentsById) {
+		Set<String> ruleLabels = new TreeSet<String>();
+		Set<Integer> visitedIds = new TreeSet<Integer>();
+		List<TheoryComponent> componentsToVisit = new ArrayList<TheoryComponent>();
+		componentsToVisit.add(component);
+		while (componentsToVisit.size() > 0) {
+			TheoryComponent c = componentsToVisit.remove(componentsToVisit.size() - 1);
+			ruleLabels.addAll(c.getRuleLabels());
+			for (Integer dependency : c.getDependencies()) {
+				TheoryComponent upstreamComponent = componentsById.get(dependency);
+				if (null != upstreamComponent && visitedIds.add(dependency)) componentsToVisit.add(upstreamComponent);
+			}
+		}
+		return ruleLabels;
+	}
+
+	private Map<Literal, Map<ConclusionType, Conclusion>> generateComponentConclusions(final Theory theory,
+			final Set<String> ruleLabels, final Set<Literal> inputLiterals, final Set<Literal> literals,
+			final Map<Literal, Map<ConclusionType, Conclusion>> conclusions) throws Exception {
+		Theory componentTheory = theory.createNewTheoryWithRules(ruleLabels);
+		for (Literal inputLiteral : inputLiterals) {
+			Map<ConclusionType, Conclusion> inputConclusions = conclusions.get(inputLiteral);
+			RuleType ruleType = null;
+			if (inputConclusions.containsKey(ConclusionType.DEFINITE_PROVABLE)) ruleType = RuleType.FACT;
+			else if (inputConclusions.containsKey(ConclusionType.DEFEASIBLY_PROVABLE)) ruleType = RuleType.DEFEASIBLE;
+			if (null == ruleType) continue;
+
+			Rule rule = DomUtilities.getRule(componentTheory.getUniqueRuleLabel(INPUT_RULE_LABEL_PREFIX), ruleType);
+			rule.addHeadLiteral(inputLiteral.clone());
+			componentTheory.addRule(rule);
+		}
+
+		Map<Literal, Map<ConclusionType, Conclusion>> generatedConclusions = null;
+		Set<Literal> normalizedLiterals = null;
+		if (!componentTheory.isEmpty()) {
+			TheoryNormalizer theoryNormalizer = ReasoningEngineFactory.getTheoryNormalizer(TheoryType.SDL);
+			theoryNormalizer.setAppLogger(logger);
+			theoryNormalizer.setTheory(componentTheory);
+			theoryNormalizer.transformTheoryToRegularForm();
+			if (theoryNormalizer.getTheory().getDefeatersCount() > 0) theoryNormalizer.removeDefeater();
+			if (Conf.getReasonerVersion() == 1 && theoryNormalizer.getTheory().getSuperiorityCount() > 0) {
+				theoryNormalizer.removeSuperiority();
+			}
+			Theory normalizedTheory = theoryNormalizer.getTheory();
+
+			ReasoningEngine reasoningEngine = ReasoningEngineFactory.getReasoningEngine(normalizedTheory);
+			reasoningEngine.setAppLogger(logger);
+			normalizedLiterals = new TreeSet<Literal>(normalizedTheory.getAllLiteralsInRules());
+			generatedConclusions = reasoningEngine.getConclusions(normalizedTheory);
+		}
+
+		// extract the conclusions of the component literals,
+		// literals that appear in the normalized theory but with no conclusions generated are undetermined
+		Map<Literal, Map<ConclusionType, Conclusion>> componentConclusions = new TreeMap<Literal, Map<ConclusionType, Conclusion>>();
+		if (null != generatedConclusions) {
+			for (Literal literal : literals) {
+				Map<ConclusionType, Conclusion> literalConclusions = generatedConclusions.get(literal);
+				if (null != literalConclusions) {
+					componentConclusions.put(literal, literalConclusions);
+				} else if (normalizedLiterals.contains(literal)) {
+					componentConclusions.put(literal, new TreeMap<ConclusionType, Conclusion>());
+				}
+			}
+		}
+		return componentConclusions;
+	}
+
+	/**
+	 * @return Number of components in the theory last reasoned.
+	 */
+	public int getComponentsCount() {
+		return componentsCount;
+	}
+
+	/**
+	 * @return Number of components served from the cache when the theory was last reasoned.
+	 */
+	public int getComponentsReusedCount() {
+		return componentsReusedCount;
+	}
+
+	/**
+	 * @return Number of components recomputed when the theory was last reasoned.
+	 */
+	public int getComponentsComputedCount() {
+		return componentsCount - componentsReusedCount;
+	}
+}
@@ -0,0 +1,336 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.tools.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.logging.Level;
+
+import spindle.core.dom.Conclusion;
+import spindle.core.dom.ConclusionType;
+import spindle.core.dom.Literal;
+import spindle.sys.AppModuleBase;
+
+/**
+ * Two-tier conclusion cache.
+ * <p>
+ * Conclusions are cached using a key generated by {@link TheoryFingerprint#getReasoningFingerprint(String)}. The
+ * first tier is an in-memory LRU cache holding a limited number of conclusion sets. The second (optional) tier stores
+ * the conclusion sets as serialized files in a cache folder. When the total size of the files exceeds the limit
+ * specified, the least recently used files are removed. Conclusion sets found on disk are promoted to the memory
+ * tier.
+ * </p>
+ * <p>
+ * The conclusion sets are copied when they are put into or retrieved from the cache, so that the cached conclusions
+ * are not affected by modifications made by the callers. Failures in accessing the on-disk tier are logged and
+ * treated as cache misses.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see TheoryFingerprint
+ */
+public class ConclusionCache extends AppModuleBase {
+	public static final String CACHE_FILE_EXTENSION = ".conclusions";
+
+	private static final FileFilter CACHE_FILE_FILTER = new FileFilter() {
+		@Override
+		public boolean accept(File file) {
+			return file.isFile() && file.getName().endsWith(CACHE_FILE_EXTENSION);
+		}
+	};
+
+	private static final Comparator<File> LAST_MODIFIED_COMPARATOR = new Comparator<File>() {
+		@Override
+		public int compare(File f1, File f2) {
+			long l1 = f1.lastModified();
+			long l2 = f2.lastModified();
+			return l1 < l2 ? -1 : l1 == l2 ? f1.getName().compareTo(f2.getName()) : 1;
+		}
+	};
+
+	private final int memorySize;
+	private final File cacheFolder;
+	private final long diskSize;
+
+	private final LinkedHashMap<String, Map<Literal, Map<ConclusionType, Conclusion>>> memoryCache;
+
+	private long memoryHitsCount = 0;
+	private long diskHitsCount = 0;
+	private long missesCount = 0;
+	private long memoryEvictionsCount = 0;
+	private long diskEvictionsCount = 0;
+
+	/**
+	 * Create a conclusion cache.
+	 * 
+	 * @param memorySize maximum number of conclusion sets kept in memory.
+	 * @param cacheFolder folder of the on-disk tier; or null if the conclusions are cached in memory only.
+	 * @param diskSize maximum total size (in bytes) of the files in the on-disk tier.
+	 */
+	public ConclusionCache(final int memorySize, final File cacheFolder, final long diskSize) {
+		super();
+		this.memorySize = memorySize < 0 ? 0 : memorySize;
+		this.cacheFolder = cacheFolder;
+		this.diskSize = diskSize;
+		memoryCache = new LinkedHashMap<String, Map<Literal, Map<ConclusionType, Conclusion>>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Entry<String, Map<Literal, Map<ConclusionType, Conclusion>>> eldest) {
+				if (size() <= ConclusionCache.this.memorySize) return false;
+				memoryEvictionsCount++;
+				return true;
+			}
+		};
+		if (null != cacheFolder && !cacheFolder.exists()) cacheFolder.mkdirs();
+	}
+
+	/**
+	 * Check if the conclusions associated with the key are in the cache. The cache statistics are not updated.
+	 * 
+	 * @param key cache key.
+	 * @return true if the conclusions are in the memory or on-disk tier; false otherwise.
+	 */
+	public synchronized boolean contains(final String key) {
+		if (null == key) return false;
+		if (memoryCache.containsKey(key)) return true;
+		return isDiskCacheEnabled() && getCacheFile(key).isFile();
+	}
+
+	/**
+	 * Return a copy of the conclusions associated with the key.
+	 * 
+	 * @param key cache key.
+	 * @return Conclusions associated with the key; or null if the key is not in the cache.
+	 */
+	public synchronized Map<Literal, Map<ConclusionType, Conclusion>> get(final String key) {
+		if (null == key) return null;
+		Map<Literal, Map<ConclusionType, Conclusion>> conclusions = memoryCache.get(key);
+		if (null != conclusions) {
+			memoryHitsCount++;
+			return copyConclusions(conclusions);
+		}
+		conclusions = readCacheFile(key);
+		if (null != conclusions) {
+			diskHitsCount++;
+			if (memorySize > 0) memoryCache.put(key, conclusions);
+			return copyConclusions(conclusions);
+		}
+		missesCount++;
+		return null;
+	}
+
+	/**
+	 * Add the conclusions to the cache.
+	 * 
+	 * @param key cache key.
+	 * @param conclusions conclusions to cache.
+	 */
+	public synchronized void put(final String key, final Map<Literal, Map<ConclusionType, Conclusion>> conclusions) {
+		if (null == key || null == conclusions) return;
+		TreeMap<Literal, Map<ConclusionType, Conclusion>> cachedConclusions = copyConclusions(conclusions);
+		if (memorySize > 0) memoryCache.put(key, cachedConclusions);
+		writeCacheFile(key, cachedConclusions);
+	}
+
+	/**
+	 * Remove the conclusions associated with the key from both tiers.
+	 * 
+	 * @param key cache key.
+	 */
+	public synchronized void remove(final String key) {
+		if (null == key) return;
+		memoryCache.remove(key);
+		if (isDiskCacheEnabled()) getCacheFile(key).delete();
+	}
+
+	/**
+	 * Remove all conclusions from both tiers and reset the statistics.
+	 */
+	public synchronized void clear() {
+		memoryCache.clear();
+		if (isDiskCacheEnabled()) {
+			File[] files = cacheFolder.listFiles(CACHE_FILE_FILTER);
+			if (null != files) {
+				for (File file : files) {
+					file.delete();
+				}
+			}
+		}
+		memoryHitsCount = 0;
+		diskHitsCount = 0;
+		missesCount = 0;
+		memoryEvictionsCount = 0;
+		diskEvictionsCount = 0;
+	}
+
+	public boolean isDiskCacheEnabled() {
+		return null != cacheFolder && diskSize > 0;
+	}
+
+	public synchronized int getMemoryCacheSize() {
+		return memoryCache.size();
+	}
+
+	public synchronized long getMemoryHitsCount() {
+		return memoryHitsCount;
+	}
+
+	public synchronized long getDiskHitsCount() {
+		return diskHitsCount;
+	}
+
+	public synchronized long getMissesCount() {
+		return missesCount;
+	}
+
+	public synchronized long getMemoryEvictionsCount() {
+		return memoryEvictionsCount;
+	}
+
+	public synchronized long getDiskEvictionsCount() {
+		return diskEvictionsCount;
+	}
+
+	/**
+	 * Return the ratio of requests served from the cache (either tier).
+	 * 
+	 * @return Hit ratio; or 0 if no request was made.
+	 */
+	public synchronized double getHitRatio() {
+		long requestsCount = memoryHitsCount + diskHitsCount + missesCount;
+		return requestsCount == 0 ? 0 : (double) (memoryHitsCount + diskHitsCount) / requestsCount;
+	}
+
+	private File getCacheFile(final String key) {
+		return new File(cacheFolder, key + CACHE_FILE_EXTENSION);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Literal, Map<ConclusionType, Conclusion>> readCacheFile(final String key) {
+		if (!isDiskCacheEnabled()) return null;
+		File file = getCacheFile(key);
+		if (!file.isFile()) return null;
+
+		ObjectInputStream in = null;
+		try {
+			in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+			Map<Literal, Map<ConclusionType, Conclusion>> conclusions = (Map<Literal, Map<ConclusionType, Conclusion>>) in.readObject();
+			// mark the file as recently used
+			file.setLastModified(System.currentTimeMillis());
+			return conclusions;
+		} catch (Exception e) {
+			logMessage(Level.WARNING, 0, "conclusion cache file [" + file + "] cannot be read: ", e);
+			file.delete();
+			return null;
+		} finally {
+			close(in);
+		}
+	}
+
+	private void writeCacheFile(final String key, final Map<Literal, Map<ConclusionType, Conclusion>> conclusions) {
+		if (!isDiskCacheEnabled()) return;
+		File file = getCacheFile(key);
+		File tempFile = new File(cacheFolder, key + ".tmp");
+
+		ObjectOutputStream out = null;
+		try {
+			if (!cacheFolder.exists()) cacheFolder.mkdirs();
+			out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+			out.writeObject(conclusions);
+			out.close();
+			out = null;
+			// write to a temporary file first so that no partially written file is read
+			if (file.exists()) file.delete();
+			if (!tempFile.renameTo(file)) throw new IOException("cannot rename file [" + tempFile + "] to [" + file + "]");
+		} catch (Exception e) {
+			logMessage(Level.WARNING, 0, "conclusion cache file [" + file + "] cannot be written: ", e);
+			tempFile.delete();
+			return;
+		} finally {
+			close(out);
+		}
+		evictCacheFiles();
+	}
+
+	/**
+	 * Remove the least recently used cache files until the total size of the files is within the disk size limit.
+	 */
+	private void evictCacheFiles() {
+		File[] files = cacheFolder.listFiles(CACHE_FILE_FILTER);
+		if (null == files) return;
+		long totalSize = 0;
+		for (File file : files) {
+			totalSize += file.length();
+		}
+		if (totalSize <= diskSize) return;
+
+		Arrays.sort(files, LAST_MODIFIED_COMPARATOR);
+		for (int i = 0; i < files.length && totalSize > diskSize; i++) {
+			long fileSize = files[i].length();
+			if (files[i].delete()) {
+				totalSize -= fileSize;
+				diskEvictionsCount++;
+			}
+		}
+	}
+
+	private static TreeMap<Literal, Map<ConclusionType, Conclusion>> copyConclusions(
+			final Map<Literal, Map<ConclusionType, Conclusion>> conclusions) {
+		TreeMap<Literal, Map<ConclusionType, Conclusion>> copy = new TreeMap<Literal, Map<ConclusionType, Conclusion>>();
+		for (Entry<Literal, Map<ConclusionType, Conclusion>> entry : conclusions.entrySet()) {
+			copy.put(entry.getKey(), new TreeMap<ConclusionType, Conclusion>(entry.getValue()));
+		}
+		return copy;
+	}
+
+	private static void close(Closeable closeable) {
+		if (null == closeable) return;
+		try {
+			closeable.close();
+		} catch (Exception e) {
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "memory hits=" + memoryHitsCount + ", disk hits=" + diskHitsCount + ", misses=" + missesCount //
+				+ ", memory evictions=" + memoryEvictionsCount + ", disk evictions=" + diskEvictionsCount //
+				+ ", memory cache size=" + memoryCache.size() + "/" + memorySize;
+	}
+}
@@ -0,0 +1,235 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.tools.cache;
+
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import spindle.core.dom.Conclusion;
+import spindle.core.dom.LiteralVariable;
+import spindle.core.dom.Rule;
+import spindle.core.dom.Superiority;
+import spindle.core.dom.Theory;
+import spindle.sys.Conf;
+
+/**
+ * Canonical content fingerprint of a defeasible theory.
+ * <p>
+ * The fingerprint is a SHA-256 digest over the canonical (sorted) textual representation of the theory type, rules,
+ * superiority relations, literal variables, literal boolean functions and mode conversion, conflict and exclusion
+ * rules. Two theories with the same content have the same fingerprint, regardless of the order in which their
+ * elements were added to the theory. The theory description is not part of the fingerprint.
+ * </p>
+ * <p>
+ * As the conclusions of a theory also depend on the reasoner configuration,
+ * {@link #getReasoningFingerprint(String)} combines a theory fingerprint with the configuration flags that affect
+ * the semantics of the inference process.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see ConclusionCache
+ */
+public final class TheoryFingerprint {
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+	private static final Charset CHARSET = Charset.forName("UTF-8");
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	private TheoryFingerprint() {
+	}
+
+	/**
+	 * Return the content fingerprint of a theory.
+	 * 
+	 * @param theory theory.
+	 * @return Theory fingerprint (as a hexadecimal string).
+	 */
+	public static String getFingerprint(final Theory theory) {
+		return getFingerprint(theory, null);
+	}
+
+	/**
+	 * Return the content fingerprint of the part of a theory that contains only the rules specified, i.e., the
+	 * fingerprint of <code>theory.createNewTheoryWithRules(ruleLabels)</code>, without creating the new theory.
+	 * 
+	 * @param theory theory.
+	 * @param ruleLabels labels of rules to be included; or null if all rules should be included.
+	 * @return Theory fingerprint (as a hexadecimal string).
+	 * @see Theory#createNewTheoryWithRules(Set)
+	 */
+	public static String getFingerprint(final Theory theory, final Set<String> ruleLabels) {
+		MessageDigest digest = getMessageDigest();
+
+		update(digest, "type", Collections.singletonList(theory.getTheoryType().name()));
+
+		List<String> rules = new ArrayList<String>();
+		if (null == ruleLabels) {
+			for (Rule rule : theory.getFactsAndAllRules().values()) {
+				rules.add(rule.getRuleType().name() + ":" + rule.toString());
+			}
+		} else {
+			for (String ruleLabel : ruleLabels) {
+				Rule rule = theory.getRule(ruleLabel);
+				rules.add(rule.getRuleType().name() + ":" + rule.toString());
+			}
+		}
+		update(digest, "rules", rules);
+
+		List<String> superiorities = new ArrayList<String>();
+		if (null == ruleLabels) {
+			for (Superiority superiority : theory.getAllSuperiority()) {
+				superiorities.add(superiority.getSuperior() + ">" + superiority.getInferior());
+			}
+		} else {
+			for (String ruleLabel : ruleLabels) {
+				Set<Superiority> ruleSuperiorities = theory.getSuperior(ruleLabel);
+				if (null == ruleSuperiorities) continue;
+				for (Superiority superiority : ruleSuperiorities) {
+					if (ruleLabels.contains(superiority.getInferior())) {
+						superiorities.add(superiority.getSuperior() + ">" + superiority.getInferior());
+					}
+				}
+			}
+		}
+		update(digest, "superiority", superiorities);
+
+		update(digest, "literalVariables", getEntries(theory.getLiteralVariables()));
+		update(digest, "literalBooleanFunctions", getEntries(theory.getLiteralBooleanFunctions()));
+
+		update(digest, "modeConversionRules", getModeRuleEntries(theory.getAllModeConversionRules()));
+		update(digest, "modeConflictRules", getModeRuleEntries(theory.getAllModeConflictRules()));
+		update(digest, "modeExclusionRules", getModeRuleEntries(theory.getAllModeExclusionRules()));
+
+		return toHexString(digest.digest());
+	}
+
+	/**
+	 * Return the fingerprint of a reasoning request, i.e., the theory fingerprint combined with the current reasoner
+	 * configuration (reasoner version, ambiguity propagation, well-founded semantics, theory grounding and mixed
+	 * temporal literals).
+	 * 
+	 * @param theoryFingerprint theory fingerprint.
+	 * @return Reasoning fingerprint (as a hexadecimal string).
+	 */
+	public static String getReasoningFingerprint(final String theoryFingerprint) {
+		MessageDigest digest = getMessageDigest();
+		List<String> entries = new ArrayList<String>();
+		entries.add(theoryFingerprint);
+		entries.add("version=" + Conf.getReasonerVersion());
+		entries.add("ap=" + Conf.isReasoningWithAmbiguityPropagation());
+		entries.add("wf=" + Conf.isReasoningWithWellFoundedSemantics());
+		entries.add("grounding=" + Conf.isTheoryGrounding());
+		entries.add("mixedTemporal=" + Conf.isReasoningWithMixedTemporalLiterals());
+		update(digest, "reasoning", entries);
+		return toHexString(digest.digest());
+	}
+
+	/**
+	 * Return the fingerprint of a reasoning request on a theory component, i.e., the fingerprint of the component
+	 * rules combined with the conclusions of the component input literals (such that the fingerprint of a component
+	 * changes whenever the conclusions of the components it depends on change) and the current reasoner
+	 * configuration.
+	 * 
+	 * @param componentFingerprint fingerprint of the component rules.
+	 * @param inputConclusions conclusions of the component input literals.
+	 * @return Reasoning fingerprint of the component (as a hexadecimal string).
+	 * @see #getFingerprint(Theory, Set)
+	 */
+	public static String getComponentReasoningFingerprint(final String componentFingerprint,
+			final Collection<Conclusion> inputConclusions) {
+		MessageDigest digest = getMessageDigest();
+		update(digest, "component", Collections.singletonList(componentFingerprint));
+		List<String> entries = new ArrayList<String>(inputConclusions.size());
+		for (Conclusion conclusion : inputConclusions) {
+			entries.add(conclusion.toString());
+		}
+		update(digest, "inputConclusions", entries);
+		return getReasoningFingerprint(toHexString(digest.digest()));
+	}
+
+	private static List<String> getEntries(final Map<LiteralVariable, LiteralVariable> variables) {
+		List<String> entries = new ArrayList<String>();
+		if (null == variables) return entries;
+		for (Entry<LiteralVariable, LiteralVariable> entry : variables.entrySet()) {
+			entries.add(entry.getKey() + "=" + entry.getValue());
+		}
+		return entries;
+	}
+
+	private static List<String> getModeRuleEntries(final Map<String, Set<String>> modeRules) {
+		List<String> entries = new ArrayList<String>();
+		if (null == modeRules) return entries;
+		for (Entry<String, Set<String>> entry : modeRules.entrySet()) {
+			List<String> modes = new ArrayList<String>(entry.getValue());
+			Collections.sort(modes);
+			entries.add(entry.getKey() + "=" + modes);
+		}
+		return entries;
+	}
+
+	/**
+	 * Update the digest with a section of sorted entries. Entries are length prefixed so that the boundaries between
+	 * entries (and sections) are unambiguous.
+	 */
+	private static void update(final MessageDigest digest, final String section, final Collection<String> entries) {
+		List<String> sortedEntries = new ArrayList<String>(entries);
+		Collections.sort(sortedEntries);
+		updateEntry(digest, section + "#" + sortedEntries.size());
+		for (String entry : sortedEntries) {
+			updateEntry(digest, entry);
+		}
+	}
+
+	private static void updateEntry(final MessageDigest digest, final String entry) {
+		byte[] bytes = entry.getBytes(CHARSET);
+		int length = bytes.length;
+		digest.update(new byte[] { (byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length });
+		digest.update(bytes);
+	}
+
+	private static MessageDigest getMessageDigest() {
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is available in all Java platform implementations
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toHexString(final byte[] bytes) {
+		char[] chars = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0x0f];
+			chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0x0f];
+		}
+		return new String(chars);
+	}
+}
@@ -0,0 +1,447 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.tools.grounder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Level;
+
+import spindle.core.dom.DomConst;
+import spindle.core.dom.Literal;
+import spindle.core.dom.Rule;
+import spindle.core.dom.RuleType;
+import spindle.core.dom.Theory;
+import spindle.sys.AppModuleBase;
+import spindle.sys.AppModuleListener;
+import spindle.sys.Messages;
+import spindle.sys.message.ErrorMessage;
+
+/**
+ * Incremental (Rete-style) matcher for rules with non-ground predicate variables.
+ * <p>
+ * The non-ground rules of a theory are compiled into a matching network. Each distinct body literal pattern is
+ * represented by an alpha node, which performs the constant tests (and the tests on repeated variables) of the
+ * pattern and stores the matching atoms in its alpha memory. Alpha nodes are shared among rules with the same
+ * patterns. The body literals of each rule are then chained with join nodes, which join the partial matches (tokens)
+ * from the previous join node with the atoms from the alpha memory on their shared variables. Both sides of a join
+ * node are hashed on the values of the shared variables.
+ * </p>
+ * <p>
+ * As new atoms arrive, only the joins involving the new atoms are evaluated and the newly generated ground rule
+ * instances are passed to the listeners. As with the {@link TheoryGrounder}, the heads of the ground instances
+ * (except those of defeaters) are fed back to the network as they may be derived by the instances.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ * @see TheoryGrounder
+ */
+public class IncrementalRuleMatcher extends AppModuleBase {
+	private static final String JOIN_KEY_SEPARATOR = String.valueOf(DomConst.Literal.LITERAL_SEPARATOR);
+
+	private static class AlphaNode {
+		private Literal pattern = null;
+		private Set<Literal> memory = new HashSet<Literal>();
+		private List<JoinNode> successors = new ArrayList<JoinNode>();
+
+		AlphaNode(final Literal pattern) {
+			this.pattern = pattern;
+		}
+	}
+
+	private static class JoinNode {
+		private Rule rule = null;
+		private Literal literal = null;
+		private List<String> joinVariables = null;
+		private JoinNode parent = null;
+		private JoinNode child = null;
+		private Map<String, List<Map<String, String>>> leftMemory = new HashMap<String, List<Map<String, String>>>();
+		private Map<String, List<Literal>> rightMemory = new HashMap<String, List<Literal>>();
+
+		JoinNode(final Rule rule, final Literal literal, final List<String> joinVariables) {
+			this.rule = rule;
+			this.literal = literal;
+			this.joinVariables = joinVariables;
+		}
+	}
+
+	private Theory theory = null;
+
+	private Map<String, List<AlphaNode>> alphaNodes = null;
+	private Map<String, AlphaNode> alphaNodesByPattern = null;
+	private Map<String, List<String>> ruleVariables = null;
+
+	private Set<Literal> atoms = null;
+	private Deque<Literal> agenda = null;
+	private Set<String> groundInstanceKeys = null;
+	private List<Rule> groundRules = null;
+	private List<Rule> newGroundRules = null;
+
+	private int alphaMemoriesSize = 0;
+	private int betaMemoriesSize = 0;
+	private long joinAttemptsCount = 0;
+	private long joinMatchesCount = 0;
+
+	public IncrementalRuleMatcher() {
+		super();
+		clear();
+	}
+
+	/**
+	 * Compile the non-ground rules of the theory into the matching network, and match them with the heads of the
+	 * ground facts, strict rules and defeasible rules in the theory.
+	 * 
+	 * @param theory Theory to be matched.
+	 * @return The ground rule instances generated.
+	 * @throws TheoryGrounderException Signals that an exception of some sort has occurred.
+	 */
+	public List<Rule> setTheory(final Theory theory) throws TheoryGrounderException {
+		if (null == theory) throw new TheoryGrounderException(ErrorMessage.THEORY_NULL_THEORY);
+		clear();
+		this.theory = theory;
+
+		logMessage(Level.FINE, 0, "IncrementalRuleMatcher.setTheory - start");
+
+		List<Literal> groundHeads = new ArrayList<Literal>();
+		for (Rule rule : theory.getFactsAndAllRules().values()) {
+			if (TheoryGrounder.isGround(rule)) {
+				if (rule.getRuleType() != RuleType.DEFEATER) groundHeads.addAll(rule.getHeadLiterals());
+			} else {
+				List<String> variables = TheoryGrounder.getRuleVariables(rule);
+				Set<String> unsafeVariables = TheoryGrounder.getUnsafeVariables(rule, variables);
+				if (unsafeVariables.size() > 0) {
+					logMessage(Level.WARNING, 1, Messages.getErrorMessage(ErrorMessage.THEORY_GROUNDER_UNSAFE_RULE, new Object[] {
+							rule.getLabel(), unsafeVariables }));
+					continue;
+				}
+				ruleVariables.put(rule.getLabel(), variables);
+				addRule(rule);
+			}
+		}
+		logMessage(Level.FINE, 1, "rules compiled=", ruleVariables.size(), ", alpha nodes=", alphaNodesByPattern.size());
+
+		List<Rule> rules = addAtoms(groundHeads);
+
+		logMessage(Level.FINE, 0, "IncrementalRuleMatcher.setTheory - end");
+		return rules;
+	}
+
+	/**
+	 * Add a new ground atom (fact) to the network.
+	 * 
+	 * @param atom Atom to be added.
+	 * @return The new ground rule instances generated.
+	 * @throws TheoryGrounderException
+	 */
+	public List<Rule> addAtom(final Literal atom) throws TheoryGrounderException {
+		List<Literal> atomsToAdd = new ArrayList<Literal>();
+		atomsToAdd.add(atom);
+		return addAtoms(atomsToAdd);
+	}
+
+	/**
+	 * Add a set of new ground atoms (facts) to the network.
+	 * 
+	 * @param atomsToAdd Atoms to be added.
+	 * @return The new ground rule instances generated.
+	 * @throws TheoryGrounderException
+	 */
+	public List<Rule> addAtoms(final Collection<? extends Literal> atomsToAdd) throws TheoryGrounderException {
+		if (null == theory) throw new TheoryGrounderException(ErrorMessage.THEORY_NULL_THEORY);
+		newGroundRules = new ArrayList<Rule>();
+		for (Literal atom : atomsToAdd) {
+			if (!TheoryGrounder.isGround(atom)) throw new TheoryGrounderException(ErrorMessage.THEORY_GROUNDER_NON_GROUND_ATOM, new Object[] { atom });
+			agenda.add(atom);
+		}
+		while (agenda.size() > 0) {
+			Literal atom = agenda.poll();
+			if (atoms.add(atom)) activateAlphaNodes(atom);
+		}
+		List<Rule> rules = newGroundRules;
+		newGroundRules = null;
+		return rules;
+	}
+
+	private void addRule(final Rule rule) {
+		List<Literal> body = new ArrayList<Literal>(rule.getBodyLiterals());
+		Set<String> boundVariables = new TreeSet<String>();
+		JoinNode parent = null;
+
+		// order the body literals by selectivity: literals with more variables bound (or constants) are joined first
+		while (body.size() > 0) {
+			int selectedLoc = 0;
+			int selectedScore = -1;
+			for (int i = 0; i < body.size(); i++) {
+				Literal literal = body.get(i);
+				int score = 0;
+				for (int j = 0; j < literal.getPredicatesSize(); j++) {
+					if (isConstant(literal, j) || boundVariables.contains(literal.getPredicate(j))) score++;
+				}
+				if (score > selectedScore) {
+					selectedLoc = i;
+					selectedScore = score;
+				}
+			}
+			Literal literal = body.remove(selectedLoc);
+
+			List<String> joinVariables = new ArrayList<String>();
+			for (int j = 0; j < literal.getPredicatesSize(); j++) {
+				if (isConstant(literal, j)) continue;
+				String variable = literal.getPredicate(j);
+				if (boundVariables.contains(variable)) {
+					if (!joinVariables.contains(variable)) joinVariables.add(variable);
+				} else {
+					boundVariables.add(variable);
+				}
+			}
+
+			JoinNode joinNode = new JoinNode(rule, literal, joinVariables);
+			joinNode.parent = parent;
+			if (null != parent) parent.child = joinNode;
+			getAlphaNode(literal).successors.add(joinNode);
+			parent = joinNode;
+		}
+	}
+
+	private AlphaNode getAlphaNode(final Literal literal) {
+		String patternKey = getPatternKey(literal);
+		AlphaNode alphaNode = alphaNodesByPattern.get(patternKey);
+		if (null == alphaNode) {
+			alphaNode = new AlphaNode(literal);
+			alphaNodesByPattern.put(patternKey, alphaNode);
+
+			String predicateKey = TheoryGrounder.getPredicateKey(literal);
+			List<AlphaNode> nodes = alphaNodes.get(predicateKey);
+			if (null == nodes) {
+				nodes = new ArrayList<AlphaNode>();
+				alphaNodes.put(predicateKey, nodes);
+			}
+			nodes.add(alphaNode);
+		}
+		return alphaNode;
+	}
+
+	private void activateAlphaNodes(final Literal atom) throws TheoryGrounderException {
+		List<AlphaNode> nodes = alphaNodes.get(TheoryGrounder.getPredicateKey(atom));
+		if (null == nodes) return;
+		for (AlphaNode alphaNode : nodes) {
+			if (null == TheoryGrounder.unify(alphaNode.pattern, atom, new TreeMap<String, String>())) continue;
+			if (!alphaNode.memory.add(atom)) continue;
+			alphaMemoriesSize++;
+
+			// store the atom in all successors before activating any of them
+			// such that self-joins on the same alpha memory are not missed
+			for (JoinNode joinNode : alphaNode.successors) {
+				Map<String, String> bindings = TheoryGrounder.unify(joinNode.literal, atom, new TreeMap<String, String>());
+				addToMemory(joinNode.rightMemory, getJoinKey(joinNode.joinVariables, bindings), atom);
+			}
+			for (JoinNode joinNode : alphaNode.successors) {
+				rightActivate(joinNode, atom);
+			}
+		}
+	}
+
+	private void rightActivate(final JoinNode joinNode, final Literal atom) throws TheoryGrounderException {
+		if (null == joinNode.parent) {
+			propagate(joinNode, TheoryGrounder.unify(joinNode.literal, atom, new TreeMap<String, String>()));
+			return;
+		}
+		Map<String, String> bindings = TheoryGrounder.unify(joinNode.literal, atom, new TreeMap<String, String>());
+		List<Map<String, String>> tokens = joinNode.leftMemory.get(getJoinKey(joinNode.joinVariables, bindings));
+		if (null == tokens) return;
+		for (Map<String, String> token : new ArrayList<Map<String, String>>(tokens)) {
+			join(joinNode, token, atom);
+		}
+	}
+
+	private void leftActivate(final JoinNode joinNode, final Map<String, String> token) throws TheoryGrounderException {
+		String joinKey = getJoinKey(joinNode.joinVariables, token);
+		addToMemory(joinNode.leftMemory, joinKey, token);
+		betaMemoriesSize++;
+
+		List<Literal> rightAtoms = joinNode.rightMemory.get(joinKey);
+		if (null == rightAtoms) return;
+		for (Literal atom : new ArrayList<Literal>(rightAtoms)) {
+			join(joinNode, token, atom);
+		}
+	}
+
+	private void join(final JoinNode joinNode, final Map<String, String> token, final Literal atom) throws TheoryGrounderException {
+		joinAttemptsCount++;
+		Map<String, String> bindings = TheoryGrounder.unify(joinNode.literal, atom, new TreeMap<String, String>(token));
+		if (null == bindings) return;
+		joinMatchesCount++;
+		propagate(joinNode, bindings);
+	}
+
+	private void propagate(final JoinNode joinNode, final Map<String, String> token) throws TheoryGrounderException {
+		if (null == joinNode.child) addGroundInstance(joinNode.rule, token);
+		else leftActivate(joinNode.child, token);
+	}
+
+	private void addGroundInstance(final Rule rule, final Map<String, String> bindings) throws TheoryGrounderException {
+		StringBuilder sb = new StringBuilder(rule.getLabel());
+		for (String variable : ruleVariables.get(rule.getLabel())) {
+			sb.append(DomConst.Literal.LITERAL_SEPARATOR).append(bindings.get(variable));
+		}
+		if (!groundInstanceKeys.add(sb.toString())) return;
+
+		Rule groundRule = TheoryGrounder.getGroundRule(rule,
+				theory.getUniqueRuleLabel(rule.getLabel() + TheoryGrounder.GROUND_RULE_LABEL_SEPARATOR), bindings);
+		logMessage(Level.FINEST, 2, "ground rule generated: ", groundRule);
+		groundRules.add(groundRule);
+		newGroundRules.add(groundRule);
+		fireOnGroundRuleGenerated(groundRule);
+
+		if (rule.getRuleType() != RuleType.DEFEATER) agenda.addAll(groundRule.getHeadLiterals());
+	}
+
+	private static <T> void addToMemory(final Map<String, List<T>> memory, final String key, final T value) {
+		List<T> list = memory.get(key);
+		if (null == list) {
+			list = new ArrayList<T>();
+			memory.put(key, list);
+		}
+		list.add(value);
+	}
+
+	private static String getJoinKey(final List<String> joinVariables, final Map<String, String> bindings) {
+		if (joinVariables.size() == 0) return "";
+		if (joinVariables.size() == 1) return bindings.get(joinVariables.get(0));
+		StringBuilder sb = new StringBuilder();
+		for (String variable : joinVariables) {
+			sb.append(bindings.get(variable)).append(JOIN_KEY_SEPARATOR);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Return the pattern key of a body literal, with the variables renamed by their first occurrences so that
+	 * literals with the same constant tests share the same alpha node.
+	 */
+	private static String getPatternKey(final Literal literal) {
+		StringBuilder sb = new StringBuilder(TheoryGrounder.getPredicateKey(literal));
+		List<String> variables = new ArrayList<String>();
+		for (int i = 0; i < literal.getPredicatesSize(); i++) {
+			sb.append(JOIN_KEY_SEPARATOR);
+			if (isConstant(literal, i)) {
+				sb.append('\'').append(literal.getPredicate(i));
+			} else {
+				String variable = literal.getPredicate(i);
+				if (!variables.contains(variable)) variables.add(variable);
+				sb.append('?').append(variables.indexOf(variable));
+			}
+		}
+		return sb.toString();
+	}
+
+	private static boolean isConstant(final Literal literal, final int loc) {
+		return literal.isPredicateGrounded(loc) || TheoryGrounder.isPropositional(literal);
+	}
+
+	/**
+	 * @return Number of alpha nodes in the network.
+	 */
+	public int getAlphaNodesCount() {
+		return alphaNodesByPattern.size();
+	}
+
+	/**
+	 * @return Total number of atoms stored in the alpha memories.
+	 */
+	public int getAlphaMemoriesSize() {
+		return alphaMemoriesSize;
+	}
+
+	/**
+	 * @return Total number of tokens (partial matches) stored in the beta memories.
+	 */
+	public int getBetaMemoriesSize() {
+		return betaMemoriesSize;
+	}
+
+	/**
+	 * @return Number of token-atom pairs tested in the join nodes.
+	 */
+	public long getJoinAttemptsCount() {
+		return joinAttemptsCount;
+	}
+
+	/**
+	 * @return Number of token-atom pairs that are successfully joined in the join nodes.
+	 */
+	public long getJoinMatchesCount() {
+		return joinMatchesCount;
+	}
+
+	/**
+	 * @return All ground rule instances generated since the theory is set.
+	 */
+	public List<Rule> getGroundRules() {
+		return groundRules;
+	}
+
+	public void resetJoinCounters() {
+		joinAttemptsCount = 0;
+		joinMatchesCount = 0;
+	}
+
+	public void clear() {
+		theory = null;
+		alphaNodes = new HashMap<String, List<AlphaNode>>();
+		alphaNodesByPattern = new HashMap<String, AlphaNode>();
+		ruleVariables = new TreeMap<String, List<String>>();
+		atoms = new HashSet<Literal>();
+		agenda = new ArrayDeque<Literal>();
+		groundInstanceKeys = new HashSet<String>();
+		groundRules = new ArrayList<Rule>();
+		alphaMemoriesSize = 0;
+		betaMemoriesSize = 0;
+		resetJoinCounters();
+	}
+
+	public void addIncrementalRuleMatcherListener(IncrementalRuleMatcherListener listener) {
+		addAppModuleListener(listener);
+	}
+
+	public void removeIncrementalRuleMatcherListener(IncrementalRuleMatcherListener listener) {
+		removeAppModuleListener(listener);
+	}
+
+	private void fireOnGroundRuleGenerated(final Rule groundRule) {
+		for (AppModuleListener listener : getAppModuleListeners()) {
+			if (listener instanceof IncrementalRuleMatcherListener) {
+				((IncrementalRuleMatcherListener) listener).onGroundRuleGenerated(groundRule);
+			}
+		}
+	}
+}
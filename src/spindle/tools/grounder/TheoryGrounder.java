@@ -0,0 +1,457 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.tools.grounder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Level;
+
+import spindle.core.dom.DomConst;
+import spindle.core.dom.DomUtilities;
+import spindle.core.dom.Literal;
+import spindle.core.dom.Rule;
+import spindle.core.dom.RuleException;
+import spindle.core.dom.RuleType;
+import spindle.core.dom.Theory;
+import spindle.core.dom.TheoryException;
+import spindle.sys.AppModuleBase;
+import spindle.sys.Messages;
+import spindle.sys.message.ErrorMessage;
+
+/**
+ * Theory grounder.
+ * <p>
+ * Instantiates rules with non-ground predicate variables (predicate arguments starting with an upper case letter)
+ * against the ground atoms that can possibly be derived from the theory, i.e., the heads of the facts, strict rules
+ * and defeasible rules. Only rule instances whose body literals are all potentially derivable are emitted, as the
+ * remaining instances can never be applied nor used to attack other rules. Rules that have no such instance are kept
+ * in the theory as is, such that their literals are concluded in the same way as without grounding. Unsafe rules,
+ * i.e., rules with variables in the head that do not appear in the body, cannot be grounded and are kept as is as well.
+ * </p>
+ * <p>
+ * Grounding is performed using semi-naive iteration: in each round only the joins that involve at least one atom
+ * derived in the previous round are evaluated. Ground atoms are stored per predicate (name, negation and arity) with
+ * a hash index on each argument position, and the body literals of a rule are joined in order of selectivity, i.e.,
+ * the literal with the fewest candidate atoms under the current variable bindings is joined first.
+ * </p>
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ */
+public class TheoryGrounder extends AppModuleBase {
+	static final String GROUND_RULE_LABEL_SEPARATOR = "_";
+
+	/**
+	 * Ground atoms of a predicate, indexed on each argument position.
+	 */
+	private static class AtomIndex {
+		private List<Literal> atoms = new ArrayList<Literal>();
+		private List<Map<String, List<Literal>>> argumentIndexes = null;
+
+		AtomIndex(final int arity) {
+			argumentIndexes = new ArrayList<Map<String, List<Literal>>>(arity);
+			for (int i = 0; i < arity; i++) {
+				argumentIndexes.add(new HashMap<String, List<Literal>>());
+			}
+		}
+
+		void add(final Literal atom) {
+			atoms.add(atom);
+			for (int i = 0; i < argumentIndexes.size(); i++) {
+				Map<String, List<Literal>> argumentIndex = argumentIndexes.get(i);
+				String value = atom.getPredicate(i);
+				List<Literal> list = argumentIndex.get(value);
+				if (null == list) {
+					list = new ArrayList<Literal>();
+					argumentIndex.put(value, list);
+				}
+				list.add(atom);
+			}
+		}
+
+		List<Literal> getAtoms(final int argumentPosition, final String value) {
+			return argumentIndexes.get(argumentPosition).get(value);
+		}
+	}
+
+	private Theory theory = null;
+
+	private Map<String, AtomIndex> atomIndexes = null;
+	private Set<Literal> derivableAtoms = null;
+	private List<Literal> newAtoms = null;
+
+	private Map<String, List<String>> ruleVariables = null;
+	private Set<String> groundInstanceKeys = null;
+	private Map<String, List<Rule>> groundRules = null;
+
+	/**
+	 * Check if the theory contains any rule with non-ground predicate variables.
+	 * 
+	 * @param theory Theory to be checked.
+	 * @return true if the theory contains rules to be grounded; false otherwise.
+	 */
+	public static boolean isGroundingRequired(final Theory theory) {
+		if (null == theory) return false;
+		for (Rule rule : theory.getFactsAndAllRules().values()) {
+			if (!isGround(rule)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Ground the rules with predicate variables in the theory.
+	 * The non-ground rules are replaced by their relevant ground instances, and the superiority relations are
+	 * updated accordingly.
+	 * 
+	 * @param theory Theory to be grounded.
+	 * @return The grounded theory.
+	 * @throws TheoryGrounderException Signals that an exception of some sort has occurred.
+	 */
+	public Theory groundTheory(final Theory theory) throws TheoryGrounderException {
+		if (null == theory) throw new TheoryGrounderException(ErrorMessage.THEORY_NULL_THEORY);
+		this.theory = theory;
+
+		logMessage(Level.FINE, 0, "TheoryGrounder.groundTheory - start");
+
+		atomIndexes = new HashMap<String, AtomIndex>();
+		derivableAtoms = new HashSet<Literal>();
+		newAtoms = new ArrayList<Literal>();
+		ruleVariables = new TreeMap<String, List<String>>();
+		groundInstanceKeys = new HashSet<String>();
+		groundRules = new TreeMap<String, List<Rule>>();
+
+		try {
+			List<Rule> nonGroundRules = new ArrayList<Rule>();
+			for (Rule rule : theory.getFactsAndAllRules().values()) {
+				if (isGround(rule)) {
+					if (rule.getRuleType() != RuleType.DEFEATER) {
+						for (Literal literal : rule.getHeadLiterals()) {
+							addDerivableAtom(literal);
+						}
+					}
+				} else {
+					List<String> variables = getRuleVariables(rule);
+					Set<String> unsafeVariables = getUnsafeVariables(rule, variables);
+					if (unsafeVariables.size() > 0) {
+						logMessage(Level.WARNING, 1, Messages.getErrorMessage(ErrorMessage.THEORY_GROUNDER_UNSAFE_RULE, new Object[] {
+								rule.getLabel(), unsafeVariables }));
+						continue;
+					}
+					ruleVariables.put(rule.getLabel(), variables);
+					groundRules.put(rule.getLabel(), new ArrayList<Rule>());
+					nonGroundRules.add(rule);
+				}
+			}
+
+			// predicate keys of the body literals, computed once per rule
+			List<List<Literal>> nonGroundRulesBody = new ArrayList<List<Literal>>(nonGroundRules.size());
+			List<String[]> nonGroundRulesBodyKeys = new ArrayList<String[]>(nonGroundRules.size());
+			for (Rule rule : nonGroundRules) {
+				List<Literal> body = rule.getBodyLiterals();
+				String[] bodyKeys = new String[body.size()];
+				for (int i = 0; i < bodyKeys.length; i++) {
+					bodyKeys[i] = getPredicateKey(body.get(i));
+				}
+				nonGroundRulesBody.add(body);
+				nonGroundRulesBodyKeys.add(bodyKeys);
+			}
+
+			// semi-naive iteration: only joins involving at least one atom derived
+			// in the last round are evaluated
+			int round = 0;
+			List<Literal> delta = newAtoms;
+			while (delta.size() > 0) {
+				round++;
+				logMessage(Level.FINER, 1, "grounding round ", round, ", new atoms=", delta.size());
+				Map<String, List<Literal>> deltaAtoms = new HashMap<String, List<Literal>>();
+				for (Literal atom : delta) {
+					String key = indexAtom(atom);
+					List<Literal> atoms = deltaAtoms.get(key);
+					if (null == atoms) {
+						atoms = new ArrayList<Literal>();
+						deltaAtoms.put(key, atoms);
+					}
+					atoms.add(atom);
+				}
+				newAtoms = new ArrayList<Literal>();
+				for (int r = 0; r < nonGroundRules.size(); r++) {
+					Rule rule = nonGroundRules.get(r);
+					List<Literal> body = nonGroundRulesBody.get(r);
+					String[] bodyKeys = nonGroundRulesBodyKeys.get(r);
+					for (int i = 0; i < body.size(); i++) {
+						List<Literal> atoms = deltaAtoms.get(bodyKeys[i]);
+						if (null == atoms) continue;
+						Literal bodyLiteral = body.get(i);
+						for (Literal atom : atoms) {
+							Map<String, String> bindings = unify(bodyLiteral, atom, new TreeMap<String, String>());
+							if (null == bindings) continue;
+							List<Integer> remaining = new ArrayList<Integer>(body.size());
+							for (int j = 0; j < body.size(); j++) {
+								if (j != i) remaining.add(j);
+							}
+							join(rule, body, bodyKeys, remaining, bindings);
+						}
+					}
+				}
+				delta = newAtoms;
+			}
+
+			// rules without any ground instance are kept as is
+			int groundRulesCount = 0;
+			List<Rule> rulesToAdd = new ArrayList<Rule>();
+			for (Iterator<List<Rule>> it = groundRules.values().iterator(); it.hasNext();) {
+				List<Rule> rules = it.next();
+				if (rules.size() == 0) {
+					it.remove();
+				} else {
+					rulesToAdd.addAll(rules);
+					groundRulesCount += rules.size();
+				}
+			}
+			logMessage(Level.FINE, 1, "rules grounded=", groundRules.size(), "/", nonGroundRules.size(), ", ground rules generated=",
+					groundRulesCount);
+
+			theory.updateTheory(rulesToAdd, groundRules.keySet(), groundRules);
+			theory.updateRuleLabelMapping(groundRules);
+		} catch (TheoryException e) {
+			throw new TheoryGrounderException(e);
+		} finally {
+			atomIndexes = null;
+			derivableAtoms = null;
+			newAtoms = null;
+			groundInstanceKeys = null;
+		}
+
+		logMessage(Level.FINE, 0, "TheoryGrounder.groundTheory - end");
+		return theory;
+	}
+
+	/**
+	 * Join the remaining body literals of a rule with the derivable atoms, starting from the most selective literal.
+	 */
+	private void join(final Rule rule, final List<Literal> body, final String[] bodyKeys, final List<Integer> remaining,
+			final Map<String, String> bindings) throws TheoryGrounderException {
+		if (remaining.size() == 0) {
+			addGroundInstance(rule, bindings);
+			return;
+		}
+
+		int selectedLoc = -1;
+		List<Literal> selectedCandidates = null;
+		for (int i = 0; i < remaining.size(); i++) {
+			int loc = remaining.get(i);
+			List<Literal> candidates = getCandidates(body.get(loc), bodyKeys[loc], bindings);
+			if (null == candidates || candidates.size() == 0) return;
+			if (null == selectedCandidates || candidates.size() < selectedCandidates.size()) {
+				selectedLoc = i;
+				selectedCandidates = candidates;
+			}
+		}
+
+		Literal bodyLiteral = body.get(remaining.get(selectedLoc));
+		List<Integer> nextRemaining = new ArrayList<Integer>(remaining);
+		nextRemaining.remove(selectedLoc);
+		for (Literal atom : selectedCandidates) {
+			Map<String, String> newBindings = unify(bodyLiteral, atom, new TreeMap<String, String>(bindings));
+			if (null != newBindings) join(rule, body, bodyKeys, nextRemaining, newBindings);
+		}
+	}
+
+	/**
+	 * Return the smallest list of derivable atoms that may match the literal under the current bindings.
+	 */
+	private List<Literal> getCandidates(final Literal literal, final String predicateKey, final Map<String, String> bindings) {
+		AtomIndex atomIndex = atomIndexes.get(predicateKey);
+		if (null == atomIndex) return null;
+
+		List<Literal> candidates = atomIndex.atoms;
+		boolean isPropositional = isPropositional(literal);
+		for (int i = 0; i < literal.getPredicatesSize(); i++) {
+			String value = literal.getPredicate(i);
+			if (!isPropositional && !literal.isPredicateGrounded(i)) value = bindings.get(value);
+			if (null == value) continue;
+			List<Literal> atoms = atomIndex.getAtoms(i, value);
+			if (null == atoms) return null;
+			if (atoms.size() < candidates.size()) candidates = atoms;
+		}
+		return candidates;
+	}
+
+	private void addGroundInstance(final Rule rule, final Map<String, String> bindings) throws TheoryGrounderException {
+		StringBuilder sb = new StringBuilder(rule.getLabel());
+		for (String variable : ruleVariables.get(rule.getLabel())) {
+			sb.append(DomConst.Literal.LITERAL_SEPARATOR).append(bindings.get(variable));
+		}
+		if (!groundInstanceKeys.add(sb.toString())) return;
+
+		Rule groundRule = getGroundRule(rule, theory.getUniqueRuleLabel(rule.getLabel() + GROUND_RULE_LABEL_SEPARATOR), bindings);
+		groundRules.get(rule.getLabel()).add(groundRule);
+		logMessage(Level.FINEST, 2, "ground rule generated: ", groundRule);
+
+		if (rule.getRuleType() != RuleType.DEFEATER) {
+			for (Literal literal : groundRule.getHeadLiterals()) {
+				addDerivableAtom(literal);
+			}
+		}
+	}
+
+	/**
+	 * Return a ground instance of a rule with the variables replaced by the values in the bindings.
+	 * Propositional literals are kept as is, as their default predicate value may clash with a variable with the same
+	 * name.
+	 */
+	static Rule getGroundRule(final Rule rule, final String label, final Map<String, String> bindings)
+			throws TheoryGrounderException {
+		Rule groundRule = DomUtilities.getRule(label, rule.getRuleType());
+		groundRule.setOriginalLabel(rule.getOriginalLabel());
+		groundRule.setMode(rule.getMode());
+		groundRule.setTemporal(rule.getTemporal());
+		try {
+			for (Literal literal : rule.getBodyLiterals()) {
+				groundRule.addBodyLiteral(isPropositional(literal) ? literal.clone() : literal.cloneWithUpdatePredicatesValues(bindings));
+			}
+			for (Literal literal : rule.getHeadLiterals()) {
+				groundRule.addHeadLiteral(isPropositional(literal) ? literal.clone() : literal.cloneWithUpdatePredicatesValues(bindings));
+			}
+		} catch (RuleException e) {
+			throw new TheoryGrounderException(e);
+		}
+		return groundRule;
+	}
+
+	private void addDerivableAtom(final Literal literal) {
+		if (derivableAtoms.add(literal)) newAtoms.add(literal);
+	}
+
+	/**
+	 * Add a derivable atom to the atom indexes.
+	 * 
+	 * @return The index key of the atom.
+	 */
+	private String indexAtom(final Literal atom) {
+		String key = getPredicateKey(atom);
+		AtomIndex atomIndex = atomIndexes.get(key);
+		if (null == atomIndex) {
+			atomIndex = new AtomIndex(atom.getPredicatesSize());
+			atomIndexes.put(key, atomIndex);
+		}
+		atomIndex.add(atom);
+		return key;
+	}
+
+	/**
+	 * Unify a (possibly non-ground) literal with a ground atom.
+	 * 
+	 * @return The extended variable bindings, or null if the literal does not match the atom.
+	 */
+	static Map<String, String> unify(final Literal literal, final Literal atom, final Map<String, String> bindings) {
+		if (literal.getPredicatesSize() != atom.getPredicatesSize()) return null;
+		boolean isPropositional = isPropositional(literal);
+		for (int i = 0; i < literal.getPredicatesSize(); i++) {
+			String value = literal.getPredicate(i);
+			if (isPropositional || literal.isPredicateGrounded(i)) {
+				if (!value.equals(atom.getPredicate(i))) return null;
+			} else {
+				String boundValue = bindings.get(value);
+				if (null == boundValue) {
+					bindings.put(value, atom.getPredicate(i));
+				} else if (!boundValue.equals(atom.getPredicate(i))) return null;
+			}
+		}
+		return bindings;
+	}
+
+	/**
+	 * Return the index key of a literal.
+	 * Modal operators and temporal information are not considered so that atoms derived through mode conversions
+	 * are not missed.
+	 */
+	static String getPredicateKey(final Literal literal) {
+		StringBuilder sb = new StringBuilder();
+		if (literal.isNegation()) sb.append(DomConst.Literal.LITERAL_NEGATION_SIGN);
+		sb.append(literal.getName()).append(DomConst.Literal.PREDICATE_START).append(literal.getPredicatesSize());
+		return sb.toString();
+	}
+
+	/**
+	 * Check if a literal is propositional, i.e., it carries only the default predicate value, which should not be
+	 * confused with a variable of the same name.
+	 */
+	static boolean isPropositional(final Literal literal) {
+		return !literal.hasPredicates();
+	}
+
+	static boolean isGround(final Literal literal) {
+		if (isPropositional(literal)) return true;
+		for (int i = 0; i < literal.getPredicatesSize(); i++) {
+			if (!literal.isPredicateGrounded(i)) return false;
+		}
+		return true;
+	}
+
+	static boolean isGround(final Rule rule) {
+		for (Literal literal : rule.getHeadLiterals()) {
+			if (!isGround(literal)) return false;
+		}
+		for (Literal literal : rule.getBodyLiterals()) {
+			if (!isGround(literal)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Return the variables in the body of a rule.
+	 */
+	static List<String> getRuleVariables(final Rule rule) {
+		Set<String> variables = new TreeSet<String>();
+		for (Literal literal : rule.getBodyLiterals()) {
+			if (isPropositional(literal)) continue;
+			for (int i = 0; i < literal.getPredicatesSize(); i++) {
+				if (!literal.isPredicateGrounded(i)) variables.add(literal.getPredicate(i));
+			}
+		}
+		return new ArrayList<String>(variables);
+	}
+
+	/**
+	 * Return the variables in the head of a rule that do not appear in the rule body.
+	 * A rule with such variables is unsafe and cannot be grounded.
+	 */
+	static Set<String> getUnsafeVariables(final Rule rule, final List<String> variables) {
+		Set<String> unsafeVariables = new TreeSet<String>();
+		for (Literal literal : rule.getHeadLiterals()) {
+			if (isPropositional(literal)) continue;
+			for (int i = 0; i < literal.getPredicatesSize(); i++) {
+				if (!literal.isPredicateGrounded(i) && !variables.contains(literal.getPredicate(i))) unsafeVariables.add(literal.getPredicate(i));
+			}
+		}
+		return unsafeVariables;
+	}
+}
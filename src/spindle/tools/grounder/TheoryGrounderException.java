@@ -0,0 +1,49 @@
+/**
+ * SPINdle (version 2.2.2)
+ * Copyright (C) 2009-2012 NICTA Ltd.
+ *
+ * This file is part of SPINdle project.
+ * 
+ * SPINdle is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * SPINdle is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SPINdle.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory 
+ */
+package spindle.tools.grounder;
+
+import spindle.tools.ToolsException;
+
+/**
+ * Signals that an exception of some sort has occurred while grounding a theory.
+ * 
+ * @author H.-P. Lam (oleklam@gmail.com), National ICT Australia - Queensland Research Laboratory
+ * @since version 2.2.2
+ * @version Last modified 2026.10.19
+ */
+public class TheoryGrounderException extends ToolsException {
+
+	private static final long serialVersionUID = 1L;
+
+	public TheoryGrounderException(Throwable cause) {
+		this(null, null, cause, (Object[]) null);
+	}
+
+	public TheoryGrounderException(String errorTag, Object... arguments) {
+		this(errorTag, null, null, arguments);
+	}
+
+	protected TheoryGrounderException(String errorTag, String message, Throwable cause, Object... arguments) {
+		super(errorTag, message, cause, arguments);
+	}
+
+}